@@ -0,0 +1,17 @@
+#!/bin/bash
+# Filename: BenchmarkShellScript.sh
+# Purpose: Build the project and the JMH benchmark module, then run the benchmarks.
+# Any arguments are passed to JMH, e.g. ./BenchmarkShellScript.sh InMemoryTransportBenchmark -p payloadSize=256
+# Results (including -prof gc allocation rates) are written to benchmarks/results/jmh-<timestamp>.json
+
+set -e
+
+echo "Installing 360TAssignment into the local repository..."
+mvn -q -B install -DskipTests
+
+echo "Packaging benchmarks..."
+mvn -q -B -f benchmarks/pom.xml package
+
+echo "Running benchmarks..."
+cd benchmarks
+java -jar target/benchmarks.jar "$@"
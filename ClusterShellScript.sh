@@ -0,0 +1,48 @@
+#!/bin/bash
+# Filename: ClusterShellScript.sh
+# Purpose: Compile, start a local responder cluster of ResponderServers on consecutive ports and
+# spread InitiatorClients over it by consistent hashing of their names.
+# Usage: ./ClusterShellScript.sh [nodes] [initiators], e.g. ./ClusterShellScript.sh 3 6
+
+set -e
+
+NODES=${1:-3}
+INITIATORS=${2:-6}
+FIRST_PORT=5000
+
+echo "Compiling Java files..."
+
+FILES=$(find src/main/java -name "*.java")
+mkdir -p target/classes
+
+if javac -d target/classes -sourcepath src/main/java $FILES; then
+    echo "Compilation successful!"
+else
+    echo "Compilation failed. Exiting..."
+    exit 1
+fi
+
+SERVER_PIDS=()
+CLUSTER_NODES=""
+trap 'kill ${SERVER_PIDS[@]} 2>/dev/null || true' EXIT
+
+for ((i = 0; i < NODES; i++)); do
+    PORT=$((FIRST_PORT + i))
+    echo "Starting ResponderServer on port $PORT..."
+    java -Dplayer.port=$PORT -Dplayer.server.clients=0 -cp target/classes com.example.player.ResponderServer &
+    SERVER_PIDS+=($!)
+    CLUSTER_NODES="${CLUSTER_NODES:+$CLUSTER_NODES,}localhost:$PORT"
+done
+
+# Initiators retry their connection until the node they are routed to listens, so no sleep is needed.
+
+echo "Running $INITIATORS InitiatorClients against $CLUSTER_NODES..."
+
+CLIENT_PIDS=()
+for ((i = 1; i <= INITIATORS; i++)); do
+    java -Dplayer.cluster.nodes=$CLUSTER_NODES -cp target/classes com.example.player.InitiatorClient "Initiator-$i" &
+    CLIENT_PIDS+=($!)
+done
+wait ${CLIENT_PIDS[@]}
+
+echo "All done."
@@ -26,26 +26,20 @@ fi
 
 echo "Starting ResponderServer in background..."
 
-java -cp target/classes com.example.player.ResponderServer &
+java -Dplayer.log.level=debug -cp target/classes com.example.player.ResponderServer &
 SERVER_PID=$!
 
 # -----------------------------------------
-# 3. Wait for server to listen on port 5000
+# 3. No fixed sleep: InitiatorClient retries its connection until the server listens on port 5000
 # -----------------------------------------
 
-echo "Waiting for server to start..."
-
-sleep 5
-
-echo "Server is up!"
-
 # -----------------------------------------
 # 4. Start InitiatorClient
 # -----------------------------------------
 
 echo "Starting InitiatorClient..."
 
-java -cp target/classes com.example.player.InitiatorClient
+java -Dplayer.log.level=debug -cp target/classes com.example.player.InitiatorClient
 
 # -----------------------------------------
 # 5. Stop server if still running
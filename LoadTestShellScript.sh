@@ -0,0 +1,38 @@
+#!/bin/bash
+# Filename: LoadTestShellScript.sh
+# Purpose: Compile, start NioResponderServer and run the load generator against it over sockets.
+# Any arguments are passed to the load generator JVM, e.g.
+# ./LoadTestShellScript.sh -Dplayer.load.mode=open -Dplayer.load.rate=20000 -Dplayer.load.players=16
+# Reports are appended to load-results.csv unless -Dplayer.load.output/-Dplayer.load.format say otherwise.
+
+set -e
+
+PORT=5000
+
+echo "Compiling Java files..."
+
+FILES=$(find src/main/java -name "*.java")
+mkdir -p target/classes
+
+if javac -d target/classes -sourcepath src/main/java $FILES; then
+    echo "Compilation successful!"
+else
+    echo "Compilation failed. Exiting..."
+    exit 1
+fi
+
+echo "Starting NioResponderServer in background..."
+
+java -Dplayer.log.level=warn -Dplayer.port=$PORT -cp target/classes com.example.player.NioResponderServer &
+SERVER_PID=$!
+trap 'kill $SERVER_PID 2>/dev/null || true' EXIT
+
+# The load generator retries its connections until the server listens, so no sleep is needed.
+
+echo "Running load generator..."
+
+java -Dplayer.log.level=warn -Dplayer.port=$PORT -Dplayer.load.remote=true \
+    -Dplayer.load.format=csv -Dplayer.load.output=load-results.csv "$@" \
+    -cp target/classes com.example.player.LoadGeneratorMain
+
+echo "All done."
@@ -0,0 +1,42 @@
+#!/bin/bash
+# Filename: ResumeShellScript.sh
+# Purpose: Compile, start ResponderServer behind a FaultInjectingProxy that cuts every connection
+# after a while, and run a long InitiatorClient conversation through it with resumable sessions.
+# Usage: ./ResumeShellScript.sh [messages] [cutIntervalMillis], e.g. ./ResumeShellScript.sh 100000 500
+# The initiator logs every resume and must end with "Message Sent =<messages>" despite the cuts.
+
+set -e
+
+MESSAGES=${1:-20000}
+CUT_INTERVAL_MILLIS=${2:-500}
+PORT=5000
+PROXY_PORT=5100
+
+echo "Compiling Java files..."
+
+FILES=$(find src/main/java -name "*.java")
+mkdir -p target/classes
+
+if javac -d target/classes -sourcepath src/main/java $FILES; then
+    echo "Compilation successful!"
+else
+    echo "Compilation failed. Exiting..."
+    exit 1
+fi
+
+echo "Starting ResponderServer on port $PORT and FaultInjectingProxy on port $PROXY_PORT..."
+
+java -Dplayer.log.level=warn -Dplayer.port=$PORT -Dplayer.session.resume=true \
+    -cp target/classes com.example.player.ResponderServer &
+SERVER_PID=$!
+java -Dplayer.proxy.cutIntervalMillis=$CUT_INTERVAL_MILLIS \
+    -cp target/classes com.example.player.FaultInjectingProxyMain $PROXY_PORT localhost:$PORT &
+PROXY_PID=$!
+trap 'kill $SERVER_PID $PROXY_PID 2>/dev/null || true' EXIT
+
+echo "Running InitiatorClient through the proxy..."
+
+java -Dplayer.cluster.nodes=localhost:$PROXY_PORT -Dplayer.session.resume=true -Dplayer.messages=$MESSAGES \
+    -cp target/classes com.example.player.InitiatorClient
+
+echo "All done."
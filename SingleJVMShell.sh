@@ -22,5 +22,5 @@ echo "Compilation successful!"
 
 echo "Running SingleJVMMain..."
 
-java -cp target/classes com.example.player.SingleJVMMain
+java -Dplayer.log.level=debug -cp target/classes com.example.player.SingleJVMMain
 
@@ -0,0 +1,41 @@
+package com.example.player.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * BenchmarkRunner is the entry point of the benchmarks jar.
+ * <p>
+ * Responsibilities:
+ * 1. Accept the usual JMH command line (include patterns, -p overrides, ...).
+ * 2. Always attach the GC profiler so every run reports allocation rates (-prof gc).
+ * 3. Write a timestamped JSON result file under results/ so runs can be compared over time.
+ */
+public class BenchmarkRunner {
+
+    private static final DateTimeFormatter TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException, IOException {
+        Path resultsDir = Path.of("results");
+        Files.createDirectories(resultsDir);
+        Path resultFile = resultsDir.resolve("jmh-" + LocalDateTime.now().format(TIMESTAMP) + ".json");
+
+        new Runner(new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .addProfiler(GCProfiler.class)
+                .resultFormat(ResultFormatType.JSON)
+                .result(resultFile.toString())
+                .build()).run();
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.player.benchmark;
+
+import com.example.player.enums.LogLevel;
+import com.example.player.logger.Logger;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.Arrays;
+
+/**
+ * BenchmarkSupport bundles the helpers shared by all benchmarks.
+ * <p>
+ * Responsibilities:
+ * 1. Build payload strings of a requested size.
+ * 2. Switch debug logging on or off for a trial; when on, console output is discarded so that
+ * the benchmark measures the logging code path rather than the terminal.
+ */
+final class BenchmarkSupport {
+
+    private static final PrintStream ORIGINAL_OUT = System.out;
+    private static final LogLevel ORIGINAL_LEVEL = Logger.getLevel();
+
+    private BenchmarkSupport() {
+    }
+
+    static String payload(int size) {
+        char[] chars = new char[size];
+        Arrays.fill(chars, 'x');
+        return new String(chars);
+    }
+
+    static void configureLogging(boolean enabled) {
+        Logger.setLevel(enabled ? LogLevel.DEBUG : LogLevel.OFF);
+        System.setOut(enabled ? new PrintStream(OutputStream.nullOutputStream()) : ORIGINAL_OUT);
+    }
+
+    static void restoreLogging() {
+        Logger.flush();
+        Logger.setLevel(ORIGINAL_LEVEL);
+        System.setOut(ORIGINAL_OUT);
+    }
+}
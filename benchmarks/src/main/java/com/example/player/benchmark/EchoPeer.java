@@ -0,0 +1,63 @@
+package com.example.player.benchmark;
+
+import com.example.player.enums.MessageType;
+import com.example.player.interfaces.MessageReceiver;
+import com.example.player.interfaces.MessageSender;
+import com.example.player.model.Message;
+
+/**
+ * EchoPeer is the far end of a round-trip benchmark.
+ * <p>
+ * Responsibilities:
+ * 1. Receive every message through a MessageReceiver and send it straight back through a MessageSender.
+ * 2. Flush the sender whenever no further message is pending, so batching senders stay responsive.
+ * 3. Exit after echoing a STOP message, so the benchmark thread can shut it down deterministically.
+ */
+final class EchoPeer implements Runnable {
+
+    private final MessageReceiver receiver;
+    private final MessageSender sender;
+    private final Thread thread;
+
+    EchoPeer(String name, MessageReceiver receiver, MessageSender sender) {
+        this.receiver = receiver;
+        this.sender = sender;
+        this.thread = new Thread(this, name);
+        this.thread.setDaemon(true);
+    }
+
+    void start() {
+        thread.start();
+    }
+
+    long threadId() {
+        return thread.threadId();
+    }
+
+    void stop(MessageSender towardsPeer, MessageReceiver fromPeer) throws InterruptedException {
+        towardsPeer.sendMessage(Message.sendStopMessage("benchmark"));
+        towardsPeer.flush();
+        while (fromPeer.receiveMessage().getMessageType() != MessageType.STOP) {
+            // drain replies that were still in flight
+        }
+        thread.join();
+    }
+
+    @Override
+    public void run() {
+        try {
+            while (true) {
+                Message message = receiver.receiveMessage();
+                sender.sendMessage(message);
+                if (!receiver.hasPendingMessages()) {
+                    sender.flush();
+                }
+                if (message.getMessageType() == MessageType.STOP) {
+                    return;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.player.benchmark;
+
+import com.example.player.enums.TracePolicy;
+import com.example.player.model.HopTrace;
+import com.example.player.model.TraceSettings;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of extending a reply chain that has already gone through the given number of rounds.
+ * FULL grows with the round count; TRUNCATE and SUMMARIZE stay flat once maxHops is reached.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HopTraceBenchmark {
+
+    private static final int MAX_HOPS = 16;
+
+    @Param({"FULL", "TRUNCATE", "SUMMARIZE"})
+    public TracePolicy policy;
+
+    @Param({"10", "1000", "10000"})
+    public int rounds;
+
+    private TraceSettings settings;
+    private HopTrace trace;
+
+    @Setup
+    public void setUp() {
+        settings = new TraceSettings(policy, MAX_HOPS);
+        trace = HopTrace.EMPTY;
+        for (int i = 1; i <= rounds; i++) {
+            trace = settings.forReply(trace).append(i % 2 == 1 ? "Player2" : "Player1", i);
+        }
+    }
+
+    @Benchmark
+    public HopTrace extend() {
+        return settings.forReply(trace).append("Player1", rounds + 1);
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.player.benchmark;
+
+import com.example.player.enums.TransportType;
+import com.example.player.enums.WaitStrategyType;
+import com.example.player.factory.WaitStrategyFactory;
+import com.example.player.interfaces.MessageReceiver;
+import com.example.player.interfaces.MessageSender;
+import com.example.player.interfaces.WaitStrategy;
+import com.example.player.interfaces.impl.message.receiver.InMemoryMessageReceiver;
+import com.example.player.interfaces.impl.message.receiver.RingBufferMessageReceiver;
+import com.example.player.interfaces.impl.message.sender.InMemoryMessageSender;
+import com.example.player.interfaces.impl.message.sender.RingBufferMessageSender;
+import com.example.player.model.Message;
+import com.example.player.queue.SpscRingBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Round-trip latency and throughput of the in-memory transports: the LinkedBlockingQueue
+ * pair used by Player and the SPSC ring-buffer pair, the latter under every wait strategy.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InMemoryTransportBenchmark {
+
+    private static final int CAPACITY = 20;
+
+    private static final String RING_PREFIX = "RING_BUFFER_";
+
+    /**
+     * BLOCKING_QUEUE, or RING_BUFFER_ followed by the WaitStrategyType used on both sides.
+     */
+    @Param({"BLOCKING_QUEUE", "RING_BUFFER_PARK", "RING_BUFFER_YIELD", "RING_BUFFER_BUSY_SPIN"})
+    public String transport;
+
+    @Param({"16", "256", "4096"})
+    public int payloadSize;
+
+    @Param({"false", "true"})
+    public boolean logging;
+
+    private MessageSender sender;
+    private MessageReceiver receiver;
+    private EchoPeer peer;
+    private Message message;
+
+    @Setup
+    public void setUp() {
+        BenchmarkSupport.configureLogging(logging);
+        message = Message.sendNormalMessage("Initiator", BenchmarkSupport.payload(payloadSize));
+        MessageSender peerSender;
+        MessageReceiver peerReceiver;
+        if (transport.startsWith(RING_PREFIX)) {
+            WaitStrategy wait = WaitStrategyFactory.createWaitStrategy(
+                    WaitStrategyType.valueOf(transport.substring(RING_PREFIX.length())));
+            SpscRingBuffer<Message> towardsPeer = new SpscRingBuffer<>(CAPACITY);
+            SpscRingBuffer<Message> towardsBenchmark = new SpscRingBuffer<>(CAPACITY);
+            sender = new RingBufferMessageSender(towardsPeer, wait);
+            receiver = new RingBufferMessageReceiver(towardsBenchmark, wait);
+            peerSender = new RingBufferMessageSender(towardsBenchmark, wait);
+            peerReceiver = new RingBufferMessageReceiver(towardsPeer, wait);
+        } else if (TransportType.valueOf(transport) == TransportType.BLOCKING_QUEUE) {
+            LinkedBlockingQueue<Message> towardsPeer = new LinkedBlockingQueue<>(CAPACITY);
+            LinkedBlockingQueue<Message> towardsBenchmark = new LinkedBlockingQueue<>(CAPACITY);
+            sender = new InMemoryMessageSender(towardsPeer);
+            receiver = new InMemoryMessageReceiver(towardsBenchmark);
+            peerSender = new InMemoryMessageSender(towardsBenchmark);
+            peerReceiver = new InMemoryMessageReceiver(towardsPeer);
+        } else {
+            throw new IllegalArgumentException("Unsupported transport: " + transport);
+        }
+        peer = new EchoPeer("Echo-" + transport, peerReceiver, peerSender);
+        peer.start();
+    }
+
+    @TearDown
+    public void tearDown() throws InterruptedException {
+        peer.stop(sender, receiver);
+        BenchmarkSupport.restoreLogging();
+    }
+
+    @Benchmark
+    public Message roundTrip() throws InterruptedException {
+        sender.sendMessage(message);
+        return receiver.receiveMessage();
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.player.benchmark;
+
+import com.example.player.enums.JournalSyncPolicy;
+import com.example.player.journal.MessageJournal;
+import com.example.player.model.Message;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Append throughput of the MessageJournal per sync policy, in a fresh temporary directory.
+ * ALWAYS forces every record and is bounded by the storage device; INTERVAL is the group-commit mode.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JournalBenchmark {
+
+    @Param({"NONE", "INTERVAL", "ALWAYS"})
+    public JournalSyncPolicy syncPolicy;
+
+    @Param({"16", "256"})
+    public int payloadSize;
+
+    private Path directory;
+    private MessageJournal journal;
+    private Message message;
+
+    @Setup
+    public void setUp() throws IOException {
+        BenchmarkSupport.configureLogging(false);
+        directory = Files.createTempDirectory("journal-bench");
+        journal = MessageJournal.open(directory, 64 * 1024 * 1024, syncPolicy, 10);
+        message = Message.sendNormalMessage("Initiator", BenchmarkSupport.payload(payloadSize));
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        journal.close();
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+        BenchmarkSupport.restoreLogging();
+    }
+
+    @Benchmark
+    public long append() throws IOException {
+        return journal.append(message);
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.player.benchmark;
+
+import com.example.player.interfaces.impl.message.codec.BinaryMessageDecoder;
+import com.example.player.interfaces.impl.message.codec.BinaryMessageEncoder;
+import com.example.player.model.Message;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of creating a Message and of encoding/decoding it with the binary codec and with
+ * Java serialization (one fresh object stream per message, i.e. the full per-message cost).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MessageBenchmark {
+
+    @Param({"16", "256", "4096"})
+    public int payloadSize;
+
+    @Param({"false", "true"})
+    public boolean logging;
+
+    private String payload;
+    private Message message;
+    private BinaryMessageEncoder binaryEncoder;
+    private BinaryMessageDecoder binaryDecoder;
+    private ByteBuffer binaryFrame;
+    private ByteArrayOutputStream javaBytes;
+    private byte[] javaFrame;
+
+    @Setup
+    public void setUp() throws IOException {
+        BenchmarkSupport.configureLogging(logging);
+        payload = BenchmarkSupport.payload(payloadSize);
+        message = Message.sendNormalMessage("Initiator", payload);
+
+        binaryEncoder = new BinaryMessageEncoder();
+        binaryDecoder = new BinaryMessageDecoder();
+        int length = binaryEncoder.encodeFrame(message);
+        binaryFrame = ByteBuffer.wrap(binaryEncoder.frameBuffer().clone(), 0, length);
+
+        javaBytes = new ByteArrayOutputStream(payloadSize * 2 + 256);
+        javaFrame = javaSerialize();
+    }
+
+    @TearDown
+    public void tearDown() {
+        BenchmarkSupport.restoreLogging();
+    }
+
+    @Benchmark
+    public Message createMessage() {
+        return Message.sendNormalMessage("Initiator", payload);
+    }
+
+    @Benchmark
+    public int binaryEncode() {
+        return binaryEncoder.encodeFrame(message);
+    }
+
+    @Benchmark
+    public Message binaryDecode() throws IOException {
+        binaryFrame.position(BinaryMessageEncoder.FRAME_HEADER_BYTES);
+        return binaryDecoder.decodeFrame(binaryFrame);
+    }
+
+    @Benchmark
+    public byte[] javaSerializationEncode() throws IOException {
+        return javaSerialize();
+    }
+
+    @Benchmark
+    public Object javaSerializationDecode() throws IOException, ClassNotFoundException {
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(javaFrame))) {
+            return in.readObject();
+        }
+    }
+
+    private byte[] javaSerialize() throws IOException {
+        javaBytes.reset();
+        try (ObjectOutputStream out = new ObjectOutputStream(javaBytes)) {
+            out.writeObject(message);
+        }
+        return javaBytes.toByteArray();
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.player.benchmark;
+
+import com.example.player.domain.MessageHandler;
+import com.example.player.domain.Player;
+import com.example.player.model.Message;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Dispatch cost of MessageHandler.handleMessage for both role strategies; the reply is
+ * handed to a Blackhole instead of a transport so only handler and strategy work is measured.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MessageHandlerBenchmark {
+
+    @Param({"RESPONDER", "INITIATOR"})
+    public String role;
+
+    @Param({"16", "256", "4096"})
+    public int payloadSize;
+
+    @Param({"false", "true"})
+    public boolean logging;
+
+    private MessageHandler handler;
+    private Message message;
+
+    @Setup
+    public void setUp(Blackhole blackhole) {
+        BenchmarkSupport.configureLogging(logging);
+        boolean initiator = "INITIATOR".equals(role);
+        Player player = new Player("Benchmark-" + role, initiator, Integer.MAX_VALUE);
+        player.setPeerSender(blackhole::consume);
+        handler = new MessageHandler(player);
+        message = Message.sendNormalMessage("Peer", BenchmarkSupport.payload(payloadSize));
+    }
+
+    @TearDown
+    public void tearDown() {
+        BenchmarkSupport.restoreLogging();
+    }
+
+    @Benchmark
+    public void handleMessage() throws InterruptedException {
+        handler.handleMessage(message);
+    }
+}
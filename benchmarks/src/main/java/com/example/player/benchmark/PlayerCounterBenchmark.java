@@ -0,0 +1,84 @@
+package com.example.player.benchmark;
+
+import com.example.player.domain.Player;
+import com.example.player.enums.MessageType;
+import com.example.player.model.Message;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Cost of Player's send/receive bookkeeping with four concurrent senders and one receiving
+ * thread sharing a single Player, compared with the former layout of two adjacent
+ * AtomicIntegers. The peer sender discards messages, so only the counters are measured.
+ * Run with as many CPUs as group threads to see the contention difference.
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PlayerCounterBenchmark {
+
+    private static final int SENDERS = 4;
+
+    private final AtomicInteger legacySent = new AtomicInteger();
+    private final AtomicInteger legacyReceived = new AtomicInteger();
+    private Player player;
+    private Message message;
+
+    @Setup
+    public void setUp() {
+        BenchmarkSupport.configureLogging(false);
+        player = new Player("Benchmark", false, Integer.MAX_VALUE);
+        player.setPeerSender(sent -> { });
+        message = Message.of("Benchmark", "Peer", "payload", MessageType.NORMAL, 1);
+    }
+
+    @TearDown
+    public void tearDown() {
+        BenchmarkSupport.restoreLogging();
+    }
+
+    @Benchmark
+    @Group("legacy")
+    @GroupThreads(SENDERS)
+    public int legacySend() {
+        return legacySent.incrementAndGet();
+    }
+
+    @Benchmark
+    @Group("legacy")
+    @GroupThreads(1)
+    public int legacyReceive() {
+        return legacyReceived.incrementAndGet();
+    }
+
+    @Benchmark
+    @Group("player")
+    @GroupThreads(SENDERS)
+    public void playerSend() throws InterruptedException {
+        player.sendMessage(message);
+    }
+
+    @Benchmark
+    @Group("player")
+    @GroupThreads(1)
+    public int playerReceive() {
+        return player.incrementReceivedCount();
+    }
+}
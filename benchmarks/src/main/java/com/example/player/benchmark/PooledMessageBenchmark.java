@@ -0,0 +1,88 @@
+package com.example.player.benchmark;
+
+import com.example.player.domain.PooledPingPong;
+import com.example.player.enums.ExecutionMode;
+import com.example.player.enums.MessageType;
+import com.example.player.interfaces.impl.wait.YieldingWaitStrategy;
+import com.example.player.model.Message;
+import com.example.player.model.MessagePool;
+import com.example.player.model.PooledMessage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of building one round of the conversation after {@code rounds} rounds have already run:
+ * String-based Messages (content copied and grown on every hop) versus a PooledMessage edited
+ * in place. Run with the GC profiler to compare gc.alloc.rate.norm.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PooledMessageBenchmark {
+
+    private static final int PING_PONG_ROUNDS = 10_000;
+
+    @Param({"10", "1000", "10000"})
+    public int rounds;
+
+    private String grownContent;
+    private MessagePool pool;
+    private PooledMessage pooled;
+    private int greetingLength;
+
+    @Setup
+    public void setUp() {
+        BenchmarkSupport.configureLogging(false);
+        String content = "Hello Player2!";
+        for (int i = 1; i <= rounds; i++) {
+            content = content + " [sent#" + i + "]" + " | reply-from-Player2";
+        }
+        grownContent = content;
+
+        pool = new MessagePool(16);
+        pooled = pool.acquire().set("Player1", "Player2", MessageType.NORMAL, rounds).append("Hello Player2!");
+        greetingLength = pooled.length();
+    }
+
+    @TearDown
+    public void tearDown() {
+        pooled.recycle();
+        BenchmarkSupport.restoreLogging();
+    }
+
+    @Benchmark
+    public Message stringRound() {
+        Message sent = Message.sendNormalMessage("Player1", grownContent + " [sent#" + rounds + "]", rounds);
+        return Message.sendNormalMessage("Player2", sent.getContent() + " | reply-from-Player2", rounds);
+    }
+
+    @Benchmark
+    public int pooledRound() {
+        pooled.truncate(greetingLength).append(" [sent#").append(rounds).append(']');
+        pooled.append(" | reply-from-").append("Player2");
+        return pooled.length();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PING_PONG_ROUNDS)
+    public int pooledPingPong() throws InterruptedException {
+        return new PooledPingPong("Player1", "Player2", PING_PONG_ROUNDS, pool,
+                new YieldingWaitStrategy(), ExecutionMode.PLATFORM).run("Hello Player2!");
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.player.benchmark;
+
+import com.example.player.ResponderServer;
+import com.example.player.enums.MessageType;
+import com.example.player.enums.WaitStrategyType;
+import com.example.player.factory.WaitStrategyFactory;
+import com.example.player.interfaces.MessageReceiver;
+import com.example.player.interfaces.MessageSender;
+import com.example.player.interfaces.WaitStrategy;
+import com.example.player.interfaces.impl.message.receiver.SharedMemoryMessageReceiver;
+import com.example.player.interfaces.impl.message.sender.SharedMemoryMessageSender;
+import com.example.player.model.Message;
+import com.example.player.shm.SharedMemoryChannel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cross-process round trip over the shared memory transport: the benchmark JVM talks to a
+ * ResponderServer child process started with player.transport=shared_memory.
+ * Busy-spin only makes sense with at least two free cores.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SharedMemoryTransportBenchmark {
+
+    private static final long OPEN_TIMEOUT_MILLIS = 30_000;
+
+    @Param({"BUSY_SPIN", "YIELD", "PARK"})
+    public WaitStrategyType wait;
+
+    @Param({"16", "256", "2048"})
+    public int payloadSize;
+
+    private Process responder;
+    private SharedMemoryChannel channel;
+    private MessageSender sender;
+    private MessageReceiver receiver;
+    private Message message;
+
+    @Setup
+    public void setUp() throws Exception {
+        BenchmarkSupport.configureLogging(false);
+        message = Message.sendNormalMessage("Initiator", BenchmarkSupport.payload(payloadSize));
+        Path path = Files.createTempFile("player-shm-bench-", ".dat");
+        Files.delete(path);
+
+        String java = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+        responder = new ProcessBuilder(java,
+                "-cp", System.getProperty("java.class.path"),
+                "-Dplayer.transport=shared_memory",
+                "-Dplayer.shm.path=" + path,
+                "-Dplayer.wait=" + wait.name().toLowerCase(),
+                "-Dplayer.log.level=off",
+                ResponderServer.class.getName())
+                .redirectOutput(ProcessBuilder.Redirect.to(new File(System.getProperty("java.io.tmpdir"), "shm-responder.log")))
+                .redirectErrorStream(true)
+                .start();
+
+        channel = SharedMemoryChannel.open(path, OPEN_TIMEOUT_MILLIS);
+        WaitStrategy waitStrategy = WaitStrategyFactory.createWaitStrategy(wait);
+        sender = new SharedMemoryMessageSender(channel.initiatorToResponder(), waitStrategy);
+        receiver = new SharedMemoryMessageReceiver(channel.responderToInitiator(), waitStrategy);
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        sender.sendMessage(Message.sendStopMessage("benchmark"));
+        while (receiver.receiveMessage().getMessageType() != MessageType.STOP) {
+            // drain replies that were still in flight
+        }
+        responder.waitFor(10, TimeUnit.SECONDS);
+        responder.destroy();
+        channel.close();
+        BenchmarkSupport.restoreLogging();
+    }
+
+    @Benchmark
+    public Message roundTrip() throws InterruptedException {
+        sender.sendMessage(message);
+        return receiver.receiveMessage();
+    }
+}
@@ -0,0 +1,153 @@
+package com.example.player.benchmark;
+
+import com.example.player.interfaces.MessageCodec;
+import com.example.player.interfaces.MessageReceiver;
+import com.example.player.interfaces.MessageSender;
+import com.example.player.interfaces.impl.message.codec.BinaryMessageCodec;
+import com.example.player.interfaces.impl.message.receiver.SocketMessageReceiver;
+import com.example.player.interfaces.impl.message.sender.BatchingSocketMessageSender;
+import com.example.player.interfaces.impl.message.sender.SocketMessageSender;
+import com.example.player.io.CountingOutputStream;
+import com.example.player.model.Message;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bursts of messages over loopback with a flush per message versus write batching.
+ * The {@code socketWritesPerMessage} counter reports how many socket writes (send system calls)
+ * each message cost on the sending side.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SocketBatchingBenchmark {
+
+    private static final int BURST = 64;
+
+    public enum SendMode {PER_MESSAGE_FLUSH, BATCHING}
+
+    @Param({"PER_MESSAGE_FLUSH", "BATCHING"})
+    public SendMode mode;
+
+    @Param({"16", "256"})
+    public int payloadSize;
+
+    private ServerSocket serverSocket;
+    private CountingSocket clientSocket;
+    private Socket peerSocket;
+    private MessageSender sender;
+    private MessageReceiver receiver;
+    private EchoPeer peer;
+    private Message message;
+
+    @Setup
+    public void setUp() throws Exception {
+        BenchmarkSupport.configureLogging(false);
+        message = Message.sendNormalMessage("Initiator", BenchmarkSupport.payload(payloadSize));
+        MessageCodec codec = new BinaryMessageCodec();
+
+        serverSocket = new ServerSocket(0, 1, InetAddress.getLoopbackAddress());
+        clientSocket = new CountingSocket();
+        clientSocket.setTcpNoDelay(true);
+        clientSocket.connect(new InetSocketAddress(InetAddress.getLoopbackAddress(), serverSocket.getLocalPort()));
+        peerSocket = serverSocket.accept();
+        peerSocket.setTcpNoDelay(true);
+
+        sender = mode == SendMode.BATCHING
+                ? new BatchingSocketMessageSender(clientSocket, codec, 16 * 1024, 200)
+                : new SocketMessageSender(clientSocket, codec);
+        MessageSender peerSender = new BatchingSocketMessageSender(peerSocket, codec, 16 * 1024, 200);
+        receiver = new SocketMessageReceiver(clientSocket, codec);
+        MessageReceiver peerReceiver = new SocketMessageReceiver(peerSocket, codec);
+
+        peer = new EchoPeer("Echo-" + mode, peerReceiver, peerSender);
+        peer.start();
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        peer.stop(sender, receiver);
+        clientSocket.close();
+        peerSocket.close();
+        serverSocket.close();
+        BenchmarkSupport.restoreLogging();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BURST)
+    public Message burst(WriteCounters counters) throws InterruptedException {
+        long writesBefore = clientSocket.writes();
+        for (int i = 0; i < BURST; i++) {
+            sender.sendMessage(message);
+        }
+        sender.flush();
+        Message last = null;
+        for (int i = 0; i < BURST; i++) {
+            last = receiver.receiveMessage();
+        }
+        counters.socketWrites += clientSocket.writes() - writesBefore;
+        counters.messages += BURST;
+        return last;
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class WriteCounters {
+        public long socketWrites;
+        public long messages;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            socketWrites = 0;
+            messages = 0;
+        }
+
+        public double socketWritesPerMessage() {
+            return messages == 0 ? 0 : (double) socketWrites / messages;
+        }
+    }
+
+    /**
+     * Socket whose output stream counts every write reaching the kernel.
+     */
+    private static final class CountingSocket extends Socket {
+
+        private CountingOutputStream out;
+
+        @Override
+        public synchronized OutputStream getOutputStream() throws IOException {
+            if (out == null) {
+                out = new CountingOutputStream(super.getOutputStream());
+            }
+            return out;
+        }
+
+        long writes() {
+            return out == null ? 0 : out.getWrites();
+        }
+    }
+}
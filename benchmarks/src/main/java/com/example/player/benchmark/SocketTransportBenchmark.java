@@ -0,0 +1,94 @@
+package com.example.player.benchmark;
+
+import com.example.player.enums.CodecType;
+import com.example.player.factory.MessageCodecFactory;
+import com.example.player.interfaces.MessageCodec;
+import com.example.player.interfaces.MessageReceiver;
+import com.example.player.interfaces.MessageSender;
+import com.example.player.interfaces.impl.message.receiver.SocketMessageReceiver;
+import com.example.player.interfaces.impl.message.sender.SocketMessageSender;
+import com.example.player.model.Message;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Round-trip latency and throughput of SocketMessageSender/SocketMessageReceiver over loopback
+ * for every wire codec.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SocketTransportBenchmark {
+
+    @Param({"BINARY", "JAVA_SERIALIZATION"})
+    public CodecType codec;
+
+    @Param({"16", "256", "4096"})
+    public int payloadSize;
+
+    @Param({"false", "true"})
+    public boolean logging;
+
+    private ServerSocket serverSocket;
+    private Socket clientSocket;
+    private Socket peerSocket;
+    private MessageSender sender;
+    private MessageReceiver receiver;
+    private EchoPeer peer;
+    private Message message;
+
+    @Setup
+    public void setUp() throws Exception {
+        BenchmarkSupport.configureLogging(logging);
+        message = Message.sendNormalMessage("Initiator", BenchmarkSupport.payload(payloadSize));
+        MessageCodec messageCodec = MessageCodecFactory.createCodec(codec);
+
+        serverSocket = new ServerSocket(0, 1, InetAddress.getLoopbackAddress());
+        clientSocket = new Socket(InetAddress.getLoopbackAddress(), serverSocket.getLocalPort());
+        peerSocket = serverSocket.accept();
+        clientSocket.setTcpNoDelay(true);
+        peerSocket.setTcpNoDelay(true);
+
+        // Senders first: Java serialization exchanges stream headers on construction
+        sender = new SocketMessageSender(clientSocket, messageCodec);
+        MessageSender peerSender = new SocketMessageSender(peerSocket, messageCodec);
+        receiver = new SocketMessageReceiver(clientSocket, messageCodec);
+        MessageReceiver peerReceiver = new SocketMessageReceiver(peerSocket, messageCodec);
+
+        peer = new EchoPeer("Echo-" + codec, peerReceiver, peerSender);
+        peer.start();
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        peer.stop(sender, receiver);
+        clientSocket.close();
+        peerSocket.close();
+        serverSocket.close();
+        BenchmarkSupport.restoreLogging();
+    }
+
+    @Benchmark
+    public Message roundTrip() throws InterruptedException {
+        sender.sendMessage(message);
+        return receiver.receiveMessage();
+    }
+}
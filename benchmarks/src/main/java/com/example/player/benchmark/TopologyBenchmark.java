@@ -0,0 +1,76 @@
+package com.example.player.benchmark;
+
+import com.example.player.enums.ExecutionMode;
+import com.example.player.enums.TopologyType;
+import com.example.player.topology.Topology;
+import com.example.player.topology.TopologyEngine;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time to complete one exchange of {@value #REQUESTS} requests per player in a topology of N
+ * players on virtual threads. Engine construction is excluded; thread start-up is included.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, batchSize = 1)
+@Measurement(iterations = 5, batchSize = 1)
+@Fork(1)
+public class TopologyBenchmark {
+
+    private static final int REQUESTS = 20;
+
+    @Param({"RING", "STAR", "MESH", "PIPELINE"})
+    public TopologyType topology;
+
+    @Param({"16", "256", "2048"})
+    public int players;
+
+    @Param({"1", "8"})
+    public int windowSize;
+
+    private TopologyEngine engine;
+
+    @Setup(Level.Trial)
+    public void silenceLogging() {
+        BenchmarkSupport.configureLogging(false);
+    }
+
+    @Setup(Level.Invocation)
+    public void setUp() {
+        engine = new TopologyEngine(new Topology(topology, players), REQUESTS, windowSize, ExecutionMode.VIRTUAL);
+    }
+
+    @TearDown(Level.Invocation)
+    public void tearDown() throws InterruptedException {
+        engine.stop();
+    }
+
+    @TearDown(Level.Trial)
+    public void restoreLogging() {
+        BenchmarkSupport.restoreLogging();
+    }
+
+    @Benchmark
+    public long exchange() throws InterruptedException {
+        engine.start();
+        if (!engine.awaitCompletion(1, TimeUnit.MINUTES)) {
+            throw new IllegalStateException("Topology exchange timed out");
+        }
+        return engine.getMessagesSent();
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.player.benchmark;
+
+import com.example.player.enums.WaitStrategyType;
+import com.example.player.interfaces.MessageReceiver;
+import com.example.player.interfaces.MessageSender;
+import com.example.player.interfaces.impl.message.receiver.InMemoryMessageReceiver;
+import com.example.player.interfaces.impl.message.sender.InMemoryMessageSender;
+import com.example.player.model.Message;
+import com.example.player.queue.MultiLaneInbox;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Round trips between two players' inboxes with every receive-side wait strategy, to weigh
+ * latency against CPU. The {@code cpuNanosPerRoundTrip} counter reports the CPU time both threads
+ * burnt per round trip, {@code coresBusy} how many cores they kept busy on average.
+ * <p>
+ * Spinning strategies need a core per waiting thread; on fewer cores they are slower than blocking.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WaitStrategyBenchmark {
+
+    private static final int CAPACITY = 20;
+    private static final int ROUND_TRIPS = 64;
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+
+    @Param({"BLOCKING", "PARK", "YIELD", "BUSY_SPIN"})
+    public WaitStrategyType waitStrategy;
+
+    @Param({"16"})
+    public int payloadSize;
+
+    private MessageSender sender;
+    private MessageReceiver receiver;
+    private EchoPeer peer;
+    private Message message;
+
+    @Setup
+    public void setUp() {
+        BenchmarkSupport.configureLogging(false);
+        message = Message.sendNormalMessage("Initiator", BenchmarkSupport.payload(payloadSize));
+        MultiLaneInbox towardsPeer = new MultiLaneInbox(CAPACITY, 1, CAPACITY);
+        MultiLaneInbox towardsBenchmark = new MultiLaneInbox(CAPACITY, 1, CAPACITY);
+        sender = new InMemoryMessageSender(towardsPeer);
+        receiver = new InMemoryMessageReceiver(towardsBenchmark, waitStrategy);
+        peer = new EchoPeer("Echo-" + waitStrategy, new InMemoryMessageReceiver(towardsPeer, waitStrategy),
+                new InMemoryMessageSender(towardsBenchmark));
+        peer.start();
+    }
+
+    @TearDown
+    public void tearDown() throws InterruptedException {
+        peer.stop(sender, receiver);
+        BenchmarkSupport.restoreLogging();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROUND_TRIPS)
+    public Message roundTrips(CpuCounters counters) throws InterruptedException {
+        long wallBefore = System.nanoTime();
+        long cpuBefore = THREADS.getCurrentThreadCpuTime() + THREADS.getThreadCpuTime(peer.threadId());
+        Message last = null;
+        for (int i = 0; i < ROUND_TRIPS; i++) {
+            sender.sendMessage(message);
+            last = receiver.receiveMessage();
+        }
+        counters.cpuNanos += THREADS.getCurrentThreadCpuTime() + THREADS.getThreadCpuTime(peer.threadId()) - cpuBefore;
+        counters.wallNanos += System.nanoTime() - wallBefore;
+        counters.roundTrips += ROUND_TRIPS;
+        return last;
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class CpuCounters {
+        public long cpuNanos;
+        public long wallNanos;
+        public long roundTrips;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            cpuNanos = 0;
+            wallNanos = 0;
+            roundTrips = 0;
+        }
+
+        public double cpuNanosPerRoundTrip() {
+            return roundTrips == 0 ? 0 : (double) cpuNanos / roundTrips;
+        }
+
+        public double coresBusy() {
+            return wallNanos == 0 ? 0 : (double) cpuNanos / wallNanos;
+        }
+    }
+}
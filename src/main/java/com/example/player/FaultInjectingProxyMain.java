@@ -0,0 +1,28 @@
+package com.example.player;
+
+import com.example.player.cluster.ResponderNode;
+import com.example.player.config.PlayerConfig;
+import com.example.player.session.FaultInjectingProxy;
+
+/**
+ * FaultInjectingProxyMain runs a FaultInjectingProxy in front of a ResponderServer, to test that
+ * resumable sessions survive broken connections.
+ * <p>
+ * Responsibilities:
+ * 1. Relay the listen port given on the command line to the target node.
+ * 2. Cut every relayed connection once it has been open for -Dplayer.proxy.cutIntervalMillis.
+ * <p>
+ * Usage: java -cp target/classes com.example.player.FaultInjectingProxyMain listenPort [host:]port
+ */
+public class FaultInjectingProxyMain {
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 2) {
+            throw new IllegalArgumentException("Usage: FaultInjectingProxyMain listenPort [host:]port");
+        }
+        FaultInjectingProxy proxy = new FaultInjectingProxy(Integer.parseInt(args[0]), ResponderNode.parse(args[1]),
+                PlayerConfig.proxyCutIntervalMillis());
+        proxy.start();
+        Thread.currentThread().join();
+    }
+}
@@ -1,9 +1,22 @@
 package com.example.player;
 
+import com.example.player.cluster.ConsistentHashRouter;
+import com.example.player.cluster.ResponderNode;
+import com.example.player.config.PlayerConfig;
+import com.example.player.config.SocketConfig;
 import com.example.player.domain.Player;
 import com.example.player.domain.PlayerThread;
+import com.example.player.enums.TransportType;
+import com.example.player.factory.MessageSenderFactory;
+import com.example.player.factory.WaitStrategyFactory;
+import com.example.player.interfaces.MessageCodec;
+import com.example.player.interfaces.WaitStrategy;
+import com.example.player.interfaces.impl.message.codec.CodecHandshake;
+import com.example.player.interfaces.impl.message.receiver.SharedMemoryMessageReceiver;
 import com.example.player.interfaces.impl.message.receiver.SocketMessageReceiver;
-import com.example.player.interfaces.impl.message.sender.SocketMessageSender;
+import com.example.player.interfaces.impl.message.sender.SharedMemoryMessageSender;
+import com.example.player.session.ResumableSession;
+import com.example.player.shm.SharedMemoryChannel;
 
 import java.net.Socket;
 
@@ -12,27 +25,66 @@ import java.net.Socket;
  * InitiatorClient is the main class for starting a Player as an Initiator in multi-JVM mode.
  * <p>
  * Responsibilities:
- * 1. Connect to the Responder server via a TCP socket.
+ * 1. Connect to a Responder server via a TCP socket configured from SocketConfig (waiting for it
+ * to start listening), or attach to its shared memory file when player.transport=shared_memory.
+ * With several nodes in player.cluster.nodes, the node is chosen by consistent hashing of the
+ * player name (first argument, "Initiator" by default).
  * 2. Create a Player instance in initiator mode.
- * 3. Link the Player with SocketMessageSender and SocketMessageReceiver.
- * 4. Start the PlayerThread to process incoming messages.
- * 5. Send the first message to start the conversation.
+ * 3. Link the Player with a socket MessageSender (batching or per-message flush) and SocketMessageReceiver,
+ * offering compression in the CodecHandshake when enabled, or with the shared memory sender and receiver.
+ * With player.session.resume=true the socket is wrapped in a ResumableSession, which reconnects to
+ * the same node and replays unacknowledged messages when the connection breaks.
+ * 4. Start the PlayerThread, which sends the first message to start the conversation and then
+ * processes incoming messages.
  */
 public class InitiatorClient {
+
+    private static final long SHARED_MEMORY_OPEN_TIMEOUT_MILLIS = 30_000;
+    private static final long CONNECT_TIMEOUT_MILLIS = 30_000;
+
     public static void main(String[] args) throws Exception {
-        Socket socket = new Socket("localhost", 5000);
+        String name = args.length > 0 ? args[0] : "Initiator";
+        Player initiator = new Player(name, true, PlayerConfig.maxMessages(), PlayerConfig.windowSize());
+
+        if (PlayerConfig.transportType() == TransportType.SHARED_MEMORY) {
+            try (SharedMemoryChannel channel = SharedMemoryChannel.open(PlayerConfig.sharedMemoryPath(),
+                    SHARED_MEMORY_OPEN_TIMEOUT_MILLIS)) {
+                WaitStrategy waitStrategy = WaitStrategyFactory.createWaitStrategy(PlayerConfig.waitStrategyType());
+                initiator.setPeerSender(new SharedMemoryMessageSender(channel.initiatorToResponder(), waitStrategy));
+                run(new PlayerThread(initiator,
+                        new SharedMemoryMessageReceiver(channel.responderToInitiator(), waitStrategy)));
+            }
+            return;
+        }
 
-        Player initiator = new Player("Initiator", true, 2);
-        initiator.setPeerSender(new SocketMessageSender(socket));
+        SocketConfig socketConfig = SocketConfig.fromSystemProperties();
+        ConsistentHashRouter router = ConsistentHashRouter.fromSystemProperties();
+        Socket socket = router.connect(name, socketConfig, CONNECT_TIMEOUT_MILLIS);
 
-        PlayerThread t = new PlayerThread(initiator, new SocketMessageReceiver(socket));
-        t.start();
+        if (PlayerConfig.sessionResume()) {
+            ResponderNode node = router.route(name);
+            ResumableSession session = ResumableSession.open(name, socket,
+                    () -> socketConfig.connect(node.getHost(), node.getPort(), 0), socketConfig,
+                    PlayerConfig.sessionRetransmitCapacity(), PlayerConfig.sessionResumeTimeoutMillis());
+            initiator.setPeerSender(session.sender());
+            try {
+                run(new PlayerThread(initiator, session.receiver()));
+            } finally {
+                session.close();
+            }
+            return;
+        }
 
+        MessageCodec codec = CodecHandshake.offer(socket, socketConfig);
+        initiator.setPeerSender(MessageSenderFactory.createSocketSender(socket, codec, socketConfig));
+        run(new PlayerThread(initiator, new SocketMessageReceiver(socket, codec)));
+    }
+
+    private static void run(PlayerThread t) throws InterruptedException {
         Thread.sleep(1000);
-        // First message
-        initiator.sendMessage("Hello Responder!");
+        // The thread sends the first message (or the first window of messages) itself
+        t.start("Hello Responder!");
 
         t.join();
     }
 }
-
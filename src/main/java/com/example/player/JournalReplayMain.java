@@ -0,0 +1,35 @@
+package com.example.player;
+
+import com.example.player.config.PlayerConfig;
+import com.example.player.journal.MessageJournal;
+import com.example.player.logger.Logger;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * JournalReplayMain prints the messages recorded in a MessageJournal directory.
+ * <p>
+ * Responsibilities:
+ * 1. Replay the journal given on the command line (or -Dplayer.journal.dir) from an offset.
+ * 2. Print every message with its offset, then the offset to resume from next time.
+ * <p>
+ * Usage: java -cp target/classes com.example.player.JournalReplayMain [dir] [fromOffset]
+ */
+public class JournalReplayMain {
+
+    public static void main(String[] args) throws Exception {
+        Path directory = args.length > 0 ? Paths.get(args[0]) : PlayerConfig.journalDirectory();
+        if (directory == null) {
+            throw new IllegalArgumentException("Journal directory required: pass it or set -D" + PlayerConfig.JOURNAL_DIR);
+        }
+        long fromOffset = args.length > 1 ? Long.parseLong(args[1]) : 0L;
+
+        long[] replayed = new long[1];
+        long next = MessageJournal.replay(directory, fromOffset, (message, offset) -> {
+            System.out.println(offset + "\t" + message);
+            replayed[0]++;
+        });
+        Logger.info("JournalReplayMain", "Replayed {} messages, next offset {}", replayed[0], next);
+    }
+}
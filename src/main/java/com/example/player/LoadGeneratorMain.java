@@ -0,0 +1,33 @@
+package com.example.player;
+
+import com.example.player.config.PlayerConfig;
+import com.example.player.enums.ReportFormat;
+import com.example.player.loadgen.LoadGenerator;
+import com.example.player.loadgen.LoadReport;
+import com.example.player.logger.Logger;
+
+import java.nio.file.Path;
+
+/**
+ * LoadGeneratorMain runs one load scenario configured with -Dplayer.load.* and reports the result.
+ * <p>
+ * Responsibilities:
+ * 1. Build a LoadGenerator from the system properties and run it.
+ * 2. Print the report as text, CSV or JSON, or append it to -Dplayer.load.output.
+ * <p>
+ * Usage: java -Dplayer.load.mode=open -Dplayer.load.rate=50000 -cp target/classes com.example.player.LoadGeneratorMain
+ */
+public class LoadGeneratorMain {
+
+    public static void main(String[] args) throws Exception {
+        LoadReport report = LoadGenerator.fromSystemProperties().run();
+        ReportFormat format = PlayerConfig.loadFormat();
+        Path output = PlayerConfig.loadOutput();
+        if (output == null) {
+            System.out.println(report.format(format));
+        } else {
+            report.appendTo(output, format);
+            Logger.info("LoadGeneratorMain", "Report appended to {}", output);
+        }
+    }
+}
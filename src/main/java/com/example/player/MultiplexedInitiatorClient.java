@@ -0,0 +1,65 @@
+package com.example.player;
+
+import com.example.player.config.PlayerConfig;
+import com.example.player.config.SocketConfig;
+import com.example.player.domain.Player;
+import com.example.player.domain.PlayerThread;
+import com.example.player.interfaces.impl.message.receiver.MultiplexedMessageReceiver;
+import com.example.player.interfaces.impl.message.sender.MultiplexedMessageSender;
+import com.example.player.logger.Logger;
+import com.example.player.mux.ConnectionPool;
+import com.example.player.mux.LogicalChannel;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * MultiplexedInitiatorClient runs many initiator conversations over a small pool of connections.
+ * <p>
+ * Responsibilities:
+ * 1. Open one LogicalChannel per initiator from a ConnectionPool of player.mux.connections sockets.
+ * 2. Link every initiator Player to its channel and start its PlayerThread.
+ * 3. Start all conversations, wait for them to finish and report messages/sec.
+ * <p>
+ * Usage: java -cp target/classes com.example.player.MultiplexedInitiatorClient [initiators] [maxMessages]
+ */
+public class MultiplexedInitiatorClient {
+
+    private static final int DEFAULT_INITIATORS = 1000;
+    private static final int DEFAULT_MAX_MESSAGES = 10;
+
+    public static void main(String[] args) throws Exception {
+        int initiators = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_INITIATORS;
+        int maxMessages = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_MAX_MESSAGES;
+
+        try (ConnectionPool pool = new ConnectionPool("localhost", PlayerConfig.port(), PlayerConfig.muxConnections(),
+                SocketConfig.fromSystemProperties(), PlayerConfig.muxWindow())) {
+            List<Player> players = new ArrayList<>(initiators);
+            List<PlayerThread> threads = new ArrayList<>(initiators);
+            for (int i = 1; i <= initiators; i++) {
+                LogicalChannel channel = pool.openChannel();
+                Player initiator = new Player("Initiator-" + i, true, maxMessages, PlayerConfig.windowSize());
+                initiator.setPeerSender(new MultiplexedMessageSender(channel));
+                players.add(initiator);
+                threads.add(new PlayerThread(initiator, new MultiplexedMessageReceiver(channel)));
+            }
+
+            long start = System.nanoTime();
+            for (PlayerThread thread : threads) {
+                thread.start("Hello Responder!");
+            }
+            long sent = 0;
+            for (int i = 0; i < threads.size(); i++) {
+                threads.get(i).join();
+                sent += players.get(i).getSentCount();
+            }
+            long elapsedNanos = System.nanoTime() - start;
+            Logger.info("MultiplexedInitiatorClient", "{} conversations over {} connections finished",
+                    initiators, pool.size());
+            Logger.info("MultiplexedInitiatorClient", "{} messages in {} ms",
+                    sent, elapsedNanos / 1_000_000);
+            Logger.info("MultiplexedInitiatorClient", "Throughput: {} messages/sec",
+                    elapsedNanos == 0 ? sent : sent * 1_000_000_000L / elapsedNanos);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.player;
+
+import com.example.player.config.PlayerConfig;
+import com.example.player.config.SocketConfig;
+import com.example.player.domain.Player;
+import com.example.player.domain.PlayerThread;
+import com.example.player.interfaces.impl.message.receiver.MultiplexedMessageReceiver;
+import com.example.player.interfaces.impl.message.sender.MultiplexedMessageSender;
+import com.example.player.logger.Logger;
+import com.example.player.mux.MultiplexedConnection;
+
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+
+/**
+ * MultiplexedResponderServer is the main class for serving multiplexed initiators in multi-JVM mode.
+ * <p>
+ * Responsibilities:
+ * 1. Accept connections from ConnectionPools on the responder port.
+ * 2. Serve each connection as a MultiplexedConnection.
+ * 3. Give every logical channel the peer opens its own responder Player and PlayerThread.
+ * <p>
+ * Design notes:
+ * - Run with -Dplayer.execution=virtual when thousands of channels are expected, so every
+ * responder loop is a virtual thread.
+ * - player.mux.window sets how many messages a peer may send per channel before it is credited.
+ */
+public class MultiplexedResponderServer {
+
+    public static void main(String[] args) throws Exception {
+        int port = PlayerConfig.port();
+        int window = PlayerConfig.muxWindow();
+        SocketConfig socketConfig = SocketConfig.fromSystemProperties();
+
+        try (ServerSocket serverSocket = new ServerSocket()) {
+            socketConfig.apply(serverSocket);
+            serverSocket.bind(new InetSocketAddress(port));
+            Logger.info("MultiplexedResponderServer", "Waiting for connections on port {} (window {})...", port, window);
+
+            long connectionId = 0;
+            while (true) {
+                Socket socket = serverSocket.accept();
+                socketConfig.apply(socket);
+                String prefix = "Responder-" + (++connectionId) + "-";
+                MultiplexedConnection.accept(socket, window, channel -> {
+                    Player responder = new Player(prefix + channel.getId(), false, 0);
+                    responder.setPeerSender(new MultiplexedMessageSender(channel));
+                    new PlayerThread(responder, new MultiplexedMessageReceiver(channel)).start();
+                });
+            }
+        }
+    }
+}
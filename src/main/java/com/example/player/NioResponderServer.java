@@ -0,0 +1,59 @@
+package com.example.player;
+
+import com.example.player.config.PlayerConfig;
+import com.example.player.config.SocketConfig;
+import com.example.player.logger.Logger;
+import com.example.player.nio.EventLoop;
+import com.example.player.nio.NioConnection;
+
+import java.net.InetSocketAddress;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+
+/**
+ * NioResponderServer is the main class for serving many Initiators from one JVM in multi-JVM mode.
+ * <p>
+ * Responsibilities:
+ * 1. Accept initiator connections on the responder port.
+ * 2. Give every connection its own responder Player and ResponderMessageStrategy.
+ * 3. Spread connections round-robin over a small, fixed set of EventLoop threads,
+ * so thousands of conversations do not need thousands of threads.
+ * <p>
+ * Design notes:
+ * - Uses the binary wire format only; initiators must run with the default codec.
+ * - The number of event loops is configured with -Dplayer.nio.eventLoops.
+ */
+public class NioResponderServer {
+
+    private static final int ACCEPT_BACKLOG = 4096;
+
+    public static void main(String[] args) throws Exception {
+        int port = PlayerConfig.port();
+        SocketConfig socketConfig = SocketConfig.fromSystemProperties();
+        EventLoop[] loops = new EventLoop[PlayerConfig.nioEventLoops()];
+        for (int i = 0; i < loops.length; i++) {
+            loops[i] = new EventLoop("EventLoop-" + i);
+            loops[i].start();
+        }
+
+        try (ServerSocketChannel serverChannel = ServerSocketChannel.open()) {
+            socketConfig.apply(serverChannel.socket());
+            serverChannel.bind(new InetSocketAddress(port), ACCEPT_BACKLOG);
+            Logger.info("NioResponderServer", "Waiting for clients on port {} with {} event loops...", port, loops.length);
+
+            long connectionId = 0;
+            while (true) {
+                SocketChannel channel = serverChannel.accept();
+                channel.configureBlocking(false);
+                socketConfig.apply(channel.socket());
+                connectionId++;
+                NioConnection connection = new NioConnection(channel, "Responder-" + connectionId);
+                loops[(int) (connectionId % loops.length)].register(connection);
+            }
+        } finally {
+            for (EventLoop loop : loops) {
+                loop.shutdown();
+            }
+        }
+    }
+}
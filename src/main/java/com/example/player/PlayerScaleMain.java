@@ -0,0 +1,139 @@
+package com.example.player;
+
+import com.example.player.config.PlayerConfig;
+import com.example.player.domain.Player;
+import com.example.player.domain.PlayerThread;
+import com.example.player.enums.ExecutionMode;
+import com.example.player.enums.LogLevel;
+import com.example.player.enums.SchedulerType;
+import com.example.player.enums.TransportType;
+import com.example.player.interfaces.impl.message.sender.MailboxMessageSender;
+import com.example.player.logger.Logger;
+import com.example.player.scheduler.Mailbox;
+import com.example.player.scheduler.MailboxScheduler;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * PlayerScaleMain is a scale test that runs a large number of paired players in a single JVM.
+ * <p>
+ * Responsibilities:
+ * 1. Create N initiator/responder pairs with the same wiring as SingleJVMMain.
+ * 2. Run every player loop in the configured ExecutionMode (virtual threads by default), or, with
+ * -Dplayer.scheduler=mailbox, run every player as a Mailbox on a core-sized MailboxScheduler.
+ * 3. Open every conversation on the initiator's own thread or mailbox, honouring player.window.
+ * 4. Report heap usage with the responders (or all mailboxes) idle and the overall messages/sec
+ * once every conversation has terminated.
+ * <p>
+ * Usage: java -cp target/classes com.example.player.PlayerScaleMain [pairs] [maxMessages]
+ * (defaults: 100000 pairs, 10 messages per initiator). Per-message logging is switched off.
+ */
+public class PlayerScaleMain {
+
+    private static final int DEFAULT_PAIRS = 100_000;
+    private static final int DEFAULT_MAX_MESSAGES = 10;
+
+    public static void main(String[] args) throws InterruptedException {
+        int pairs = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PAIRS;
+        int maxMessages = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_MAX_MESSAGES;
+        int windowSize = PlayerConfig.windowSize();
+        ExecutionMode executionMode = PlayerConfig.getEnum(PlayerConfig.EXECUTION_MODE,
+                ExecutionMode.class, ExecutionMode.VIRTUAL);
+        TransportType transportType = PlayerConfig.transportType();
+        Logger.setLevel(LogLevel.OFF);
+        if (PlayerConfig.schedulerType() == SchedulerType.MAILBOX) {
+            runOnMailboxes(pairs, maxMessages, windowSize);
+            return;
+        }
+
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        long heapBefore = usedHeap(memory);
+
+        List<Player> initiators = new ArrayList<>(pairs);
+        List<Player> responders = new ArrayList<>(pairs);
+        List<PlayerThread> threads = new ArrayList<>(pairs * 2);
+        for (int i = 0; i < pairs; i++) {
+            Player initiator = new Player("Initiator-" + i, true, maxMessages, windowSize);
+            Player responder = new Player("Responder-" + i, false, 0, 1, Player.inboxCapacityFor(windowSize));
+            threads.addAll(SingleJVMMain.linkPlayers(initiator, responder, transportType, executionMode));
+            initiators.add(initiator);
+            responders.add(responder);
+        }
+        for (int i = 1; i < threads.size(); i += 2) {
+            threads.get(i).start();
+        }
+
+        long heapStarted = usedHeap(memory);
+        System.out.printf("Started %,d responders (%s threads): heap %,d MB (%,d bytes per pair)%n",
+                pairs, executionMode, heapStarted >> 20, (heapStarted - heapBefore) / pairs);
+
+        long start = System.nanoTime();
+        // Each initiator's own thread sends its greeting (or first window), as in SingleJVMMain
+        for (int i = 0; i < threads.size(); i += 2) {
+            threads.get(i).start("Hello!");
+        }
+        for (PlayerThread thread : threads) {
+            thread.join();
+        }
+        long elapsedNanos = System.nanoTime() - start;
+
+        long messages = 0;
+        for (int i = 0; i < pairs; i++) {
+            messages += initiators.get(i).getSentCount() + responders.get(i).getSentCount();
+        }
+        System.out.printf("Exchanged %,d messages in %,d ms: %,.0f messages/sec, committed heap %,d MB%n",
+                messages, elapsedNanos / 1_000_000, messages * 1e9 / elapsedNanos,
+                memory.getHeapMemoryUsage().getCommitted() >> 20);
+    }
+
+    private static void runOnMailboxes(int pairs, int maxMessages, int windowSize) throws InterruptedException {
+        MailboxScheduler scheduler = new MailboxScheduler();
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        long heapBefore = usedHeap(memory);
+
+        List<Player> players = new ArrayList<>(pairs * 2);
+        List<Mailbox> mailboxes = new ArrayList<>(pairs * 2);
+        for (int i = 0; i < pairs; i++) {
+            Player initiator = new Player("Initiator-" + i, true, maxMessages, windowSize);
+            Player responder = new Player("Responder-" + i, false, 0);
+            Mailbox initiatorMailbox = scheduler.register(initiator);
+            Mailbox responderMailbox = scheduler.register(responder);
+            initiator.setPeerSender(new MailboxMessageSender(responderMailbox));
+            responder.setPeerSender(new MailboxMessageSender(initiatorMailbox));
+            players.add(initiator);
+            players.add(responder);
+            mailboxes.add(initiatorMailbox);
+            mailboxes.add(responderMailbox);
+        }
+
+        long heapStarted = usedHeap(memory);
+        System.out.printf("Registered %,d players on %d scheduler threads: heap %,d MB (%,d bytes per pair)%n",
+                pairs * 2, scheduler.getParallelism(), heapStarted >> 20, (heapStarted - heapBefore) / pairs);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < mailboxes.size(); i += 2) {
+            mailboxes.get(i).start("Hello!");
+        }
+        for (Mailbox mailbox : mailboxes) {
+            mailbox.awaitTermination();
+        }
+        long elapsedNanos = System.nanoTime() - start;
+        scheduler.shutdown();
+
+        long messages = 0;
+        for (Player player : players) {
+            messages += player.getSentCount();
+        }
+        System.out.printf("Exchanged %,d messages in %,d ms: %,.0f messages/sec, %,d steals, committed heap %,d MB%n",
+                messages, elapsedNanos / 1_000_000, messages * 1e9 / elapsedNanos, scheduler.getStealCount(),
+                memory.getHeapMemoryUsage().getCommitted() >> 20);
+    }
+
+    private static long usedHeap(MemoryMXBean memory) {
+        System.gc();
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+}
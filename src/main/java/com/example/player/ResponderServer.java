@@ -1,37 +1,207 @@
 package com.example.player;
 
+import com.example.player.config.PlayerConfig;
+import com.example.player.config.SocketConfig;
 import com.example.player.domain.Player;
 import com.example.player.domain.PlayerThread;
+import com.example.player.enums.TransportType;
+import com.example.player.factory.MessageSenderFactory;
+import com.example.player.factory.WaitStrategyFactory;
+import com.example.player.interfaces.WaitStrategy;
+import com.example.player.interfaces.impl.message.codec.CodecHandshake;
+import com.example.player.interfaces.impl.message.receiver.SharedMemoryMessageReceiver;
 import com.example.player.interfaces.impl.message.receiver.SocketMessageReceiver;
-import com.example.player.interfaces.impl.message.sender.SocketMessageSender;
+import com.example.player.interfaces.impl.message.sender.SharedMemoryMessageSender;
+import com.example.player.journal.MessageJournal;
 import com.example.player.logger.Logger;
+import com.example.player.session.ResumableSession;
+import com.example.player.session.SessionHandshake;
+import com.example.player.shm.SharedMemoryChannel;
 
+import java.net.InetSocketAddress;
 import java.net.ServerSocket;
 import java.net.Socket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
 
 /**
  * ResponderServer is the main class for starting a Player as a Responder in multi-JVM mode.
  * <p>
  * Responsibilities:
- * 1. Start a server socket and accept client connections.
+ * 1. Start a server socket and accept client connections, applying SocketConfig options,
+ * or create the shared memory file when player.transport=shared_memory.
  * 2. Create a Player instance in responder mode.
- * 3. Link the Player with SocketMessageSender and SocketMessageReceiver.
- * 4. Start the PlayerThread to process incoming messages.
+ * 3. Link the Player with a socket MessageSender (batching or per-message flush) and SocketMessageReceiver,
+ * using the codec agreed in the CodecHandshake, or with the shared memory sender and receiver.
+ * 4. Journal every sent message when player.journal.dir is set.
+ * 5. Start the PlayerThread to process incoming messages.
+ * 6. Serve up to player.server.clients initiators concurrently, each on its own
+ * Player and thread (1 by default, 0 for no limit), so several servers on different ports form a
+ * cluster that InitiatorClients are spread over by consistent hashing.
+ * Each conversation closes its sender and its socket when it ends, also when the handshake or the
+ * conversation fails, so a long-running server does not leak connections.
+ * 7. With player.session.resume=true, run every conversation in a ResumableSession and keep accepting
+ * connections, so a client whose connection broke can resume its session without losing messages.
  */
 public class ResponderServer {
     public static void main(String[] args) throws Exception {
-        ServerSocket serverSocket = new ServerSocket(5000);
+        try (MessageJournal journal = MessageJournal.fromSystemProperties()) {
+            serve(journal);
+        }
+    }
+
+    private static void serve(MessageJournal journal) throws Exception {
+        if (PlayerConfig.transportType() == TransportType.SHARED_MEMORY) {
+            Player responder = new Player("Responder", false, 0);
+            try (SharedMemoryChannel channel = SharedMemoryChannel.create(PlayerConfig.sharedMemoryPath(),
+                    PlayerConfig.sharedMemorySlots(), PlayerConfig.sharedMemorySlotSize())) {
+                WaitStrategy waitStrategy = WaitStrategyFactory.createWaitStrategy(PlayerConfig.waitStrategyType());
+                responder.setPeerSender(MessageSenderFactory.journaled(
+                        new SharedMemoryMessageSender(channel.responderToInitiator(), waitStrategy), journal));
+                run(new PlayerThread(responder, new SharedMemoryMessageReceiver(channel.initiatorToResponder(), waitStrategy)));
+            }
+            return;
+        }
+
+        SocketConfig socketConfig = SocketConfig.fromSystemProperties();
+        ServerSocket serverSocket = new ServerSocket();
+        socketConfig.apply(serverSocket);
+        serverSocket.bind(new InetSocketAddress(PlayerConfig.port()));
 
+        int maxClients = PlayerConfig.serverClients();
+        if (PlayerConfig.sessionResume()) {
+            serveSessions(serverSocket, socketConfig, journal, maxClients);
+            return;
+        }
+        if (maxClients == 1) {
+            Logger.log("Waiting for client...");
+            serveClient(accept(serverSocket, socketConfig), "Responder", socketConfig, journal);
+            return;
+        }
+        List<Thread> connections = new ArrayList<>();
+        for (int client = 1; maxClients == 0 || client <= maxClients; client++) {
+            Logger.log("Waiting for client...");
+            Socket socket = accept(serverSocket, socketConfig);
+            String name = "Responder-" + PlayerConfig.port() + "-" + client;
+            Thread connection = Thread.ofPlatform().name("Connection-" + name).start(() -> {
+                try {
+                    serveClient(socket, name, socketConfig, journal);
+                } catch (Exception e) {
+                    Logger.warn(name, "Connection failed: {}", e.getMessage());
+                }
+            });
+            if (maxClients > 0) {
+                connections.add(connection);
+            }
+        }
+        for (Thread connection : connections) {
+            connection.join();
+        }
+    }
+
+    /**
+     * Serves up to maxClients ResumableSessions (0 for no limit). Connections are accepted on a daemon
+     * thread for as long as the server runs, so a client can resume its session while it is served.
+     */
+    private static void serveSessions(ServerSocket serverSocket, SocketConfig socketConfig, MessageJournal journal,
+                                      int maxClients) throws Exception {
+        Map<Long, ResumableSession> sessions = new ConcurrentHashMap<>();
+        CountDownLatch finished = new CountDownLatch(maxClients);
         Logger.log("Waiting for client...");
+        Thread acceptor = Thread.ofPlatform().daemon().name("Session-Acceptor").start(() -> {
+            int opened = 0;
+            while (!serverSocket.isClosed()) {
+                Socket socket;
+                try {
+                    socket = accept(serverSocket, socketConfig);
+                } catch (Exception e) {
+                    return;
+                }
+                try {
+                    SessionHandshake.Hello hello = SessionHandshake.read(socket);
+                    if (hello.isResume()) {
+                        ResumableSession session = sessions.get(hello.getSessionId());
+                        if (session == null || !session.attach(socket, hello)) {
+                            SessionHandshake.reject(socket);
+                            socket.close();
+                        }
+                        continue;
+                    }
+                    if (maxClients > 0 && opened == maxClients) {
+                        socket.close();
+                        continue;
+                    }
+                    opened++;
+                    String name = maxClients == 1 ? "Responder" : "Responder-" + PlayerConfig.port() + "-" + opened;
+                    ResumableSession session = ResumableSession.accept(name, socket, hello, socketConfig,
+                            PlayerConfig.sessionRetransmitCapacity(), PlayerConfig.sessionResumeTimeoutMillis());
+                    sessions.put(session.getId(), session);
+                    Thread.ofPlatform().name("Connection-" + name).start(() -> {
+                        try {
+                            serveSession(session, name, journal);
+                        } catch (Exception e) {
+                            Logger.warn(name, "Session failed: {}", e.getMessage());
+                        } finally {
+                            sessions.remove(session.getId());
+                            finished.countDown();
+                        }
+                    });
+                } catch (Exception e) {
+                    Logger.warn("ResponderServer", "Rejected connection: {}", e.getMessage());
+                    try {
+                        socket.close();
+                    } catch (Exception ignored) {
+                        // already closed
+                    }
+                }
+            }
+        });
+        if (maxClients == 0) {
+            acceptor.join();
+        } else {
+            finished.await();
+        }
+        serverSocket.close();
+    }
+
+    private static void serveSession(ResumableSession session, String name, MessageJournal journal) throws Exception {
+        Player responder = new Player(name, false, 0);
+        responder.setPeerSender(MessageSenderFactory.journaled(session.sender(), journal));
+        try {
+            run(new PlayerThread(responder, session.receiver()));
+        } finally {
+            session.close();
+        }
+    }
+
+    private static Socket accept(ServerSocket serverSocket, SocketConfig socketConfig) throws Exception {
         Socket client = serverSocket.accept();
+        socketConfig.apply(client);
         Logger.log("Client connected!");
+        return client;
+    }
 
-        Player responder = new Player("Responder", false, 0);
-        responder.setPeerSender(new SocketMessageSender(client));
-        PlayerThread t = new PlayerThread(responder, new SocketMessageReceiver(client));
+    private static void serveClient(Socket client, String name, SocketConfig socketConfig, MessageJournal journal)
+            throws Exception {
+        try (client) {
+            Player responder = new Player(name, false, 0);
+            try {
+                CodecHandshake.Result handshake = CodecHandshake.accept(client, socketConfig);
+                responder.setPeerSender(MessageSenderFactory.journaled(
+                        MessageSenderFactory.createSocketSender(client, handshake.getCodec(), socketConfig), journal));
+                run(new PlayerThread(responder,
+                        new SocketMessageReceiver(handshake.getInputStream(), handshake.getCodec())));
+            } finally {
+                responder.closeSender();
+            }
+        }
+    }
 
+    private static void run(PlayerThread t) throws InterruptedException {
         t.start();
         t.join();
     }
 }
-
@@ -1,37 +1,151 @@
 package com.example.player;
 
+import com.example.player.config.PlayerConfig;
 import com.example.player.domain.Player;
 import com.example.player.domain.PlayerThread;
+import com.example.player.enums.ExecutionMode;
+import com.example.player.enums.TransportType;
+import com.example.player.enums.WaitStrategyType;
+import com.example.player.factory.WaitStrategyFactory;
+import com.example.player.interfaces.MessageReceiver;
+import com.example.player.interfaces.MessageStrategy;
+import com.example.player.interfaces.WaitStrategy;
 import com.example.player.interfaces.impl.message.receiver.InMemoryMessageReceiver;
+import com.example.player.interfaces.impl.message.receiver.RingBufferMessageReceiver;
+import com.example.player.interfaces.impl.message.receiver.SharedMemoryMessageReceiver;
 import com.example.player.interfaces.impl.message.sender.InMemoryMessageSender;
+import com.example.player.interfaces.impl.message.sender.RingBufferMessageSender;
+import com.example.player.interfaces.impl.message.sender.SharedMemoryMessageSender;
 import com.example.player.logger.Logger;
+import com.example.player.model.Message;
+import com.example.player.queue.SpscRingBuffer;
+import com.example.player.shm.SharedMemoryChannel;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
 
 public class SingleJVMMain {
     public static void main(String[] args) throws InterruptedException {
 
         try {
-            Player firstPlayer = new Player("Player1", true, 2);
-            Player secondPlayer = new Player("Player2", false, 0);
+            Player firstPlayer = new Player("Player1", true, PlayerConfig.maxMessages(), PlayerConfig.windowSize());
+            Player secondPlayer = new Player("Player2", false, 0, 1,
+                    Player.inboxCapacityFor(PlayerConfig.windowSize()));
 
-            // Link in-memory queues
-            firstPlayer.setPeerSender(new InMemoryMessageSender(secondPlayer.getInbox()));
-            secondPlayer.setPeerSender(new InMemoryMessageSender(firstPlayer.getInbox()));
+            List<PlayerThread> threads = linkPlayers(firstPlayer, secondPlayer,
+                    PlayerConfig.transportType(), PlayerConfig.executionMode());
+            threads.get(1).start();
+            // Initiator's thread sends the first message (or the first window of messages) itself
+            threads.get(0).start("Hello Player2!");
 
-            PlayerThread t1 = new PlayerThread(firstPlayer, new InMemoryMessageReceiver(firstPlayer.getInbox()));
-            PlayerThread t2 = new PlayerThread(secondPlayer, new InMemoryMessageReceiver(secondPlayer.getInbox()));
+            for (PlayerThread thread : threads) {
+                thread.join();
+            }
 
-            t1.start();
-            t2.start();
+        } catch (Exception ex) {
+            Logger.log("The exception occurred while executing both threads", ex.getMessage());
+        }
+    }
 
-            // Initiator sends the first message
-            firstPlayer.sendMessage("Hello Player2!");
+    /**
+     * Links two players through the given in-memory transport and creates (without starting)
+     * a PlayerThread for each of them.
+     * <p>
+     * Every queue between the players must hold a whole send window, or the initiator, still
+     * filling its window, and the responder, replying into the initiator's full queue, block on
+     * each other: rings and shared memory slots are sized up to the window, and player inboxes that
+     * are too small are rejected (see Player.inboxCapacityFor).
+     */
+    public static List<PlayerThread> linkPlayers(Player firstPlayer, Player secondPlayer,
+                                                 TransportType transportType, ExecutionMode executionMode) {
+        return linkPlayers(firstPlayer, null, secondPlayer, transportType, executionMode);
+    }
 
-            t1.join();
-            t2.join();
+    /**
+     * Same as {@link #linkPlayers(Player, Player, TransportType, ExecutionMode)}, but the first player
+     * handles its messages with the given strategy instead of its role's default (null keeps the default).
+     */
+    public static List<PlayerThread> linkPlayers(Player firstPlayer, MessageStrategy firstStrategy, Player secondPlayer,
+                                                 TransportType transportType, ExecutionMode executionMode) {
+        int window = Math.max(firstPlayer.getWindowSize(), secondPlayer.getWindowSize());
+        if (transportType == TransportType.RING_BUFFER) {
+            return linkPlayersWithRingBuffers(firstPlayer, firstStrategy, secondPlayer, executionMode, window);
+        }
+        if (transportType == TransportType.SHARED_MEMORY) {
+            return linkPlayersWithSharedMemory(firstPlayer, firstStrategy, secondPlayer, executionMode, window);
+        }
+        requireInboxHoldsWindow(firstPlayer, window);
+        requireInboxHoldsWindow(secondPlayer, window);
+        // Link in-memory queues
+        firstPlayer.setPeerSender(new InMemoryMessageSender(secondPlayer.getInbox()));
+        secondPlayer.setPeerSender(new InMemoryMessageSender(firstPlayer.getInbox()));
 
-        } catch (Exception ex) {
-            Logger.log("The exception occurred while executing both threads", ex.getMessage());
+        WaitStrategyType receiveWait = PlayerConfig.receiveWaitStrategyType();
+        PlayerThread t1 = newPlayerThread(firstPlayer, firstStrategy,
+                new InMemoryMessageReceiver(firstPlayer.getInbox(), receiveWait), executionMode);
+        PlayerThread t2 = new PlayerThread(secondPlayer,
+                new InMemoryMessageReceiver(secondPlayer.getInbox(), receiveWait), executionMode);
+        return List.of(t1, t2);
+    }
+
+    private static List<PlayerThread> linkPlayersWithRingBuffers(Player firstPlayer, MessageStrategy firstStrategy,
+                                                                 Player secondPlayer, ExecutionMode executionMode,
+                                                                 int window) {
+        WaitStrategy waitStrategy = WaitStrategyFactory.createWaitStrategy(PlayerConfig.waitStrategyType());
+        int capacity = Math.max(PlayerConfig.ringCapacity(), window);
+        SpscRingBuffer<Message> firstInbox = new SpscRingBuffer<>(capacity);
+        SpscRingBuffer<Message> secondInbox = new SpscRingBuffer<>(capacity);
+
+        // Each ring has exactly one producer (the peer) and one consumer (the owner)
+        firstPlayer.setPeerSender(new RingBufferMessageSender(secondInbox, waitStrategy));
+        secondPlayer.setPeerSender(new RingBufferMessageSender(firstInbox, waitStrategy));
+
+        PlayerThread t1 = newPlayerThread(firstPlayer, firstStrategy, new RingBufferMessageReceiver(firstInbox, waitStrategy), executionMode);
+        PlayerThread t2 = new PlayerThread(secondPlayer, new RingBufferMessageReceiver(secondInbox, waitStrategy), executionMode);
+        return List.of(t1, t2);
+    }
+
+    /**
+     * Links the players through a temporary shared memory file. Meant for comparing the
+     * cross-process transport with the in-memory ones; the file is deleted on exit.
+     */
+    private static List<PlayerThread> linkPlayersWithSharedMemory(Player firstPlayer, MessageStrategy firstStrategy,
+                                                                  Player secondPlayer, ExecutionMode executionMode,
+                                                                  int window) {
+        WaitStrategy waitStrategy = WaitStrategyFactory.createWaitStrategy(PlayerConfig.waitStrategyType());
+        SharedMemoryChannel channel;
+        try {
+            Path path = Files.createTempFile("player-shm-", ".dat");
+            path.toFile().deleteOnExit();
+            int slots = Math.max(PlayerConfig.sharedMemorySlots(), Integer.highestOneBit(window - 1) << 1);
+            channel = SharedMemoryChannel.create(path, slots, PlayerConfig.sharedMemorySlotSize());
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot create shared memory file: " + e.getMessage(), e);
+        }
+
+        firstPlayer.setPeerSender(new SharedMemoryMessageSender(channel.initiatorToResponder(), waitStrategy));
+        secondPlayer.setPeerSender(new SharedMemoryMessageSender(channel.responderToInitiator(), waitStrategy));
+
+        PlayerThread t1 = newPlayerThread(firstPlayer, firstStrategy,
+                new SharedMemoryMessageReceiver(channel.responderToInitiator(), waitStrategy), executionMode);
+        PlayerThread t2 = new PlayerThread(secondPlayer,
+                new SharedMemoryMessageReceiver(channel.initiatorToResponder(), waitStrategy), executionMode);
+        return List.of(t1, t2);
+    }
+
+    private static void requireInboxHoldsWindow(Player player, int window) {
+        if (player.getInboxCapacity() < window) {
+            throw new IllegalArgumentException("Inbox of " + player.getName() + " holds " + player.getInboxCapacity()
+                    + " messages, fewer than the window of " + window + "; create it with Player.inboxCapacityFor");
         }
     }
-}
 
+    private static PlayerThread newPlayerThread(Player player, MessageStrategy strategy, MessageReceiver receiver,
+                                                ExecutionMode executionMode) {
+        return strategy == null
+                ? new PlayerThread(player, receiver, executionMode)
+                : new PlayerThread(player, receiver, strategy, executionMode);
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.player;
+
+import com.example.player.config.PlayerConfig;
+import com.example.player.enums.ExecutionMode;
+import com.example.player.enums.LogLevel;
+import com.example.player.enums.SchedulerType;
+import com.example.player.enums.TopologyType;
+import com.example.player.logger.Logger;
+import com.example.player.scheduler.MailboxScheduler;
+import com.example.player.topology.Topology;
+import com.example.player.topology.TopologyEngine;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TopologyMain measures throughput and round-trip latency of multi-player topologies
+ * as the number of players grows.
+ * <p>
+ * Usage: {@code TopologyMain [ring|star|mesh|pipeline|all] [requestsPerPlayer] [players...]}
+ * <p>
+ * Responsibilities:
+ * 1. Build a TopologyEngine for every requested topology and player count, running players on
+ * their own threads or, with -Dplayer.scheduler=mailbox, on a shared MailboxScheduler.
+ * 2. Run it to completion and report messages/sec and round-trip percentiles.
+ */
+public class TopologyMain {
+
+    private static final int DEFAULT_REQUESTS = 100;
+    private static final int[] DEFAULT_SIZES = {10, 100, 1_000};
+    private static final long TIMEOUT_MINUTES = 10;
+
+    public static void main(String[] args) throws InterruptedException {
+        List<TopologyType> types = args.length > 0 && !args[0].equalsIgnoreCase("all")
+                ? List.of(TopologyType.valueOf(args[0].toUpperCase()))
+                : List.of(TopologyType.values());
+        int requests = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_REQUESTS;
+        List<Integer> sizes = new ArrayList<>();
+        for (int i = 2; i < args.length; i++) {
+            sizes.add(Integer.parseInt(args[i]));
+        }
+        if (sizes.isEmpty()) {
+            for (int size : DEFAULT_SIZES) {
+                sizes.add(size);
+            }
+        }
+        int windowSize = PlayerConfig.windowSize();
+        ExecutionMode executionMode = PlayerConfig.getEnum(PlayerConfig.EXECUTION_MODE,
+                ExecutionMode.class, ExecutionMode.VIRTUAL);
+        MailboxScheduler scheduler = PlayerConfig.schedulerType() == SchedulerType.MAILBOX ? new MailboxScheduler() : null;
+        Logger.setLevel(LogLevel.OFF);
+
+        System.out.printf("%-9s %7s %12s %14s %10s %10s %10s%n",
+                "topology", "players", "messages", "messages/sec", "p50 us", "p99 us", "max us");
+        for (TopologyType type : types) {
+            for (int size : sizes) {
+                Topology topology = new Topology(type, size);
+                run(scheduler == null
+                        ? new TopologyEngine(topology, requests, windowSize, executionMode)
+                        : new TopologyEngine(topology, requests, windowSize, scheduler));
+            }
+        }
+        if (scheduler != null) {
+            scheduler.shutdown();
+        }
+    }
+
+    private static void run(TopologyEngine engine) throws InterruptedException {
+        Topology topology = engine.getTopology();
+        long start = System.nanoTime();
+        engine.start();
+        boolean completed = engine.awaitCompletion(TIMEOUT_MINUTES, TimeUnit.MINUTES);
+        long elapsedNanos = System.nanoTime() - start;
+        engine.stop();
+
+        long messages = engine.getMessagesSent();
+        long[] roundTrips = engine.getSortedRoundTripNanos();
+        System.out.printf("%-9s %7d %12d %14.0f %10.1f %10.1f %10.1f%s%n",
+                topology.getType(), topology.size(), messages, messages * 1e9 / elapsedNanos,
+                percentileMicros(roundTrips, 0.50), percentileMicros(roundTrips, 0.99),
+                percentileMicros(roundTrips, 1.0), completed ? "" : "  (timed out)");
+    }
+
+    private static double percentileMicros(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1_000.0;
+    }
+}
@@ -0,0 +1,192 @@
+package com.example.player.cluster;
+
+import com.example.player.config.PlayerConfig;
+import com.example.player.config.SocketConfig;
+import com.example.player.logger.Logger;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * ConsistentHashRouter assigns conversations to responder nodes by consistent hashing of the
+ * initiating player's name.
+ * <p>
+ * Responsibilities:
+ * 1. Place every node on a hash ring at a number of virtual points, so each node owns many small
+ * arcs and the load evens out even with few nodes.
+ * 2. Route a player name to the owner of the first point at or after the name's hash.
+ * 3. Add and remove nodes with minimal movement: only names on the arcs the node gains or loses
+ * change owner, about 1/N of them, every other name keeps its node.
+ * 4. Connect a player to its node, dropping nodes that refuse connections so the player fails
+ * over to the next node on the ring.
+ * <p>
+ * Design notes:
+ * - The ring is an immutable snapshot of sorted points and their owners, searched with a binary
+ * search; adding or removing a node builds a new snapshot, so routing never takes a lock.
+ * - Names and points are hashed with 64-bit FNV-1a followed by the MurmurHash3 finaliser, which is
+ * stable across JVMs, unlike String.hashCode-based spreading.
+ */
+public class ConsistentHashRouter {
+
+    private final int virtualNodes;
+    private volatile Ring ring;
+
+    public ConsistentHashRouter(Collection<ResponderNode> nodes, int virtualNodes) {
+        if (nodes == null) {
+            throw new IllegalArgumentException("Nodes cannot be null");
+        }
+        if (virtualNodes <= 0) {
+            throw new IllegalArgumentException("Virtual nodes must be positive: " + virtualNodes);
+        }
+        this.virtualNodes = virtualNodes;
+        this.ring = new Ring(new ArrayList<>(new LinkedHashSet<>(nodes)), virtualNodes);
+    }
+
+    /**
+     * Router over player.cluster.nodes, which defaults to the single node localhost:player.port.
+     */
+    public static ConsistentHashRouter fromSystemProperties() {
+        return new ConsistentHashRouter(PlayerConfig.clusterNodes(), PlayerConfig.clusterVirtualNodes());
+    }
+
+    /**
+     * @throws IllegalStateException if the router has no nodes left
+     */
+    public ResponderNode route(String playerName) {
+        if (playerName == null) {
+            throw new IllegalArgumentException("Player name cannot be null");
+        }
+        return ring.owner(hash(playerName));
+    }
+
+    /**
+     * Connects the player to its node. A node that still refuses connections after timeoutMillis is
+     * removed from the ring and the player is routed again.
+     *
+     * @throws ConnectException if every node refused the connection
+     */
+    public Socket connect(String playerName, SocketConfig socketConfig, long timeoutMillis)
+            throws IOException, InterruptedException {
+        while (true) {
+            ResponderNode node;
+            try {
+                node = route(playerName);
+            } catch (IllegalStateException e) {
+                throw new ConnectException("No responder node accepted " + playerName);
+            }
+            try {
+                Socket socket = socketConfig.connect(node.getHost(), node.getPort(), timeoutMillis);
+                Logger.info("ConsistentHashRouter", "Routed {} to {}", playerName, node);
+                return socket;
+            } catch (ConnectException e) {
+                Logger.warn("ConsistentHashRouter", "Removing unreachable node {}", node);
+                removeNode(node);
+            }
+        }
+    }
+
+    /**
+     * @return false if the node was already part of the ring
+     */
+    public synchronized boolean addNode(ResponderNode node) {
+        if (node == null) {
+            throw new IllegalArgumentException("Node cannot be null");
+        }
+        if (ring.nodes.contains(node)) {
+            return false;
+        }
+        List<ResponderNode> nodes = new ArrayList<>(ring.nodes);
+        nodes.add(node);
+        ring = new Ring(nodes, virtualNodes);
+        return true;
+    }
+
+    /**
+     * Removes a node, e.g. one that refused connections; its names move to the next nodes on the ring.
+     *
+     * @return false if the node was not part of the ring
+     */
+    public synchronized boolean removeNode(ResponderNode node) {
+        List<ResponderNode> nodes = new ArrayList<>(ring.nodes);
+        if (!nodes.remove(node)) {
+            return false;
+        }
+        ring = new Ring(nodes, virtualNodes);
+        return true;
+    }
+
+    public List<ResponderNode> getNodes() {
+        return ring.nodes;
+    }
+
+    static long hash(String key) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < key.length(); i++) {
+            h ^= key.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    private static final class Ring {
+
+        private final List<ResponderNode> nodes;
+        private final long[] points;
+        private final ResponderNode[] owners;
+
+        private Ring(List<ResponderNode> nodes, int virtualNodes) {
+            this.nodes = Collections.unmodifiableList(nodes);
+            int size = nodes.size() * virtualNodes;
+            long[] hashes = new long[size];
+            ResponderNode[] hashOwners = new ResponderNode[size];
+            int next = 0;
+            Set<Long> taken = new HashSet<>(size * 2);
+            for (ResponderNode node : nodes) {
+                for (int v = 0; v < virtualNodes; v++) {
+                    long point = hash(node + "#" + v);
+                    if (taken.add(point)) {
+                        hashes[next] = point;
+                        hashOwners[next] = node;
+                        next++;
+                    }
+                }
+            }
+            Integer[] order = new Integer[next];
+            for (int i = 0; i < next; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, (a, b) -> Long.compare(hashes[a], hashes[b]));
+            this.points = new long[next];
+            this.owners = new ResponderNode[next];
+            for (int i = 0; i < next; i++) {
+                points[i] = hashes[order[i]];
+                owners[i] = hashOwners[order[i]];
+            }
+        }
+
+        private ResponderNode owner(long hash) {
+            if (points.length == 0) {
+                throw new IllegalStateException("No responder nodes left to route to");
+            }
+            int index = Arrays.binarySearch(points, hash);
+            if (index < 0) {
+                index = -index - 1;
+            }
+            return owners[index == points.length ? 0 : index];
+        }
+    }
+}
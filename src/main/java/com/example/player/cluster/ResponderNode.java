@@ -0,0 +1,68 @@
+package com.example.player.cluster;
+
+/**
+ * ResponderNode is the address of one responder server in a cluster.
+ * <p>
+ * Responsibilities:
+ * 1. Parse and print the host:port form used by player.cluster.nodes.
+ * 2. Compare by host and port, so the same node listed twice is one node.
+ */
+public final class ResponderNode {
+
+    private final String host;
+    private final int port;
+
+    public ResponderNode(String host, int port) {
+        if (host == null || host.isBlank()) {
+            throw new IllegalArgumentException("Host cannot be null or blank");
+        }
+        if (port <= 0 || port > 65535) {
+            throw new IllegalArgumentException("Port must be between 1 and 65535: " + port);
+        }
+        this.host = host;
+        this.port = port;
+    }
+
+    /**
+     * Parses "host:port", or ":port" and "port" for a node on localhost.
+     */
+    public static ResponderNode parse(String address) {
+        if (address == null || address.isBlank()) {
+            throw new IllegalArgumentException("Node address cannot be null or blank");
+        }
+        String value = address.trim();
+        int colon = value.lastIndexOf(':');
+        String host = colon <= 0 ? "localhost" : value.substring(0, colon);
+        try {
+            return new ResponderNode(host, Integer.parseInt(value.substring(colon + 1)));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid node address: " + address, e);
+        }
+    }
+
+    public String getHost() {
+        return host;
+    }
+
+    public int getPort() {
+        return port;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof ResponderNode)) return false;
+        ResponderNode that = (ResponderNode) o;
+        return port == that.port && host.equals(that.host);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * host.hashCode() + port;
+    }
+
+    @Override
+    public String toString() {
+        return host + ":" + port;
+    }
+}
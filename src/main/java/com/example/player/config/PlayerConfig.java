@@ -0,0 +1,533 @@
+package com.example.player.config;
+
+import com.example.player.cluster.ResponderNode;
+import com.example.player.enums.CodecType;
+import com.example.player.enums.ExecutionMode;
+import com.example.player.enums.JournalSyncPolicy;
+import com.example.player.enums.LoadMode;
+import com.example.player.enums.LogLevel;
+import com.example.player.enums.LogOverflowPolicy;
+import com.example.player.enums.ReportFormat;
+import com.example.player.enums.SchedulerType;
+import com.example.player.enums.TracePolicy;
+import com.example.player.enums.TransportType;
+import com.example.player.enums.WaitStrategyType;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * PlayerConfig centralises the startup options of the messaging system.
+ * <p>
+ * Responsibilities:
+ * 1. Read options from JVM system properties (e.g. -Dplayer.codec=binary).
+ * 2. Fall back to sensible defaults when an option is absent.
+ * 3. Reject invalid values early with a descriptive IllegalArgumentException.
+ */
+public final class PlayerConfig {
+
+    public static final String CODEC = "player.codec";
+    public static final String MAX_FRAME_BYTES = "player.maxFrameBytes";
+    public static final String PORT = "player.port";
+    public static final String NIO_EVENT_LOOPS = "player.nio.eventLoops";
+    public static final String EXECUTION_MODE = "player.execution";
+    public static final String LOG_LEVEL = "player.log.level";
+    public static final String LOG_ASYNC = "player.log.async";
+    public static final String LOG_FILE = "player.log.file";
+    public static final String LOG_OVERFLOW = "player.log.overflow";
+    public static final String LOG_QUEUE_CAPACITY = "player.log.queueCapacity";
+    public static final String TRANSPORT = "player.transport";
+    public static final String WAIT_STRATEGY = "player.wait";
+    public static final String RING_CAPACITY = "player.ring.capacity";
+    public static final String WINDOW_SIZE = "player.window";
+    public static final String SHM_PATH = "player.shm.path";
+    public static final String SHM_SLOTS = "player.shm.slots";
+    public static final String SHM_SLOT_SIZE = "player.shm.slotSize";
+    public static final String METRICS_JMX = "player.metrics.jmx";
+    public static final String METRICS_HTTP_PORT = "player.metrics.http.port";
+    public static final String MUX_CONNECTIONS = "player.mux.connections";
+    public static final String MUX_WINDOW = "player.mux.window";
+    public static final String SCHEDULER = "player.scheduler";
+    public static final String SCHEDULER_THREADS = "player.scheduler.threads";
+    public static final String SCHEDULER_BATCH = "player.scheduler.batch";
+    public static final String SCHEDULER_TIME_SLICE_MICROS = "player.scheduler.timeSliceMicros";
+    public static final String JOURNAL_DIR = "player.journal.dir";
+    public static final String JOURNAL_SEGMENT_BYTES = "player.journal.segmentBytes";
+    public static final String JOURNAL_SYNC = "player.journal.sync";
+    public static final String JOURNAL_SYNC_INTERVAL_MILLIS = "player.journal.syncIntervalMillis";
+    public static final String MESSAGES = "player.messages";
+    public static final String LOAD_PLAYERS = "player.load.players";
+    public static final String LOAD_MODE = "player.load.mode";
+    public static final String LOAD_RATE = "player.load.rate";
+    public static final String LOAD_PAYLOAD_BYTES = "player.load.payloadBytes";
+    public static final String LOAD_DURATION_SECONDS = "player.load.durationSeconds";
+    public static final String LOAD_WARMUP_SECONDS = "player.load.warmupSeconds";
+    public static final String LOAD_REMOTE = "player.load.remote";
+    public static final String LOAD_FORMAT = "player.load.format";
+    public static final String LOAD_OUTPUT = "player.load.output";
+    public static final String TRACE_POLICY = "player.trace.policy";
+    public static final String TRACE_MAX_HOPS = "player.trace.maxHops";
+    public static final String INBOX_LANES = "player.inbox.lanes";
+    public static final String INBOX_CONTROL_CAPACITY = "player.inbox.controlCapacity";
+    public static final String RECEIVE_BATCH = "player.receive.batch";
+    public static final String RECEIVE_WAIT = "player.receive.wait";
+    public static final String AFFINITY_CPUS = "player.affinity.cpus";
+    public static final String CLUSTER_NODES = "player.cluster.nodes";
+    public static final String CLUSTER_VIRTUAL_NODES = "player.cluster.virtualNodes";
+    public static final String SERVER_CLIENTS = "player.server.clients";
+    public static final String SESSION_RESUME = "player.session.resume";
+    public static final String SESSION_RETRANSMIT_CAPACITY = "player.session.retransmitCapacity";
+    public static final String SESSION_RESUME_TIMEOUT_MILLIS = "player.session.resumeTimeoutMillis";
+    public static final String PROXY_CUT_INTERVAL_MILLIS = "player.proxy.cutIntervalMillis";
+
+    private PlayerConfig() {
+    }
+
+    public static CodecType codecType() {
+        return getEnum(CODEC, CodecType.class, CodecType.BINARY);
+    }
+
+    /**
+     * Largest frame body a decoder accepts; a longer announced length is treated as corruption.
+     */
+    public static int maxFrameBytes() {
+        int bytes = getInt(MAX_FRAME_BYTES, 16 * 1024 * 1024);
+        if (bytes <= 0) {
+            throw new IllegalArgumentException(MAX_FRAME_BYTES + " must be positive");
+        }
+        return bytes;
+    }
+
+    public static int port() {
+        return getInt(PORT, 5000);
+    }
+
+    public static int nioEventLoops() {
+        int loops = getInt(NIO_EVENT_LOOPS, Math.min(4, Runtime.getRuntime().availableProcessors()));
+        if (loops <= 0) {
+            throw new IllegalArgumentException(NIO_EVENT_LOOPS + " must be positive");
+        }
+        return loops;
+    }
+
+    public static ExecutionMode executionMode() {
+        return getEnum(EXECUTION_MODE, ExecutionMode.class, ExecutionMode.PLATFORM);
+    }
+
+    public static LogLevel logLevel() {
+        return getEnum(LOG_LEVEL, LogLevel.class, LogLevel.INFO);
+    }
+
+    public static boolean logAsync() {
+        return getBoolean(LOG_ASYNC, true);
+    }
+
+    public static String logFile() {
+        String file = System.getProperty(LOG_FILE);
+        return file == null || file.isBlank() ? null : file.trim();
+    }
+
+    public static LogOverflowPolicy logOverflowPolicy() {
+        return getEnum(LOG_OVERFLOW, LogOverflowPolicy.class, LogOverflowPolicy.BLOCK);
+    }
+
+    public static int logQueueCapacity() {
+        return getInt(LOG_QUEUE_CAPACITY, 65_536);
+    }
+
+    public static TransportType transportType() {
+        return getEnum(TRANSPORT, TransportType.class, TransportType.BLOCKING_QUEUE);
+    }
+
+    public static WaitStrategyType waitStrategyType() {
+        return getEnum(WAIT_STRATEGY, WaitStrategyType.class, WaitStrategyType.PARK);
+    }
+
+    public static int ringCapacity() {
+        return getInt(RING_CAPACITY, 1024);
+    }
+
+    public static int windowSize() {
+        int window = getInt(WINDOW_SIZE, 1);
+        if (window <= 0) {
+            throw new IllegalArgumentException(WINDOW_SIZE + " must be positive");
+        }
+        return window;
+    }
+
+    public static Path sharedMemoryPath() {
+        String path = System.getProperty(SHM_PATH);
+        if (path == null || path.isBlank()) {
+            return Path.of(System.getProperty("java.io.tmpdir"), "player-shm.dat");
+        }
+        return Path.of(path.trim());
+    }
+
+    public static int sharedMemorySlots() {
+        return getInt(SHM_SLOTS, 1024);
+    }
+
+    public static int sharedMemorySlotSize() {
+        return getInt(SHM_SLOT_SIZE, 4096);
+    }
+
+    public static boolean metricsJmx() {
+        return getBoolean(METRICS_JMX, true);
+    }
+
+    public static int metricsHttpPort() {
+        return getInt(METRICS_HTTP_PORT, 0);
+    }
+
+    public static int muxConnections() {
+        int connections = getInt(MUX_CONNECTIONS, 4);
+        if (connections <= 0) {
+            throw new IllegalArgumentException(MUX_CONNECTIONS + " must be positive");
+        }
+        return connections;
+    }
+
+    public static int muxWindow() {
+        int window = getInt(MUX_WINDOW, 64);
+        if (window <= 0) {
+            throw new IllegalArgumentException(MUX_WINDOW + " must be positive");
+        }
+        return window;
+    }
+
+    public static SchedulerType schedulerType() {
+        return getEnum(SCHEDULER, SchedulerType.class, SchedulerType.THREAD);
+    }
+
+    public static int schedulerThreads() {
+        int threads = getInt(SCHEDULER_THREADS, Runtime.getRuntime().availableProcessors());
+        if (threads <= 0) {
+            throw new IllegalArgumentException(SCHEDULER_THREADS + " must be positive");
+        }
+        return threads;
+    }
+
+    public static int schedulerBatch() {
+        int batch = getInt(SCHEDULER_BATCH, 64);
+        if (batch <= 0) {
+            throw new IllegalArgumentException(SCHEDULER_BATCH + " must be positive");
+        }
+        return batch;
+    }
+
+    public static long schedulerTimeSliceMicros() {
+        long micros = getLong(SCHEDULER_TIME_SLICE_MICROS, 200);
+        if (micros <= 0) {
+            throw new IllegalArgumentException(SCHEDULER_TIME_SLICE_MICROS + " must be positive");
+        }
+        return micros;
+    }
+
+    /**
+     * @return the journal directory, or null when journaling is disabled (the default)
+     */
+    public static Path journalDirectory() {
+        String path = System.getProperty(JOURNAL_DIR);
+        return path == null || path.isBlank() ? null : Path.of(path.trim());
+    }
+
+    public static int journalSegmentBytes() {
+        int bytes = getInt(JOURNAL_SEGMENT_BYTES, 64 * 1024 * 1024);
+        if (bytes < 4096) {
+            throw new IllegalArgumentException(JOURNAL_SEGMENT_BYTES + " must be at least 4096");
+        }
+        return bytes;
+    }
+
+    public static JournalSyncPolicy journalSyncPolicy() {
+        return getEnum(JOURNAL_SYNC, JournalSyncPolicy.class, JournalSyncPolicy.INTERVAL);
+    }
+
+    public static long journalSyncIntervalMillis() {
+        long millis = getLong(JOURNAL_SYNC_INTERVAL_MILLIS, 10);
+        if (millis <= 0) {
+            throw new IllegalArgumentException(JOURNAL_SYNC_INTERVAL_MILLIS + " must be positive");
+        }
+        return millis;
+    }
+
+    /**
+     * Number of messages the initiator of SingleJVMMain and InitiatorClient sends.
+     */
+    public static int maxMessages() {
+        int messages = getInt(MESSAGES, 2);
+        if (messages <= 0) {
+            throw new IllegalArgumentException(MESSAGES + " must be positive");
+        }
+        return messages;
+    }
+
+    public static int loadPlayers() {
+        int players = getInt(LOAD_PLAYERS, 1);
+        if (players <= 0) {
+            throw new IllegalArgumentException(LOAD_PLAYERS + " must be positive");
+        }
+        return players;
+    }
+
+    public static LoadMode loadMode() {
+        return getEnum(LOAD_MODE, LoadMode.class, LoadMode.CLOSED);
+    }
+
+    /**
+     * @return the total target rate in messages/sec over all players, 0 for as fast as possible
+     */
+    public static long loadRate() {
+        long rate = getLong(LOAD_RATE, 0);
+        if (rate < 0) {
+            throw new IllegalArgumentException(LOAD_RATE + " must not be negative");
+        }
+        return rate;
+    }
+
+    public static int loadPayloadBytes() {
+        int bytes = getInt(LOAD_PAYLOAD_BYTES, 64);
+        if (bytes <= 0) {
+            throw new IllegalArgumentException(LOAD_PAYLOAD_BYTES + " must be positive");
+        }
+        return bytes;
+    }
+
+    public static long loadDurationSeconds() {
+        long seconds = getLong(LOAD_DURATION_SECONDS, 10);
+        if (seconds <= 0) {
+            throw new IllegalArgumentException(LOAD_DURATION_SECONDS + " must be positive");
+        }
+        return seconds;
+    }
+
+    public static long loadWarmupSeconds() {
+        long seconds = getLong(LOAD_WARMUP_SECONDS, 2);
+        if (seconds < 0) {
+            throw new IllegalArgumentException(LOAD_WARMUP_SECONDS + " must not be negative");
+        }
+        return seconds;
+    }
+
+    public static boolean loadRemote() {
+        return getBoolean(LOAD_REMOTE, false);
+    }
+
+    public static ReportFormat loadFormat() {
+        return getEnum(LOAD_FORMAT, ReportFormat.class, ReportFormat.TEXT);
+    }
+
+    /**
+     * @return the file load reports are appended to, or null to print them
+     */
+    public static Path loadOutput() {
+        String path = System.getProperty(LOAD_OUTPUT);
+        return path == null || path.isBlank() ? null : Path.of(path.trim());
+    }
+
+    public static TracePolicy tracePolicy() {
+        return getEnum(TRACE_POLICY, TracePolicy.class, TracePolicy.TRUNCATE);
+    }
+
+    public static int traceMaxHops() {
+        int hops = getInt(TRACE_MAX_HOPS, 16);
+        if (hops <= 0) {
+            throw new IllegalArgumentException(TRACE_MAX_HOPS + " must be positive");
+        }
+        return hops;
+    }
+
+    /**
+     * Number of data lanes of a Player's inbox; messages are spread over them by sender.
+     */
+    public static int inboxLanes() {
+        int lanes = getInt(INBOX_LANES, 1);
+        if (lanes <= 0) {
+            throw new IllegalArgumentException(INBOX_LANES + " must be positive");
+        }
+        return lanes;
+    }
+
+    public static int inboxControlCapacity() {
+        int capacity = getInt(INBOX_CONTROL_CAPACITY, 16);
+        if (capacity <= 0) {
+            throw new IllegalArgumentException(INBOX_CONTROL_CAPACITY + " must be positive");
+        }
+        return capacity;
+    }
+
+    /**
+     * Most messages a PlayerThread receives and dispatches per wake-up; 1 handles messages one by one.
+     */
+    public static int receiveBatch() {
+        int batch = getInt(RECEIVE_BATCH, 64);
+        if (batch <= 0) {
+            throw new IllegalArgumentException(RECEIVE_BATCH + " must be positive");
+        }
+        return batch;
+    }
+
+    /**
+     * How a PlayerThread waits on an empty in-memory inbox; BLOCKING waits in BlockingQueue.take().
+     */
+    public static WaitStrategyType receiveWaitStrategyType() {
+        return getEnum(RECEIVE_WAIT, WaitStrategyType.class, WaitStrategyType.BLOCKING);
+    }
+
+    /**
+     * CPUs that platform PlayerThreads are pinned to, in turn, e.g. "2,3" or "2-5".
+     *
+     * @return the CPU ids, empty when no affinity is requested (the default)
+     */
+    public static int[] affinityCpus() {
+        String value = System.getProperty(AFFINITY_CPUS);
+        if (value == null || value.isBlank()) {
+            return new int[0];
+        }
+        try {
+            List<Integer> cpus = new ArrayList<>();
+            for (String part : value.split(",")) {
+                String[] range = part.trim().split("-");
+                int from = Integer.parseInt(range[0].trim());
+                int to = range.length > 1 ? Integer.parseInt(range[1].trim()) : from;
+                if (from < 0 || to < from || range.length > 2) {
+                    throw new NumberFormatException(part);
+                }
+                for (int cpu = from; cpu <= to; cpu++) {
+                    cpus.add(cpu);
+                }
+            }
+            return cpus.stream().mapToInt(Integer::intValue).toArray();
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid value '" + value + "' for " + AFFINITY_CPUS, e);
+        }
+    }
+
+    /**
+     * Responder nodes initiators are spread over, e.g. "localhost:5000,localhost:5001".
+     *
+     * @return the configured nodes, or the single node localhost:player.port by default
+     */
+    public static List<ResponderNode> clusterNodes() {
+        String value = System.getProperty(CLUSTER_NODES);
+        if (value == null || value.isBlank()) {
+            return List.of(new ResponderNode("localhost", port()));
+        }
+        List<ResponderNode> nodes = new ArrayList<>();
+        for (String address : value.split(",")) {
+            if (!address.isBlank()) {
+                nodes.add(ResponderNode.parse(address));
+            }
+        }
+        if (nodes.isEmpty()) {
+            throw new IllegalArgumentException(CLUSTER_NODES + " must list at least one node");
+        }
+        return nodes;
+    }
+
+    public static int clusterVirtualNodes() {
+        int points = getInt(CLUSTER_VIRTUAL_NODES, 160);
+        if (points <= 0) {
+            throw new IllegalArgumentException(CLUSTER_VIRTUAL_NODES + " must be positive");
+        }
+        return points;
+    }
+
+    /**
+     * Number of initiators a ResponderServer serves before exiting; 0 serves until the process is stopped.
+     */
+    public static int serverClients() {
+        int clients = getInt(SERVER_CLIENTS, 1);
+        if (clients < 0) {
+            throw new IllegalArgumentException(SERVER_CLIENTS + " cannot be negative");
+        }
+        return clients;
+    }
+
+    /**
+     * Whether InitiatorClient and ResponderServer run their socket conversation in a ResumableSession,
+     * which survives broken connections. Both sides must enable it.
+     */
+    public static boolean sessionResume() {
+        return getBoolean(SESSION_RESUME, false);
+    }
+
+    /**
+     * Sent messages a session keeps until the peer acknowledges them; a full buffer blocks the sender.
+     */
+    public static int sessionRetransmitCapacity() {
+        int capacity = getInt(SESSION_RETRANSMIT_CAPACITY, 1024);
+        if (capacity <= 0) {
+            throw new IllegalArgumentException(SESSION_RETRANSMIT_CAPACITY + " must be positive");
+        }
+        return capacity;
+    }
+
+    /**
+     * How long a session tries to reconnect (client) or waits to be resumed (server) after its connection broke.
+     */
+    public static long sessionResumeTimeoutMillis() {
+        long millis = getLong(SESSION_RESUME_TIMEOUT_MILLIS, 30_000);
+        if (millis <= 0) {
+            throw new IllegalArgumentException(SESSION_RESUME_TIMEOUT_MILLIS + " must be positive");
+        }
+        return millis;
+    }
+
+    /**
+     * Time after which FaultInjectingProxyMain cuts each connection it relays.
+     */
+    public static long proxyCutIntervalMillis() {
+        long millis = getLong(PROXY_CUT_INTERVAL_MILLIS, 1000);
+        if (millis <= 0) {
+            throw new IllegalArgumentException(PROXY_CUT_INTERVAL_MILLIS + " must be positive");
+        }
+        return millis;
+    }
+
+    public static <E extends Enum<E>> E getEnum(String key, Class<E> type, E defaultValue) {
+        String value = System.getProperty(key);
+        if (value == null || value.isBlank()) {
+            return defaultValue;
+        }
+        try {
+            return Enum.valueOf(type, value.trim().replace('-', '_').toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid value '" + value + "' for " + key, e);
+        }
+    }
+
+    public static int getInt(String key, int defaultValue) {
+        String value = System.getProperty(key);
+        if (value == null || value.isBlank()) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid value '" + value + "' for " + key, e);
+        }
+    }
+
+    public static long getLong(String key, long defaultValue) {
+        String value = System.getProperty(key);
+        if (value == null || value.isBlank()) {
+            return defaultValue;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid value '" + value + "' for " + key, e);
+        }
+    }
+
+    public static boolean getBoolean(String key, boolean defaultValue) {
+        String value = System.getProperty(key);
+        if (value == null || value.isBlank()) {
+            return defaultValue;
+        }
+        return Boolean.parseBoolean(value.trim());
+    }
+}
@@ -0,0 +1,163 @@
+package com.example.player.config;
+
+import com.example.player.enums.CompressionType;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+
+/**
+ * SocketConfig holds the TCP and batching options of the socket transports.
+ * <p>
+ * Responsibilities:
+ * 1. Read socket options (TCP_NODELAY, send/receive buffer sizes) and batching options
+ * (enabled, size threshold, linger time) from system properties.
+ * 2. Apply the socket options to client and server sockets.
+ * 3. Connect client sockets, retrying while the server is still starting up, so launch scripts
+ * do not have to guess how long the server needs.
+ * 4. Hold the compression options a client offers in the CodecHandshake (type, threshold, chunk size).
+ * <p>
+ * Design notes:
+ * - A buffer size of 0 keeps the operating system default.
+ * - Receive buffers are applied to the ServerSocket before bind so accepted sockets
+ * negotiate a matching TCP window.
+ */
+public class SocketConfig {
+
+    public static final String TCP_NO_DELAY = "player.socket.tcpNoDelay";
+    public static final String SEND_BUFFER = "player.socket.sendBuffer";
+    public static final String RECEIVE_BUFFER = "player.socket.receiveBuffer";
+    public static final String BATCHING = "player.socket.batching";
+    public static final String BATCH_BYTES = "player.socket.batchBytes";
+    public static final String LINGER_MICROS = "player.socket.lingerMicros";
+    public static final String COMPRESSION = "player.socket.compression";
+    public static final String COMPRESSION_THRESHOLD = "player.socket.compressionThreshold";
+    public static final String CHUNK_BYTES = "player.socket.chunkBytes";
+    private static final long CONNECT_RETRY_MILLIS = 100;
+
+    private final boolean tcpNoDelay;
+    private final int sendBufferSize;
+    private final int receiveBufferSize;
+    private final boolean batching;
+    private final int batchBytes;
+    private final long lingerMicros;
+    private final CompressionType compression;
+    private final int compressionThreshold;
+    private final int chunkBytes;
+
+    public SocketConfig(boolean tcpNoDelay, int sendBufferSize, int receiveBufferSize,
+                        boolean batching, int batchBytes, long lingerMicros) {
+        this(tcpNoDelay, sendBufferSize, receiveBufferSize, batching, batchBytes, lingerMicros,
+                CompressionType.NONE, 1024, 64 * 1024);
+    }
+
+    public SocketConfig(boolean tcpNoDelay, int sendBufferSize, int receiveBufferSize,
+                        boolean batching, int batchBytes, long lingerMicros,
+                        CompressionType compression, int compressionThreshold, int chunkBytes) {
+        if (compression == null) {
+            throw new IllegalArgumentException("Compression type cannot be null");
+        }
+        if (compressionThreshold < 0 || chunkBytes <= 0) {
+            throw new IllegalArgumentException("Compression threshold cannot be negative and chunk size must be positive");
+        }
+        if (sendBufferSize < 0 || receiveBufferSize < 0) {
+            throw new IllegalArgumentException("Socket buffer sizes cannot be negative");
+        }
+        if (batchBytes <= 0 || lingerMicros <= 0) {
+            throw new IllegalArgumentException("Batch size and linger time must be positive");
+        }
+        this.tcpNoDelay = tcpNoDelay;
+        this.sendBufferSize = sendBufferSize;
+        this.receiveBufferSize = receiveBufferSize;
+        this.batching = batching;
+        this.batchBytes = batchBytes;
+        this.lingerMicros = lingerMicros;
+        this.compression = compression;
+        this.compressionThreshold = compressionThreshold;
+        this.chunkBytes = chunkBytes;
+    }
+
+    public static SocketConfig fromSystemProperties() {
+        return new SocketConfig(
+                PlayerConfig.getBoolean(TCP_NO_DELAY, true),
+                PlayerConfig.getInt(SEND_BUFFER, 0),
+                PlayerConfig.getInt(RECEIVE_BUFFER, 0),
+                PlayerConfig.getBoolean(BATCHING, false),
+                PlayerConfig.getInt(BATCH_BYTES, 16 * 1024),
+                PlayerConfig.getLong(LINGER_MICROS, 200),
+                PlayerConfig.getEnum(COMPRESSION, CompressionType.class, CompressionType.NONE),
+                PlayerConfig.getInt(COMPRESSION_THRESHOLD, 1024),
+                PlayerConfig.getInt(CHUNK_BYTES, 64 * 1024));
+    }
+
+    public void apply(Socket socket) throws SocketException {
+        socket.setTcpNoDelay(tcpNoDelay);
+        if (sendBufferSize > 0) {
+            socket.setSendBufferSize(sendBufferSize);
+        }
+        if (receiveBufferSize > 0) {
+            socket.setReceiveBufferSize(receiveBufferSize);
+        }
+    }
+
+    /**
+     * Connects a configured socket to host:port, retrying every {@link #CONNECT_RETRY_MILLIS} ms
+     * while the connection is refused.
+     *
+     * @throws ConnectException if the server is still not listening after timeoutMillis
+     */
+    public Socket connect(String host, int port, long timeoutMillis) throws IOException, InterruptedException {
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        while (true) {
+            Socket socket = new Socket();
+            apply(socket);
+            try {
+                socket.connect(new InetSocketAddress(host, port));
+                return socket;
+            } catch (ConnectException e) {
+                socket.close();
+                if (System.currentTimeMillis() >= deadline) {
+                    throw e;
+                }
+                Thread.sleep(CONNECT_RETRY_MILLIS);
+            }
+        }
+    }
+
+    public void apply(ServerSocket serverSocket) throws SocketException {
+        if (receiveBufferSize > 0) {
+            serverSocket.setReceiveBufferSize(receiveBufferSize);
+        }
+    }
+
+    public boolean isTcpNoDelay() {
+        return tcpNoDelay;
+    }
+
+    public boolean isBatching() {
+        return batching;
+    }
+
+    public int getBatchBytes() {
+        return batchBytes;
+    }
+
+    public long getLingerMicros() {
+        return lingerMicros;
+    }
+
+    public CompressionType getCompression() {
+        return compression;
+    }
+
+    public int getCompressionThreshold() {
+        return compressionThreshold;
+    }
+
+    public int getChunkBytes() {
+        return chunkBytes;
+    }
+}
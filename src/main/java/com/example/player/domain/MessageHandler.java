@@ -3,19 +3,26 @@ package com.example.player.domain;
 import com.example.player.factory.MessageStrategyFactory;
 import com.example.player.interfaces.MessageStrategy;
 import com.example.player.logger.Logger;
+import com.example.player.metrics.MetricsRegistry;
 import com.example.player.model.Message;
 
+import java.util.List;
+
 /**
  * MessageHandler is responsible for processing messages received by a Player.
  * <p>
  * Responsibilities:
  * 1. Increment the Player's received message count and to maintain accurate state.
  * 2. Log each received message along with the updated count.
- * 3. Delegate role-specific reply logic to a MessageStrategy
- * (InitiatorStrategy or ResponderStrategy) based on the Player's role.
- * 4. Send reply messages via the Player's sendMessage method.
- * 5. Trigger a STOP message when messaging is complete (for Initiator role).
- * 6. Decouple message processing logic from the Player's thread to
+ * 3. Record the round-trip latency of replies that echo a request timestamp.
+ * 4. Delegate role-specific reply logic to a MessageStrategy
+ * (InitiatorStrategy or ResponderStrategy) based on the Player's role, or to an
+ * explicitly supplied strategy (e.g. a topology strategy).
+ * 5. Send reply messages via the Player's sendMessage method.
+ * 6. Trigger a STOP message when messaging is complete (for Initiator role).
+ * 7. Handle a batch of received messages: update counts and metrics per message, then pass the
+ * whole batch to the strategy so replies can leave as one send.
+ * 8. Decouple message processing logic from the Player's thread to
  * keep threading concerns separate from message handling.
  * <p>
  * Design notes:
@@ -29,11 +36,18 @@ public class MessageHandler {
     private final MessageStrategy strategy;
 
     public MessageHandler(Player player) {
+        this(player, player == null ? null : MessageStrategyFactory.determineStrategy(player));
+    }
+
+    public MessageHandler(Player player, MessageStrategy strategy) {
         if (player == null) {
             throw new IllegalArgumentException("Player cannot be null");
         }
+        if (strategy == null) {
+            throw new IllegalArgumentException("Strategy cannot be null");
+        }
         this.player = player;
-        this.strategy = MessageStrategyFactory.determineStrategy(player);
+        this.strategy = strategy;
     }
 
     public void handleMessage(Message message) throws InterruptedException {
@@ -44,13 +58,45 @@ public class MessageHandler {
             player.sendStopMessage();
             return;
         }
-        int receivedCount = player.incrementReceivedCount();
-        Logger.log(player.getName(),
-                "Received From " + message.getSender() +
-                        ": " + message.getContent() +
-                        " (received#" + receivedCount + ")");
+        recordReceived(message);
 
         strategy.handleMessage(player, message);
     }
+
+    /**
+     * Handles the data messages of one received batch, in order. A message with null or empty content
+     * ends the conversation as in handleMessage; the messages before it are still handled.
+     */
+    public void handleMessages(List<Message> messages) throws InterruptedException {
+        if (messages.size() == 1) {
+            handleMessage(messages.get(0));
+            return;
+        }
+        for (int i = 0; i < messages.size(); i++) {
+            Message message = messages.get(i);
+            if (message == null || message.getContent() == null || message.getContent().isEmpty()) {
+                if (i > 0) {
+                    strategy.handleMessages(player, messages.subList(0, i));
+                }
+                handleMessage(message);
+                return;
+            }
+            recordReceived(message);
+        }
+        strategy.handleMessages(player, messages);
+    }
+
+    /**
+     * Counts one received data message, records its round trip and logs it; shared by the single
+     * and batched paths so both keep the same accounting.
+     */
+    private void recordReceived(Message message) {
+        int receivedCount = player.incrementReceivedCount();
+        MetricsRegistry.get().recordRoundTrip(message);
+        if (Logger.isDebugEnabled()) {
+            Logger.debug(player.getName(), "Received From {}: {} (received#{})",
+                    message.getSender(), message.getContent() + message.getTrace(), receivedCount);
+        }
+    }
 }
 
@@ -1,12 +1,21 @@
 package com.example.player.domain;
 
+import com.example.player.config.PlayerConfig;
+import com.example.player.enums.MessageType;
 import com.example.player.interfaces.MessageSender;
 import com.example.player.logger.Logger;
+import com.example.player.model.HopTrace;
 import com.example.player.model.Message;
+import com.example.player.queue.MultiLaneInbox;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
 import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingQueue;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Player represents a participant in the messaging system.
@@ -16,18 +25,37 @@ import java.util.concurrent.atomic.AtomicInteger;
  * - Store the player’s name.
  * - Determine whether the player is the initiator or responder.
  * - Keep the maximum number of messages the player can send.
+ * - Keep the send window: how many messages an initiator may have in flight at once.
  * <p>
  * 2. Track messaging state:
  * - Maintain thread-safe counters for messages sent and received.
- * - Provide methods to increment and retrieve these counters.
+ * - Provide methods to increment and retrieve these counters; counts are exact once the
+ * player's threads have finished.
  * <p>
  * 3. Handle message delivery:
- * - Hold an inbox (BlockingQueue) for receiving messages asynchronously.
+ * - Hold an inbox (a MultiLaneInbox) for receiving messages asynchronously: control messages
+ * have their own lane and overtake queued data; the data capacity defaults to a small bound and
+ * can be raised for players inside larger topologies.
  * - Send messages to a peer via the MessageSender abstraction.
  * - Send STOP messages to signal the end of communication.
+ * - Send replies that carry the sequence number and origin timestamp of the message they answer,
+ * one at a time or as a batch that the transport sends as one unit.
+ * - Number every message it sends: a message that starts a conversation gets "[sent#n]" in its
+ * content, a message that continues a reply chain gets the hop (name, n) appended to its HopTrace
+ * instead, so its content stays the same however long the chain grows.
+ * - Send messages that are already addressed to a destination, for routing senders.
+ * - Track the sequence numbers of windowed messages that are still awaiting a reply, and count
+ * the ones that have been answered.
  * <p>
  * 4. Ensure thread-safety:
- * - Use AtomicInteger for counters to allow concurrent updates without locks.
+ * - Numbered sends (whose count ends up in the content and sequence) claim their number with
+ * an atomic add on a padded slot; addressed sends, which need no number, go to a LongAdder so
+ * many concurrent senders do not contend on one cache line.
+ * - The received and answered counts have a single writer, the thread that handles the player's
+ * messages, so they are updated with a plain read and a release store; other threads read them
+ * with acquire. They share a cache line, since the same thread writes both.
+ * - Both counters live in separate, padded regions of one long[] (as in SpscRingBuffer), so the
+ * sending and the receiving thread never write to the same cache line.
  * - Use a thread-safe BlockingQueue for the inbox to allow asynchronous message receipt.
  * <p>
  * 5. Decouple from infrastructure:
@@ -35,24 +63,60 @@ import java.util.concurrent.atomic.AtomicInteger;
  * - Logging is delegated to a Logger utility for observability.
  * <p>
  * 6. Support graceful termination:
- * - Ensure STOP messages are sent to both peer and own inbox.
+ * - Ensure STOP messages are sent to both peer and own inbox; the own STOP goes to the control
+ * lane and never blocks behind a full data backlog.
  */
 public class Player {
 
     private static final int CAPACITY = 20;
+    private static final VarHandle COUNTER = MethodHandles.arrayElementVarHandle(long[].class);
+    private static final int PAD = 16;
+    private static final int SENT = PAD;
+    private static final int RECEIVED = PAD * 3;
+    private static final int ANSWERED = RECEIVED + 1;
+
     private final String name;
     private final boolean isPlayerInitiator;
     private final int maxMessages;
-    private final BlockingQueue<Message> inbox = new LinkedBlockingQueue<>(CAPACITY);
-    private final AtomicInteger sentCount = new AtomicInteger(0);
-    private final AtomicInteger receivedCount = new AtomicInteger(0);
+    private final int windowSize;
+    private final int inboxCapacity;
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+    private final BlockingQueue<Message> inbox;
+    private final long[] counters = new long[PAD * 4];
+    private final LongAdder addressedSentCount = new LongAdder();
 
     private MessageSender peerSender;
 
     public Player(String name, boolean initiator, int maxMessages) {
+        this(name, initiator, maxMessages, 1);
+    }
+
+    public Player(String name, boolean initiator, int maxMessages, int windowSize) {
+        this(name, initiator, maxMessages, windowSize, inboxCapacityFor(windowSize));
+    }
+
+    public Player(String name, boolean initiator, int maxMessages, int windowSize, int inboxCapacity) {
+        if (windowSize <= 0) {
+            throw new IllegalArgumentException("Window size must be positive for " + name);
+        }
+        if (inboxCapacity <= 0) {
+            throw new IllegalArgumentException("Inbox capacity must be positive for " + name);
+        }
         this.name = name;
         this.isPlayerInitiator = initiator;
         this.maxMessages = maxMessages;
+        this.windowSize = windowSize;
+        this.inboxCapacity = inboxCapacity;
+        this.inbox = new MultiLaneInbox(PlayerConfig.inboxControlCapacity(), PlayerConfig.inboxLanes(), inboxCapacity);
+    }
+
+    /**
+     * Data capacity an inbox needs in a conversation with the given window: at most windowSize
+     * requests and windowSize replies are in flight, so an inbox holding a whole window never makes
+     * the peer block in put while this player is itself blocked filling the window.
+     */
+    public static int inboxCapacityFor(int windowSize) {
+        return Math.max(CAPACITY, windowSize);
     }
 
     public String getName() {
@@ -67,12 +131,35 @@ public class Player {
         return maxMessages;
     }
 
+    public int getWindowSize() {
+        return windowSize;
+    }
+
+    public int getInboxCapacity() {
+        return inboxCapacity;
+    }
+
+    public boolean isWindowed() {
+        return windowSize > 1;
+    }
+
+    public int getInFlightCount() {
+        return inFlight.size();
+    }
+
     public int getSentCount() {
-        return sentCount.get();
+        return (int) ((long) COUNTER.getAcquire(counters, SENT) + addressedSentCount.sum());
     }
 
     public int getReceivedCount() {
-        return receivedCount.get();
+        return (int) (long) COUNTER.getAcquire(counters, RECEIVED);
+    }
+
+    /**
+     * @return how many windowed messages have been matched to their reply
+     */
+    public int getAnsweredCount() {
+        return (int) (long) COUNTER.getAcquire(counters, ANSWERED);
     }
 
     public BlockingQueue<Message> getInbox() {
@@ -86,11 +173,150 @@ public class Player {
         this.peerSender = sender;
     }
 
+    /**
+     * Counts a received message. Must only be called by the thread that handles this player's
+     * messages; the update is a plain increment published with release semantics.
+     */
     public int incrementReceivedCount() {
-        return receivedCount.incrementAndGet();
+        long received = counters[RECEIVED] + 1;
+        COUNTER.setRelease(counters, RECEIVED, received);
+        return (int) received;
     }
 
     public void sendMessage(String content) throws InterruptedException {
+        sendMessage(content, null);
+    }
+
+    /**
+     * Sends the next message of a reply chain: the trace (already compacted by the caller, see
+     * TraceSettings) is extended with this player's hop; null starts a new chain.
+     */
+    public void sendMessage(String content, HopTrace trace) throws InterruptedException {
+        if (peerSender == null) throw new IllegalStateException(name + " peer sender not set.");
+
+        if (content == null || content.isEmpty()) {
+            Logger.log(name, "Provided message is null or empty. Sending stop message.");
+            sendStopMessage();
+            return;
+        }
+        int counter = nextSentNumber();
+        Message msg = createNormalMessage(content, counter, counter, trace);
+        peerSender.sendMessage(msg);
+        Logger.debug(name, "SENT MESSAGE-> {}{}", msg.getContent(), msg.getTrace());
+    }
+
+    /**
+     * Sends a message that the caller has already built and addressed, e.g. a request,
+     * forward or reply inside a topology. The message counts towards the sent messages.
+     */
+    public void sendMessage(Message message) throws InterruptedException {
+        if (peerSender == null) throw new IllegalStateException(name + " peer sender not set.");
+        if (message == null) {
+            throw new IllegalArgumentException("Cannot send null message");
+        }
+        addressedSentCount.increment();
+        peerSender.sendMessage(message);
+        Logger.debug(name, "SENT MESSAGE-> {} to {}", message.getContent(), message.getDestination());
+    }
+
+    /**
+     * Starts the conversation: sends one greeting in stop-and-wait mode, or fills the
+     * whole send window (bounded by maxMessages) in windowed mode.
+     * <p>
+     * Call it on the player's own thread (see PlayerThread.start(String)): in windowed mode that
+     * thread starts sending replies while the window is still being filled, and the peer sender
+     * may allow only one producer.
+     */
+    public void startConversation(String greeting) throws InterruptedException {
+        if (!isWindowed()) {
+            sendMessage(greeting);
+            flush();
+            return;
+        }
+        for (int i = 0; i < windowSize; i++) {
+            if (!trySendMessage(greeting)) {
+                break;
+            }
+        }
+        flush();
+    }
+
+    /**
+     * Pushes out any messages a buffering transport is still holding back.
+     */
+    public void flush() throws InterruptedException {
+        if (peerSender != null) {
+            peerSender.flush();
+        }
+    }
+
+    /**
+     * Sends a windowed message if fewer than maxMessages have been sent so far.
+     * The send slot is claimed atomically, so concurrent callers never exceed maxMessages.
+     *
+     * @return false if every message of the conversation has already been sent
+     */
+    public boolean trySendMessage(String content) throws InterruptedException {
+        return trySendMessage(content, null);
+    }
+
+    /**
+     * Like {@link #trySendMessage(String)}, continuing the given reply chain as in
+     * {@link #sendMessage(String, HopTrace)}.
+     */
+    public boolean trySendMessage(String content, HopTrace trace) throws InterruptedException {
+        if (peerSender == null) throw new IllegalStateException(name + " peer sender not set.");
+
+        long counter;
+        do {
+            counter = (long) COUNTER.getVolatile(counters, SENT);
+            if (counter >= maxMessages) {
+                return false;
+            }
+        } while (!COUNTER.compareAndSet(counters, SENT, counter, counter + 1));
+
+        long sequence = counter + 1;
+        Message msg = createNormalMessage(content, (int) sequence, sequence, trace);
+        inFlight.add(sequence);
+        peerSender.sendMessage(msg);
+        Logger.debug(name, "SENT MESSAGE-> {}{}", msg.getContent(), msg.getTrace());
+        return true;
+    }
+
+    /**
+     * Marks a windowed message as answered. Must only be called by the thread that handles this
+     * player's messages, like {@link #incrementReceivedCount()}.
+     *
+     * @return false if no message with this sequence number is in flight
+     */
+    public boolean acknowledge(long sequence) {
+        if (!inFlight.remove(sequence)) {
+            return false;
+        }
+        COUNTER.setRelease(counters, ANSWERED, counters[ANSWERED] + 1);
+        return true;
+    }
+
+    /**
+     * Sends a reply that carries the sequence number of the message it answers.
+     */
+    public void sendReply(String content, long requestSequence) throws InterruptedException {
+        sendReply(content, requestSequence, 0);
+    }
+
+    /**
+     * Sends a REPLY that carries the sequence number and the origin timestamp of the message
+     * it answers, so the originator can match it and measure the round trip.
+     */
+    public void sendReply(String content, long requestSequence, long requestTimestamp) throws InterruptedException {
+        sendReply(content, requestSequence, requestTimestamp, null);
+    }
+
+    /**
+     * Sends a REPLY as above that continues the given reply chain, as in {@link #sendMessage(String, HopTrace)}.
+     */
+    public void sendReply(String content, long requestSequence, long requestTimestamp, HopTrace trace)
+            throws InterruptedException {
         if (peerSender == null) throw new IllegalStateException(name + " peer sender not set.");
 
         if (content == null || content.isEmpty()) {
@@ -98,10 +324,54 @@ public class Player {
             sendStopMessage();
             return;
         }
-        int counter = sentCount.incrementAndGet();
-        Message msg = createNormalMessage(content, counter);
+        Message msg = createReply(content, requestSequence, requestTimestamp, trace);
         peerSender.sendMessage(msg);
-        Logger.log(name, "SENT MESSAGE-> " + msg.getContent());
+        Logger.debug(name, "SENT MESSAGE-> {}{}", msg.getContent(), msg.getTrace());
+    }
+
+    /**
+     * Sends one REPLY per request as a single batched send, so a transport that flushes per send
+     * flushes once for the whole batch. The reply to requests.get(i) repeats its content and
+     * continues traces.get(i), as in {@link #sendMessage(String, HopTrace)}. A request without
+     * content ends the batch like in {@link #sendReply(String, long, long, HopTrace)}: the replies
+     * before it are sent, then a STOP.
+     */
+    public void sendReplies(List<Message> requests, List<HopTrace> traces) throws InterruptedException {
+        if (peerSender == null) throw new IllegalStateException(name + " peer sender not set.");
+        if (requests == null || traces == null || requests.size() != traces.size()) {
+            throw new IllegalArgumentException("Every request needs exactly one reply trace");
+        }
+        List<Message> batch = new ArrayList<>(requests.size());
+        boolean stop = false;
+        for (int i = 0; i < requests.size() && !stop; i++) {
+            Message request = requests.get(i);
+            HopTrace trace = traces.get(i);
+            if (trace == null) {
+                throw new IllegalArgumentException("Reply trace cannot be null");
+            }
+            stop = request.getContent() == null || request.getContent().isEmpty();
+            if (!stop) {
+                batch.add(createReply(request.getContent(), request.getSequence(), request.getTimestamp(), trace));
+            }
+        }
+        if (!batch.isEmpty()) {
+            peerSender.sendMessages(batch);
+            Logger.debug(name, "SENT {} replies", batch.size());
+        }
+        if (stop) {
+            Logger.log(name, "Provided message is null or empty. Sending stop message.");
+            sendStopMessage();
+        }
+    }
+
+    /**
+     * Closes the peer sender once the player has stopped sending, releasing e.g. the linger timer
+     * task of a batching socket sender. The connection itself belongs to whoever opened it.
+     */
+    public void closeSender() throws InterruptedException {
+        if (peerSender != null) {
+            peerSender.close();
+        }
     }
 
     public void sendStopMessage() throws InterruptedException {
@@ -110,13 +380,32 @@ public class Player {
 
         if (peerSender != null) {
             peerSender.sendMessage(stopMessage);
+            peerSender.flush();
         }
-        inbox.put(stopMessage);
+        // A full control lane already holds a STOP, which ends the player just as well
+        inbox.offer(stopMessage);
         Logger.log(name, "SENT STOP message");
     }
 
-    private Message createNormalMessage(String content, int counter) {
-        return Message.sendNormalMessage(name, content + " [sent#" + counter + "]");
+    private int nextSentNumber() {
+        return (int) ((long) COUNTER.getAndAdd(counters, SENT, 1L) + 1);
+    }
+
+    private Message createReply(String content, long requestSequence, long requestTimestamp, HopTrace trace) {
+        int counter = nextSentNumber();
+        if (trace == null) {
+            return Message.of(name, null, content + " [sent#" + counter + "]",
+                    MessageType.REPLY, requestSequence, requestTimestamp);
+        }
+        return Message.of(name, null, content, MessageType.REPLY, requestSequence, requestTimestamp,
+                trace.append(name, counter));
+    }
+
+    private Message createNormalMessage(String content, int counter, long sequence, HopTrace trace) {
+        if (trace == null) {
+            return Message.sendNormalMessage(name, content + " [sent#" + counter + "]", sequence);
+        }
+        return Message.sendNormalMessage(name, content, sequence, trace.append(name, counter));
     }
 }
 
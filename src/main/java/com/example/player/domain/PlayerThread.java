@@ -1,28 +1,46 @@
 package com.example.player.domain;
 
+import com.example.player.config.PlayerConfig;
+import com.example.player.enums.ExecutionMode;
 import com.example.player.enums.MessageType;
 import com.example.player.interfaces.MessageReceiver;
+import com.example.player.interfaces.MessageStrategy;
 import com.example.player.logger.Logger;
+import com.example.player.metrics.MetricsRegistry;
 import com.example.player.model.Message;
+import com.example.player.scheduler.ThreadAffinity;
+
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * PlayerThread manages a dedicated thread for a single Player in the messaging system.
  * <p>
  * Responsibilities:
  * 1. Manage thread lifecycle:
- * - Start a dedicated thread for the player.
+ * - Start a dedicated thread for the player, either a platform thread or a virtual thread
+ * depending on the configured ExecutionMode.
+ * - Optionally open the conversation on the new thread before receiving, so the player's
+ * messages all come from one thread.
  * - Stop the thread gracefully when a STOP message is received.
  * - Allow external code to wait for the thread to finish via join().
  * - The running variable controls the thread’s active state
  * <p>
  * 2. Handle messages:
- * - Continuously receive messages for the player from MessageReceiver.
- * - Delegate message processing to MessageHandler.
- * - Detect STOP messages and terminate processing gracefully.
+ * - Continuously receive messages for the player from MessageReceiver, in batches of up to
+ * player.receive.batch messages that are ready without waiting.
+ * - Delegate message processing to MessageHandler, one batch of data messages at a time.
+ * - Flush the player's outgoing messages once no further message is immediately
+ * available, so buffering transports batch replies to a burst of requests.
+ * - Dispatch control messages (MessageType.isControl()) here instead of to the MessageHandler;
+ * in-memory inboxes deliver them ahead of queued data, so a STOP ends the thread without
+ * first working through the backlog.
  * <p>
  * 3. Logging and observability:
  * - Log thread start, interruption, STOP receipt, and termination events.
  * - Include player-specific information in logs (e.g., name, messages sent).
+ * - Register the player with the MetricsRegistry while the thread runs.
+ * - Pin the thread to a CPU from player.affinity.cpus when configured (a hint, see ThreadAffinity).
  * <p>
  * 4. Ensure thread-safety:
  * - Use synchronized methods for starting and joining threads.
@@ -35,56 +53,145 @@ import com.example.player.model.Message;
  * <p>
  * 6. Support graceful termination:
  * - Ensure thread stops on STOP messages or interruption.
- * - Clean up resources and mark running state as false when exiting.
+ * - Clean up resources and mark running state as false when exiting; the player's sender is
+ * closed, since nothing is sent after the thread ends.
  */
 public class PlayerThread implements Runnable {
 
     private final Player player;
     private final MessageHandler handler;
     private final MessageReceiver receiver;
+    private final ExecutionMode executionMode;
+    private final int batchSize = PlayerConfig.receiveBatch();
+    private String greeting;
     private Thread thread;
     private volatile boolean running = false;
 
     public PlayerThread(Player player, MessageReceiver receiver) {
+        this(player, receiver, PlayerConfig.executionMode());
+    }
+
+    public PlayerThread(Player player, MessageReceiver receiver, ExecutionMode executionMode) {
+        this(player, receiver, new MessageHandler(player), executionMode);
+    }
+
+    public PlayerThread(Player player, MessageReceiver receiver, MessageStrategy strategy, ExecutionMode executionMode) {
+        this(player, receiver, new MessageHandler(player, strategy), executionMode);
+    }
+
+    private PlayerThread(Player player, MessageReceiver receiver, MessageHandler handler, ExecutionMode executionMode) {
+        if (executionMode == null) {
+            throw new IllegalArgumentException("Execution mode cannot be null");
+        }
         this.player = player;
-        this.handler = new MessageHandler(player);
+        this.handler = handler;
         this.receiver = receiver;
+        this.executionMode = executionMode;
     }
 
     @Override
     public void run() {
         Logger.log(player.getName(), "Thread started");
+        ThreadAffinity.pinCurrentThread(player.getName());
+        List<Message> batch = new ArrayList<>(Math.min(batchSize, 1024));
         try {
+            if (greeting != null) {
+                player.startConversation(greeting);
+            }
             while (running) {
-                Message msg = receiver.receiveMessage();
-
-                if (msg == null) {
+                if (receiver.receiveMessages(batch, batchSize) == 0) {
                     Logger.log(player.getName(), "Received null message - exiting");
                     break;
                 }
-                if (msg.getMessageType() == MessageType.STOP) {
-                    Logger.log(player.getName(), "STOP received -> exiting");
-                    player.sendStopMessage();
+                if (!dispatch(batch)) {
                     break;
                 }
-                handler.handleMessage(msg);
+                batch.clear();
+                if (!receiver.hasPendingMessages()) {
+                    player.flush();
+                }
             }
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             Logger.log(player.getName(), "Interrupted - exiting");
         } finally {
             running = false;
-            Logger.log(player.getName(), "Thread terminated. Message Sent =" + player.getSentCount());
+            closeSender();
+            MetricsRegistry.get().unregisterPlayer(player);
+            Logger.info(player.getName(), "Thread terminated. Message Sent ={}", player.getSentCount());
+        }
+    }
+
+    /**
+     * Hands each run of data messages in the batch to the handler at once and dispatches the control
+     * messages between them in their received order.
+     *
+     * @return false if a control message ends the thread
+     */
+    private boolean dispatch(List<Message> batch) throws InterruptedException {
+        int start = 0;
+        for (int i = 0; i < batch.size(); i++) {
+            Message msg = batch.get(i);
+            if (msg.getMessageType().isControl()) {
+                if (i > start) {
+                    handler.handleMessages(batch.subList(start, i));
+                }
+                if (!dispatchControl(msg)) {
+                    return false;
+                }
+                start = i + 1;
+            }
+        }
+        if (start < batch.size()) {
+            handler.handleMessages(start == 0 ? batch : batch.subList(start, batch.size()));
+        }
+        return true;
+    }
+
+    /**
+     * @return false if the control message ends the thread
+     */
+    private boolean dispatchControl(Message msg) throws InterruptedException {
+        if (msg.getMessageType() == MessageType.STOP) {
+            Logger.log(player.getName(), "STOP received -> exiting");
+            player.sendStopMessage();
+            return false;
+        }
+        Logger.warn(player.getName(), "Ignoring unsupported control message {}", msg.getMessageType());
+        return true;
+    }
+
+    private void closeSender() {
+        try {
+            player.closeSender();
+        } catch (InterruptedException e) {
+            Logger.warn(player.getName(), "Closing the sender failed: {}", e.getMessage());
         }
     }
 
     public synchronized void start() {
+        start(null);
+    }
+
+    /**
+     * Starts the thread and lets it open the conversation with the given greeting before it
+     * receives anything, so every message of the player is sent from this one thread; transports
+     * such as the SPSC ring buffer allow only a single producer.
+     *
+     * @param greeting the first message (or window of messages) to send, null to only answer
+     */
+    public synchronized void start(String greeting) {
         if (running) {
             Logger.log(player.getName(), "Thread already running, start() ignored");
             return;
         }
-        thread = new Thread(this, "Thread-" + player.getName());
+        String threadName = "Thread-" + player.getName();
+        thread = executionMode == ExecutionMode.VIRTUAL
+                ? Thread.ofVirtual().name(threadName).unstarted(this)
+                : Thread.ofPlatform().name(threadName).unstarted(this);
+        this.greeting = greeting;
         running = true;
+        MetricsRegistry.get().registerPlayer(player, receiver);
         thread.start();
     }
 
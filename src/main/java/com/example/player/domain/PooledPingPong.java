@@ -0,0 +1,134 @@
+package com.example.player.domain;
+
+import com.example.player.enums.ExecutionMode;
+import com.example.player.enums.MessageType;
+import com.example.player.interfaces.WaitStrategy;
+import com.example.player.logger.Logger;
+import com.example.player.model.MessagePool;
+import com.example.player.model.PooledMessage;
+import com.example.player.queue.SpscRingBuffer;
+
+/**
+ * PooledPingPong runs the initiator/responder conversation with a single PooledMessage that
+ * travels back and forth, so that the steady state allocates nothing.
+ * <p>
+ * Responsibilities:
+ * 1. Mirror the Player conversation: the initiator marks each send with "[sent#n]" and the
+ * responder appends "| reply-from-name" to what it received.
+ * 2. Build every message in place: the initiator truncates the content back to the greeting
+ * before marking it, so the content has a constant size however many rounds have run.
+ * 3. Finish with a STOP that the responder echoes, and recycle the message into the pool.
+ * <p>
+ * Thread-safety considerations:
+ * - Each direction is a SpscRingBuffer with one producer and one consumer; ownership of the
+ * message passes with it through the ring.
+ * <p>
+ * Design notes:
+ * - Blocking queues are not used because their waiting paths allocate nodes; the rings only
+ * wait through the WaitStrategy.
+ */
+public class PooledPingPong {
+
+    private static final String SENT_MARK = " [sent#";
+    private static final String REPLY_MARK = " | reply-from-";
+
+    private final String initiatorName;
+    private final String responderName;
+    private final int rounds;
+    private final MessagePool pool;
+    private final WaitStrategy waitStrategy;
+    private final ExecutionMode executionMode;
+    private final SpscRingBuffer<PooledMessage> toResponder;
+    private final SpscRingBuffer<PooledMessage> toInitiator;
+
+    public PooledPingPong(String initiatorName, String responderName, int rounds, MessagePool pool,
+                          WaitStrategy waitStrategy, ExecutionMode executionMode) {
+        if (rounds <= 0) {
+            throw new IllegalArgumentException("Rounds must be positive");
+        }
+        if (pool == null || waitStrategy == null || executionMode == null) {
+            throw new IllegalArgumentException("Pool, wait strategy and execution mode cannot be null");
+        }
+        this.initiatorName = initiatorName;
+        this.responderName = responderName;
+        this.rounds = rounds;
+        this.pool = pool;
+        this.waitStrategy = waitStrategy;
+        this.executionMode = executionMode;
+        this.toResponder = new SpscRingBuffer<>(2);
+        this.toInitiator = new SpscRingBuffer<>(2);
+    }
+
+    /**
+     * Runs the whole conversation on the calling thread (initiator) and one responder thread.
+     *
+     * @return the number of replies the initiator received
+     */
+    public int run(String greeting) throws InterruptedException {
+        Thread.Builder builder = executionMode == ExecutionMode.VIRTUAL ? Thread.ofVirtual() : Thread.ofPlatform();
+        Thread responder = builder.name("Thread-" + responderName).start(this::respond);
+
+        PooledMessage message = pool.acquire().set(initiatorName, responderName, MessageType.NORMAL, 1).append(greeting);
+        int greetingLength = message.length();
+        message.append(SENT_MARK).append(1).append(']');
+        put(toResponder, message);
+
+        int answered = 0;
+        while (true) {
+            PooledMessage reply = take(toInitiator);
+            answered++;
+            if (answered >= rounds) {
+                reply.set(initiatorName, responderName, MessageType.STOP, 0).truncate(0).append("STOP");
+                put(toResponder, reply);
+                break;
+            }
+            long sequence = answered + 1;
+            reply.set(initiatorName, responderName, MessageType.NORMAL, sequence)
+                    .truncate(greetingLength).append(SENT_MARK).append(sequence).append(']');
+            put(toResponder, reply);
+        }
+        take(toInitiator).recycle();
+        responder.join();
+        Logger.debug(initiatorName, "Pooled conversation finished after {} replies", answered);
+        return answered;
+    }
+
+    private void respond() {
+        try {
+            while (true) {
+                PooledMessage message = take(toResponder);
+                boolean stop = message.getMessageType() == MessageType.STOP;
+                if (!stop) {
+                    message.append(REPLY_MARK).append(responderName);
+                }
+                message.setSender(responderName);
+                message.setDestination(initiatorName);
+                put(toInitiator, message);
+                if (stop) {
+                    return;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            Logger.log(responderName, "Interrupted - exiting");
+        }
+    }
+
+    private void put(SpscRingBuffer<PooledMessage> ring, PooledMessage message) throws InterruptedException {
+        int attempt = 0;
+        while (!ring.offer(message)) {
+            waitStrategy.idle(attempt);
+            if (attempt < Integer.MAX_VALUE) attempt++;
+        }
+    }
+
+    private PooledMessage take(SpscRingBuffer<PooledMessage> ring) throws InterruptedException {
+        int attempt = 0;
+        PooledMessage message;
+        while ((message = ring.poll()) == null) {
+            waitStrategy.idle(attempt);
+            if (attempt < Integer.MAX_VALUE) attempt++;
+        }
+        return message;
+    }
+}
@@ -0,0 +1,5 @@
+package com.example.player.enums;
+
+public enum CodecType {
+    BINARY, JAVA_SERIALIZATION;
+}
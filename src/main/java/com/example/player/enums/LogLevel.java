@@ -0,0 +1,5 @@
+package com.example.player.enums;
+
+public enum LogLevel {
+    TRACE, DEBUG, INFO, WARN, ERROR, OFF;
+}
@@ -1,5 +1,26 @@
 package com.example.player.enums;
 
+/**
+ * Kinds of messages exchanged by players.
+ * <p>
+ * Control types (e.g. STOP) are delivered ahead of queued data by a MultiLaneInbox and are dispatched
+ * by PlayerThread and Mailbox instead of the MessageStrategy; a new control frame only needs to be
+ * declared with control = true and handled there.
+ * <p>
+ * ACK frames carry a cumulative count of received messages in their sequence number and are consumed
+ * by the ResumableSession that reads them; they never reach a player. New types are appended, since
+ * the binary codec sends the ordinal.
+ */
 public enum MessageType {
-    NORMAL, STOP;
+    NORMAL(false), STOP(true), REPLY(false), ACK(false);
+
+    private final boolean control;
+
+    MessageType(boolean control) {
+        this.control = control;
+    }
+
+    public boolean isControl() {
+        return control;
+    }
 }
@@ -0,0 +1,5 @@
+package com.example.player.enums;
+
+public enum TracePolicy {
+    FULL, TRUNCATE, SUMMARIZE;
+}
@@ -0,0 +1,5 @@
+package com.example.player.enums;
+
+public enum TransportType {
+    BLOCKING_QUEUE, RING_BUFFER, SHARED_MEMORY;
+}
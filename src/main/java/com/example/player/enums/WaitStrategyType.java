@@ -0,0 +1,5 @@
+package com.example.player.enums;
+
+public enum WaitStrategyType {
+    BUSY_SPIN, YIELD, PARK, BLOCKING;
+}
@@ -0,0 +1,24 @@
+package com.example.player.factory;
+
+import com.example.player.config.PlayerConfig;
+import com.example.player.enums.CodecType;
+import com.example.player.interfaces.MessageCodec;
+import com.example.player.interfaces.impl.message.codec.BinaryMessageCodec;
+import com.example.player.interfaces.impl.message.codec.JavaSerializationMessageCodec;
+
+public class MessageCodecFactory {
+
+    public static MessageCodec createCodec(CodecType codecType) {
+        if (codecType == null) {
+            throw new IllegalArgumentException("Codec type cannot be null");
+        }
+        return switch (codecType) {
+            case BINARY -> new BinaryMessageCodec();
+            case JAVA_SERIALIZATION -> new JavaSerializationMessageCodec();
+        };
+    }
+
+    public static MessageCodec createConfiguredCodec() {
+        return createCodec(PlayerConfig.codecType());
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.player.factory;
+
+import com.example.player.config.SocketConfig;
+import com.example.player.interfaces.MessageCodec;
+import com.example.player.interfaces.MessageSender;
+import com.example.player.interfaces.impl.message.sender.BatchingSocketMessageSender;
+import com.example.player.interfaces.impl.message.sender.JournalingMessageSender;
+import com.example.player.interfaces.impl.message.sender.SocketMessageSender;
+import com.example.player.journal.MessageJournal;
+
+import java.net.Socket;
+
+public class MessageSenderFactory {
+
+    public static MessageSender createSocketSender(Socket socket, SocketConfig config) throws Exception {
+        return createSocketSender(socket, MessageCodecFactory.createConfiguredCodec(), config);
+    }
+
+    public static MessageSender createSocketSender(Socket socket, MessageCodec codec, SocketConfig config) throws Exception {
+        if (config == null) {
+            throw new IllegalArgumentException("Socket config cannot be null");
+        }
+        if (config.isBatching()) {
+            return new BatchingSocketMessageSender(socket, codec, config.getBatchBytes(), config.getLingerMicros());
+        }
+        return new SocketMessageSender(socket, codec);
+    }
+
+    /**
+     * Wraps the sender so every message is journaled first; returns it unchanged when journal is null.
+     */
+    public static MessageSender journaled(MessageSender sender, MessageJournal journal) {
+        if (journal == null) {
+            return sender;
+        }
+        return new JournalingMessageSender(sender, journal);
+    }
+}
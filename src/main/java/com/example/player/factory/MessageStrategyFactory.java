@@ -4,13 +4,21 @@ import com.example.player.domain.Player;
 import com.example.player.interfaces.MessageStrategy;
 import com.example.player.interfaces.impl.message.strategy.InitiatorMessageStrategy;
 import com.example.player.interfaces.impl.message.strategy.ResponderMessageStrategy;
+import com.example.player.interfaces.impl.message.strategy.WindowedInitiatorMessageStrategy;
+import com.example.player.model.TraceSettings;
 
 public class MessageStrategyFactory {
 
    public static MessageStrategy determineStrategy(Player player) {
+        return determineStrategy(player, TraceSettings.fromSystemProperties());
+    }
+
+    public static MessageStrategy determineStrategy(Player player, TraceSettings traceSettings) {
         if (player.isPlayerInitiator()) {
-            return new InitiatorMessageStrategy();
+            return player.isWindowed()
+                    ? new WindowedInitiatorMessageStrategy(traceSettings)
+                    : new InitiatorMessageStrategy(traceSettings);
         }
-        return new ResponderMessageStrategy();
+        return new ResponderMessageStrategy(traceSettings);
     }
 }
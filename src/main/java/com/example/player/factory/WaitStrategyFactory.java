@@ -0,0 +1,23 @@
+package com.example.player.factory;
+
+import com.example.player.enums.WaitStrategyType;
+import com.example.player.interfaces.WaitStrategy;
+import com.example.player.interfaces.impl.wait.BlockingWaitStrategy;
+import com.example.player.interfaces.impl.wait.BusySpinWaitStrategy;
+import com.example.player.interfaces.impl.wait.ParkingWaitStrategy;
+import com.example.player.interfaces.impl.wait.YieldingWaitStrategy;
+
+public class WaitStrategyFactory {
+
+    public static WaitStrategy createWaitStrategy(WaitStrategyType type) {
+        if (type == null) {
+            throw new IllegalArgumentException("Wait strategy type cannot be null");
+        }
+        return switch (type) {
+            case BUSY_SPIN -> new BusySpinWaitStrategy();
+            case YIELD -> new YieldingWaitStrategy();
+            case PARK -> new ParkingWaitStrategy();
+            case BLOCKING -> new BlockingWaitStrategy();
+        };
+    }
+}
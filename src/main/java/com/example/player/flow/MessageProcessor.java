@@ -0,0 +1,77 @@
+package com.example.player.flow;
+
+import com.example.player.model.Message;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.function.Function;
+
+/**
+ * MessageProcessor is a pipeline stage that transforms every Message it receives and publishes
+ * the result to its own subscribers.
+ * <p>
+ * Responsibilities:
+ * 1. Apply the transformation to each message; a null result drops the message, so the stage can
+ * also filter.
+ * 2. Request the next upstream message only after the previous result has been buffered for every
+ * subscriber; SubmissionPublisher#submit blocks while a subscriber's buffer is full, so
+ * backpressure reaches upstream through the stage.
+ * 3. Pass completion and errors through to its subscribers.
+ * <p>
+ * Design notes:
+ * - Built on the JDK's SubmissionPublisher, which already implements per-subscriber buffers and
+ * demand tracking; deliveries run on the given executor (ForkJoinPool.commonPool() by default)
+ * only while items are buffered.
+ */
+public class MessageProcessor extends SubmissionPublisher<Message> implements Flow.Processor<Message, Message> {
+
+    private final Function<Message, Message> transformation;
+    private Flow.Subscription subscription;
+
+    public MessageProcessor(Function<Message, Message> transformation) {
+        super();
+        this.transformation = requireTransformation(transformation);
+    }
+
+    public MessageProcessor(Function<Message, Message> transformation, Executor executor, int bufferCapacity) {
+        super(executor, bufferCapacity);
+        this.transformation = requireTransformation(transformation);
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        if (this.subscription != null) {
+            subscription.cancel();
+            return;
+        }
+        this.subscription = subscription;
+        subscription.request(1);
+    }
+
+    @Override
+    public void onNext(Message message) {
+        Message result = transformation.apply(message);
+        if (result != null) {
+            submit(result);
+        }
+        subscription.request(1);
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        closeExceptionally(throwable);
+    }
+
+    @Override
+    public void onComplete() {
+        close();
+    }
+
+    private static Function<Message, Message> requireTransformation(Function<Message, Message> transformation) {
+        if (transformation == null) {
+            throw new IllegalArgumentException("Transformation cannot be null");
+        }
+        return transformation;
+    }
+}
@@ -0,0 +1,167 @@
+package com.example.player.flow;
+
+import com.example.player.enums.MessageType;
+import com.example.player.interfaces.MessageReceiver;
+import com.example.player.logger.Logger;
+import com.example.player.model.Message;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * ReceiverPublisher exposes a MessageReceiver as a {@link Flow.Publisher} of Messages.
+ * <p>
+ * Responsibilities:
+ * 1. Receive a message only when the subscriber has requested one, so an unrequested message stays
+ * in the transport: in the inbox for in-memory transports, in the TCP window for sockets. A slow
+ * subscriber therefore slows the remote sender down, even in another JVM.
+ * 2. Run the receive loop on the executor only while there is outstanding demand; with no demand
+ * no thread is held.
+ * 3. Turn a STOP message or a null message into onComplete, and a failed receive into onError.
+ * 4. Interrupt a receive blocked on behalf of a cancelled subscription.
+ * <p>
+ * Thread-safety considerations:
+ * - request() and cancel() may be called from any thread; signals to the subscriber are serialised
+ * by a work-in-progress counter, so at most one receive loop runs at a time.
+ * <p>
+ * Design notes:
+ * - A receiver has a single consumer, so the publisher accepts exactly one subscriber; later
+ * subscribers get onError. Null arguments throw NullPointerException, as the Flow contract requires.
+ * - The default executor starts a virtual thread per receive loop; a virtual thread blocked in
+ * receiveMessage() does not occupy a carrier thread.
+ */
+public class ReceiverPublisher implements Flow.Publisher<Message> {
+
+    private final MessageReceiver receiver;
+    private final Executor executor;
+    private final AtomicBoolean subscribed = new AtomicBoolean();
+
+    public ReceiverPublisher(MessageReceiver receiver) {
+        this(receiver, command -> Thread.ofVirtual().name("Flow-Receiver").start(command));
+    }
+
+    public ReceiverPublisher(MessageReceiver receiver, Executor executor) {
+        if (receiver == null) {
+            throw new IllegalArgumentException("Receiver cannot be null");
+        }
+        if (executor == null) {
+            throw new IllegalArgumentException("Executor cannot be null");
+        }
+        this.receiver = receiver;
+        this.executor = executor;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super Message> subscriber) {
+        if (subscriber == null) {
+            throw new NullPointerException("Subscriber cannot be null");
+        }
+        if (!subscribed.compareAndSet(false, true)) {
+            subscriber.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(long n) {
+                }
+
+                @Override
+                public void cancel() {
+                }
+            });
+            subscriber.onError(new IllegalStateException("Receiver already has a subscriber"));
+            return;
+        }
+        subscriber.onSubscribe(new ReceiverSubscription(subscriber));
+    }
+
+    private final class ReceiverSubscription implements Flow.Subscription, Runnable {
+
+        private final Flow.Subscriber<? super Message> subscriber;
+        private final AtomicLong demand = new AtomicLong();
+        private final AtomicInteger workInProgress = new AtomicInteger();
+        private volatile boolean cancelled = false;
+        private volatile Thread receivingThread;
+
+        private ReceiverSubscription(Flow.Subscriber<? super Message> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            if (cancelled) {
+                return;
+            }
+            if (n <= 0) {
+                cancel();
+                subscriber.onError(new IllegalArgumentException("Requested " + n + " messages; demand must be positive"));
+                return;
+            }
+            demand.getAndAccumulate(n, (current, added) -> {
+                long sum = current + added;
+                return sum < 0 ? Long.MAX_VALUE : sum;
+            });
+            if (workInProgress.getAndIncrement() == 0) {
+                executor.execute(this);
+            }
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            Thread thread = receivingThread;
+            if (thread != null) {
+                thread.interrupt();
+            }
+        }
+
+        @Override
+        public void run() {
+            receivingThread = Thread.currentThread();
+            try {
+                drain();
+            } finally {
+                receivingThread = null;
+                Thread.interrupted();
+            }
+        }
+
+        private void drain() {
+            int missed = 1;
+            while (true) {
+                long requested = demand.get();
+                long emitted = 0;
+                while (emitted != requested) {
+                    if (cancelled) {
+                        return;
+                    }
+                    Message message;
+                    try {
+                        message = receiver.receiveMessage();
+                    } catch (InterruptedException e) {
+                        if (!cancelled) {
+                            cancelled = true;
+                            subscriber.onError(e);
+                        }
+                        return;
+                    }
+                    if (message == null || message.getMessageType() == MessageType.STOP) {
+                        Logger.debug("ReceiverPublisher", "End of stream: {}", message);
+                        cancelled = true;
+                        subscriber.onComplete();
+                        return;
+                    }
+                    subscriber.onNext(message);
+                    emitted++;
+                }
+                if (requested != Long.MAX_VALUE) {
+                    demand.addAndGet(-emitted);
+                }
+                missed = workInProgress.addAndGet(-missed);
+                if (missed == 0) {
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.player.flow;
+
+import com.example.player.interfaces.MessageSender;
+import com.example.player.logger.Logger;
+import com.example.player.model.Message;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+
+/**
+ * SenderSubscriber drains a {@link Flow.Publisher} of Messages into a MessageSender.
+ * <p>
+ * Responsibilities:
+ * 1. Keep at most {@code prefetch} messages requested from upstream; demand is replenished in
+ * halves once the sender has accepted them, so a blocked sender (full inbox, full TCP window)
+ * stops further demand instead of letting messages pile up.
+ * 2. Flush the sender whenever demand is replenished and on completion, so buffering transports
+ * batch each half-window into as few writes as possible.
+ * 3. Report the end of the stream through {@link #getCompletion()}.
+ * <p>
+ * Thread-safety considerations:
+ * - The Flow contract serialises onNext/onComplete/onError, so the fields need no locking.
+ */
+public class SenderSubscriber implements Flow.Subscriber<Message> {
+
+    private static final int DEFAULT_PREFETCH = 64;
+
+    private final MessageSender sender;
+    private final int prefetch;
+    private final int replenishThreshold;
+    private final CompletableFuture<Void> completion = new CompletableFuture<>();
+    private Flow.Subscription subscription;
+    private int sinceLastRequest;
+
+    public SenderSubscriber(MessageSender sender) {
+        this(sender, DEFAULT_PREFETCH);
+    }
+
+    public SenderSubscriber(MessageSender sender, int prefetch) {
+        if (sender == null) {
+            throw new IllegalArgumentException("Sender cannot be null");
+        }
+        if (prefetch <= 0) {
+            throw new IllegalArgumentException("Prefetch must be positive: " + prefetch);
+        }
+        this.sender = sender;
+        this.prefetch = prefetch;
+        this.replenishThreshold = Math.max(1, prefetch / 2);
+    }
+
+    /**
+     * Completes normally when upstream completes, exceptionally when upstream fails or a send
+     * is interrupted.
+     */
+    public CompletableFuture<Void> getCompletion() {
+        return completion;
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        if (subscription == null) {
+            throw new NullPointerException("Subscription cannot be null");
+        }
+        if (this.subscription != null) {
+            subscription.cancel();
+            return;
+        }
+        this.subscription = subscription;
+        subscription.request(prefetch);
+    }
+
+    @Override
+    public void onNext(Message message) {
+        if (message == null) {
+            throw new NullPointerException("Message cannot be null");
+        }
+        try {
+            sender.sendMessage(message);
+            if (++sinceLastRequest == replenishThreshold) {
+                sinceLastRequest = 0;
+                sender.flush();
+                subscription.request(replenishThreshold);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            subscription.cancel();
+            completion.completeExceptionally(e);
+        }
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        Logger.warn("SenderSubscriber", "Upstream failed: {}", throwable.getMessage());
+        flushQuietly();
+        completion.completeExceptionally(throwable);
+    }
+
+    @Override
+    public void onComplete() {
+        flushQuietly();
+        completion.complete(null);
+    }
+
+    private void flushQuietly() {
+        try {
+            sender.flush();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            completion.completeExceptionally(e);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.player.interfaces;
+
+import com.example.player.mux.LogicalChannel;
+
+/**
+ * ChannelListener is notified when the peer of a MultiplexedConnection opens a new logical channel.
+ * <p>
+ * Responsibilities:
+ * 1. Attach a player (sender, receiver and thread) to the new channel.
+ * <p>
+ * Design notes:
+ * - Called on the connection's reader thread before the channel's first message is delivered;
+ * implementations must not block, or every channel of the connection waits.
+ */
+public interface ChannelListener {
+    void onChannelOpened(LogicalChannel channel);
+}
@@ -0,0 +1,24 @@
+package com.example.player.interfaces;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * MessageCodec defines the wire format used to move Message objects between JVMs.
+ * <p>
+ * Responsibilities:
+ * 1. Create a MessageEncoder bound to the outgoing stream of a connection.
+ * 2. Create a MessageDecoder bound to the incoming stream of a connection.
+ * 3. Decouple socket transports from the concrete encoding (binary, Java serialization, ...).
+ * <p>
+ * Design notes:
+ * - Encoders and decoders are stateful per connection (e.g. interned sender ids),
+ * so a new pair must be created for every socket.
+ * - Both peers of a connection must use the same codec.
+ */
+public interface MessageCodec {
+    MessageEncoder newEncoder(OutputStream out) throws IOException;
+
+    MessageDecoder newDecoder(InputStream in) throws IOException;
+}
@@ -0,0 +1,21 @@
+package com.example.player.interfaces;
+
+import com.example.player.model.Message;
+
+import java.io.IOException;
+
+/**
+ * MessageDecoder reads Message objects from the incoming stream of a single connection.
+ * <p>
+ * Responsibilities:
+ * 1. Block until a complete message is available and decode it.
+ * 2. Report a closed stream through EOFException.
+ * 3. Report how many bytes can be read without blocking (0 when unknown).
+ */
+public interface MessageDecoder {
+    Message decode() throws IOException;
+
+    default int available() throws IOException {
+        return 0;
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.player.interfaces;
+
+import com.example.player.model.Message;
+
+import java.io.IOException;
+
+/**
+ * MessageEncoder writes Message objects to the outgoing stream of a single connection.
+ * <p>
+ * Responsibilities:
+ * 1. Encode a Message into the codec's wire format.
+ * 2. Flush buffered bytes to the underlying stream on request.
+ */
+public interface MessageEncoder {
+    void encode(Message message) throws IOException;
+
+    void flush() throws IOException;
+}
@@ -2,6 +2,8 @@ package com.example.player.interfaces;
 
 import com.example.player.model.Message;
 
+import java.util.List;
+
 /**
  * MessageReceiver defines the abstraction for receiving messages.
  * <p>
@@ -9,8 +11,49 @@ import com.example.player.model.Message;
  * 1. Provide a generic interface to receive Message objects.
  * 2. Decouple PlayerThread from the underlying transport mechanism
  * (in-memory queue or socket).
+ * 3. Report whether another message can be received without waiting, so callers can
+ * flush batched replies only once the incoming burst has been consumed.
+ * 4. Report how many messages are queued for the player, for metrics; transports that cannot
+ * tell (e.g. sockets) report 0.
+ * 5. Receive a batch: wait for one message, then take whatever else is ready without waiting, so
+ * a busy player pays the wake-up and dispatch cost once per batch instead of once per message.
  */
 public interface MessageReceiver {
     Message receiveMessage() throws InterruptedException;
+
+    /**
+     * Blocks until at least one message is available, then adds up to maxMessages messages that can
+     * be received without waiting (for sockets: every frame already buffered) to the batch.
+     *
+     * @return the number of messages added; 0 only if the transport delivered a null message
+     */
+    default int receiveMessages(List<Message> batch, int maxMessages) throws InterruptedException {
+        if (batch == null || maxMessages <= 0) {
+            throw new IllegalArgumentException("Batch cannot be null and max messages must be positive");
+        }
+        Message first = receiveMessage();
+        if (first == null) {
+            return 0;
+        }
+        batch.add(first);
+        int received = 1;
+        while (received < maxMessages && hasPendingMessages()) {
+            Message next = receiveMessage();
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+            received++;
+        }
+        return received;
+    }
+
+    default boolean hasPendingMessages() {
+        return false;
+    }
+
+    default int getQueueDepth() {
+        return 0;
+    }
 }
 
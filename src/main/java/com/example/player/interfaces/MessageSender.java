@@ -2,6 +2,8 @@ package com.example.player.interfaces;
 
 import com.example.player.model.Message;
 
+import java.util.List;
+
 
 /**
  * MessageSender defines the abstraction for sending messages.
@@ -10,8 +12,32 @@ import com.example.player.model.Message;
  * 1. Provide a generic interface to send Message objects.
  * 2. Decouple Player from the underlying transport mechanism
  * (in-memory queue or socket).
+ * 3. Allow buffering transports to defer delivery until flush() is called;
+ * unbuffered transports deliver immediately and need no flush.
+ * 4. Send a batch of messages as one unit; transports that flush per message override it to
+ * write the whole batch before a single flush.
+ * 5. Release what the sender holds besides the connection (e.g. a linger timer task) on close();
+ * the owner of the connection still closes it.
  */
 public interface MessageSender {
     void sendMessage(Message message) throws InterruptedException;
+
+    default void sendMessages(List<Message> messages) throws InterruptedException {
+        if (messages == null) {
+            throw new IllegalArgumentException("Cannot send null batch");
+        }
+        for (Message message : messages) {
+            sendMessage(message);
+        }
+    }
+
+    default void flush() throws InterruptedException {
+    }
+
+    /**
+     * Flushes what is buffered and releases the sender's own resources. Nothing may be sent afterwards.
+     */
+    default void close() throws InterruptedException {
+    }
 }
 
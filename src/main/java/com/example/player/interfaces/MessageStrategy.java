@@ -3,6 +3,8 @@ package com.example.player.interfaces;
 import com.example.player.domain.Player;
 import com.example.player.model.Message;
 
+import java.util.List;
+
 /**
  * MessageStrategy defines the contract for role-specific message-handling logic
  * in a Player messaging system.
@@ -20,7 +22,16 @@ import com.example.player.model.Message;
  * own handling logic for sending replies or triggering STOP messages.
  * - Keeps MessageHandler focused on coordination, logging, and state updates,
  * while strategy implementations focus solely on role-specific behaviors.
+ * - handleMessages receives the data messages of one received batch, in order; by default they are
+ * handled one by one, and strategies that answer each message override it to send their
+ * replies as one batch.
  */
 public interface MessageStrategy {
     void handleMessage(Player player, Message message) throws InterruptedException;
+
+    default void handleMessages(Player player, List<Message> messages) throws InterruptedException {
+        for (Message message : messages) {
+            handleMessage(player, message);
+        }
+    }
 }
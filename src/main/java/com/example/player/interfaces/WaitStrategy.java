@@ -0,0 +1,16 @@
+package com.example.player.interfaces;
+
+/**
+ * WaitStrategy defines how a thread waits while a lock-free transport is empty or full.
+ * <p>
+ * Responsibilities:
+ * 1. Trade CPU usage against wake-up latency (spin, yield, park).
+ * 2. Honour thread interruption so that a waiting player can still be shut down.
+ * <p>
+ * Design notes:
+ * - Callers invoke idle() in a retry loop, passing the number of consecutive failed attempts,
+ * so implementations can escalate from spinning to yielding to parking without keeping state.
+ */
+public interface WaitStrategy {
+    void idle(int attempt) throws InterruptedException;
+}
@@ -0,0 +1,42 @@
+package com.example.player.interfaces.impl.message.codec;
+
+import com.example.player.interfaces.MessageCodec;
+import com.example.player.interfaces.MessageDecoder;
+import com.example.player.interfaces.MessageEncoder;
+
+import java.io.BufferedInputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * BinaryMessageCodec is the default wire format for socket transports.
+ * <p>
+ * Responsibilities:
+ * 1. Create BinaryMessageEncoder/BinaryMessageDecoder pairs for a connection.
+ * 2. Buffer the incoming stream so that the length prefix and frame body are read
+ * with as few system calls as possible.
+ * <p>
+ * Design notes:
+ * - Frames are self-delimiting, so no stream header is exchanged when the connection opens.
+ * - See BinaryMessageEncoder for the frame layout.
+ */
+public class BinaryMessageCodec implements MessageCodec {
+
+    private static final int INPUT_BUFFER_SIZE = 8192;
+
+    @Override
+    public MessageEncoder newEncoder(OutputStream out) {
+        if (out == null) {
+            throw new IllegalArgumentException("Output stream cannot be null");
+        }
+        return new BinaryMessageEncoder(out);
+    }
+
+    @Override
+    public MessageDecoder newDecoder(InputStream in) {
+        if (in == null) {
+            throw new IllegalArgumentException("Input stream cannot be null");
+        }
+        return new BinaryMessageDecoder(new BufferedInputStream(in, INPUT_BUFFER_SIZE));
+    }
+}
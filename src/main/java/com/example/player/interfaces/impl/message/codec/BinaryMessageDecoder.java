@@ -0,0 +1,229 @@
+package com.example.player.interfaces.impl.message.codec;
+
+import com.example.player.config.PlayerConfig;
+import com.example.player.enums.MessageType;
+import com.example.player.interfaces.MessageDecoder;
+import com.example.player.model.HopTrace;
+import com.example.player.model.Message;
+import com.example.player.model.PooledMessage;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * BinaryMessageDecoder reads Messages written by {@link BinaryMessageEncoder}.
+ * <p>
+ * Responsibilities:
+ * 1. Read length-prefixed frames from a stream into a reused buffer, rejecting any frame longer
+ * than player.maxFrameBytes before allocating for it.
+ * 2. Resolve interned sender and destination ids back to the same String instance for the
+ * lifetime of the connection.
+ * 3. Decode single frame bodies from a ByteBuffer for non-stream transports (NIO, shared memory).
+ * 4. Decode frame bodies into a reused PooledMessage, copying the content bytes without a String.
+ * 5. Decode the optional hop trace that ends a frame, rejecting counts the frame cannot hold; a
+ * PooledMessage carries no trace, so the trace is read only to keep the interned names in step.
+ * <p>
+ * Thread-safety considerations:
+ * - Not thread-safe; a decoder belongs to exactly one connection and one reading thread.
+ */
+public class BinaryMessageDecoder implements MessageDecoder {
+
+    private static final MessageType[] TYPES = MessageType.values();
+    private static final int INITIAL_CAPACITY = 256;
+
+    private final DataInputStream in;
+    private final int maxFrameBytes = PlayerConfig.maxFrameBytes();
+    private final List<String> senders = new ArrayList<>();
+    private byte[] buffer = new byte[INITIAL_CAPACITY];
+    private ByteBuffer frame = ByteBuffer.wrap(buffer);
+
+    public BinaryMessageDecoder() {
+        this.in = null;
+    }
+
+    public BinaryMessageDecoder(InputStream in) {
+        if (in == null) {
+            throw new IllegalArgumentException("Input stream cannot be null");
+        }
+        this.in = new DataInputStream(in);
+    }
+
+    @Override
+    public Message decode() throws IOException {
+        if (in == null) {
+            throw new IllegalStateException("Decoder is not bound to an input stream");
+        }
+        int length = in.readInt();
+        checkFrameLength(length);
+        if (length > buffer.length) {
+            buffer = new byte[Math.max(length, buffer.length * 2)];
+            frame = ByteBuffer.wrap(buffer);
+        }
+        in.readFully(buffer, 0, length);
+        frame.clear().limit(length);
+        return decodeFrame(frame);
+    }
+
+    @Override
+    public int available() throws IOException {
+        return in == null ? 0 : in.available();
+    }
+
+    /**
+     * @return the largest frame body this decoder accepts
+     */
+    public int getMaxFrameBytes() {
+        return maxFrameBytes;
+    }
+
+    /**
+     * Rejects a frame length read from the wire that is not positive or exceeds {@link #getMaxFrameBytes()},
+     * so a corrupted or hostile length never causes a large allocation.
+     */
+    public void checkFrameLength(int length) throws IOException {
+        if (length <= 0) {
+            throw new IOException("Corrupted frame length: " + length);
+        }
+        if (length > maxFrameBytes) {
+            throw new IOException("Frame of " + length + " bytes exceeds the maximum of " + maxFrameBytes);
+        }
+    }
+
+    /**
+     * Decodes one frame body (everything after the length prefix) from the buffer's
+     * current position up to its limit.
+     */
+    public Message decodeFrame(ByteBuffer body) throws IOException {
+        int typeOrdinal = body.get();
+        if (typeOrdinal < 0 || typeOrdinal >= TYPES.length) {
+            throw new IOException("Unknown message type: " + typeOrdinal);
+        }
+        long sequence = body.getLong();
+        long timestamp = body.getLong();
+        String sender = readName(body, body.getShort());
+        int destinationReference = body.getShort();
+        String destination = destinationReference == BinaryMessageEncoder.NO_DESTINATION
+                ? null : readName(body, destinationReference);
+        String content = readContent(body);
+        HopTrace trace = body.hasRemaining() ? readTrace(body) : HopTrace.EMPTY;
+        return Message.of(sender, destination, content, TYPES[typeOrdinal], sequence, timestamp, trace);
+    }
+
+    /**
+     * Decodes one frame body into the given PooledMessage, replacing its previous state.
+     */
+    public PooledMessage decodeFrame(ByteBuffer body, PooledMessage target) throws IOException {
+        int typeOrdinal = body.get();
+        if (typeOrdinal < 0 || typeOrdinal >= TYPES.length) {
+            throw new IOException("Unknown message type: " + typeOrdinal);
+        }
+        long sequence = body.getLong();
+        long timestamp = body.getLong();
+        String sender = readName(body, body.getShort());
+        int destinationReference = body.getShort();
+        String destination = destinationReference == BinaryMessageEncoder.NO_DESTINATION
+                ? null : readName(body, destinationReference);
+        target.set(sender, destination, TYPES[typeOrdinal], sequence).truncate(0);
+        target.setTimestamp(timestamp);
+        int length = body.getInt();
+        if (length > 0) {
+            if (body.hasArray()) {
+                target.append(body.array(), body.arrayOffset() + body.position(), length);
+                body.position(body.position() + length);
+            } else {
+                byte[] scratch = length <= buffer.length ? buffer : new byte[length];
+                body.get(scratch, 0, length);
+                target.append(scratch, 0, length);
+            }
+        }
+        if (body.hasRemaining()) {
+            readTrace(body);
+        }
+        return target;
+    }
+
+    /**
+     * Forgets every interned name; pairs with {@link BinaryMessageEncoder#reset()}.
+     */
+    public void reset() {
+        senders.clear();
+    }
+
+    private String readName(ByteBuffer body, int reference) throws IOException {
+        if (reference >= 0) {
+            if (reference >= senders.size()) {
+                throw new IOException("Unknown sender id: " + reference);
+            }
+            return senders.get(reference);
+        }
+        int id = -reference - 1;
+        int length = body.getShort() & 0xFFFF;
+        String sender = readUtf8(body, length);
+        if (id == senders.size()) {
+            senders.add(sender);
+        } else if (id < senders.size()) {
+            senders.set(id, sender);
+        } else {
+            throw new IOException("Sender id announced out of order: " + id);
+        }
+        return sender;
+    }
+
+    private HopTrace readTrace(ByteBuffer body) throws IOException {
+        long elidedHops = body.getLong();
+        int summaryCount = readTraceCount(body);
+        Map<String, Long> elidedByPlayer = new LinkedHashMap<>();
+        for (int i = 0; i < summaryCount; i++) {
+            String player = readName(body, body.getShort());
+            elidedByPlayer.put(player, body.getLong());
+        }
+        int hopCount = readTraceCount(body);
+        List<HopTrace.Hop> hops = new ArrayList<>(hopCount);
+        for (int i = 0; i < hopCount; i++) {
+            String player = readName(body, body.getShort());
+            hops.add(new HopTrace.Hop(player, body.getLong()));
+        }
+        try {
+            return HopTrace.of(elidedHops, elidedByPlayer, hops);
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Corrupted hop trace: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Reads a hop trace list count; each entry takes at least a name reference and a long, so a count
+     * the rest of the frame cannot hold is corrupted and rejected before allocating for it.
+     */
+    private static int readTraceCount(ByteBuffer body) throws IOException {
+        int count = body.getInt();
+        if (count < 0 || count > body.remaining() / (Short.BYTES + Long.BYTES)) {
+            throw new IOException("Corrupted hop trace count: " + count);
+        }
+        return count;
+    }
+
+    private String readContent(ByteBuffer body) {
+        int length = body.getInt();
+        return length < 0 ? null : readUtf8(body, length);
+    }
+
+    private String readUtf8(ByteBuffer body, int length) {
+        String value;
+        if (body.hasArray()) {
+            value = new String(body.array(), body.arrayOffset() + body.position(), length, StandardCharsets.UTF_8);
+            body.position(body.position() + length);
+        } else {
+            byte[] scratch = length <= buffer.length ? buffer : new byte[length];
+            body.get(scratch, 0, length);
+            value = new String(scratch, 0, length, StandardCharsets.UTF_8);
+        }
+        return value;
+    }
+}
@@ -0,0 +1,304 @@
+package com.example.player.interfaces.impl.message.codec;
+
+import com.example.player.interfaces.MessageEncoder;
+import com.example.player.model.HopTrace;
+import com.example.player.model.Message;
+import com.example.player.model.PooledMessage;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * BinaryMessageEncoder writes Messages in the compact length-prefixed binary format.
+ * <p>
+ * Frame layout (big-endian):
+ * - int    frame length (number of bytes that follow)
+ * - byte   message type ordinal
+ * - long   sequence number
+ * - long   origin timestamp (System.nanoTime() of the requesting JVM, 0 if not timed)
+ * - short  sender reference: id of an already announced sender, or -(id + 1)
+ * followed by short length + UTF-8 bytes when the sender is announced for the first time
+ * - short  destination reference, encoded like the sender, or Short.MIN_VALUE when there is none
+ * - int    content length in bytes (-1 for null) followed by the UTF-8 content
+ * - hop trace, only when the message carries a non-empty one (it ends the frame, so its absence is
+ * detected by the frame length):
+ * - long   hops elided by compaction
+ * - int    number of per-player elided counts, each a name reference (as the sender) + long count
+ * - int    number of listed hops, each a name reference (as the sender) + long sent number
+ * <p>
+ * Responsibilities:
+ * 1. Intern sender, destination and hop trace names per connection so that each name crosses the wire only once.
+ * 2. Encode UTF-8 content straight into a reused frame buffer, without intermediate byte arrays.
+ * 3. Expose the encoded frame so that non-stream transports (NIO, shared memory) can reuse it.
+ * 4. Encode PooledMessages by copying their UTF-8 content bytes as they are.
+ * 5. Reset the interned names on request, for self-contained frames.
+ * <p>
+ * Thread-safety considerations:
+ * - Not thread-safe; callers must serialise access per connection.
+ */
+public class BinaryMessageEncoder implements MessageEncoder {
+
+    public static final int FRAME_HEADER_BYTES = 4;
+    static final int MAX_SENDERS = Short.MAX_VALUE;
+    static final short NO_DESTINATION = Short.MIN_VALUE;
+    static final int MAX_NAME_BYTES = 0xFFFF;
+    private static final int INITIAL_CAPACITY = 256;
+
+    private final OutputStream out;
+    private final Map<String, Integer> senderIds = new HashMap<>();
+    private byte[] buffer = new byte[INITIAL_CAPACITY];
+    private int position;
+
+    public BinaryMessageEncoder() {
+        this(null);
+    }
+
+    public BinaryMessageEncoder(OutputStream out) {
+        this.out = out;
+    }
+
+    @Override
+    public void encode(Message message) throws IOException {
+        if (out == null) {
+            throw new IllegalStateException("Encoder is not bound to an output stream");
+        }
+        int length = encodeFrame(message);
+        out.write(buffer, 0, length);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        if (out != null) {
+            out.flush();
+        }
+    }
+
+    /**
+     * Encodes the message into the internal frame buffer.
+     *
+     * @return the number of valid bytes in {@link #frameBuffer()}, length prefix included
+     */
+    public int encodeFrame(Message message) {
+        if (message == null) {
+            throw new IllegalArgumentException("Cannot encode null message");
+        }
+        writeHeader(message.getMessageType().ordinal(), message.getSequence(), message.getTimestamp(),
+                message.getSender(), message.getDestination());
+        writeContent(message.getContent());
+        if (!message.getTrace().isEmpty()) {
+            writeTrace(message.getTrace());
+        }
+        writeInt(0, position - FRAME_HEADER_BYTES);
+        return position;
+    }
+
+    /**
+     * Encodes a PooledMessage into the internal frame buffer without decoding its content to a String.
+     *
+     * @return the number of valid bytes in {@link #frameBuffer()}, length prefix included
+     */
+    public int encodeFrame(PooledMessage message) {
+        if (message == null) {
+            throw new IllegalArgumentException("Cannot encode null message");
+        }
+        writeHeader(message.getMessageType().ordinal(), message.getSequence(), message.getTimestamp(),
+                message.getSender(), message.getDestination());
+        int length = message.length();
+        ensureCapacity(4 + length);
+        writeInt(position, length);
+        position += 4;
+        System.arraycopy(message.contentBuffer(), 0, buffer, position, length);
+        position += length;
+        writeInt(0, position - FRAME_HEADER_BYTES);
+        return position;
+    }
+
+    private void writeHeader(int typeOrdinal, long sequence, long timestamp, String sender, String destination) {
+        position = FRAME_HEADER_BYTES;
+        ensureCapacity(17);
+        buffer[position++] = (byte) typeOrdinal;
+        writeLong(sequence);
+        writeLong(timestamp);
+        writeName(sender);
+        writeDestination(destination);
+    }
+
+    public byte[] frameBuffer() {
+        return buffer;
+    }
+
+    /**
+     * Forgets every interned name, so the next frame announces its names again and can be
+     * decoded on its own, e.g. when a journal is replayed from an arbitrary record.
+     */
+    public void reset() {
+        senderIds.clear();
+    }
+
+    private void writeDestination(String destination) {
+        if (destination == null) {
+            ensureCapacity(2);
+            writeShort(NO_DESTINATION);
+            return;
+        }
+        writeName(destination);
+    }
+
+    /**
+     * Writes a sender, destination or hop trace name, announcing it on first use.
+     *
+     * @throws IllegalArgumentException if the name is null or its UTF-8 form does not fit the
+     *                                  unsigned short length of the announcement
+     */
+    private void writeName(String sender) {
+        if (sender == null) {
+            throw new IllegalArgumentException("Sender name cannot be null");
+        }
+        if (sender.length() > MAX_NAME_BYTES / 3 && utf8Length(sender) > MAX_NAME_BYTES) {
+            throw new IllegalArgumentException("Sender name is " + utf8Length(sender)
+                    + " UTF-8 bytes long, more than the " + MAX_NAME_BYTES + " a frame can carry");
+        }
+        Integer id = senderIds.get(sender);
+        if (id != null) {
+            ensureCapacity(2);
+            writeShort(id);
+            return;
+        }
+        int newId = senderIds.size();
+        if (newId >= MAX_SENDERS) {
+            throw new IllegalStateException("Too many distinct senders on one connection");
+        }
+        senderIds.put(sender, newId);
+        ensureCapacity(4);
+        writeShort(-(newId + 1));
+        int lengthPosition = position;
+        position += 2;
+        int start = position;
+        writeUtf8(sender);
+        int length = position - start;
+        buffer[lengthPosition] = (byte) (length >>> 8);
+        buffer[lengthPosition + 1] = (byte) length;
+    }
+
+    private void writeTrace(HopTrace trace) {
+        ensureCapacity(12);
+        writeLong(trace.getElidedHops());
+        writeInt(position, trace.getElidedHopsByPlayer().size());
+        position += 4;
+        for (Map.Entry<String, Long> entry : trace.getElidedHopsByPlayer().entrySet()) {
+            writeName(entry.getKey());
+            ensureCapacity(8);
+            writeLong(entry.getValue());
+        }
+        ensureCapacity(4);
+        writeInt(position, trace.getHopCount());
+        position += 4;
+        for (HopTrace.Hop hop : trace.getHops()) {
+            writeName(hop.getPlayer());
+            ensureCapacity(8);
+            writeLong(hop.getSequence());
+        }
+    }
+
+    private void writeContent(String content) {
+        ensureCapacity(4);
+        if (content == null) {
+            writeInt(position, -1);
+            position += 4;
+            return;
+        }
+        int lengthPosition = position;
+        position += 4;
+        int start = position;
+        writeUtf8(content);
+        writeInt(lengthPosition, position - start);
+    }
+
+    private void writeUtf8(String value) {
+        int length = value.length();
+        ensureCapacity(length * 3);
+        byte[] buf = buffer;
+        int pos = position;
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                buf[pos++] = (byte) c;
+            } else if (c < 0x800) {
+                buf[pos++] = (byte) (0xC0 | (c >> 6));
+                buf[pos++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                if (Character.isHighSurrogate(c) && i + 1 < length
+                        && Character.isLowSurrogate(value.charAt(i + 1))) {
+                    int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                    buf[pos++] = (byte) (0xF0 | (codePoint >> 18));
+                    buf[pos++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                    buf[pos++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                    buf[pos++] = (byte) (0x80 | (codePoint & 0x3F));
+                } else {
+                    buf[pos++] = (byte) '?';
+                }
+            } else {
+                buf[pos++] = (byte) (0xE0 | (c >> 12));
+                buf[pos++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                buf[pos++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+        position = pos;
+    }
+
+    /**
+     * Counts the bytes {@link #writeUtf8(String)} produces for the value, without encoding it.
+     */
+    private static int utf8Length(String value) {
+        int length = value.length();
+        int bytes = 0;
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                bytes++;
+            } else if (c < 0x800) {
+                bytes += 2;
+            } else if (Character.isSurrogate(c)) {
+                if (Character.isHighSurrogate(c) && i + 1 < length
+                        && Character.isLowSurrogate(value.charAt(i + 1))) {
+                    i++;
+                    bytes += 4;
+                } else {
+                    bytes++;
+                }
+            } else {
+                bytes += 3;
+            }
+        }
+        return bytes;
+    }
+
+    private void writeShort(int value) {
+        buffer[position++] = (byte) (value >>> 8);
+        buffer[position++] = (byte) value;
+    }
+
+    private void writeLong(long value) {
+        writeInt(position, (int) (value >>> 32));
+        writeInt(position + 4, (int) value);
+        position += 8;
+    }
+
+    private void writeInt(int at, int value) {
+        buffer[at] = (byte) (value >>> 24);
+        buffer[at + 1] = (byte) (value >>> 16);
+        buffer[at + 2] = (byte) (value >>> 8);
+        buffer[at + 3] = (byte) value;
+    }
+
+    private void ensureCapacity(int additional) {
+        int required = position + additional;
+        if (required > buffer.length) {
+            byte[] grown = new byte[Math.max(required, buffer.length * 2)];
+            System.arraycopy(buffer, 0, grown, 0, position);
+            buffer = grown;
+        }
+    }
+}
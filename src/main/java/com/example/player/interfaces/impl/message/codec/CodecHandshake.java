@@ -0,0 +1,197 @@
+package com.example.player.interfaces.impl.message.codec;
+
+import com.example.player.config.PlayerConfig;
+import com.example.player.config.SocketConfig;
+import com.example.player.enums.CodecType;
+import com.example.player.enums.CompressionType;
+import com.example.player.factory.MessageCodecFactory;
+import com.example.player.interfaces.MessageCodec;
+import com.example.player.logger.Logger;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PushbackInputStream;
+import java.net.Socket;
+
+/**
+ * CodecHandshake lets the two ends of a socket agree on the wire format before the first message.
+ * <p>
+ * Wire layout (big-endian), sent by the client and echoed back by the server with the agreed values:
+ * - int    MAGIC
+ * - byte   VERSION
+ * - byte   CodecType ordinal
+ * - byte   CompressionType ordinal
+ * - int    compression threshold
+ * - int    chunk size
+ * <p>
+ * Responsibilities:
+ * 1. On the client, offer the configured codec and compression, but only when compression is
+ * enabled; an uncompressed client sends nothing, so it keeps working against older servers.
+ * A ResumableSession client always announces its codec, so the server never has to wait for the
+ * first message to tell.
+ * 2. On the server, peek at the first bytes: without the MAGIC the peer is a legacy client and the
+ * server's configured codec is used, otherwise the offer is accepted and answered.
+ * 3. Agree on the smaller of both chunk sizes, so neither side has to buffer more than it allows.
+ * 4. Build the agreed MessageCodec for both directions of the connection.
+ */
+public final class CodecHandshake {
+
+    public static final int MAGIC = 0x504C4159;
+    static final byte VERSION = 1;
+    private static final int REPLY_TIMEOUT_MILLIS = 5000;
+
+    private CodecHandshake() {
+    }
+
+    /**
+     * Client side: offers the configured codec and compression and returns the codec the server agreed on.
+     */
+    public static MessageCodec offer(Socket socket, SocketConfig config) throws IOException {
+        return offer(socket, config, false);
+    }
+
+    /**
+     * Client side: like {@link #offer(Socket, SocketConfig)}, but with announce = true the offer is
+     * sent even without compression.
+     */
+    public static MessageCodec offer(Socket socket, SocketConfig config, boolean announce) throws IOException {
+        if (socket == null || config == null) {
+            throw new IllegalArgumentException("Socket and config cannot be null");
+        }
+        CodecType codecType = PlayerConfig.codecType();
+        if (config.getCompression() == CompressionType.NONE && !announce) {
+            return MessageCodecFactory.createCodec(codecType);
+        }
+        DataOutputStream out = new DataOutputStream(socket.getOutputStream());
+        writeSettings(out, codecType, config.getCompression(), config.getCompressionThreshold(), config.getChunkBytes());
+        out.flush();
+
+        int previousTimeout = socket.getSoTimeout();
+        socket.setSoTimeout(REPLY_TIMEOUT_MILLIS);
+        try {
+            DataInputStream in = new DataInputStream(socket.getInputStream());
+            if (in.readInt() != MAGIC) {
+                throw new IOException("Peer did not answer the codec handshake");
+            }
+            Agreement agreement = readSettings(in);
+            Logger.info("CodecHandshake", "Agreed on {} with {}", agreement.codecType, agreement.describe());
+            return agreement.codec();
+        } finally {
+            socket.setSoTimeout(previousTimeout);
+        }
+    }
+
+    /**
+     * Server side: answers a client's offer, or falls back to the configured codec for a client that
+     * does not send one. The returned stream must be used for all further reads from the socket.
+     */
+    public static Result accept(Socket socket, SocketConfig config) throws IOException {
+        if (socket == null || config == null) {
+            throw new IllegalArgumentException("Socket and config cannot be null");
+        }
+        PushbackInputStream in = new PushbackInputStream(socket.getInputStream(), Integer.BYTES);
+        byte[] head = new byte[Integer.BYTES];
+        int read = 0;
+        while (read < head.length) {
+            int n = in.read(head, read, head.length - read);
+            if (n < 0) {
+                break;
+            }
+            read += n;
+        }
+        int magic = ((head[0] & 0xFF) << 24) | ((head[1] & 0xFF) << 16) | ((head[2] & 0xFF) << 8) | (head[3] & 0xFF);
+        if (read < head.length || magic != MAGIC) {
+            in.unread(head, 0, read);
+            return new Result(MessageCodecFactory.createConfiguredCodec(), in);
+        }
+
+        DataInputStream data = new DataInputStream(in);
+        Agreement offered = readSettings(data);
+        CompressionType compression = offered.codecType == CodecType.BINARY ? offered.compression : CompressionType.NONE;
+        Agreement agreed = new Agreement(offered.codecType, compression, offered.threshold,
+                Math.min(offered.chunkBytes, config.getChunkBytes()));
+
+        DataOutputStream out = new DataOutputStream(socket.getOutputStream());
+        writeSettings(out, agreed.codecType, agreed.compression, agreed.threshold, agreed.chunkBytes);
+        out.flush();
+        Logger.info("CodecHandshake", "Accepted {} with {}", agreed.codecType, agreed.describe());
+        return new Result(agreed.codec(), in);
+    }
+
+    private static void writeSettings(DataOutputStream out, CodecType codecType, CompressionType compression,
+                                      int threshold, int chunkBytes) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeByte(VERSION);
+        out.writeByte(codecType.ordinal());
+        out.writeByte(compression.ordinal());
+        out.writeInt(threshold);
+        out.writeInt(chunkBytes);
+    }
+
+    private static Agreement readSettings(DataInputStream in) throws IOException {
+        int version = in.readUnsignedByte();
+        if (version != VERSION) {
+            throw new IOException("Unsupported codec handshake version: " + version);
+        }
+        int codec = in.readUnsignedByte();
+        int compression = in.readUnsignedByte();
+        int threshold = in.readInt();
+        int chunkBytes = in.readInt();
+        if (codec >= CodecType.values().length || compression >= CompressionType.values().length
+                || threshold < 0 || chunkBytes <= 0) {
+            throw new IOException("Invalid codec handshake settings");
+        }
+        return new Agreement(CodecType.values()[codec], CompressionType.values()[compression], threshold, chunkBytes);
+    }
+
+    /**
+     * Codec agreed by the server and the stream that still holds any bytes read while negotiating.
+     */
+    public static final class Result {
+
+        private final MessageCodec codec;
+        private final InputStream inputStream;
+
+        private Result(MessageCodec codec, InputStream inputStream) {
+            this.codec = codec;
+            this.inputStream = inputStream;
+        }
+
+        public MessageCodec getCodec() {
+            return codec;
+        }
+
+        public InputStream getInputStream() {
+            return inputStream;
+        }
+    }
+
+    private static final class Agreement {
+
+        private final CodecType codecType;
+        private final CompressionType compression;
+        private final int threshold;
+        private final int chunkBytes;
+
+        private Agreement(CodecType codecType, CompressionType compression, int threshold, int chunkBytes) {
+            this.codecType = codecType;
+            this.compression = compression;
+            this.threshold = threshold;
+            this.chunkBytes = chunkBytes;
+        }
+
+        private MessageCodec codec() {
+            if (compression == CompressionType.DEFLATE) {
+                return new CompressingMessageCodec(threshold, chunkBytes);
+            }
+            return MessageCodecFactory.createCodec(codecType);
+        }
+
+        private String describe() {
+            return compression == CompressionType.NONE ? "no compression"
+                    : compression + " above " + threshold + " bytes in " + chunkBytes + "-byte chunks";
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.player.interfaces.impl.message.codec;
+
+import com.example.player.interfaces.MessageDecoder;
+import com.example.player.model.Message;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * CompressingMessageDecoder reads messages written by {@link CompressingMessageEncoder}.
+ * <p>
+ * Responsibilities:
+ * 1. Read the chunks of one message and reassemble its binary frame body in a reused buffer,
+ * sized once from the body length announced in the first chunk; a body longer than
+ * player.maxFrameBytes is rejected before the buffer grows.
+ * 2. Inflate compressed chunks as they arrive, so only one chunk of compressed data is buffered.
+ * 3. Decode the reassembled body with a BinaryMessageDecoder.
+ * <p>
+ * Thread-safety considerations:
+ * - Not thread-safe; a decoder belongs to exactly one connection and one reading thread.
+ */
+public class CompressingMessageDecoder implements MessageDecoder {
+
+    private static final int INITIAL_CAPACITY = 256;
+
+    private final DataInputStream in;
+    private final BinaryMessageDecoder frames = new BinaryMessageDecoder();
+    private final Inflater inflater = new Inflater();
+    private final int maxChunkBytes;
+    private final byte[] overflow = new byte[1];
+    private byte[] chunk;
+    private byte[] body = new byte[INITIAL_CAPACITY];
+
+    public CompressingMessageDecoder(InputStream in, int chunkBytes) {
+        if (in == null) {
+            throw new IllegalArgumentException("Input stream cannot be null");
+        }
+        this.in = new DataInputStream(in);
+        this.maxChunkBytes = chunkBytes;
+        this.chunk = new byte[Math.min(chunkBytes, INITIAL_CAPACITY)];
+    }
+
+    @Override
+    public Message decode() throws IOException {
+        int bodyLength = -1;
+        int position = 0;
+        boolean more = true;
+        while (more) {
+            int length = in.readInt();
+            byte flags = in.readByte();
+            int dataLength = length - 1;
+            if (bodyLength < 0) {
+                bodyLength = in.readInt();
+                dataLength -= 4;
+                frames.checkFrameLength(bodyLength);
+                if (bodyLength > body.length) {
+                    body = new byte[Math.max(bodyLength, body.length * 2)];
+                }
+            }
+            if (dataLength < 0 || dataLength > maxChunkBytes) {
+                throw new IOException("Corrupted chunk length: " + length);
+            }
+            if ((flags & CompressingMessageEncoder.COMPRESSED) != 0) {
+                position = inflateChunk(dataLength, position, bodyLength);
+            } else {
+                if (position + dataLength > bodyLength) {
+                    throw new IOException("Chunk exceeds announced body length " + bodyLength);
+                }
+                in.readFully(body, position, dataLength);
+                position += dataLength;
+            }
+            more = (flags & CompressingMessageEncoder.MORE) != 0;
+        }
+        inflater.reset();
+        if (position != bodyLength) {
+            throw new IOException("Expected " + bodyLength + " body bytes, got " + position);
+        }
+        return frames.decodeFrame(ByteBuffer.wrap(body, 0, bodyLength));
+    }
+
+    @Override
+    public int available() throws IOException {
+        return in.available();
+    }
+
+    private int inflateChunk(int dataLength, int position, int bodyLength) throws IOException {
+        if (dataLength > chunk.length) {
+            chunk = new byte[Math.min(maxChunkBytes, Math.max(dataLength, chunk.length * 2))];
+        }
+        in.readFully(chunk, 0, dataLength);
+        inflater.setInput(chunk, 0, dataLength);
+        try {
+            while (!inflater.needsInput() && !inflater.finished()) {
+                if (position == bodyLength) {
+                    // Only the end of the deflate stream may remain; any further output is corruption
+                    if (inflater.inflate(overflow) > 0 || (!inflater.needsInput() && !inflater.finished())) {
+                        throw new IOException("Compressed chunk inflates beyond body length " + bodyLength);
+                    }
+                    break;
+                }
+                int inflated = inflater.inflate(body, position, bodyLength - position);
+                if (inflated == 0 && inflater.needsDictionary()) {
+                    throw new IOException("Compressed chunk needs a preset dictionary");
+                }
+                position += inflated;
+            }
+        } catch (DataFormatException e) {
+            throw new IOException("Corrupted compressed chunk: " + e.getMessage(), e);
+        }
+        return position;
+    }
+}
@@ -0,0 +1,128 @@
+package com.example.player.interfaces.impl.message.codec;
+
+import com.example.player.interfaces.MessageEncoder;
+import com.example.player.model.Message;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.Deflater;
+
+/**
+ * CompressingMessageEncoder writes binary message frames, deflating large ones and splitting them
+ * into bounded chunks.
+ * <p>
+ * Wire layout (big-endian), one or more chunks per message:
+ * - int    chunk length (number of bytes that follow)
+ * - byte   flags: {@link #COMPRESSED} if the data is deflated, {@link #MORE} if further chunks follow
+ * - int    body length of the uncompressed binary frame (first chunk of a message only)
+ * - data   raw or deflated bytes of the binary frame body, at most chunkBytes
+ * <p>
+ * Responsibilities:
+ * 1. Encode the message with a BinaryMessageEncoder; names are interned per connection as usual.
+ * 2. Send bodies below the compression threshold as a single raw chunk, so small messages pay
+ * neither the CPU of Deflater nor its framing overhead.
+ * 3. Deflate larger bodies straight into a chunk-sized buffer and write every chunk as soon as it is
+ * full, so no full-size compressed copy of the message is ever held.
+ * 4. Write each chunk, header included, with a single write to the underlying stream, so
+ * buffering senders see every byte as soon as it is encoded.
+ * <p>
+ * Thread-safety considerations:
+ * - Not thread-safe; callers must serialise access per connection.
+ */
+public class CompressingMessageEncoder implements MessageEncoder {
+
+    static final byte COMPRESSED = 1;
+    static final byte MORE = 2;
+    private static final int MAX_HEADER_BYTES = 9;
+    private static final int INITIAL_CHUNK_CAPACITY = 8192;
+
+    private final OutputStream out;
+    private final BinaryMessageEncoder frames = new BinaryMessageEncoder();
+    private final Deflater deflater;
+    private final int threshold;
+    private final int chunkBytes;
+    private byte[] chunk;
+
+    public CompressingMessageEncoder(OutputStream out, int threshold, int chunkBytes, int level) {
+        if (out == null) {
+            throw new IllegalArgumentException("Output stream cannot be null");
+        }
+        this.out = out;
+        this.deflater = new Deflater(level);
+        this.threshold = threshold;
+        this.chunkBytes = chunkBytes;
+        this.chunk = new byte[MAX_HEADER_BYTES + Math.min(chunkBytes, INITIAL_CHUNK_CAPACITY)];
+    }
+
+    @Override
+    public void encode(Message message) throws IOException {
+        int frameLength = frames.encodeFrame(message);
+        int bodyLength = frameLength - BinaryMessageEncoder.FRAME_HEADER_BYTES;
+        byte[] body = frames.frameBuffer();
+        if (bodyLength < threshold) {
+            writeRaw(body, BinaryMessageEncoder.FRAME_HEADER_BYTES, bodyLength);
+            return;
+        }
+        ensureChunkCapacity(chunkBytes);
+        deflater.setInput(body, BinaryMessageEncoder.FRAME_HEADER_BYTES, bodyLength);
+        deflater.finish();
+        boolean first = true;
+        while (!deflater.finished()) {
+            int length = deflater.deflate(chunk, MAX_HEADER_BYTES, chunkBytes);
+            if (length == 0 && !deflater.finished()) {
+                continue;
+            }
+            byte flags = deflater.finished() ? COMPRESSED : (byte) (COMPRESSED | MORE);
+            writeChunk(flags, first, bodyLength, length);
+            first = false;
+        }
+        deflater.reset();
+    }
+
+    @Override
+    public void flush() throws IOException {
+        out.flush();
+    }
+
+    private void writeRaw(byte[] body, int offset, int bodyLength) throws IOException {
+        ensureChunkCapacity(Math.min(chunkBytes, bodyLength));
+        int written = 0;
+        boolean first = true;
+        do {
+            int length = Math.min(chunkBytes, bodyLength - written);
+            System.arraycopy(body, offset + written, chunk, MAX_HEADER_BYTES, length);
+            byte flags = written + length < bodyLength ? MORE : 0;
+            writeChunk(flags, first, bodyLength, length);
+            written += length;
+            first = false;
+        } while (written < bodyLength);
+    }
+
+    /**
+     * Writes the chunk whose data starts at MAX_HEADER_BYTES, preceded by its header.
+     */
+    private void writeChunk(byte flags, boolean first, int bodyLength, int length) throws IOException {
+        int start = MAX_HEADER_BYTES;
+        if (first) {
+            start -= 4;
+            writeInt(start, bodyLength);
+        }
+        chunk[--start] = flags;
+        start -= 4;
+        writeInt(start, MAX_HEADER_BYTES - start - 4 + length);
+        out.write(chunk, start, MAX_HEADER_BYTES - start + length);
+    }
+
+    private void writeInt(int at, int value) {
+        chunk[at] = (byte) (value >>> 24);
+        chunk[at + 1] = (byte) (value >>> 16);
+        chunk[at + 2] = (byte) (value >>> 8);
+        chunk[at + 3] = (byte) value;
+    }
+
+    private void ensureChunkCapacity(int dataBytes) {
+        if (MAX_HEADER_BYTES + dataBytes > chunk.length) {
+            chunk = new byte[MAX_HEADER_BYTES + dataBytes];
+        }
+    }
+}
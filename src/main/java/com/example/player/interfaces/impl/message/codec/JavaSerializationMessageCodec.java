@@ -0,0 +1,56 @@
+package com.example.player.interfaces.impl.message.codec;
+
+import com.example.player.interfaces.MessageCodec;
+import com.example.player.interfaces.MessageDecoder;
+import com.example.player.interfaces.MessageEncoder;
+import com.example.player.model.Message;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+
+/**
+ * JavaSerializationMessageCodec keeps the original ObjectOutputStream/ObjectInputStream
+ * wire format available as a compatibility option.
+ * <p>
+ * Responsibilities:
+ * 1. Serialize Message objects with writeObject and deserialize them with readObject.
+ * 2. Translate an unexpected payload class into an IOException.
+ * <p>
+ * Design notes:
+ * - ObjectInputStream reads the stream header on construction, so the peer's encoder
+ * must be created before this decoder (as both socket entry points already do).
+ * - Prefer BinaryMessageCodec; this codec pays for class descriptors and reflection on every message.
+ */
+public class JavaSerializationMessageCodec implements MessageCodec {
+
+    @Override
+    public MessageEncoder newEncoder(OutputStream out) throws IOException {
+        ObjectOutputStream objectOut = new ObjectOutputStream(out);
+        return new MessageEncoder() {
+            @Override
+            public void encode(Message message) throws IOException {
+                objectOut.writeObject(message);
+            }
+
+            @Override
+            public void flush() throws IOException {
+                objectOut.flush();
+            }
+        };
+    }
+
+    @Override
+    public MessageDecoder newDecoder(InputStream in) throws IOException {
+        ObjectInputStream objectIn = new ObjectInputStream(in);
+        return () -> {
+            try {
+                return (Message) objectIn.readObject();
+            } catch (ClassNotFoundException | ClassCastException e) {
+                throw new IOException("Unexpected payload: " + e.getMessage(), e);
+            }
+        };
+    }
+}
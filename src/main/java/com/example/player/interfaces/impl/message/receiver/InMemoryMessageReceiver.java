@@ -1,9 +1,15 @@
 package com.example.player.interfaces.impl.message.receiver;
 
+import com.example.player.enums.WaitStrategyType;
+import com.example.player.factory.WaitStrategyFactory;
+import com.example.player.interfaces.WaitStrategy;
 import com.example.player.logger.Logger;
+import com.example.player.metrics.MetricsRegistry;
+import com.example.player.metrics.TransportMetrics;
 import com.example.player.model.Message;
 import com.example.player.interfaces.MessageReceiver;
 
+import java.util.List;
 import java.util.concurrent.BlockingQueue;
 
 /**
@@ -12,7 +18,12 @@ import java.util.concurrent.BlockingQueue;
  * Responsibilities:
  * 1. Receive messages asynchronously:
  * - Provide a method to fetch messages from a BlockingQueue.
- * - Block the caller until a message becomes available if the queue is empty.
+ * - Wait until a message becomes available if the queue is empty: block in take() (BLOCKING, the
+ * default) or poll under a WaitStrategy (busy-spin, spin-then-yield, spin-then-park), which saves
+ * the park/unpark hand-off on every hop at the price of CPU while idle. The spin checks isEmpty()
+ * before polling, so idle spins do not take the queue's lock (lock-free for MultiLaneInbox and
+ * LinkedBlockingQueue) and leave it to the producers.
+ * - Receive a batch with one blocking take and one drainTo of whatever else is queued.
  * <p>
  * 2. Decouple message transport:
  * - Abstract the message source from the rest of the system via the MessageReceiver interface.
@@ -24,20 +35,65 @@ import java.util.concurrent.BlockingQueue;
 public class InMemoryMessageReceiver implements MessageReceiver {
 
     private final BlockingQueue<Message> inbox;
+    private final TransportMetrics metrics = MetricsRegistry.get().transport("in-memory");
+    private final WaitStrategy waitStrategy;
 
     public InMemoryMessageReceiver(BlockingQueue<Message> inbox) {
+        this(inbox, WaitStrategyType.BLOCKING);
+    }
+
+    public InMemoryMessageReceiver(BlockingQueue<Message> inbox, WaitStrategyType waitType) {
 
         if (inbox == null) {
             throw new IllegalArgumentException("Inbox cannot be null");
         }
+        if (waitType == null) {
+            throw new IllegalArgumentException("Wait strategy type cannot be null");
+        }
         this.inbox = inbox;
+        this.waitStrategy = waitType == WaitStrategyType.BLOCKING ? null : WaitStrategyFactory.createWaitStrategy(waitType);
     }
 
     @Override
     public Message receiveMessage() throws InterruptedException {
-        Message msg = inbox.take();
-        Logger.log("Receiver", "Received message from inbox: " + msg);
+        Message msg = waitStrategy == null ? inbox.take() : pollUntilAvailable();
+        metrics.messageReceived();
+        Logger.debug("Receiver", "Received message from inbox: {}", msg);
+        return msg;
+    }
+
+    @Override
+    public int receiveMessages(List<Message> batch, int maxMessages) throws InterruptedException {
+        if (batch == null || maxMessages <= 0) {
+            throw new IllegalArgumentException("Batch cannot be null and max messages must be positive");
+        }
+        batch.add(waitStrategy == null ? inbox.take() : pollUntilAvailable());
+        int received = 1 + inbox.drainTo(batch, maxMessages - 1);
+        for (int i = 0; i < received; i++) {
+            metrics.messageReceived();
+        }
+        Logger.debug("Receiver", "Received {} messages from inbox", received);
+        return received;
+    }
+
+    private Message pollUntilAvailable() throws InterruptedException {
+        int attempt = 0;
+        Message msg;
+        while (inbox.isEmpty() || (msg = inbox.poll()) == null) {
+            waitStrategy.idle(attempt);
+            if (attempt < Integer.MAX_VALUE) attempt++;
+        }
         return msg;
     }
+
+    @Override
+    public boolean hasPendingMessages() {
+        return !inbox.isEmpty();
+    }
+
+    @Override
+    public int getQueueDepth() {
+        return inbox.size();
+    }
 }
 
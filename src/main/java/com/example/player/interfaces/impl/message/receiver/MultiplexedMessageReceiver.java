@@ -0,0 +1,43 @@
+package com.example.player.interfaces.impl.message.receiver;
+
+import com.example.player.interfaces.MessageReceiver;
+import com.example.player.logger.Logger;
+import com.example.player.model.Message;
+import com.example.player.mux.LogicalChannel;
+
+/**
+ * MultiplexedMessageReceiver receives a Player's messages from one LogicalChannel of a shared connection.
+ * <p>
+ * Responsibilities:
+ * 1. Take messages the connection's reader delivered to the channel; taking a message eventually
+ * returns its credit to the peer.
+ * 2. Report pending messages and queue depth of the channel.
+ */
+public class MultiplexedMessageReceiver implements MessageReceiver {
+
+    private final LogicalChannel channel;
+
+    public MultiplexedMessageReceiver(LogicalChannel channel) {
+        if (channel == null) {
+            throw new IllegalArgumentException("Channel cannot be null");
+        }
+        this.channel = channel;
+    }
+
+    @Override
+    public Message receiveMessage() throws InterruptedException {
+        Message message = channel.receive();
+        Logger.debug("MultiplexedReceiver", "Received message on channel {}: {}", channel.getId(), message);
+        return message;
+    }
+
+    @Override
+    public boolean hasPendingMessages() {
+        return channel.hasPendingMessages();
+    }
+
+    @Override
+    public int getQueueDepth() {
+        return channel.getQueueDepth();
+    }
+}
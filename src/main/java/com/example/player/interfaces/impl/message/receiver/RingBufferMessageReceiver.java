@@ -0,0 +1,83 @@
+package com.example.player.interfaces.impl.message.receiver;
+
+import com.example.player.interfaces.MessageReceiver;
+import com.example.player.interfaces.WaitStrategy;
+import com.example.player.logger.Logger;
+import com.example.player.metrics.MetricsRegistry;
+import com.example.player.metrics.TransportMetrics;
+import com.example.player.model.Message;
+import com.example.player.queue.SpscRingBuffer;
+
+import java.util.List;
+
+/**
+ * RingBufferMessageReceiver receives messages for a player from a lock-free SPSC ring buffer.
+ * <p>
+ * Responsibilities:
+ * 1. Receive messages without locks:
+ * - Poll the player's SpscRingBuffer.
+ * - Wait according to the configured WaitStrategy while the ring is empty.
+ * - Receive a batch by polling until the ring is empty or the batch is full.
+ * <p>
+ * 2. Decouple message transport:
+ * - Implement the MessageReceiver interface so it can replace InMemoryMessageReceiver unchanged.
+ * <p>
+ * 3. Thread-safety considerations:
+ * - The ring is single-consumer; only the player's own PlayerThread may receive from it.
+ */
+public class RingBufferMessageReceiver implements MessageReceiver {
+
+    private final SpscRingBuffer<Message> inbox;
+    private final TransportMetrics metrics = MetricsRegistry.get().transport("ring-buffer");
+    private final WaitStrategy waitStrategy;
+
+    public RingBufferMessageReceiver(SpscRingBuffer<Message> inbox, WaitStrategy waitStrategy) {
+        if (inbox == null) {
+            throw new IllegalArgumentException("Inbox cannot be null");
+        }
+        if (waitStrategy == null) {
+            throw new IllegalArgumentException("Wait strategy cannot be null");
+        }
+        this.inbox = inbox;
+        this.waitStrategy = waitStrategy;
+    }
+
+    @Override
+    public Message receiveMessage() throws InterruptedException {
+        int attempt = 0;
+        Message msg;
+        while ((msg = inbox.poll()) == null) {
+            waitStrategy.idle(attempt);
+            if (attempt < Integer.MAX_VALUE) attempt++;
+        }
+        metrics.messageReceived();
+        Logger.debug("Receiver", "Received message from ring: {}", msg);
+        return msg;
+    }
+
+    @Override
+    public int receiveMessages(List<Message> batch, int maxMessages) throws InterruptedException {
+        if (batch == null || maxMessages <= 0) {
+            throw new IllegalArgumentException("Batch cannot be null and max messages must be positive");
+        }
+        batch.add(receiveMessage());
+        int received = 1;
+        Message msg;
+        while (received < maxMessages && (msg = inbox.poll()) != null) {
+            batch.add(msg);
+            metrics.messageReceived();
+            received++;
+        }
+        return received;
+    }
+
+    @Override
+    public boolean hasPendingMessages() {
+        return !inbox.isEmpty();
+    }
+
+    @Override
+    public int getQueueDepth() {
+        return inbox.size();
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.player.interfaces.impl.message.receiver;
+
+import com.example.player.interfaces.MessageReceiver;
+import com.example.player.interfaces.WaitStrategy;
+import com.example.player.interfaces.impl.message.codec.BinaryMessageDecoder;
+import com.example.player.interfaces.impl.message.codec.BinaryMessageEncoder;
+import com.example.player.logger.Logger;
+import com.example.player.metrics.MetricsRegistry;
+import com.example.player.metrics.TransportMetrics;
+import com.example.player.model.Message;
+import com.example.player.shm.MappedFrameRing;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * SharedMemoryMessageReceiver receives messages from a player in another process through a
+ * memory-mapped MappedFrameRing.
+ * <p>
+ * Responsibilities:
+ * 1. Poll the ring and decode each frame with the binary codec directly from the mapping.
+ * 2. Wait according to the configured WaitStrategy while the ring is empty.
+ * 3. Translate corrupted frames into InterruptedException for consistent handling.
+ * <p>
+ * Thread-safety considerations:
+ * - The ring is single-consumer; only the player's own PlayerThread may receive from it.
+ */
+public class SharedMemoryMessageReceiver implements MessageReceiver {
+
+    private final MappedFrameRing ring;
+    private final WaitStrategy waitStrategy;
+    private final BinaryMessageDecoder decoder = new BinaryMessageDecoder();
+    private final TransportMetrics metrics = MetricsRegistry.get().transport("shared-memory");
+
+    public SharedMemoryMessageReceiver(MappedFrameRing ring, WaitStrategy waitStrategy) {
+        if (ring == null) {
+            throw new IllegalArgumentException("Ring cannot be null");
+        }
+        if (waitStrategy == null) {
+            throw new IllegalArgumentException("Wait strategy cannot be null");
+        }
+        this.ring = ring;
+        this.waitStrategy = waitStrategy;
+    }
+
+    @Override
+    public Message receiveMessage() throws InterruptedException {
+        int attempt = 0;
+        ByteBuffer frame;
+        while ((frame = ring.peek()) == null) {
+            waitStrategy.idle(attempt);
+            if (attempt < Integer.MAX_VALUE) attempt++;
+        }
+        try {
+            metrics.bytesReceivedCounter().add(frame.remaining() + BinaryMessageEncoder.FRAME_HEADER_BYTES);
+            Message msg = decoder.decodeFrame(frame);
+            metrics.messageReceived();
+            Logger.debug("Receiver", "Received message from shared memory: {}", msg);
+            return msg;
+        } catch (IOException | RuntimeException e) {
+            throw new InterruptedException("Shared memory receive failed: " + e.getMessage());
+        } finally {
+            ring.release();
+        }
+    }
+
+    @Override
+    public boolean hasPendingMessages() {
+        return !ring.isEmpty();
+    }
+}
@@ -1,11 +1,17 @@
 package com.example.player.interfaces.impl.message.receiver;
 
+import com.example.player.factory.MessageCodecFactory;
+import com.example.player.interfaces.MessageCodec;
+import com.example.player.interfaces.MessageDecoder;
 import com.example.player.interfaces.MessageReceiver;
+import com.example.player.io.CountingInputStream;
+import com.example.player.metrics.MetricsRegistry;
+import com.example.player.metrics.TransportMetrics;
 import com.example.player.model.Message;
 
 import java.io.EOFException;
 import java.io.IOException;
-import java.io.ObjectInputStream;
+import java.io.InputStream;
 import java.net.Socket;
 import java.net.SocketException;
 
@@ -15,41 +21,72 @@ import java.net.SocketException;
  * <p>
  * Responsibilities:
  * 1. Receive messages over the network:
- * - Deserialize Message objects using ObjectInputStream.
+ * - Decode Message objects with the configured MessageCodec (binary by default).
  * - Block until a message is available.
  * <p>
  * 2. Handle network errors:
- * - Catch IOExceptions, ClassNotFoundException, and other exceptions during reception.
+ * - Catch IOExceptions and other exceptions during reception.
  * - Translate failures into InterruptedException for consistent handling.
  * <p>
  * 3. Decouple message transport:
  * - Implement the MessageReceiver interface to allow seamless replacement of transport mechanisms.
- * - Hide socket-specific details from the rest of the system.
+ * - Hide socket-specific details and the wire format from the rest of the system.
  * <p>
  * 4. Thread-safety considerations:
- * - ObjectInputStream is used in a single-threaded context per receiver to avoid concurrency issues.
+ * - The decoder is used in a single-threaded context per receiver to avoid concurrency issues.
  */
 public class SocketMessageReceiver implements MessageReceiver {
 
-    private final ObjectInputStream inputStream;
+    private final MessageDecoder decoder;
+    private final TransportMetrics metrics = MetricsRegistry.get().transport("socket");
 
     public SocketMessageReceiver(Socket socket) throws IOException {
+        this(socket, MessageCodecFactory.createConfiguredCodec());
+    }
+
+    public SocketMessageReceiver(Socket socket, MessageCodec codec) throws IOException {
 
         if (socket == null) {
             throw new IllegalArgumentException("Socket cannot be null");
         }
-        this.inputStream = new ObjectInputStream(socket.getInputStream());
+        if (codec == null) {
+            throw new IllegalArgumentException("Codec cannot be null");
+        }
+        this.decoder = codec.newDecoder(new CountingInputStream(socket.getInputStream(), metrics.bytesReceivedCounter()));
+    }
+
+    /**
+     * Receives from a socket's input stream that has already been read from, e.g. by the CodecHandshake.
+     */
+    public SocketMessageReceiver(InputStream in, MessageCodec codec) throws IOException {
+        if (in == null) {
+            throw new IllegalArgumentException("Input stream cannot be null");
+        }
+        if (codec == null) {
+            throw new IllegalArgumentException("Codec cannot be null");
+        }
+        this.decoder = codec.newDecoder(new CountingInputStream(in, metrics.bytesReceivedCounter()));
     }
 
     @Override
     public Message receiveMessage() throws InterruptedException {
         try {
-            return (Message) inputStream.readObject();
+            Message message = decoder.decode();
+            metrics.messageReceived();
+            return message;
         } catch (EOFException | SocketException e) {
             throw new InterruptedException("Socket closed: " + e.getMessage());
-        } catch (IOException | ClassNotFoundException e) {
+        } catch (IOException e) {
             throw new InterruptedException("Socket receive failed: " + e.getMessage());
         }
     }
-}
 
+    @Override
+    public boolean hasPendingMessages() {
+        try {
+            return decoder.available() > 0;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+}
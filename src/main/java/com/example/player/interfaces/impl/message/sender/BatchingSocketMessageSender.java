@@ -0,0 +1,164 @@
+package com.example.player.interfaces.impl.message.sender;
+
+import com.example.player.interfaces.MessageCodec;
+import com.example.player.interfaces.MessageEncoder;
+import com.example.player.interfaces.MessageSender;
+import com.example.player.io.CountingOutputStream;
+import com.example.player.logger.Logger;
+import com.example.player.metrics.MetricsRegistry;
+import com.example.player.metrics.TransportMetrics;
+import com.example.player.model.Message;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.net.Socket;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * BatchingSocketMessageSender coalesces several messages into one socket write.
+ * <p>
+ * Responsibilities:
+ * 1. Buffer encoded messages instead of flushing after every message.
+ * <p>
+ * 2. Flush the batch when any of these happens:
+ * - The buffered bytes reach the configured batch size.
+ * - The oldest buffered message has waited longer than the linger time.
+ * - The owner calls {@link #flush()}, e.g. because its inbox is empty.
+ * <p>
+ * 3. Handle network errors:
+ * - Translate IOExceptions into InterruptedException, like SocketMessageSender.
+ * - A failed background flush is reported on the next send or flush.
+ * <p>
+ * 4. Thread-safety considerations:
+ * - Sends, flushes and the linger timer are serialised with a ReentrantLock.
+ * - The linger timer only tries the lock, so it never delays a sending thread.
+ * <p>
+ * Design notes:
+ * - The linger timer is one daemon thread shared by every batching sender in the JVM; each sender's
+ * task on it runs until close(), which the PlayerThread calls when it exits.
+ * - With TCP_NODELAY enabled the batch boundaries decided here are the segment boundaries
+ * on the wire; Nagle's algorithm is no longer needed to coalesce small frames.
+ */
+public class BatchingSocketMessageSender implements MessageSender {
+
+    private static final ScheduledExecutorService LINGER_TIMER = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "Socket-Linger");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final MessageEncoder encoder;
+    private final CountingOutputStream pending;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final TransportMetrics metrics = MetricsRegistry.get().transport("socket");
+    private final int batchBytes;
+    private final long lingerNanos;
+    private final ScheduledFuture<?> lingerTask;
+    private long flushedBytes;
+    private long firstPendingNanos;
+    private IOException backgroundFailure;
+
+    public BatchingSocketMessageSender(Socket socket, MessageCodec codec, int batchBytes, long lingerMicros) throws Exception {
+        if (socket == null) {
+            throw new IllegalArgumentException("Socket cannot be null");
+        }
+        if (codec == null) {
+            throw new IllegalArgumentException("Codec cannot be null");
+        }
+        if (batchBytes <= 0 || lingerMicros <= 0) {
+            throw new IllegalArgumentException("Batch size and linger time must be positive");
+        }
+        this.batchBytes = batchBytes;
+        this.lingerNanos = TimeUnit.MICROSECONDS.toNanos(lingerMicros);
+        this.pending = new CountingOutputStream(new BufferedOutputStream(
+                new CountingOutputStream(socket.getOutputStream(), metrics.bytesSentCounter()), batchBytes));
+        this.encoder = codec.newEncoder(pending);
+        long period = Math.max(lingerMicros / 2, 50);
+        this.lingerTask = LINGER_TIMER.scheduleAtFixedRate(this::flushIfLingered, period, period, TimeUnit.MICROSECONDS);
+    }
+
+    @Override
+    public void sendMessage(Message message) throws InterruptedException {
+        if (message == null) {
+            throw new IllegalArgumentException("Cannot send null message");
+        }
+        lock.lock();
+        try {
+            throwBackgroundFailure();
+            if (pendingBytes() == 0) {
+                firstPendingNanos = System.nanoTime();
+            }
+            encoder.encode(message);
+            metrics.messageSent();
+            Logger.debug("BatchingSocketMessageSender", "Buffered message: {}", message);
+            if (pendingBytes() >= batchBytes) {
+                flushLocked();
+            }
+        } catch (IOException e) {
+            throw new InterruptedException("Socket send failed: " + e.getMessage());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void flush() throws InterruptedException {
+        lock.lock();
+        try {
+            throwBackgroundFailure();
+            flushLocked();
+        } catch (IOException e) {
+            throw new InterruptedException("Socket flush failed: " + e.getMessage());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Stops the linger timer for this sender, so the task no longer references it, and flushes
+     * what is buffered.
+     */
+    @Override
+    public void close() throws InterruptedException {
+        lingerTask.cancel(false);
+        flush();
+    }
+
+    private void flushIfLingered() {
+        if (!lock.tryLock()) {
+            return;
+        }
+        try {
+            if (pendingBytes() > 0 && System.nanoTime() - firstPendingNanos >= lingerNanos) {
+                flushLocked();
+            }
+        } catch (IOException e) {
+            backgroundFailure = e;
+            lingerTask.cancel(false);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void flushLocked() throws IOException {
+        if (pendingBytes() == 0) {
+            return;
+        }
+        encoder.flush();
+        flushedBytes = pending.getBytes();
+    }
+
+    private long pendingBytes() {
+        return pending.getBytes() - flushedBytes;
+    }
+
+    private void throwBackgroundFailure() throws IOException {
+        if (backgroundFailure != null) {
+            throw backgroundFailure;
+        }
+    }
+}
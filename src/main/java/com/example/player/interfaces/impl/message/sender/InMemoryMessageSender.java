@@ -1,5 +1,7 @@
 package com.example.player.interfaces.impl.message.sender;
 
+import com.example.player.metrics.MetricsRegistry;
+import com.example.player.metrics.TransportMetrics;
 import com.example.player.model.Message;
 import com.example.player.interfaces.MessageSender;
 
@@ -23,6 +25,7 @@ import java.util.concurrent.BlockingQueue;
 public class InMemoryMessageSender implements MessageSender {
 
     private final BlockingQueue<Message> peerInbox;
+    private final TransportMetrics metrics = MetricsRegistry.get().transport("in-memory");
 
     public InMemoryMessageSender(BlockingQueue<Message> peerInbox) {
         if (peerInbox == null) {
@@ -37,6 +40,7 @@ public class InMemoryMessageSender implements MessageSender {
             throw new IllegalArgumentException("Cannot send null message");
         }
         peerInbox.put(message);
+        metrics.messageSent();
     }
 }
 
@@ -0,0 +1,80 @@
+package com.example.player.interfaces.impl.message.sender;
+
+import com.example.player.interfaces.MessageSender;
+import com.example.player.journal.MessageJournal;
+import com.example.player.model.Message;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * JournalingMessageSender records every Message in a MessageJournal before handing it to the
+ * wrapped MessageSender, so any transport can be journaled.
+ * <p>
+ * Responsibilities:
+ * 1. Append each message to the journal, then send it through the delegate.
+ * 2. Journal a batch message by message, then hand it to the delegate as one batch.
+ * 3. Delegate flush() and close() unchanged; durability of the journal follows its own sync policy,
+ * and the journal is closed by whoever opened it.
+ * <p>
+ * Design notes:
+ * - A message that fails to reach the journal is not sent, so the journal is never behind
+ * what the peer may have seen.
+ */
+public class JournalingMessageSender implements MessageSender {
+
+    private final MessageSender delegate;
+    private final MessageJournal journal;
+
+    public JournalingMessageSender(MessageSender delegate, MessageJournal journal) {
+        if (delegate == null) {
+            throw new IllegalArgumentException("Delegate sender cannot be null");
+        }
+        if (journal == null) {
+            throw new IllegalArgumentException("Journal cannot be null");
+        }
+        this.delegate = delegate;
+        this.journal = journal;
+    }
+
+    @Override
+    public void sendMessage(Message message) throws InterruptedException {
+        if (message == null) {
+            throw new IllegalArgumentException("Cannot send null message");
+        }
+        try {
+            journal.append(message);
+        } catch (IOException e) {
+            throw new InterruptedException("Journal append failed: " + e.getMessage());
+        }
+        delegate.sendMessage(message);
+    }
+
+    @Override
+    public void sendMessages(List<Message> messages) throws InterruptedException {
+        if (messages == null) {
+            throw new IllegalArgumentException("Cannot send null batch");
+        }
+        try {
+            for (Message message : messages) {
+                if (message == null) {
+                    throw new IllegalArgumentException("Cannot send null message");
+                }
+                journal.append(message);
+            }
+        } catch (IOException e) {
+            throw new InterruptedException("Journal append failed: " + e.getMessage());
+        }
+        delegate.sendMessages(messages);
+    }
+
+    @Override
+    public void flush() throws InterruptedException {
+        delegate.flush();
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        delegate.close();
+    }
+}
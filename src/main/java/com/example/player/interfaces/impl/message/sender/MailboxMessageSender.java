@@ -0,0 +1,35 @@
+package com.example.player.interfaces.impl.message.sender;
+
+import com.example.player.interfaces.MessageSender;
+import com.example.player.metrics.MetricsRegistry;
+import com.example.player.metrics.TransportMetrics;
+import com.example.player.model.Message;
+import com.example.player.scheduler.Mailbox;
+
+/**
+ * MailboxMessageSender delivers messages to a Player that runs on the MailboxScheduler.
+ * <p>
+ * Responsibilities:
+ * 1. Enqueue the message in the peer's Mailbox, which schedules the peer if it was idle.
+ * <p>
+ * Design notes:
+ * - Never blocks: mailboxes are unbounded, so a scheduler worker can send without stalling.
+ */
+public class MailboxMessageSender implements MessageSender {
+
+    private final Mailbox peerMailbox;
+    private final TransportMetrics metrics = MetricsRegistry.get().transport("mailbox");
+
+    public MailboxMessageSender(Mailbox peerMailbox) {
+        if (peerMailbox == null) {
+            throw new IllegalArgumentException("Peer mailbox cannot be null");
+        }
+        this.peerMailbox = peerMailbox;
+    }
+
+    @Override
+    public void sendMessage(Message message) {
+        peerMailbox.enqueue(message);
+        metrics.messageSent();
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.player.interfaces.impl.message.sender;
+
+import com.example.player.interfaces.MessageSender;
+import com.example.player.model.Message;
+import com.example.player.mux.LogicalChannel;
+
+/**
+ * MultiplexedMessageSender sends a Player's messages over one LogicalChannel of a shared connection.
+ * <p>
+ * Responsibilities:
+ * 1. Hand messages to the channel, waiting while the peer has granted no credit.
+ * <p>
+ * Design notes:
+ * - flush() is a no-op: the connection's writer flushes the socket whenever no channel has
+ * anything left to write, so messages are batched across all channels of the connection.
+ */
+public class MultiplexedMessageSender implements MessageSender {
+
+    private final LogicalChannel channel;
+
+    public MultiplexedMessageSender(LogicalChannel channel) {
+        if (channel == null) {
+            throw new IllegalArgumentException("Channel cannot be null");
+        }
+        this.channel = channel;
+    }
+
+    @Override
+    public void sendMessage(Message message) throws InterruptedException {
+        channel.send(message);
+    }
+}
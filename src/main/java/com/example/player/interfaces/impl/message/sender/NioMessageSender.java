@@ -0,0 +1,39 @@
+package com.example.player.interfaces.impl.message.sender;
+
+import com.example.player.interfaces.MessageSender;
+import com.example.player.model.Message;
+import com.example.player.nio.NioConnection;
+
+/**
+ * NioMessageSender sends messages to an initiator served by a non-blocking NioConnection.
+ * <p>
+ * Responsibilities:
+ * 1. Send messages without blocking:
+ * - Hand the Message to the connection, which encodes it into its outgoing buffer.
+ * - Leave the actual socket write to the connection's EventLoop.
+ * <p>
+ * 2. Decouple message transport:
+ * - Implement the MessageSender interface so responder logic is identical to the blocking server.
+ * <p>
+ * 3. Thread-safety considerations:
+ * - Must only be used from the EventLoop thread that owns the connection.
+ */
+public class NioMessageSender implements MessageSender {
+
+    private final NioConnection connection;
+
+    public NioMessageSender(NioConnection connection) {
+        if (connection == null) {
+            throw new IllegalArgumentException("Connection cannot be null");
+        }
+        this.connection = connection;
+    }
+
+    @Override
+    public void sendMessage(Message message) {
+        if (message == null) {
+            throw new IllegalArgumentException("Cannot send null message");
+        }
+        connection.enqueue(message);
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.player.interfaces.impl.message.sender;
+
+import com.example.player.interfaces.MessageSender;
+import com.example.player.interfaces.WaitStrategy;
+import com.example.player.metrics.MetricsRegistry;
+import com.example.player.metrics.TransportMetrics;
+import com.example.player.model.Message;
+import com.example.player.queue.SpscRingBuffer;
+
+/**
+ * RingBufferMessageSender sends messages to a peer through a lock-free SPSC ring buffer.
+ * <p>
+ * Responsibilities:
+ * 1. Send messages without locks:
+ * - Offer messages into the peer's SpscRingBuffer.
+ * - Wait according to the configured WaitStrategy while the ring is full.
+ * <p>
+ * 2. Decouple message transport:
+ * - Implement the MessageSender interface so it can replace InMemoryMessageSender unchanged.
+ * <p>
+ * 3. Thread-safety considerations:
+ * - The ring is single-producer; the owning player must be the only thread sending through it
+ * at any time. The producer role may move to another thread only across a happens-before edge,
+ * as with the first message sent from main before the PlayerThread takes over.
+ */
+public class RingBufferMessageSender implements MessageSender {
+
+    private final SpscRingBuffer<Message> peerInbox;
+    private final WaitStrategy waitStrategy;
+    private final TransportMetrics metrics = MetricsRegistry.get().transport("ring-buffer");
+
+    public RingBufferMessageSender(SpscRingBuffer<Message> peerInbox, WaitStrategy waitStrategy) {
+        if (peerInbox == null) {
+            throw new IllegalArgumentException("Peer inbox cannot be null");
+        }
+        if (waitStrategy == null) {
+            throw new IllegalArgumentException("Wait strategy cannot be null");
+        }
+        this.peerInbox = peerInbox;
+        this.waitStrategy = waitStrategy;
+    }
+
+    @Override
+    public void sendMessage(Message message) throws InterruptedException {
+        if (message == null) {
+            throw new IllegalArgumentException("Cannot send null message");
+        }
+        int attempt = 0;
+        while (!peerInbox.offer(message)) {
+            waitStrategy.idle(attempt);
+            if (attempt < Integer.MAX_VALUE) attempt++;
+        }
+        metrics.messageSent();
+    }
+}
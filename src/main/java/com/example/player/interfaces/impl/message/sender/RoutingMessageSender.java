@@ -0,0 +1,69 @@
+package com.example.player.interfaces.impl.message.sender;
+
+import com.example.player.interfaces.MessageSender;
+import com.example.player.logger.Logger;
+import com.example.player.model.Message;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * RoutingMessageSender delivers each Message to the MessageSender registered for its destination.
+ * <p>
+ * Responsibilities:
+ * 1. Look up the destination id of every message in a shared directory of player senders.
+ * 2. Remember which routes were used since the last flush and flush only those.
+ * 3. Reject messages addressed to unknown players.
+ * <p>
+ * Thread-safety considerations:
+ * - The directory must be fully built before the first message is sent and not modified afterwards.
+ * - Several threads may send through one instance; the set of routes to flush is concurrent.
+ * <p>
+ * Design notes:
+ * - One instance per Player keeps flushes proportional to the routes that player used,
+ * not to the size of the topology.
+ * - Messages without a destination (e.g. the STOP a Player sends to its "peer") are dropped:
+ * in a topology there is no single peer, and the TopologyEngine stops every player itself.
+ */
+public class RoutingMessageSender implements MessageSender {
+
+    private final Map<String, MessageSender> directory;
+    private final Set<MessageSender> unflushed = ConcurrentHashMap.newKeySet();
+
+    public RoutingMessageSender(Map<String, MessageSender> directory) {
+        if (directory == null) {
+            throw new IllegalArgumentException("Directory cannot be null");
+        }
+        this.directory = directory;
+    }
+
+    @Override
+    public void sendMessage(Message message) throws InterruptedException {
+        if (message == null) {
+            throw new IllegalArgumentException("Cannot send null message");
+        }
+        String destination = message.getDestination();
+        if (destination == null) {
+            Logger.debug("RoutingMessageSender", "Dropping message without destination: {}", message);
+            return;
+        }
+        MessageSender route = directory.get(destination);
+        if (route == null) {
+            throw new IllegalArgumentException("Unknown destination: " + destination);
+        }
+        route.sendMessage(message);
+        unflushed.add(route);
+    }
+
+    @Override
+    public void flush() throws InterruptedException {
+        Iterator<MessageSender> routes = unflushed.iterator();
+        while (routes.hasNext()) {
+            MessageSender route = routes.next();
+            routes.remove();
+            route.flush();
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.player.interfaces.impl.message.sender;
+
+import com.example.player.interfaces.MessageSender;
+import com.example.player.interfaces.WaitStrategy;
+import com.example.player.interfaces.impl.message.codec.BinaryMessageEncoder;
+import com.example.player.logger.Logger;
+import com.example.player.metrics.MetricsRegistry;
+import com.example.player.metrics.TransportMetrics;
+import com.example.player.model.Message;
+import com.example.player.shm.MappedFrameRing;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * SharedMemoryMessageSender sends messages to a player in another process through a
+ * memory-mapped MappedFrameRing.
+ * <p>
+ * Responsibilities:
+ * 1. Encode each Message with the binary codec straight into the ring slot.
+ * 2. Wait according to the configured WaitStrategy while the ring is full.
+ * 3. Implement the MessageSender interface so it can replace SocketMessageSender unchanged.
+ * <p>
+ * Thread-safety considerations:
+ * - The ring has a single producer, but a Player may send from its own thread and from the
+ * thread that started the conversation; sends are therefore serialised with a ReentrantLock,
+ * which is also what keeps the stateful encoder consistent.
+ */
+public class SharedMemoryMessageSender implements MessageSender {
+
+    private final MappedFrameRing ring;
+    private final WaitStrategy waitStrategy;
+    private final BinaryMessageEncoder encoder = new BinaryMessageEncoder();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final TransportMetrics metrics = MetricsRegistry.get().transport("shared-memory");
+
+    public SharedMemoryMessageSender(MappedFrameRing ring, WaitStrategy waitStrategy) {
+        if (ring == null) {
+            throw new IllegalArgumentException("Ring cannot be null");
+        }
+        if (waitStrategy == null) {
+            throw new IllegalArgumentException("Wait strategy cannot be null");
+        }
+        this.ring = ring;
+        this.waitStrategy = waitStrategy;
+    }
+
+    @Override
+    public void sendMessage(Message message) throws InterruptedException {
+        if (message == null) {
+            throw new IllegalArgumentException("Cannot send null message");
+        }
+        lock.lock();
+        try {
+            int length = encoder.encodeFrame(message);
+            if (length > ring.slotSize()) {
+                throw new InterruptedException("Shared memory send failed: frame of " + length
+                        + " bytes exceeds the slot size of " + ring.slotSize());
+            }
+            int attempt = 0;
+            while (!ring.offer(encoder.frameBuffer(), length)) {
+                waitStrategy.idle(attempt);
+                if (attempt < Integer.MAX_VALUE) attempt++;
+            }
+            metrics.messageSent();
+            metrics.bytesSentCounter().add(length);
+            Logger.debug("SharedMemoryMessageSender", "Sent message: {}", message);
+        } finally {
+            lock.unlock();
+        }
+    }
+}
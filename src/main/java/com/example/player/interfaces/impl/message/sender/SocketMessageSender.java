@@ -1,20 +1,28 @@
 package com.example.player.interfaces.impl.message.sender;
 
+import com.example.player.factory.MessageCodecFactory;
+import com.example.player.interfaces.MessageCodec;
+import com.example.player.interfaces.MessageEncoder;
 import com.example.player.interfaces.MessageSender;
+import com.example.player.io.CountingOutputStream;
 import com.example.player.logger.Logger;
+import com.example.player.metrics.MetricsRegistry;
+import com.example.player.metrics.TransportMetrics;
 import com.example.player.model.Message;
 
 import java.io.IOException;
-import java.io.ObjectOutputStream;
 import java.net.Socket;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * SocketMessageSender sends messages to a peer over a TCP socket.
  * <p>
  * Responsibilities:
  * 1. Send messages over the network:
- * - Serialize Message objects using ObjectOutputStream.
- * - Flush the stream to ensure timely delivery.
+ * - Encode Message objects with the configured MessageCodec (binary by default).
+ * - Flush the stream to ensure timely delivery; a batch is flushed once, after its last message.
+ * - Count messages and bytes written to the socket in the "socket" TransportMetrics.
  * <p>
  * 2. Handle network errors:
  * - Catch IOExceptions and other exceptions during sending.
@@ -22,34 +30,75 @@ import java.net.Socket;
  * <p>
  * 3. Decouple message transport:
  * - Implement the MessageSender interface to allow seamless replacement of transport mechanisms.
- * - Hide socket-specific details from the rest of the system.
+ * - Hide socket-specific details and the wire format from the rest of the system.
  * <p>
  * 4. Thread-safety considerations:
- * - ObjectOutputStream is used in a single-threaded context per sender to avoid concurrency issues.
+ * - The encoder is stateful per connection, so sends are serialised on this sender.
+ * - A ReentrantLock is used instead of synchronized so that a virtual thread blocked in a
+ * socket write does not pin its carrier thread.
  */
 public class SocketMessageSender implements MessageSender {
 
-    private final ObjectOutputStream out;
+    private final MessageEncoder encoder;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final TransportMetrics metrics = MetricsRegistry.get().transport("socket");
 
     public SocketMessageSender(Socket socket) throws Exception {
+        this(socket, MessageCodecFactory.createConfiguredCodec());
+    }
+
+    public SocketMessageSender(Socket socket, MessageCodec codec) throws Exception {
         if (socket == null) {
             throw new IllegalArgumentException("Socket cannot be null");
         }
-        this.out = new ObjectOutputStream(socket.getOutputStream());
+        if (codec == null) {
+            throw new IllegalArgumentException("Codec cannot be null");
+        }
+        this.encoder = codec.newEncoder(new CountingOutputStream(socket.getOutputStream(), metrics.bytesSentCounter()));
     }
 
     @Override
-    public synchronized void sendMessage(Message message) throws InterruptedException {
+    public void sendMessage(Message message) throws InterruptedException {
+        if (message == null) {
+            throw new IllegalArgumentException("Cannot send null message");
+        }
+        lock.lock();
         try {
-            if (message == null) {
-                throw new IllegalArgumentException("Cannot send null message");
+            encoder.encode(message);
+            Logger.debug("SocketMessageSender", "Sent message: {}", message);
+            encoder.flush();
+            metrics.messageSent();
+        } catch (IOException e) {
+            throw new InterruptedException("Socket send failed: " + e.getMessage());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Encodes the whole batch and flushes once, so a batch of replies leaves in as few segments as
+     * the socket allows.
+     */
+    @Override
+    public void sendMessages(List<Message> messages) throws InterruptedException {
+        if (messages == null) {
+            throw new IllegalArgumentException("Cannot send null batch");
+        }
+        lock.lock();
+        try {
+            for (Message message : messages) {
+                if (message == null) {
+                    throw new IllegalArgumentException("Cannot send null message");
+                }
+                encoder.encode(message);
+                metrics.messageSent();
             }
-            out.writeObject(message);
-            Logger.log("SocketMessageSender", "Sent message: " + message);
-            out.flush();
+            encoder.flush();
+            Logger.debug("SocketMessageSender", "Sent {} messages", messages.size());
         } catch (IOException e) {
             throw new InterruptedException("Socket send failed: " + e.getMessage());
+        } finally {
+            lock.unlock();
         }
     }
 }
-
@@ -3,7 +3,9 @@ package com.example.player.interfaces.impl.message.strategy;
 import com.example.player.domain.Player;
 import com.example.player.interfaces.MessageStrategy;
 import com.example.player.logger.Logger;
+import com.example.player.model.HopTrace;
 import com.example.player.model.Message;
+import com.example.player.model.TraceSettings;
 
 /**
  * InitiatorStrategy handles the message-processing logic for a Player
@@ -12,7 +14,8 @@ import com.example.player.model.Message;
  * Responsibilities:
  * 1. Determine whether the maximum number of messages has been reached its limit.
  * 2. Send a STOP message if the Player has completed messaging limit.
- * 3. Prepare and send reply messages if messaging limit is still not fulfilled.
+ * 3. Prepare and send reply messages if messaging limit is still not fulfilled, extending the
+ * reply chain through HopTrace so it stays bounded under the configured TracePolicy.
  * 4. Encapsulate role-specific logic separately from MessageHandler to
  * achieve the Open/Closed Principle.
  * <p>
@@ -24,6 +27,19 @@ import com.example.player.model.Message;
  */
 public class InitiatorMessageStrategy implements MessageStrategy {
 
+    private final TraceSettings traceSettings;
+
+    public InitiatorMessageStrategy() {
+        this(TraceSettings.fromSystemProperties());
+    }
+
+    public InitiatorMessageStrategy(TraceSettings traceSettings) {
+        if (traceSettings == null) {
+            throw new IllegalArgumentException("Trace settings cannot be null");
+        }
+        this.traceSettings = traceSettings;
+    }
+
     public void handleMessage(Player player, Message message) throws InterruptedException {
 
         if (hasReachedMaxMessages(player)) {
@@ -31,10 +47,11 @@ public class InitiatorMessageStrategy implements MessageStrategy {
             player.sendStopMessage();
             return;
         }
-        String reply = message.getContent() + " | reply-from-" + player.getName();
-        Logger.log(player.getName(), "Replying with message: " + reply);
+        HopTrace trace = traceSettings.forReply(message.getTrace());
+        Logger.debug(player.getName(), "Replying with message: {}{} | reply-from-{}",
+                message.getContent(), trace, player.getName());
 
-        player.sendMessage(reply);
+        player.sendMessage(message.getContent(), trace);
     }
 
     private boolean hasReachedMaxMessages(Player player) {
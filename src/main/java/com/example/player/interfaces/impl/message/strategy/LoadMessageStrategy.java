@@ -0,0 +1,112 @@
+package com.example.player.interfaces.impl.message.strategy;
+
+import com.example.player.domain.Player;
+import com.example.player.enums.MessageType;
+import com.example.player.interfaces.MessageStrategy;
+import com.example.player.metrics.LatencyHistogram;
+import com.example.player.model.Message;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * LoadMessageStrategy handles the replies a load-generating Player receives.
+ * <p>
+ * Responsibilities:
+ * 1. Record the latency of every reply to a request that was due after the warm-up, measured from
+ * the time the request was <em>intended</em> to be sent (the request timestamp), not from when it
+ * actually left. A stalled peer therefore shows up in the latency of every request it delayed,
+ * which corrects for coordinated omission.
+ * 2. In closed-loop mode, send the next request once the reply to the previous one arrived:
+ * immediately when unpaced, otherwise at the next slot of the player's schedule (or at once, if
+ * that slot has already passed).
+ * 3. Count every reply, so the generator knows when all requests are answered.
+ * <p>
+ * Design notes:
+ * - In open-loop mode the LoadGenerator sends the requests on its own schedule and this strategy
+ * only records.
+ * - The schedule state is only touched by the player's thread after the first request, which
+ * is sent before that thread sees any reply.
+ */
+public class LoadMessageStrategy implements MessageStrategy {
+
+    private final LatencyHistogram histogram;
+    private final LongAdder answered;
+    private final String payload;
+    private final long measureFromNanos;
+    private final long sendUntilNanos;
+    private final boolean closedLoop;
+    private final long intervalNanos;
+    private long nextIntendedNanos;
+    private long sequence;
+
+    /**
+     * @param intervalNanos the pause between two requests of this player in closed-loop mode, 0 for unpaced
+     */
+    public LoadMessageStrategy(LatencyHistogram histogram, LongAdder answered, String payload,
+                               long measureFromNanos, long sendUntilNanos, boolean closedLoop, long intervalNanos) {
+        if (histogram == null) {
+            throw new IllegalArgumentException("Histogram cannot be null");
+        }
+        if (answered == null) {
+            throw new IllegalArgumentException("Reply counter cannot be null");
+        }
+        if (payload == null) {
+            throw new IllegalArgumentException("Payload cannot be null");
+        }
+        this.histogram = histogram;
+        this.answered = answered;
+        this.payload = payload;
+        this.measureFromNanos = measureFromNanos;
+        this.sendUntilNanos = sendUntilNanos;
+        this.closedLoop = closedLoop;
+        this.intervalNanos = intervalNanos;
+    }
+
+    /**
+     * Sends the first closed-loop request, due at the given time.
+     */
+    public void start(Player player, long firstIntendedNanos) throws InterruptedException {
+        nextIntendedNanos = firstIntendedNanos;
+        sendNext(player, firstIntendedNanos);
+        player.flush();
+    }
+
+    @Override
+    public void handleMessage(Player player, Message message) throws InterruptedException {
+        if (message.getMessageType() != MessageType.REPLY) {
+            return;
+        }
+        long now = System.nanoTime();
+        long intended = message.getTimestamp();
+        if (intended - measureFromNanos >= 0) {
+            histogram.record(now - intended);
+        }
+        answered.increment();
+        if (closedLoop && now - sendUntilNanos < 0) {
+            if (intervalNanos > 0) {
+                nextIntendedNanos += intervalNanos;
+                if (nextIntendedNanos - sendUntilNanos < 0) {
+                    awaitSlot(nextIntendedNanos);
+                    sendNext(player, nextIntendedNanos);
+                }
+            } else {
+                sendNext(player, now);
+            }
+        }
+    }
+
+    private void sendNext(Player player, long intendedNanos) throws InterruptedException {
+        player.sendMessage(Message.of(player.getName(), null, payload, MessageType.NORMAL, ++sequence, intendedNanos));
+    }
+
+    private static void awaitSlot(long intendedNanos) throws InterruptedException {
+        long wait;
+        while ((wait = intendedNanos - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(wait);
+            if (Thread.interrupted()) {
+                throw new InterruptedException("Interrupted while pacing");
+            }
+        }
+    }
+}
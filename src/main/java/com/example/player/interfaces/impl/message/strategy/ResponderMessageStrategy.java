@@ -3,15 +3,24 @@ package com.example.player.interfaces.impl.message.strategy;
 import com.example.player.domain.Player;
 import com.example.player.interfaces.MessageStrategy;
 import com.example.player.logger.Logger;
+import com.example.player.model.HopTrace;
 import com.example.player.model.Message;
+import com.example.player.model.TraceSettings;
+
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * ResponderStrategy handles the message-processing logic for a Player
  * with the role of Responder.
  * <p>
  * Responsibilities:
- * 1. Prepare and send reply messages in response to received messages.
- * 2. Encapsulate Responder-specific reply logic separately from MessageHandler
+ * 1. Prepare and send reply messages in response to received messages, echoing the
+ * sequence number of the received message so windowed initiators can match the reply, and
+ * its timestamp so the initiator can measure the round trip. The reply chain is extended through
+ * HopTrace, so its size stays bounded under the configured TracePolicy.
+ * 2. Answer a batch of received messages with one batched send of all replies.
+ * 3. Encapsulate Responder-specific reply logic separately from MessageHandler
  * to achieve the Open/Closed Principle.
  * <p>
  * Design notes:
@@ -22,12 +31,40 @@ import com.example.player.model.Message;
  */
 public class ResponderMessageStrategy implements MessageStrategy {
 
+    private final TraceSettings traceSettings;
+
+    public ResponderMessageStrategy() {
+        this(TraceSettings.fromSystemProperties());
+    }
+
+    public ResponderMessageStrategy(TraceSettings traceSettings) {
+        if (traceSettings == null) {
+            throw new IllegalArgumentException("Trace settings cannot be null");
+        }
+        this.traceSettings = traceSettings;
+    }
+
     @Override
     public void handleMessage(Player player, Message msg) throws InterruptedException {
 
-        String reply = msg.getContent() + " | reply-from-" + player.getName();
-        Logger.log(player.getName(), "Replying with message: " + reply);
+        HopTrace trace = traceSettings.forReply(msg.getTrace());
+        Logger.debug(player.getName(), "Replying with message: {}{} | reply-from-{}",
+                msg.getContent(), trace, player.getName());
+
+        player.sendReply(msg.getContent(), msg.getSequence(), msg.getTimestamp(), trace);
+    }
 
-        player.sendMessage(reply);
+    @Override
+    public void handleMessages(Player player, List<Message> messages) throws InterruptedException {
+        if (messages.size() == 1) {
+            handleMessage(player, messages.get(0));
+            return;
+        }
+        List<HopTrace> traces = new ArrayList<>(messages.size());
+        for (Message msg : messages) {
+            traces.add(traceSettings.forReply(msg.getTrace()));
+        }
+        Logger.debug(player.getName(), "Replying to {} messages", messages.size());
+        player.sendReplies(messages, traces);
     }
 }
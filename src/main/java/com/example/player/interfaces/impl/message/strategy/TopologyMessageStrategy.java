@@ -0,0 +1,126 @@
+package com.example.player.interfaces.impl.message.strategy;
+
+import com.example.player.domain.Player;
+import com.example.player.enums.MessageType;
+import com.example.player.interfaces.MessageStrategy;
+import com.example.player.logger.Logger;
+import com.example.player.model.Message;
+import com.example.player.topology.Topology;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * TopologyMessageStrategy handles the messages of one Player inside a multi-player Topology.
+ * <p>
+ * Responsibilities:
+ * 1. Originate requests (when the player has out-edges) to its targets in round-robin order,
+ * keeping up to windowSize of them in flight.
+ * 2. Answer every request with a REPLY addressed to the request's sender, or forward it to
+ * the next stage when the player is an inner pipeline stage.
+ * 3. Match replies by sequence number, record their round-trip time, and count the player
+ * down on the completion latch once all of its requests are answered.
+ * <p>
+ * Thread-safety considerations:
+ * - start() runs on the engine thread while replies are handled on the player thread, so the
+ * request counters are atomic. Each request slot is written by the thread that claimed it
+ * before the message is sent, and read only after its reply arrived.
+ * <p>
+ * Design notes:
+ * - State lives in the strategy rather than in Player because it is specific to the topology;
+ * every player gets its own instance.
+ * - Request content has a fixed size so that measurements do not depend on how long a
+ * conversation has been running.
+ */
+public class TopologyMessageStrategy implements MessageStrategy {
+
+    private final Topology topology;
+    private final int index;
+    private final int requests;
+    private final CountDownLatch completion;
+    private final AtomicInteger claimed = new AtomicInteger();
+    private final AtomicInteger answered = new AtomicInteger();
+    private final long[] sendNanos;
+    private final long[] roundTripNanos;
+
+    public TopologyMessageStrategy(Topology topology, int index, int requests, CountDownLatch completion) {
+        if (topology == null) {
+            throw new IllegalArgumentException("Topology cannot be null");
+        }
+        if (requests > 0 && topology.outDegree(index) == 0) {
+            throw new IllegalArgumentException(topology.playerName(index) + " has no targets to send requests to");
+        }
+        this.topology = topology;
+        this.index = index;
+        this.requests = requests;
+        this.completion = completion;
+        this.sendNanos = new long[requests];
+        this.roundTripNanos = new long[requests];
+    }
+
+    /**
+     * Fills the player's send window with the first requests.
+     */
+    public void start(Player player) throws InterruptedException {
+        for (int i = 0; i < player.getWindowSize(); i++) {
+            if (!trySendRequest(player)) {
+                break;
+            }
+        }
+        player.flush();
+    }
+
+    @Override
+    public void handleMessage(Player player, Message message) throws InterruptedException {
+        if (message.getMessageType() == MessageType.REPLY) {
+            onReply(player, message);
+            return;
+        }
+        int next = topology.successor(index);
+        if (next >= 0) {
+            player.sendMessage(Message.of(message.getSender(), topology.playerName(next),
+                    message.getContent(), MessageType.NORMAL, message.getSequence(), message.getTimestamp()));
+            return;
+        }
+        player.sendMessage(Message.of(player.getName(), message.getSender(),
+                message.getContent(), MessageType.REPLY, message.getSequence(), message.getTimestamp()));
+    }
+
+    /**
+     * Round-trip times of the answered requests in nanoseconds; valid once the player completed.
+     */
+    public long[] getRoundTripNanos() {
+        return roundTripNanos;
+    }
+
+    public int getAnsweredCount() {
+        return answered.get();
+    }
+
+    private void onReply(Player player, Message message) throws InterruptedException {
+        int slot = (int) message.getSequence() - 1;
+        if (slot < 0 || slot >= requests || sendNanos[slot] == 0 || roundTripNanos[slot] != 0) {
+            Logger.warn(player.getName(), "Ignoring reply with unknown sequence {}", message.getSequence());
+            return;
+        }
+        roundTripNanos[slot] = Math.max(1, System.nanoTime() - sendNanos[slot]);
+        trySendRequest(player);
+        if (answered.incrementAndGet() == requests) {
+            Logger.debug(player.getName(), "All {} requests answered", requests);
+            completion.countDown();
+        }
+    }
+
+    private boolean trySendRequest(Player player) throws InterruptedException {
+        int slot = claimed.getAndIncrement();
+        if (slot >= requests) {
+            return false;
+        }
+        int target = topology.target(index, slot % topology.outDegree(index));
+        long now = System.nanoTime();
+        sendNanos[slot] = now;
+        player.sendMessage(Message.of(player.getName(), topology.playerName(target),
+                "request#" + (slot + 1), MessageType.NORMAL, slot + 1, now));
+        return true;
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.player.interfaces.impl.message.strategy;
+
+import com.example.player.domain.Player;
+import com.example.player.interfaces.MessageStrategy;
+import com.example.player.logger.Logger;
+import com.example.player.model.HopTrace;
+import com.example.player.model.Message;
+import com.example.player.model.TraceSettings;
+
+/**
+ * WindowedInitiatorMessageStrategy handles the message-processing logic for an Initiator
+ * that keeps up to windowSize messages in flight instead of waiting for each reply.
+ * <p>
+ * Responsibilities:
+ * 1. Match every reply to an in-flight message by its sequence number and ignore unknown replies.
+ * 2. Refill the window with a new message for every matched reply while the messaging limit allows;
+ * the reply chain is extended through HopTrace, bounded by the configured TracePolicy.
+ * 3. Send a STOP message once all maxMessages have been sent and every one of them has been answered.
+ * 4. Encapsulate windowed Initiator logic separately from MessageHandler to
+ * achieve the Open/Closed Principle.
+ * <p>
+ * Design notes:
+ * - The window is filled initially by Player.startConversation on the player's own thread, so
+ * this strategy never sends concurrently with it; send slots are still claimed atomically by
+ * Player.trySendMessage, so the limit holds for any caller.
+ * - The conversation is complete when maxMessages replies have been matched, not when the
+ * in-flight set is empty: a slot is claimed before its sequence number enters the set, so an
+ * empty set does not prove that the last message is out.
+ * - Throughput is bounded by windowSize / RTT rather than 1 / RTT.
+ */
+public class WindowedInitiatorMessageStrategy implements MessageStrategy {
+
+    private final TraceSettings traceSettings;
+
+    public WindowedInitiatorMessageStrategy() {
+        this(TraceSettings.fromSystemProperties());
+    }
+
+    public WindowedInitiatorMessageStrategy(TraceSettings traceSettings) {
+        if (traceSettings == null) {
+            throw new IllegalArgumentException("Trace settings cannot be null");
+        }
+        this.traceSettings = traceSettings;
+    }
+
+    @Override
+    public void handleMessage(Player player, Message message) throws InterruptedException {
+
+        if (!player.acknowledge(message.getSequence())) {
+            Logger.warn(player.getName(), "Ignoring reply with unknown sequence {}", message.getSequence());
+            return;
+        }
+        if (player.getSentCount() < player.getMaxMessages()) {
+            HopTrace trace = traceSettings.forReply(message.getTrace());
+            Logger.debug(player.getName(), "Replying with message: {}{} | reply-from-{}",
+                    message.getContent(), trace, player.getName());
+            player.trySendMessage(message.getContent(), trace);
+        }
+        if (hasCompletedConversation(player)) {
+            Logger.log(player.getName(), "All windowed messages answered, sending STOP...");
+            player.sendStopMessage();
+        }
+    }
+
+    private boolean hasCompletedConversation(Player player) {
+        return player.getAnsweredCount() >= player.getMaxMessages();
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.player.interfaces.impl.wait;
+
+import com.example.player.interfaces.WaitStrategy;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * BlockingWaitStrategy gives up the core right away.
+ * <p>
+ * Receivers over a BlockingQueue do not call it at all but block in take() until a sender signals
+ * them. Lock-free rings have nothing to block on, so here the thread parks at once with an
+ * exponentially growing timeout: the least CPU of all strategies, and the slowest wake-up.
+ */
+public class BlockingWaitStrategy implements WaitStrategy {
+
+    private static final long MIN_PARK_NANOS = 1_000L;
+    private static final long MAX_PARK_NANOS = 1_000_000L;
+
+    @Override
+    public void idle(int attempt) throws InterruptedException {
+        if (Thread.interrupted()) {
+            throw new InterruptedException("Interrupted while blocking");
+        }
+        LockSupport.parkNanos(Math.min(MIN_PARK_NANOS << Math.min(attempt, 10), MAX_PARK_NANOS));
+    }
+}
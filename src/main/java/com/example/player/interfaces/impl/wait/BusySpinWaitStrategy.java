@@ -0,0 +1,22 @@
+package com.example.player.interfaces.impl.wait;
+
+import com.example.player.interfaces.WaitStrategy;
+
+/**
+ * BusySpinWaitStrategy keeps the waiting thread on its core with Thread.onSpinWait().
+ * <p>
+ * Gives the lowest hand-off latency at the price of a fully busy core per waiting player;
+ * only use it when every spinning thread has a core of its own.
+ */
+public class BusySpinWaitStrategy implements WaitStrategy {
+
+    private static final int INTERRUPT_CHECK_MASK = 0x3FF;
+
+    @Override
+    public void idle(int attempt) throws InterruptedException {
+        if ((attempt & INTERRUPT_CHECK_MASK) == 0 && Thread.interrupted()) {
+            throw new InterruptedException("Interrupted while spinning");
+        }
+        Thread.onSpinWait();
+    }
+}
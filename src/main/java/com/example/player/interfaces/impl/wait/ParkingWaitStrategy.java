@@ -0,0 +1,34 @@
+package com.example.player.interfaces.impl.wait;
+
+import com.example.player.interfaces.WaitStrategy;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * ParkingWaitStrategy spins, then yields, then parks with an exponentially growing timeout.
+ * <p>
+ * Idle players cost almost no CPU, at the price of a park/unpark wake-up delay once the
+ * wait has escalated to parking.
+ */
+public class ParkingWaitStrategy implements WaitStrategy {
+
+    private static final int SPIN_TRIES = 100;
+    private static final int YIELD_TRIES = 200;
+    private static final long MIN_PARK_NANOS = 1_000L;
+    private static final long MAX_PARK_NANOS = 1_000_000L;
+
+    @Override
+    public void idle(int attempt) throws InterruptedException {
+        if (Thread.interrupted()) {
+            throw new InterruptedException("Interrupted while parking");
+        }
+        if (attempt < SPIN_TRIES) {
+            Thread.onSpinWait();
+        } else if (attempt < YIELD_TRIES) {
+            Thread.yield();
+        } else {
+            int shift = Math.min(attempt - YIELD_TRIES, 10);
+            LockSupport.parkNanos(Math.min(MIN_PARK_NANOS << shift, MAX_PARK_NANOS));
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.player.interfaces.impl.wait;
+
+import com.example.player.interfaces.WaitStrategy;
+
+/**
+ * YieldingWaitStrategy spins for a short while and then yields the core on every attempt.
+ * <p>
+ * Keeps latency low while letting other runnable threads make progress when cores are shared.
+ */
+public class YieldingWaitStrategy implements WaitStrategy {
+
+    private static final int SPIN_TRIES = 100;
+
+    @Override
+    public void idle(int attempt) throws InterruptedException {
+        if (Thread.interrupted()) {
+            throw new InterruptedException("Interrupted while yielding");
+        }
+        if (attempt < SPIN_TRIES) {
+            Thread.onSpinWait();
+        } else {
+            Thread.yield();
+        }
+    }
+}
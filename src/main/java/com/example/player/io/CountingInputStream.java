@@ -0,0 +1,56 @@
+package com.example.player.io;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * CountingInputStream forwards every read to the wrapped stream and counts the bytes read.
+ * <p>
+ * Responsibilities:
+ * 1. Add every byte that passed through the stream to a (possibly shared) LongAdder.
+ * <p>
+ * Thread-safety considerations:
+ * - The counter may be read from any thread; reads follow the wrapped stream's rules.
+ */
+public class CountingInputStream extends FilterInputStream {
+
+    private final LongAdder bytes;
+
+    public CountingInputStream(InputStream in, LongAdder bytes) {
+        super(in);
+        if (in == null) {
+            throw new IllegalArgumentException("Input stream cannot be null");
+        }
+        if (bytes == null) {
+            throw new IllegalArgumentException("Byte counter cannot be null");
+        }
+        this.bytes = bytes;
+    }
+
+    @Override
+    public int read() throws IOException {
+        int b = in.read();
+        if (b >= 0) {
+            bytes.increment();
+        }
+        return b;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        int count = in.read(b, off, len);
+        if (count > 0) {
+            bytes.add(count);
+        }
+        return count;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        long skipped = in.skip(n);
+        bytes.add(skipped);
+        return skipped;
+    }
+}
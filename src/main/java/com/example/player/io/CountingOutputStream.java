@@ -0,0 +1,63 @@
+package com.example.player.io;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * CountingOutputStream forwards every write to the wrapped stream and counts bytes and write calls.
+ * <p>
+ * Responsibilities:
+ * 1. Track how many bytes passed through the stream.
+ * 2. Track how many write calls reached the wrapped stream; for a socket stream each call
+ * is one send system call, which makes batching effects measurable.
+ * <p>
+ * Thread-safety considerations:
+ * - Counters may be read from any thread; writes follow the wrapped stream's rules.
+ */
+public class CountingOutputStream extends FilterOutputStream {
+
+    private final LongAdder bytes;
+    private final LongAdder writes = new LongAdder();
+
+    public CountingOutputStream(OutputStream out) {
+        this(out, new LongAdder());
+    }
+
+    /**
+     * Counts bytes into the given adder, e.g. a transport-wide counter shared by many streams.
+     */
+    public CountingOutputStream(OutputStream out, LongAdder bytes) {
+        super(out);
+        if (out == null) {
+            throw new IllegalArgumentException("Output stream cannot be null");
+        }
+        if (bytes == null) {
+            throw new IllegalArgumentException("Byte counter cannot be null");
+        }
+        this.bytes = bytes;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        out.write(b);
+        bytes.increment();
+        writes.increment();
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        out.write(b, off, len);
+        bytes.add(len);
+        writes.increment();
+    }
+
+    public long getBytes() {
+        return bytes.sum();
+    }
+
+    public long getWrites() {
+        return writes.sum();
+    }
+}
@@ -0,0 +1,361 @@
+package com.example.player.journal;
+
+import com.example.player.config.PlayerConfig;
+import com.example.player.enums.JournalSyncPolicy;
+import com.example.player.interfaces.impl.message.codec.BinaryMessageDecoder;
+import com.example.player.interfaces.impl.message.codec.BinaryMessageEncoder;
+import com.example.player.logger.Logger;
+import com.example.player.model.Message;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.ObjLongConsumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * MessageJournal is a durable, append-only log of Messages in memory-mapped segment files.
+ * <p>
+ * Record layout (big-endian), one after the other inside a segment:
+ * - int    body length (0 marks the unused rest of a segment)
+ * - int    CRC32C of the body
+ * - body   one binary message frame body, self-contained (every name is announced in the record)
+ * <p>
+ * Responsibilities:
+ * 1. Append messages to the current segment and roll to a new, pre-sized segment when it is full.
+ * Segment files are named after the journal offset of their first byte.
+ * 2. Make appends durable according to the JournalSyncPolicy: never forced (left to the OS),
+ * group-committed by a background thread every sync interval, or forced on every append.
+ * 3. On open, find the end of the last segment by validating records, so a torn write at the
+ * time of a crash is discarded.
+ * 4. Replay every record from a given offset, in this process or after a restart.
+ * <p>
+ * Thread-safety considerations:
+ * - Appends are serialised by a lock; the background sync forces pages without taking it,
+ * so an fsync never stalls appenders.
+ * - A lock file prevents two processes from appending to the same directory.
+ */
+public class MessageJournal implements Closeable {
+
+    private static final int RECORD_HEADER_BYTES = 8;
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final String LOCK_FILE = "journal.lock";
+
+    private final Path directory;
+    private final int segmentBytes;
+    private final JournalSyncPolicy syncPolicy;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final BinaryMessageEncoder encoder = new BinaryMessageEncoder();
+    private final CRC32C checksum = new CRC32C();
+    private final AtomicBoolean dirty = new AtomicBoolean();
+    private final FileChannel lockChannel;
+    private final FileLock fileLock;
+    private final ScheduledExecutorService syncer;
+    private volatile Segment current;
+    private boolean closed = false;
+
+    private MessageJournal(Path directory, int segmentBytes, JournalSyncPolicy syncPolicy, long syncIntervalMillis)
+            throws IOException {
+        this.directory = directory;
+        this.segmentBytes = segmentBytes;
+        this.syncPolicy = syncPolicy;
+        Files.createDirectories(directory);
+        this.lockChannel = FileChannel.open(directory.resolve(LOCK_FILE),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        this.fileLock = lockChannel.tryLock();
+        if (fileLock == null) {
+            lockChannel.close();
+            throw new IllegalStateException("Journal directory is used by another process: " + directory);
+        }
+        this.current = recover();
+        if (syncPolicy == JournalSyncPolicy.INTERVAL) {
+            this.syncer = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread thread = new Thread(r, "Journal-Sync");
+                thread.setDaemon(true);
+                return thread;
+            });
+            syncer.scheduleWithFixedDelay(this::syncQuietly, syncIntervalMillis, syncIntervalMillis, TimeUnit.MILLISECONDS);
+        } else {
+            this.syncer = null;
+        }
+    }
+
+    public static MessageJournal open(Path directory, int segmentBytes, JournalSyncPolicy syncPolicy,
+                                      long syncIntervalMillis) throws IOException {
+        if (directory == null) {
+            throw new IllegalArgumentException("Directory cannot be null");
+        }
+        if (syncPolicy == null) {
+            throw new IllegalArgumentException("Sync policy cannot be null");
+        }
+        if (segmentBytes <= RECORD_HEADER_BYTES) {
+            throw new IllegalArgumentException("Segment size too small: " + segmentBytes);
+        }
+        return new MessageJournal(directory, segmentBytes, syncPolicy, syncIntervalMillis);
+    }
+
+    /**
+     * Opens the journal configured with -Dplayer.journal.dir.
+     *
+     * @return the journal, or null when journaling is disabled
+     */
+    public static MessageJournal fromSystemProperties() throws IOException {
+        Path directory = PlayerConfig.journalDirectory();
+        if (directory == null) {
+            return null;
+        }
+        return open(directory, PlayerConfig.journalSegmentBytes(), PlayerConfig.journalSyncPolicy(),
+                PlayerConfig.journalSyncIntervalMillis());
+    }
+
+    /**
+     * Appends the message and returns its offset, which can later be passed to replay().
+     */
+    public long append(Message message) throws IOException {
+        if (message == null) {
+            throw new IllegalArgumentException("Cannot append null message");
+        }
+        lock.lock();
+        try {
+            if (closed) {
+                throw new IOException("Journal is closed: " + directory);
+            }
+            encoder.reset();
+            int frameLength = encoder.encodeFrame(message);
+            int bodyLength = frameLength - BinaryMessageEncoder.FRAME_HEADER_BYTES;
+            int recordLength = RECORD_HEADER_BYTES + bodyLength;
+            if (recordLength > segmentBytes) {
+                throw new IllegalArgumentException("Message of " + bodyLength + " bytes exceeds the journal segment size");
+            }
+            Segment segment = current;
+            if (segment.buffer.remaining() < recordLength) {
+                segment = roll(segment);
+            }
+            MappedByteBuffer buffer = segment.buffer;
+            long offset = segment.baseOffset + buffer.position();
+            checksum.reset();
+            checksum.update(encoder.frameBuffer(), BinaryMessageEncoder.FRAME_HEADER_BYTES, bodyLength);
+            buffer.putInt(bodyLength);
+            buffer.putInt((int) checksum.getValue());
+            buffer.put(encoder.frameBuffer(), BinaryMessageEncoder.FRAME_HEADER_BYTES, bodyLength);
+            if (syncPolicy == JournalSyncPolicy.ALWAYS) {
+                buffer.force(buffer.position() - recordLength, recordLength);
+            } else {
+                dirty.set(true);
+            }
+            return offset;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Forces every appended record to the storage device.
+     */
+    public void sync() {
+        if (dirty.getAndSet(false)) {
+            current.buffer.force();
+        }
+    }
+
+    /**
+     * Offset the next appended record will get.
+     */
+    public long getEndOffset() {
+        lock.lock();
+        try {
+            return current.baseOffset + current.buffer.position();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Replays every record appended so far, starting at the given offset (0 for everything).
+     *
+     * @return the offset following the last replayed record
+     */
+    public long replay(long fromOffset, ObjLongConsumer<Message> consumer) throws IOException {
+        return replay(directory, fromOffset, getEndOffset(), consumer);
+    }
+
+    /**
+     * Replays a journal directory, e.g. after a restart, starting at the given offset.
+     *
+     * @return the offset following the last valid record
+     */
+    public static long replay(Path directory, long fromOffset, ObjLongConsumer<Message> consumer) throws IOException {
+        return replay(directory, fromOffset, Long.MAX_VALUE, consumer);
+    }
+
+    @Override
+    public void close() throws IOException {
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            if (syncer != null) {
+                syncer.shutdownNow();
+            }
+            if (syncPolicy != JournalSyncPolicy.NONE) {
+                current.buffer.force();
+            }
+            fileLock.release();
+            lockChannel.close();
+            Logger.info("MessageJournal", "Closed {} at offset {}", directory, current.baseOffset + current.buffer.position());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void syncQuietly() {
+        try {
+            sync();
+        } catch (RuntimeException e) {
+            Logger.warn("MessageJournal", "Sync failed: {}", e.getMessage());
+        }
+    }
+
+    private Segment roll(Segment full) throws IOException {
+        if (syncPolicy != JournalSyncPolicy.NONE) {
+            full.buffer.force();
+        }
+        Segment next = createSegment(full.baseOffset + full.buffer.position());
+        current = next;
+        Logger.debug("MessageJournal", "Rolled to segment {}", next.baseOffset);
+        return next;
+    }
+
+    private Segment createSegment(long baseOffset) throws IOException {
+        try (FileChannel channel = FileChannel.open(segmentPath(directory, baseOffset),
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            return new Segment(baseOffset, channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentBytes));
+        }
+    }
+
+    private Segment recover() throws IOException {
+        List<Long> bases = segmentBases(directory);
+        if (bases.isEmpty()) {
+            return createSegment(0);
+        }
+        long baseOffset = bases.get(bases.size() - 1);
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(segmentPath(directory, baseOffset),
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, Math.max(channel.size(), segmentBytes));
+        }
+        int end = scanValidEnd(buffer, checksum);
+        if (end + 4 <= buffer.limit() && buffer.getInt(end) != 0) {
+            Logger.warn("MessageJournal", "Discarding torn record at offset {}", baseOffset + end);
+            for (int i = end; i < buffer.limit(); i++) {
+                buffer.put(i, (byte) 0);
+            }
+            buffer.force();
+        }
+        buffer.position(end);
+        Logger.info("MessageJournal", "Opened {} at offset {}", directory, baseOffset + end);
+        return new Segment(baseOffset, buffer);
+    }
+
+    private static int scanValidEnd(ByteBuffer buffer, CRC32C checksum) {
+        int position = 0;
+        while (position + RECORD_HEADER_BYTES <= buffer.limit()) {
+            int length = buffer.getInt(position);
+            if (length <= 0 || position + RECORD_HEADER_BYTES + length > buffer.limit()
+                    || !checksumMatches(buffer, position, length, checksum)) {
+                break;
+            }
+            position += RECORD_HEADER_BYTES + length;
+        }
+        return position;
+    }
+
+    private static boolean checksumMatches(ByteBuffer buffer, int position, int length, CRC32C checksum) {
+        checksum.reset();
+        checksum.update(buffer.slice(position + RECORD_HEADER_BYTES, length));
+        return (int) checksum.getValue() == buffer.getInt(position + 4);
+    }
+
+    private static long replay(Path directory, long fromOffset, long endOffset, ObjLongConsumer<Message> consumer)
+            throws IOException {
+        if (consumer == null) {
+            throw new IllegalArgumentException("Consumer cannot be null");
+        }
+        List<Long> bases = segmentBases(directory);
+        BinaryMessageDecoder decoder = new BinaryMessageDecoder();
+        CRC32C checksum = new CRC32C();
+        long next = fromOffset;
+        for (int i = 0; i < bases.size(); i++) {
+            long baseOffset = bases.get(i);
+            long nextBase = i + 1 < bases.size() ? bases.get(i + 1) : Long.MAX_VALUE;
+            if (nextBase <= fromOffset) {
+                continue;
+            }
+            MappedByteBuffer buffer;
+            try (FileChannel channel = FileChannel.open(segmentPath(directory, baseOffset), StandardOpenOption.READ)) {
+                buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            }
+            int position = (int) Math.max(0, fromOffset - baseOffset);
+            while (position + RECORD_HEADER_BYTES <= buffer.limit() && baseOffset + position < endOffset) {
+                int length = buffer.getInt(position);
+                if (length <= 0) {
+                    break;
+                }
+                if (position + RECORD_HEADER_BYTES + length > buffer.limit()
+                        || !checksumMatches(buffer, position, length, checksum)) {
+                    return next;
+                }
+                decoder.reset();
+                Message message = decoder.decodeFrame(buffer.slice(position + RECORD_HEADER_BYTES, length));
+                consumer.accept(message, baseOffset + position);
+                position += RECORD_HEADER_BYTES + length;
+                next = baseOffset + position;
+            }
+        }
+        return next;
+    }
+
+    private static List<Long> segmentBases(Path directory) throws IOException {
+        List<Long> bases = new ArrayList<>();
+        if (!Files.isDirectory(directory)) {
+            return bases;
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            files.map(path -> path.getFileName().toString())
+                    .filter(name -> name.endsWith(SEGMENT_SUFFIX))
+                    .forEach(name -> bases.add(Long.parseLong(name.substring(0, name.length() - SEGMENT_SUFFIX.length()))));
+        }
+        bases.sort(null);
+        return bases;
+    }
+
+    private static Path segmentPath(Path directory, long baseOffset) {
+        return directory.resolve(String.format("%020d%s", baseOffset, SEGMENT_SUFFIX));
+    }
+
+    private static final class Segment {
+        private final long baseOffset;
+        private final MappedByteBuffer buffer;
+
+        private Segment(long baseOffset, MappedByteBuffer buffer) {
+            this.baseOffset = baseOffset;
+            this.buffer = buffer;
+        }
+    }
+}
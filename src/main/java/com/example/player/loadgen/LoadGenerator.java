@@ -0,0 +1,244 @@
+package com.example.player.loadgen;
+
+import com.example.player.SingleJVMMain;
+import com.example.player.cluster.ConsistentHashRouter;
+import com.example.player.config.PlayerConfig;
+import com.example.player.config.SocketConfig;
+import com.example.player.domain.Player;
+import com.example.player.domain.PlayerThread;
+import com.example.player.enums.ExecutionMode;
+import com.example.player.enums.LoadMode;
+import com.example.player.enums.MessageType;
+import com.example.player.enums.TransportType;
+import com.example.player.factory.MessageSenderFactory;
+import com.example.player.interfaces.impl.message.receiver.SocketMessageReceiver;
+import com.example.player.interfaces.impl.message.strategy.LoadMessageStrategy;
+import com.example.player.logger.Logger;
+import com.example.player.metrics.LatencyHistogram;
+import com.example.player.model.Message;
+
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * LoadGenerator drives a configurable number of initiator Players against responders and measures
+ * throughput and latency end to end.
+ * <p>
+ * Responsibilities:
+ * 1. Link every load player to its own responder: in this JVM over the configured player.transport,
+ * or over a socket to a remote NioResponderServer, the node player.cluster.nodes routes the player to.
+ * 2. Generate load in one of two modes:
+ * - OPEN: requests are sent on a fixed schedule at the target rate, round-robin over the players,
+ * whether or not earlier requests were answered (how independent clients behave).
+ * - CLOSED: every player has one request outstanding and sends the next when the reply arrives,
+ * paced to its share of the target rate, or as fast as possible when no rate is set.
+ * 3. Stamp every request with its intended send time, so latency is measured from the schedule and
+ * stalls are not hidden (coordinated-omission correction).
+ * 4. Discard the replies to requests due during the warm-up, wait for outstanding replies after the
+ * measured period, stop every conversation and return a LoadReport.
+ * <p>
+ * Design notes:
+ * - The open-loop schedule is kept by one pacer thread; it parks while far ahead of the schedule
+ * and spins for the last stretch, and flushes buffering senders only when it is ahead.
+ * - If the pacer falls behind (e.g. a full inbox blocks it), late requests keep their intended
+ * timestamps, so the delay is charged to the latency instead of silently lowering the rate.
+ */
+public class LoadGenerator {
+
+    private static final int INBOX_CAPACITY = 1024;
+    private static final long STARTUP_NANOS = TimeUnit.MILLISECONDS.toNanos(200);
+    private static final long CONNECT_TIMEOUT_MILLIS = 30_000;
+    private static final long DRAIN_TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(5);
+    private static final long SPIN_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+
+    private final LoadMode mode;
+    private final int players;
+    private final long rate;
+    private final int payloadBytes;
+    private final long durationSeconds;
+    private final long warmupSeconds;
+    private final boolean remote;
+    private final TransportType transportType;
+    private final ExecutionMode executionMode;
+
+    public LoadGenerator(LoadMode mode, int players, long rate, int payloadBytes, long durationSeconds,
+                         long warmupSeconds, boolean remote, TransportType transportType, ExecutionMode executionMode) {
+        if (mode == null) {
+            throw new IllegalArgumentException("Load mode cannot be null");
+        }
+        if (transportType == null) {
+            throw new IllegalArgumentException("Transport type cannot be null");
+        }
+        if (executionMode == null) {
+            throw new IllegalArgumentException("Execution mode cannot be null");
+        }
+        if (players <= 0) {
+            throw new IllegalArgumentException("Player count must be positive: " + players);
+        }
+        if (mode == LoadMode.OPEN && rate <= 0) {
+            throw new IllegalArgumentException("Open-loop load needs a positive rate");
+        }
+        if (durationSeconds <= 0) {
+            throw new IllegalArgumentException("Duration must be positive: " + durationSeconds);
+        }
+        this.mode = mode;
+        this.players = players;
+        this.rate = rate;
+        this.payloadBytes = payloadBytes;
+        this.durationSeconds = durationSeconds;
+        this.warmupSeconds = warmupSeconds;
+        this.remote = remote;
+        this.transportType = transportType;
+        this.executionMode = executionMode;
+    }
+
+    public static LoadGenerator fromSystemProperties() {
+        return new LoadGenerator(PlayerConfig.loadMode(), PlayerConfig.loadPlayers(), PlayerConfig.loadRate(),
+                PlayerConfig.loadPayloadBytes(), PlayerConfig.loadDurationSeconds(), PlayerConfig.loadWarmupSeconds(),
+                PlayerConfig.loadRemote(), PlayerConfig.transportType(), PlayerConfig.executionMode());
+    }
+
+    public LoadReport run() throws Exception {
+        String payload = "x".repeat(payloadBytes);
+        LatencyHistogram latency = new LatencyHistogram();
+        LongAdder answered = new LongAdder();
+        long start = System.nanoTime() + STARTUP_NANOS;
+        long measureFrom = start + TimeUnit.SECONDS.toNanos(warmupSeconds);
+        long end = measureFrom + TimeUnit.SECONDS.toNanos(durationSeconds);
+        long playerIntervalNanos = rate == 0 ? 0 : players * TimeUnit.SECONDS.toNanos(1) / rate;
+
+        Player[] initiators = new Player[players];
+        LoadMessageStrategy[] strategies = new LoadMessageStrategy[players];
+        List<PlayerThread> threads = new ArrayList<>();
+        List<Socket> sockets = new ArrayList<>();
+        ConsistentHashRouter router = remote ? ConsistentHashRouter.fromSystemProperties() : null;
+        try {
+            for (int i = 0; i < players; i++) {
+                initiators[i] = new Player("Load-" + (i + 1), true, Integer.MAX_VALUE, 1, INBOX_CAPACITY);
+                strategies[i] = new LoadMessageStrategy(latency, answered, payload, measureFrom, end,
+                        mode == LoadMode.CLOSED, playerIntervalNanos);
+                threads.addAll(link(initiators[i], strategies[i], router, sockets));
+            }
+            threads.forEach(PlayerThread::start);
+            Logger.info("LoadGenerator", "{} players linked over {}, starting", players, transportName());
+
+            if (mode == LoadMode.OPEN) {
+                runOpenLoop(initiators, payload, start, end);
+            } else {
+                for (int i = 0; i < players; i++) {
+                    long intended = start + playerIntervalNanos * i / players;
+                    awaitSlot(intended);
+                    strategies[i].start(initiators[i], intended);
+                }
+                awaitSlot(end);
+            }
+
+            long sent = drain(initiators, answered, end);
+            for (Player initiator : initiators) {
+                initiator.sendStopMessage();
+            }
+            for (PlayerThread thread : threads) {
+                thread.join();
+            }
+            return new LoadReport(mode, transportName(), players, rate, payloadBytes, durationSeconds, warmupSeconds,
+                    sent, answered.sum(), latency);
+        } finally {
+            for (Socket socket : sockets) {
+                socket.close();
+            }
+        }
+    }
+
+    private List<PlayerThread> link(Player initiator, LoadMessageStrategy strategy, ConsistentHashRouter router,
+                                    List<Socket> sockets) throws Exception {
+        if (!remote) {
+            Player responder = new Player("Responder-" + initiator.getName(), false, 0, 1, INBOX_CAPACITY);
+            return SingleJVMMain.linkPlayers(initiator, strategy, responder, transportType, executionMode);
+        }
+        SocketConfig socketConfig = SocketConfig.fromSystemProperties();
+        Socket socket = router.connect(initiator.getName(), socketConfig, CONNECT_TIMEOUT_MILLIS);
+        sockets.add(socket);
+        initiator.setPeerSender(MessageSenderFactory.createSocketSender(socket, socketConfig));
+        return List.of(new PlayerThread(initiator, new SocketMessageReceiver(socket), strategy, executionMode));
+    }
+
+    /**
+     * Sends request i at start + i / rate, round-robin over the players, until the end of the run.
+     */
+    private void runOpenLoop(Player[] initiators, String payload, long start, long end) throws InterruptedException {
+        boolean[] unflushed = new boolean[initiators.length];
+        for (long i = 0; ; i++) {
+            long intended = start + (long) (i * 1e9 / rate);
+            if (intended - end >= 0) {
+                break;
+            }
+            if (intended - System.nanoTime() > SPIN_NANOS) {
+                flush(initiators, unflushed);
+            }
+            awaitSlot(intended);
+            int index = (int) (i % initiators.length);
+            Player initiator = initiators[index];
+            initiator.sendMessage(Message.of(initiator.getName(), null, payload, MessageType.NORMAL, i + 1, intended));
+            unflushed[index] = true;
+        }
+        flush(initiators, unflushed);
+    }
+
+    /**
+     * Waits until every request sent so far is answered, or the drain timeout passes.
+     *
+     * @return the number of requests sent
+     */
+    private static long drain(Player[] initiators, LongAdder answered, long end) {
+        long deadline = Math.max(System.nanoTime(), end) + DRAIN_TIMEOUT_NANOS;
+        long sent;
+        while ((sent = sentCount(initiators)) > answered.sum() && System.nanoTime() - deadline < 0) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+        }
+        if (sent > answered.sum()) {
+            Logger.warn("LoadGenerator", "{} requests were still unanswered after the drain timeout",
+                    sent - answered.sum());
+        }
+        return sent;
+    }
+
+    private static long sentCount(Player[] initiators) {
+        long sent = 0;
+        for (Player initiator : initiators) {
+            sent += initiator.getSentCount();
+        }
+        return sent;
+    }
+
+    private static void flush(Player[] initiators, boolean[] unflushed) throws InterruptedException {
+        for (int i = 0; i < initiators.length; i++) {
+            if (unflushed[i]) {
+                initiators[i].flush();
+                unflushed[i] = false;
+            }
+        }
+    }
+
+    private static void awaitSlot(long intendedNanos) throws InterruptedException {
+        long wait;
+        while ((wait = intendedNanos - System.nanoTime()) > 0) {
+            if (wait > SPIN_NANOS) {
+                LockSupport.parkNanos(wait - SPIN_NANOS);
+            } else {
+                Thread.onSpinWait();
+            }
+            if (Thread.interrupted()) {
+                throw new InterruptedException("Interrupted while pacing");
+            }
+        }
+    }
+
+    private String transportName() {
+        return remote ? "socket" : transportType.name().toLowerCase(Locale.ROOT);
+    }
+}
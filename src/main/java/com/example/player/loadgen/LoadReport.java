@@ -0,0 +1,140 @@
+package com.example.player.loadgen;
+
+import com.example.player.enums.LoadMode;
+import com.example.player.enums.ReportFormat;
+import com.example.player.metrics.LatencyHistogram;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Locale;
+
+/**
+ * LoadReport is the result of one LoadGenerator run.
+ * <p>
+ * Responsibilities:
+ * 1. Capture the scenario (mode, transport, players, target rate, payload, duration) next to the
+ * results, so every report can be compared with earlier ones on its own.
+ * 2. Summarise the measured replies: achieved rate and coordinated-omission-corrected latency
+ * percentiles in microseconds.
+ * 3. Render itself as text, one CSV row or one JSON object, and append to a file so repeated runs
+ * build up a table for capacity planning and regression tracking.
+ */
+public class LoadReport {
+
+    private static final String CSV_HEADER = "mode,transport,players,targetRate,payloadBytes,durationSeconds,"
+            + "warmupSeconds,sent,answered,measured,achievedRate,meanMicros,p50Micros,p90Micros,p99Micros,"
+            + "p999Micros,p9999Micros,maxMicros";
+
+    private final LoadMode mode;
+    private final String transport;
+    private final int players;
+    private final long targetRate;
+    private final int payloadBytes;
+    private final long durationSeconds;
+    private final long warmupSeconds;
+    private final long sent;
+    private final long answered;
+    private final long measured;
+    private final double achievedRate;
+    private final double meanMicros;
+    private final double p50Micros;
+    private final double p90Micros;
+    private final double p99Micros;
+    private final double p999Micros;
+    private final double p9999Micros;
+    private final double maxMicros;
+
+    LoadReport(LoadMode mode, String transport, int players, long targetRate, int payloadBytes,
+               long durationSeconds, long warmupSeconds, long sent, long answered, LatencyHistogram latency) {
+        this.mode = mode;
+        this.transport = transport;
+        this.players = players;
+        this.targetRate = targetRate;
+        this.payloadBytes = payloadBytes;
+        this.durationSeconds = durationSeconds;
+        this.warmupSeconds = warmupSeconds;
+        this.sent = sent;
+        this.answered = answered;
+        this.measured = latency.getCount();
+        this.achievedRate = (double) measured / durationSeconds;
+        this.meanMicros = latency.getMean() / 1_000.0;
+        this.p50Micros = latency.getPercentile(50) / 1_000.0;
+        this.p90Micros = latency.getPercentile(90) / 1_000.0;
+        this.p99Micros = latency.getPercentile(99) / 1_000.0;
+        this.p999Micros = latency.getPercentile(99.9) / 1_000.0;
+        this.p9999Micros = latency.getPercentile(99.99) / 1_000.0;
+        this.maxMicros = latency.getMax() / 1_000.0;
+    }
+
+    public long getSent() {
+        return sent;
+    }
+
+    public long getAnswered() {
+        return answered;
+    }
+
+    public long getMeasured() {
+        return measured;
+    }
+
+    public double getAchievedRate() {
+        return achievedRate;
+    }
+
+    public double getP99Micros() {
+        return p99Micros;
+    }
+
+    public String format(ReportFormat format) {
+        return switch (format) {
+            case TEXT -> toText();
+            case CSV -> CSV_HEADER + System.lineSeparator() + toCsvRow();
+            case JSON -> toJson();
+        };
+    }
+
+    /**
+     * Appends the report to a file. CSV files get their header only when they are created,
+     * JSON reports are appended one object per line.
+     */
+    public void appendTo(Path file, ReportFormat format) throws IOException {
+        if (file == null) {
+            throw new IllegalArgumentException("Output file cannot be null");
+        }
+        boolean fresh = !Files.exists(file) || Files.size(file) == 0;
+        String text = format == ReportFormat.CSV && !fresh ? toCsvRow() : format(format);
+        Files.writeString(file, text + System.lineSeparator(), StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    private String toText() {
+        return String.format(Locale.ROOT, "%s loop over %s: %d players, target %s msg/s, %d byte payload, %ds (+%ds warm-up)%n"
+                        + "  sent=%d answered=%d measured=%d achieved=%.1f msg/s%n"
+                        + "  latency (us, corrected): mean=%.1f p50=%.1f p90=%.1f p99=%.1f p99.9=%.1f p99.99=%.1f max=%.1f",
+                mode.name().toLowerCase(Locale.ROOT), transport, players,
+                targetRate == 0 ? "unlimited" : String.valueOf(targetRate), payloadBytes, durationSeconds, warmupSeconds,
+                sent, answered, measured, achievedRate,
+                meanMicros, p50Micros, p90Micros, p99Micros, p999Micros, p9999Micros, maxMicros);
+    }
+
+    private String toCsvRow() {
+        return String.format(Locale.ROOT, "%s,%s,%d,%d,%d,%d,%d,%d,%d,%d,%.1f,%.1f,%.1f,%.1f,%.1f,%.1f,%.1f,%.1f",
+                mode, transport, players, targetRate, payloadBytes, durationSeconds, warmupSeconds,
+                sent, answered, measured, achievedRate,
+                meanMicros, p50Micros, p90Micros, p99Micros, p999Micros, p9999Micros, maxMicros);
+    }
+
+    private String toJson() {
+        return String.format(Locale.ROOT, "{\"mode\":\"%s\",\"transport\":\"%s\",\"players\":%d,\"targetRate\":%d,"
+                        + "\"payloadBytes\":%d,\"durationSeconds\":%d,\"warmupSeconds\":%d,\"sent\":%d,\"answered\":%d,"
+                        + "\"measured\":%d,\"achievedRate\":%.1f,\"latencyMicros\":{\"mean\":%.1f,\"p50\":%.1f,"
+                        + "\"p90\":%.1f,\"p99\":%.1f,\"p999\":%.1f,\"p9999\":%.1f,\"max\":%.1f}}",
+                mode, transport, players, targetRate, payloadBytes, durationSeconds, warmupSeconds,
+                sent, answered, measured, achievedRate,
+                meanMicros, p50Micros, p90Micros, p99Micros, p999Micros, p9999Micros, maxMicros);
+    }
+}
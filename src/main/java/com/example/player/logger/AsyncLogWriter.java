@@ -0,0 +1,160 @@
+package com.example.player.logger;
+
+import com.example.player.enums.LogOverflowPolicy;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * AsyncLogWriter formats and writes log records on a single background thread.
+ * <p>
+ * Responsibilities:
+ * 1. Accept records from any thread through a lock-free queue, bounded by a capacity.
+ * 2. Apply the overflow policy when the queue is full: drop the record (and count it)
+ * or make the caller wait until the writer catches up.
+ * 3. Format records in batches and write each batch with one write and one flush,
+ * either to standard output or to a file.
+ * 4. Drain the queue on JVM shutdown so no accepted record is lost.
+ * <p>
+ * Thread-safety considerations:
+ * - submit() is safe for any number of producer threads; everything else runs on the writer thread.
+ */
+class AsyncLogWriter implements Runnable {
+
+    private static final int BATCH_SIZE = 256;
+    private static final long IDLE_PARK_NANOS = 10_000_000L;
+    private static final long BLOCKED_PARK_NANOS = 50_000L;
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 5_000L;
+
+    private final Queue<LogRecord> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final AtomicLong dropped = new AtomicLong();
+    private final int capacity;
+    private final LogOverflowPolicy overflowPolicy;
+    private final Writer fileWriter;
+    private final StringBuilder batch = new StringBuilder(BATCH_SIZE * 64);
+    private final Thread thread;
+    private volatile boolean running = true;
+    private volatile boolean sleeping = false;
+
+    AsyncLogWriter(int capacity, LogOverflowPolicy overflowPolicy, String file) throws IOException {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Log queue capacity must be positive");
+        }
+        this.capacity = capacity;
+        this.overflowPolicy = overflowPolicy;
+        this.fileWriter = file == null ? null : new BufferedWriter(Files.newBufferedWriter(Path.of(file),
+                StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND));
+        this.thread = new Thread(this, "Logger-Writer");
+        this.thread.setDaemon(true);
+    }
+
+    void start() {
+        thread.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(this::shutdown, "Logger-Shutdown"));
+    }
+
+    void submit(LogRecord record) {
+        if (!reserveSlot()) {
+            dropped.incrementAndGet();
+            return;
+        }
+        queue.offer(record);
+        if (sleeping) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    /**
+     * Blocks the caller until every record submitted so far has been written.
+     */
+    void flush() {
+        while (size.get() > 0 && thread.isAlive()) {
+            LockSupport.unpark(thread);
+            LockSupport.parkNanos(BLOCKED_PARK_NANOS);
+        }
+    }
+
+    @Override
+    public void run() {
+        while (running || !queue.isEmpty()) {
+            if (drainBatch() == 0) {
+                sleeping = true;
+                if (running && queue.isEmpty()) {
+                    LockSupport.parkNanos(IDLE_PARK_NANOS);
+                }
+                sleeping = false;
+            }
+        }
+    }
+
+    private boolean reserveSlot() {
+        while (true) {
+            if (size.incrementAndGet() <= capacity) {
+                return true;
+            }
+            size.decrementAndGet();
+            if (overflowPolicy == LogOverflowPolicy.DROP || !running || Thread.currentThread() == thread) {
+                return false;
+            }
+            LockSupport.unpark(thread);
+            LockSupport.parkNanos(BLOCKED_PARK_NANOS);
+        }
+    }
+
+    private int drainBatch() {
+        int count = 0;
+        LogRecord record;
+        while (count < BATCH_SIZE && (record = queue.poll()) != null) {
+            record.formatTo(batch);
+            count++;
+        }
+        long lost = dropped.getAndSet(0);
+        if (lost > 0) {
+            batch.append("[Logger-Writer] Logger: dropped ").append(lost)
+                    .append(" records (queue full)").append(System.lineSeparator());
+        }
+        if (batch.length() > 0) {
+            write();
+            batch.setLength(0);
+        }
+        size.addAndGet(-count);
+        return count;
+    }
+
+    private void write() {
+        if (fileWriter == null) {
+            PrintStream out = System.out;
+            out.append(batch);
+            out.flush();
+            return;
+        }
+        try {
+            fileWriter.append(batch);
+            fileWriter.flush();
+        } catch (IOException e) {
+            System.err.println("Logger: write failed: " + e.getMessage());
+        }
+    }
+
+    private void shutdown() {
+        running = false;
+        LockSupport.unpark(thread);
+        try {
+            thread.join(SHUTDOWN_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
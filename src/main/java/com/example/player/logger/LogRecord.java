@@ -0,0 +1,52 @@
+package com.example.player.logger;
+
+/**
+ * LogRecord captures one log call so that formatting can happen later on the writer thread.
+ * <p>
+ * Design notes:
+ * - Holds the raw pattern and up to three arguments; nothing is formatted on the calling thread.
+ * - A null tag marks a plain line that is written without thread and tag prefix.
+ */
+class LogRecord {
+
+    private final String threadName;
+    private final String tag;
+    private final String pattern;
+    private final Object arg1;
+    private final Object arg2;
+    private final Object arg3;
+    private final int argCount;
+
+    LogRecord(String threadName, String tag, String pattern,
+              Object arg1, Object arg2, Object arg3, int argCount) {
+        this.threadName = threadName;
+        this.tag = tag;
+        this.pattern = pattern;
+        this.arg1 = arg1;
+        this.arg2 = arg2;
+        this.arg3 = arg3;
+        this.argCount = argCount;
+    }
+
+    void formatTo(StringBuilder out) {
+        if (tag != null) {
+            out.append('[').append(threadName).append("] ").append(tag).append(": ");
+        }
+        int argIndex = 0;
+        int from = 0;
+        int placeholder;
+        while (argIndex < argCount && (placeholder = pattern.indexOf("{}", from)) >= 0) {
+            out.append(pattern, from, placeholder).append(argument(argIndex++));
+            from = placeholder + 2;
+        }
+        out.append(pattern, from, pattern.length()).append(System.lineSeparator());
+    }
+
+    private Object argument(int index) {
+        return switch (index) {
+            case 0 -> arg1;
+            case 1 -> arg2;
+            default -> arg3;
+        };
+    }
+}
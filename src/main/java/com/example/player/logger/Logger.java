@@ -1,11 +1,129 @@
 package com.example.player.logger;
 
+import com.example.player.config.PlayerConfig;
+import com.example.player.enums.LogLevel;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Logger is the logging facade used throughout the messaging system.
+ * <p>
+ * Responsibilities:
+ * 1. Filter by LogLevel with a single volatile read, so disabled calls cost almost nothing.
+ * 2. Accept parameterized messages ("{}" placeholders) and defer formatting to the writer,
+ * so disabled or hot-path calls never concatenate strings.
+ * 3. Hand records to an AsyncLogWriter (or write synchronously when -Dplayer.log.async=false).
+ * <p>
+ * Design notes:
+ * - Fixed-arity overloads avoid varargs arrays; callers passing primitives should guard with
+ * isDebugEnabled() to avoid boxing when debug logging is off.
+ * - The writer thread is created lazily on the first enabled call.
+ */
 public class Logger {
-    public static void log(String message, String playerName) {
-        System.out.printf("[%s] %s: %s%n", Thread.currentThread().getName(), message, playerName);
+
+    private static volatile LogLevel level = PlayerConfig.logLevel();
+    private static final boolean ASYNC = PlayerConfig.logAsync();
+
+    public static LogLevel getLevel() {
+        return level;
+    }
+
+    public static void setLevel(LogLevel level) {
+        if (level == null) {
+            throw new IllegalArgumentException("Log level cannot be null");
+        }
+        Logger.level = level;
+    }
+
+    public static boolean isEnabled(LogLevel candidate) {
+        return candidate.compareTo(level) >= 0 && candidate != LogLevel.OFF;
+    }
+
+    public static boolean isDebugEnabled() {
+        return isEnabled(LogLevel.DEBUG);
+    }
+
+    public static void log(String tag, String message) {
+        emit(LogLevel.INFO, tag, message, null, null, null, 0);
     }
 
     public static void log(String message) {
-        System.out.printf("%s%n", message);
+        emit(LogLevel.INFO, null, message, null, null, null, 0);
+    }
+
+    public static void debug(String tag, String message) {
+        emit(LogLevel.DEBUG, tag, message, null, null, null, 0);
+    }
+
+    public static void debug(String tag, String pattern, Object arg1) {
+        emit(LogLevel.DEBUG, tag, pattern, arg1, null, null, 1);
+    }
+
+    public static void debug(String tag, String pattern, Object arg1, Object arg2) {
+        emit(LogLevel.DEBUG, tag, pattern, arg1, arg2, null, 2);
+    }
+
+    public static void debug(String tag, String pattern, Object arg1, Object arg2, Object arg3) {
+        emit(LogLevel.DEBUG, tag, pattern, arg1, arg2, arg3, 3);
+    }
+
+    public static void info(String tag, String pattern, Object arg1) {
+        emit(LogLevel.INFO, tag, pattern, arg1, null, null, 1);
+    }
+
+    public static void info(String tag, String pattern, Object arg1, Object arg2) {
+        emit(LogLevel.INFO, tag, pattern, arg1, arg2, null, 2);
+    }
+
+    public static void warn(String tag, String message) {
+        emit(LogLevel.WARN, tag, message, null, null, null, 0);
+    }
+
+    public static void warn(String tag, String pattern, Object arg1) {
+        emit(LogLevel.WARN, tag, pattern, arg1, null, null, 1);
+    }
+
+    public static void error(String tag, String pattern, Object arg1) {
+        emit(LogLevel.ERROR, tag, pattern, arg1, null, null, 1);
+    }
+
+    /**
+     * Waits until every record logged so far has been written.
+     */
+    public static void flush() {
+        if (ASYNC) {
+            WriterHolder.WRITER.flush();
+        }
+    }
+
+    private static void emit(LogLevel recordLevel, String tag, String pattern,
+                             Object arg1, Object arg2, Object arg3, int argCount) {
+        if (!isEnabled(recordLevel)) {
+            return;
+        }
+        LogRecord record = new LogRecord(Thread.currentThread().getName(), tag, pattern, arg1, arg2, arg3, argCount);
+        if (ASYNC) {
+            WriterHolder.WRITER.submit(record);
+        } else {
+            StringBuilder line = new StringBuilder();
+            record.formatTo(line);
+            System.out.print(line);
+        }
+    }
+
+    private static final class WriterHolder {
+        private static final AsyncLogWriter WRITER = createWriter();
+
+        private static AsyncLogWriter createWriter() {
+            try {
+                AsyncLogWriter writer = new AsyncLogWriter(PlayerConfig.logQueueCapacity(),
+                        PlayerConfig.logOverflowPolicy(), PlayerConfig.logFile());
+                writer.start();
+                return writer;
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot open log file", e);
+            }
+        }
     }
 }
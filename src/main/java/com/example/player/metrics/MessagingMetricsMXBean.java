@@ -0,0 +1,25 @@
+package com.example.player.metrics;
+
+import java.util.List;
+
+/**
+ * JMX view of the whole messaging system ({@code com.example.player:type=Messaging}).
+ */
+public interface MessagingMetricsMXBean {
+
+    int getActivePlayers();
+
+    long getRoundTripCount();
+
+    double getRoundTripMeanMicros();
+
+    double getRoundTripP50Micros();
+
+    double getRoundTripP99Micros();
+
+    double getRoundTripP999Micros();
+
+    double getRoundTripMaxMicros();
+
+    List<PlayerMetrics> getPlayers();
+}
@@ -0,0 +1,100 @@
+package com.example.player.metrics;
+
+import com.example.player.logger.Logger;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * MetricsHttpServer serves the MetricsRegistry as plain text on {@code http://localhost:<port>/metrics}.
+ * <p>
+ * Responsibilities:
+ * 1. Bind to the loopback interface only, so metrics are never exposed to the network by accident.
+ * 2. Render players, transports and round-trip percentiles in the Prometheus text format.
+ * <p>
+ * Design notes:
+ * - Uses the JDK's built-in com.sun.net.httpserver with a single daemon thread; no dependency.
+ */
+public class MetricsHttpServer {
+
+    private final MetricsRegistry registry;
+    private final HttpServer server;
+
+    public MetricsHttpServer(MetricsRegistry registry, int port) throws IOException {
+        if (registry == null) {
+            throw new IllegalArgumentException("Registry cannot be null");
+        }
+        this.registry = registry;
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        this.server.setExecutor(command -> {
+            Thread thread = new Thread(command, "Metrics-Http");
+            thread.setDaemon(true);
+            thread.start();
+        });
+    }
+
+    /**
+     * Registers the /metrics handler and starts the server from a daemon thread: the JDK's dispatcher
+     * thread inherits the daemon flag of the starting thread, and a non-daemon dispatcher would keep
+     * finished demos alive. The handler is registered here rather than in the constructor, so this
+     * is never handed out before it is fully constructed.
+     */
+    public void start() throws InterruptedException {
+        server.createContext("/metrics", this::handle);
+        Thread starter = new Thread(server::start, "Metrics-Http-Start");
+        starter.setDaemon(true);
+        starter.start();
+        starter.join();
+        Logger.info("MetricsHttpServer", "Serving metrics on http://localhost:{}/metrics", server.getAddress().getPort());
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        byte[] body = render().getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "text/plain; version=0.0.4; charset=utf-8");
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    String render() {
+        StringBuilder text = new StringBuilder(1024);
+        for (PlayerMetrics player : registry.getPlayers()) {
+            String label = "{player=\"" + player.getName() + "\"}";
+            line(text, "player_messages_sent_total", label, player.getSentCount());
+            line(text, "player_messages_received_total", label, player.getReceivedCount());
+            line(text, "player_send_rate", label, player.getSendRate());
+            line(text, "player_receive_rate", label, player.getReceiveRate());
+            line(text, "player_queue_depth", label, player.getQueueDepth());
+        }
+        for (TransportMetrics transport : registry.getTransports()) {
+            String label = "{transport=\"" + transport.getName() + "\"}";
+            line(text, "transport_messages_sent_total", label, transport.getMessagesSent());
+            line(text, "transport_messages_received_total", label, transport.getMessagesReceived());
+            line(text, "transport_bytes_sent_total", label, transport.getBytesSent());
+            line(text, "transport_bytes_received_total", label, transport.getBytesReceived());
+            line(text, "transport_send_rate", label, transport.getSendRate());
+            line(text, "transport_receive_rate", label, transport.getReceiveRate());
+        }
+        LatencyHistogram roundTrip = registry.getRoundTripHistogram();
+        line(text, "round_trip_seconds", "{quantile=\"0.5\"}", roundTrip.getPercentile(50) / 1e9);
+        line(text, "round_trip_seconds", "{quantile=\"0.99\"}", roundTrip.getPercentile(99) / 1e9);
+        line(text, "round_trip_seconds", "{quantile=\"0.999\"}", roundTrip.getPercentile(99.9) / 1e9);
+        line(text, "round_trip_seconds_max", "", roundTrip.getMax() / 1e9);
+        line(text, "round_trip_seconds_count", "", roundTrip.getCount());
+        return text.toString();
+    }
+
+    private static void line(StringBuilder text, String name, String labels, long value) {
+        text.append(name).append(labels).append(' ').append(value).append('\n');
+    }
+
+    private static void line(StringBuilder text, String name, String labels, double value) {
+        text.append(name).append(labels).append(' ').append(value).append('\n');
+    }
+}
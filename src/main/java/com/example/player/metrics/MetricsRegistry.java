@@ -0,0 +1,195 @@
+package com.example.player.metrics;
+
+import com.example.player.config.PlayerConfig;
+import com.example.player.domain.Player;
+import com.example.player.enums.MessageType;
+import com.example.player.interfaces.MessageReceiver;
+import com.example.player.logger.Logger;
+import com.example.player.model.Message;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+
+/**
+ * MetricsRegistry is the process-wide home of all messaging metrics.
+ * <p>
+ * Responsibilities:
+ * 1. Track the running players (registered by PlayerThread) and one TransportMetrics per transport.
+ * 2. Record round-trip latencies of REPLY messages from the origin timestamp they echo.
+ * 3. Refresh per-second rates once a second on a daemon sampler thread.
+ * 4. Export everything via JMX (player.metrics.jmx, on by default) and a local HTTP endpoint
+ * (player.metrics.http.port, off by default).
+ * <p>
+ * Design notes:
+ * - Metrics are always collected; the hot path costs a LongAdder increment per message and a
+ * histogram update per reply. Player counters are read from the Player itself.
+ * - The registry is created lazily on first use, like the Logger's writer.
+ */
+public final class MetricsRegistry implements MessagingMetricsMXBean {
+
+    private static final String DOMAIN = "com.example.player";
+
+    private final Map<Player, PlayerMetrics> players = new ConcurrentHashMap<>();
+    private final Map<String, TransportMetrics> transports = new ConcurrentHashMap<>();
+    private final LatencyHistogram roundTrip = new LatencyHistogram();
+    private final boolean jmxEnabled;
+
+    private MetricsRegistry() {
+        this.jmxEnabled = PlayerConfig.metricsJmx();
+    }
+
+    public static MetricsRegistry get() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Returns the metrics of the named transport, creating (and exporting) them on first use.
+     */
+    public TransportMetrics transport(String name) {
+        return transports.computeIfAbsent(name, key -> {
+            TransportMetrics metrics = new TransportMetrics(key);
+            registerMBean(metrics, DOMAIN + ":type=Transport,name=" + ObjectName.quote(key));
+            return metrics;
+        });
+    }
+
+    public void registerPlayer(Player player, MessageReceiver receiver) {
+        registerPlayer(player, receiver::getQueueDepth);
+    }
+
+    /**
+     * Registers a player whose pending messages are not held by a MessageReceiver, e.g. a mailbox.
+     */
+    public void registerPlayer(Player player, IntSupplier queueDepth) {
+        players.put(player, new PlayerMetrics(player, queueDepth));
+    }
+
+    public void unregisterPlayer(Player player) {
+        players.remove(player);
+    }
+
+    /**
+     * Records the round trip of a REPLY that echoes the timestamp of its request.
+     */
+    public void recordRoundTrip(Message message) {
+        if (message.getMessageType() == MessageType.REPLY && message.getTimestamp() != 0) {
+            roundTrip.record(System.nanoTime() - message.getTimestamp());
+        }
+    }
+
+    public LatencyHistogram getRoundTripHistogram() {
+        return roundTrip;
+    }
+
+    public Collection<TransportMetrics> getTransports() {
+        return new ArrayList<>(transports.values());
+    }
+
+    @Override
+    public int getActivePlayers() {
+        return players.size();
+    }
+
+    @Override
+    public long getRoundTripCount() {
+        return roundTrip.getCount();
+    }
+
+    @Override
+    public double getRoundTripMeanMicros() {
+        return roundTrip.getMean() / 1_000.0;
+    }
+
+    @Override
+    public double getRoundTripP50Micros() {
+        return roundTrip.getPercentile(50) / 1_000.0;
+    }
+
+    @Override
+    public double getRoundTripP99Micros() {
+        return roundTrip.getPercentile(99) / 1_000.0;
+    }
+
+    @Override
+    public double getRoundTripP999Micros() {
+        return roundTrip.getPercentile(99.9) / 1_000.0;
+    }
+
+    @Override
+    public double getRoundTripMaxMicros() {
+        return roundTrip.getMax() / 1_000.0;
+    }
+
+    @Override
+    public List<PlayerMetrics> getPlayers() {
+        return new ArrayList<>(players.values());
+    }
+
+    private void sample() {
+        long now = System.nanoTime();
+        for (PlayerMetrics metrics : players.values()) {
+            metrics.sample(now);
+        }
+        for (TransportMetrics metrics : transports.values()) {
+            metrics.sample(now);
+        }
+    }
+
+    private void start() {
+        ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "Metrics-Sampler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        sampler.scheduleAtFixedRate(this::sample, 1, 1, TimeUnit.SECONDS);
+        registerMBean(this, DOMAIN + ":type=Messaging");
+
+        int httpPort = PlayerConfig.metricsHttpPort();
+        if (httpPort > 0) {
+            try {
+                new MetricsHttpServer(this, httpPort).start();
+            } catch (IOException e) {
+                Logger.warn("MetricsRegistry", "Cannot start metrics endpoint: {}", e.getMessage());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private void registerMBean(Object mbean, String name) {
+        if (!jmxEnabled) {
+            return;
+        }
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName objectName = new ObjectName(name);
+            if (!server.isRegistered(objectName)) {
+                server.registerMBean(mbean, objectName);
+            }
+        } catch (JMException e) {
+            Logger.warn("MetricsRegistry", "Cannot register MBean " + name + ": {}", e.getMessage());
+        }
+    }
+
+    private static final class Holder {
+        private static final MetricsRegistry INSTANCE = create();
+
+        private static MetricsRegistry create() {
+            MetricsRegistry registry = new MetricsRegistry();
+            registry.start();
+            return registry;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.player.metrics;
+
+import com.example.player.domain.Player;
+
+import java.util.function.IntSupplier;
+
+/**
+ * PlayerMetrics exposes the counters of one running Player.
+ * <p>
+ * Responsibilities:
+ * 1. Read sent/received counts straight from the Player, so no extra counting is done on the hot path.
+ * 2. Report the depth of the queue the Player receives from.
+ * 3. Keep per-second send and receive rates, refreshed by the MetricsRegistry sampler.
+ * <p>
+ * Design notes:
+ * - Getter-only, so JMX maps it to CompositeData inside MessagingMetricsMXBean#getPlayers.
+ */
+public class PlayerMetrics {
+
+    private final Player player;
+    private final IntSupplier queueDepth;
+    private final RateMeter sendRate = new RateMeter();
+    private final RateMeter receiveRate = new RateMeter();
+
+    PlayerMetrics(Player player, IntSupplier queueDepth) {
+        this.player = player;
+        this.queueDepth = queueDepth;
+    }
+
+    public String getName() {
+        return player.getName();
+    }
+
+    public long getSentCount() {
+        return player.getSentCount();
+    }
+
+    public long getReceivedCount() {
+        return player.getReceivedCount();
+    }
+
+    public int getQueueDepth() {
+        return queueDepth.getAsInt();
+    }
+
+    public double getSendRate() {
+        return sendRate.getRate();
+    }
+
+    public double getReceiveRate() {
+        return receiveRate.getRate();
+    }
+
+    void sample(long nowNanos) {
+        sendRate.sample(player.getSentCount(), nowNanos);
+        receiveRate.sample(player.getReceivedCount(), nowNanos);
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.player.metrics;
+
+/**
+ * RateMeter turns a monotonically increasing counter into a per-second rate between two samples.
+ * <p>
+ * Thread-safety considerations:
+ * - sample() is called by the single sampler thread; getRate() may be read from any thread.
+ */
+final class RateMeter {
+
+    private long lastCount;
+    private long lastNanos;
+    private volatile double rate;
+
+    void sample(long count, long nowNanos) {
+        if (lastNanos != 0 && nowNanos > lastNanos) {
+            rate = (count - lastCount) * 1e9 / (nowNanos - lastNanos);
+        }
+        lastCount = count;
+        lastNanos = nowNanos;
+    }
+
+    double getRate() {
+        return rate;
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.player.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * TransportMetrics counts the traffic of one transport kind (socket, nio, shared memory, ...).
+ * <p>
+ * Responsibilities:
+ * 1. Count messages and bytes in both directions with LongAdders, which stay cheap when many
+ * connections of the same transport record concurrently.
+ * 2. Keep per-second rates, refreshed by the MetricsRegistry sampler.
+ * <p>
+ * Design notes:
+ * - Byte counters are exposed as LongAdders so stream wrappers (CountingOutputStream,
+ * CountingInputStream) can add to them directly.
+ * - Transports without a byte representation (in-memory queues) leave the byte counters at 0.
+ */
+public class TransportMetrics implements TransportMetricsMXBean {
+
+    private final String name;
+    private final LongAdder messagesSent = new LongAdder();
+    private final LongAdder messagesReceived = new LongAdder();
+    private final LongAdder bytesSent = new LongAdder();
+    private final LongAdder bytesReceived = new LongAdder();
+    private final RateMeter sendRate = new RateMeter();
+    private final RateMeter receiveRate = new RateMeter();
+
+    TransportMetrics(String name) {
+        this.name = name;
+    }
+
+    public void messageSent() {
+        messagesSent.increment();
+    }
+
+    public void messageReceived() {
+        messagesReceived.increment();
+    }
+
+    public LongAdder bytesSentCounter() {
+        return bytesSent;
+    }
+
+    public LongAdder bytesReceivedCounter() {
+        return bytesReceived;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public long getMessagesSent() {
+        return messagesSent.sum();
+    }
+
+    @Override
+    public long getMessagesReceived() {
+        return messagesReceived.sum();
+    }
+
+    @Override
+    public long getBytesSent() {
+        return bytesSent.sum();
+    }
+
+    @Override
+    public long getBytesReceived() {
+        return bytesReceived.sum();
+    }
+
+    @Override
+    public double getSendRate() {
+        return sendRate.getRate();
+    }
+
+    @Override
+    public double getReceiveRate() {
+        return receiveRate.getRate();
+    }
+
+    void sample(long nowNanos) {
+        sendRate.sample(getMessagesSent(), nowNanos);
+        receiveRate.sample(getMessagesReceived(), nowNanos);
+    }
+}
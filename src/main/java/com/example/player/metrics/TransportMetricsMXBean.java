@@ -0,0 +1,21 @@
+package com.example.player.metrics;
+
+/**
+ * JMX view of one transport ({@code com.example.player:type=Transport,name=<transport>}).
+ */
+public interface TransportMetricsMXBean {
+
+    String getName();
+
+    long getMessagesSent();
+
+    long getMessagesReceived();
+
+    long getBytesSent();
+
+    long getBytesReceived();
+
+    double getSendRate();
+
+    double getReceiveRate();
+}
@@ -0,0 +1,188 @@
+package com.example.player.model;
+
+import com.example.player.enums.TracePolicy;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * HopTrace is the reply chain a Message carries: the (player, sent number) hops it went through,
+ * oldest first, plus the hops compacted away.
+ * <p>
+ * Responsibilities:
+ * 1. Hold the lineage of a conversation's messages as a structured, immutable value, so it never
+ * mixes with the text content and is never re-parsed.
+ * 2. Append a hop and compact older hops according to a TracePolicy (see TraceSettings):
+ * - FULL keeps every hop, so the trace grows with every round (the original behaviour).
+ * - TRUNCATE keeps the newest hops and only counts the older ones.
+ * - SUMMARIZE keeps the newest hops and a per-player count of the older ones.
+ * With TRUNCATE or SUMMARIZE the trace size, and the work to extend it, stay constant however many
+ * rounds a conversation runs.
+ * 3. Render itself in the familiar " | reply-from-name [sent#n]" form, for logs only.
+ * <p>
+ * Design notes:
+ * - The binary codec writes the trace as counted lists after the content and interns the player
+ * names like senders, so a hop costs a few bytes on the wire; messages without hops carry nothing.
+ * - Instances are shared between messages; every change returns a new HopTrace. The per-player
+ * counts are held in a LinkedHashMap, which keeps their order and serializes with the trace under
+ * java_serialization; it is never modified once the trace is built.
+ */
+public final class HopTrace implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+    private static final LinkedHashMap<String, Long> NO_ELIDED_COUNTS = new LinkedHashMap<>();
+
+    public static final HopTrace EMPTY = new HopTrace(0, NO_ELIDED_COUNTS, new Hop[0]);
+
+    private final long elidedHops;
+    private final LinkedHashMap<String, Long> elidedHopsByPlayer;
+    private final Hop[] hops;
+
+    private HopTrace(long elidedHops, LinkedHashMap<String, Long> elidedHopsByPlayer, Hop[] hops) {
+        this.elidedHops = elidedHops;
+        this.elidedHopsByPlayer = elidedHopsByPlayer;
+        this.hops = hops;
+    }
+
+    /**
+     * Builds a trace, e.g. one read from the wire.
+     *
+     * @param elidedHopsByPlayer per-player counts of the elided hops, in display order; may be empty
+     * @param hops               the listed hops, oldest first
+     */
+    public static HopTrace of(long elidedHops, Map<String, Long> elidedHopsByPlayer, List<Hop> hops) {
+        if (elidedHops < 0) {
+            throw new IllegalArgumentException("Elided hops cannot be negative: " + elidedHops);
+        }
+        if (elidedHopsByPlayer == null || hops == null) {
+            throw new IllegalArgumentException("Elided counts and hops cannot be null");
+        }
+        if (elidedHops == 0 && elidedHopsByPlayer.isEmpty() && hops.isEmpty()) {
+            return EMPTY;
+        }
+        return new HopTrace(elidedHops, new LinkedHashMap<>(elidedHopsByPlayer), hops.toArray(new Hop[0]));
+    }
+
+    /**
+     * Returns this trace followed by one more hop, without compacting.
+     */
+    public HopTrace append(String player, long sequence) {
+        Hop[] extended = Arrays.copyOf(hops, hops.length + 1);
+        extended[hops.length] = new Hop(player, sequence);
+        return new HopTrace(elidedHops, elidedHopsByPlayer, extended);
+    }
+
+    /**
+     * Returns the trace with only the newest keep hops listed; the older ones are counted, and with
+     * SUMMARIZE also counted per player. Per-player counts are dropped under any other policy.
+     */
+    public HopTrace compact(int keep, TracePolicy policy) {
+        if (keep < 0 || policy == null) {
+            throw new IllegalArgumentException("Keep cannot be negative and policy cannot be null");
+        }
+        int drop = Math.max(0, hops.length - keep);
+        LinkedHashMap<String, Long> byPlayer = NO_ELIDED_COUNTS;
+        if (policy == TracePolicy.SUMMARIZE) {
+            byPlayer = new LinkedHashMap<>(elidedHopsByPlayer);
+            for (int i = 0; i < drop; i++) {
+                byPlayer.merge(hops[i].getPlayer(), 1L, Long::sum);
+            }
+        }
+        return new HopTrace(elidedHops + drop, byPlayer, Arrays.copyOfRange(hops, drop, hops.length));
+    }
+
+    public boolean isEmpty() {
+        return hops.length == 0 && elidedHops == 0;
+    }
+
+    /**
+     * Hops still listed, oldest first.
+     */
+    public List<Hop> getHops() {
+        return Collections.unmodifiableList(Arrays.asList(hops));
+    }
+
+    public int getHopCount() {
+        return hops.length;
+    }
+
+    /**
+     * Hops compacted away by TRUNCATE or SUMMARIZE.
+     */
+    public long getElidedHops() {
+        return elidedHops;
+    }
+
+    /**
+     * Per-player counts of the compacted hops; empty unless SUMMARIZE was used.
+     */
+    public Map<String, Long> getElidedHopsByPlayer() {
+        return Collections.unmodifiableMap(elidedHopsByPlayer);
+    }
+
+    public long getTotalHops() {
+        return elidedHops + hops.length;
+    }
+
+    /**
+     * Renders the trace as it would have been appended to the content, e.g.
+     * " | ...3 earlier hops... | reply-from-Player2 [sent#4]"; the empty trace renders as "".
+     */
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder(32 * (hops.length + elidedHopsByPlayer.size() + 1));
+        if (elidedHops > 0) {
+            builder.append(" | ...").append(elidedHops).append(" earlier hops");
+            if (!elidedHopsByPlayer.isEmpty()) {
+                builder.append(" (");
+                String separator = "";
+                for (Map.Entry<String, Long> entry : elidedHopsByPlayer.entrySet()) {
+                    builder.append(separator).append(entry.getKey()).append(" x").append(entry.getValue());
+                    separator = ", ";
+                }
+                builder.append(')');
+            }
+            builder.append("...");
+        }
+        for (Hop hop : hops) {
+            builder.append(" | reply-from-").append(hop.getPlayer()).append(" [sent#").append(hop.getSequence()).append(']');
+        }
+        return builder.toString();
+    }
+
+    /**
+     * One reply in the chain: the player that sent it and its sent number.
+     */
+    public static final class Hop implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final String player;
+        private final long sequence;
+
+        public Hop(String player, long sequence) {
+            if (player == null) {
+                throw new IllegalArgumentException("Player cannot be null");
+            }
+            this.player = player;
+            this.sequence = sequence;
+        }
+
+        public String getPlayer() {
+            return player;
+        }
+
+        public long getSequence() {
+            return sequence;
+        }
+
+        @Override
+        public String toString() {
+            return player + "#" + sequence;
+        }
+    }
+}
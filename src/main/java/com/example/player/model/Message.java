@@ -6,26 +6,55 @@ import java.io.Serializable;
 
 /**
  * The Message class represents a serializable communication unit containing a sender,
- * message content, and message type. It provides factory methods to create normal
+ * message content, message type and sequence number. It provides factory methods to create normal
  * and stop messages, encapsulating message creation logic and ensuring message
  * integrity across the communication system.
+ * <p>
+ * The sequence number identifies a message within its conversation; replies carry the
+ * sequence number of the message they answer so that initiators can match them.
+ * <p>
+ * The timestamp (System.nanoTime() of the originating JVM) is set when a request is created
+ * and echoed unchanged by its reply, so the originator can measure the round trip with its own
+ * clock even when the peer runs in another process. Zero means "not timed".
+ * <p>
+ * The optional destination names the Player a message is addressed to. Two-player
+ * conversations leave it null because each Player has exactly one peer; topologies with
+ * many players route on it.
+ * <p>
+ * The trace lists the reply hops that led to the message (see HopTrace); it is never null, and
+ * messages that do not continue a reply chain carry HopTrace.EMPTY.
  */
 public class Message implements Serializable {
 
+    private static final long serialVersionUID = 1L;
+
     private final String sender;
+    private final String destination;
     private final String content;
     private final MessageType messageType;
+    private final long sequence;
+    private final long timestamp;
+    private final HopTrace trace;
 
-    private Message(String sender, String content, MessageType messageType) {
+    private Message(String sender, String destination, String content, MessageType messageType,
+                    long sequence, long timestamp, HopTrace trace) {
         this.sender = sender;
+        this.destination = destination;
         this.content = content;
         this.messageType = messageType;
+        this.sequence = sequence;
+        this.timestamp = timestamp;
+        this.trace = trace;
     }
 
     public String getSender() {
         return sender;
     }
 
+    public String getDestination() {
+        return destination;
+    }
+
     public String getContent() {
         return content;
     }
@@ -34,20 +63,68 @@ public class Message implements Serializable {
         return messageType;
     }
 
+    public long getSequence() {
+        return sequence;
+    }
+
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    public HopTrace getTrace() {
+        return trace;
+    }
+
     public static Message sendNormalMessage(String sender, String content) {
-        return new Message(sender, content, MessageType.NORMAL);
+        return new Message(sender, null, content, MessageType.NORMAL, 0, System.nanoTime(), HopTrace.EMPTY);
+    }
+
+    public static Message sendNormalMessage(String sender, String content, long sequence) {
+        return sendNormalMessage(sender, content, sequence, HopTrace.EMPTY);
+    }
+
+    public static Message sendNormalMessage(String sender, String content, long sequence, HopTrace trace) {
+        return of(sender, null, content, MessageType.NORMAL, sequence, System.nanoTime(), trace);
     }
 
     public static Message sendStopMessage(String sender) {
-        return new Message(sender, "STOP", MessageType.STOP);
+        return new Message(sender, null, "STOP", MessageType.STOP, 0, 0, HopTrace.EMPTY);
+    }
+
+    public static Message of(String sender, String content, MessageType messageType, long sequence) {
+        return of(sender, null, content, messageType, sequence);
+    }
+
+    public static Message of(String sender, String destination, String content, MessageType messageType, long sequence) {
+        return of(sender, destination, content, messageType, sequence, 0);
+    }
+
+    public static Message of(String sender, String destination, String content, MessageType messageType,
+                             long sequence, long timestamp) {
+        return of(sender, destination, content, messageType, sequence, timestamp, HopTrace.EMPTY);
+    }
+
+    public static Message of(String sender, String destination, String content, MessageType messageType,
+                             long sequence, long timestamp, HopTrace trace) {
+        if (messageType == null) {
+            throw new IllegalArgumentException("Message type cannot be null");
+        }
+        if (trace == null) {
+            throw new IllegalArgumentException("Trace cannot be null");
+        }
+        return new Message(sender, destination, content, messageType, sequence, timestamp, trace);
     }
 
     @Override
     public String toString() {
         return "Message{" +
                 "sender='" + sender + '\'' +
+                ", destination='" + destination + '\'' +
                 ", content='" + content + '\'' +
                 ", messageType=" + messageType +
+                ", sequence=" + sequence +
+                ", timestamp=" + timestamp +
+                (trace.isEmpty() ? "" : ", trace='" + trace + '\'') +
                 '}';
     }
 }
@@ -0,0 +1,52 @@
+package com.example.player.model;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * MessagePool hands out reusable PooledMessage instances.
+ * <p>
+ * Responsibilities:
+ * 1. Return a reset message from the free list, or create a new one when the list is empty.
+ * 2. Take recycled messages back; when the free list is full the message is left to the GC.
+ * 3. Count created messages, so callers can verify that a steady state allocates nothing.
+ * <p>
+ * Thread-safety considerations:
+ * - Any thread may acquire and recycle. The free list is an ArrayBlockingQueue because,
+ * unlike linked queues, it does not allocate a node per element.
+ */
+public class MessagePool {
+
+    private final BlockingQueue<PooledMessage> free;
+    private final LongAdder created = new LongAdder();
+
+    public MessagePool(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Pool capacity must be positive");
+        }
+        this.free = new ArrayBlockingQueue<>(capacity);
+    }
+
+    public PooledMessage acquire() {
+        PooledMessage message = free.poll();
+        if (message == null) {
+            message = new PooledMessage(this);
+            created.increment();
+        }
+        message.reset();
+        return message;
+    }
+
+    void release(PooledMessage message) {
+        free.offer(message);
+    }
+
+    public long getCreatedCount() {
+        return created.sum();
+    }
+
+    public int getAvailableCount() {
+        return free.size();
+    }
+}
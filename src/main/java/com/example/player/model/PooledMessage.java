@@ -0,0 +1,279 @@
+package com.example.player.model;
+
+import com.example.player.enums.MessageType;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * PooledMessage is a mutable, reusable alternative to {@link Message} whose content is kept
+ * as UTF-8 bytes in a buffer owned by the instance.
+ * <p>
+ * Responsibilities:
+ * 1. Hold the same fields as Message (sender, destination, type, sequence, timestamp, content).
+ * 2. Append text and numbers to the content in place, and truncate it back to a mark,
+ * so that a reply can be built from the received message without copying it.
+ * 3. Return itself to its MessagePool on {@link #recycle()}.
+ * <p>
+ * Ownership rules:
+ * - Whoever holds the message owns it; sending it hands ownership to the receiver.
+ * - The last owner calls recycle() exactly once; any later use throws IllegalStateException.
+ * <p>
+ * Thread-safety considerations:
+ * - Not thread-safe; a safe hand-off (e.g. through a queue) is required between owners.
+ * <p>
+ * Design notes:
+ * - Sender and destination are expected to be long-lived (interned) Strings, so setting them
+ * does not allocate.
+ * - The content buffer only grows, so a steady-state conversation whose content does not
+ * grow allocates nothing.
+ */
+public final class PooledMessage {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final MessagePool pool;
+    private String sender;
+    private String destination;
+    private MessageType messageType = MessageType.NORMAL;
+    private long sequence;
+    private long timestamp;
+    private byte[] content = new byte[INITIAL_CAPACITY];
+    private int length;
+    private boolean recycled;
+
+    PooledMessage(MessagePool pool) {
+        this.pool = pool;
+    }
+
+    public PooledMessage set(String sender, String destination, MessageType messageType, long sequence) {
+        ensureOwned();
+        if (messageType == null) {
+            throw new IllegalArgumentException("Message type cannot be null");
+        }
+        this.sender = sender;
+        this.destination = destination;
+        this.messageType = messageType;
+        this.sequence = sequence;
+        return this;
+    }
+
+    public String getSender() {
+        return sender;
+    }
+
+    public void setSender(String sender) {
+        ensureOwned();
+        this.sender = sender;
+    }
+
+    public String getDestination() {
+        return destination;
+    }
+
+    public void setDestination(String destination) {
+        ensureOwned();
+        this.destination = destination;
+    }
+
+    public MessageType getMessageType() {
+        return messageType;
+    }
+
+    public void setMessageType(MessageType messageType) {
+        ensureOwned();
+        if (messageType == null) {
+            throw new IllegalArgumentException("Message type cannot be null");
+        }
+        this.messageType = messageType;
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    public void setSequence(long sequence) {
+        ensureOwned();
+        this.sequence = sequence;
+    }
+
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    public void setTimestamp(long timestamp) {
+        ensureOwned();
+        this.timestamp = timestamp;
+    }
+
+    /**
+     * Number of content bytes; usable as a mark for {@link #truncate(int)}.
+     */
+    public int length() {
+        return length;
+    }
+
+    /**
+     * The backing content buffer; only the first {@link #length()} bytes are valid.
+     */
+    public byte[] contentBuffer() {
+        return content;
+    }
+
+    public PooledMessage append(CharSequence text) {
+        ensureOwned();
+        int count = text.length();
+        ensureCapacity(count * 3);
+        byte[] buf = content;
+        int pos = length;
+        for (int i = 0; i < count; i++) {
+            char c = text.charAt(i);
+            if (c < 0x80) {
+                buf[pos++] = (byte) c;
+            } else if (c < 0x800) {
+                buf[pos++] = (byte) (0xC0 | (c >> 6));
+                buf[pos++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < count && Character.isLowSurrogate(text.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, text.charAt(++i));
+                buf[pos++] = (byte) (0xF0 | (codePoint >> 18));
+                buf[pos++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                buf[pos++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                buf[pos++] = (byte) (0x80 | (codePoint & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                buf[pos++] = (byte) '?';
+            } else {
+                buf[pos++] = (byte) (0xE0 | (c >> 12));
+                buf[pos++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                buf[pos++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+        length = pos;
+        return this;
+    }
+
+    public PooledMessage append(char c) {
+        if (c >= 0x80) {
+            return append(String.valueOf(c));
+        }
+        ensureOwned();
+        ensureCapacity(1);
+        content[length++] = (byte) c;
+        return this;
+    }
+
+    /**
+     * Appends the decimal digits of the value without creating a String.
+     */
+    public PooledMessage append(long value) {
+        ensureOwned();
+        if (value == Long.MIN_VALUE) {
+            return append("-9223372036854775808");
+        }
+        ensureCapacity(20);
+        if (value < 0) {
+            content[length++] = '-';
+            value = -value;
+        }
+        int digits = 1;
+        for (long rest = value / 10; rest > 0; rest /= 10) {
+            digits++;
+        }
+        for (int i = length + digits - 1; i >= length; i--) {
+            content[i] = (byte) ('0' + value % 10);
+            value /= 10;
+        }
+        length += digits;
+        return this;
+    }
+
+    public PooledMessage append(byte[] bytes, int offset, int count) {
+        ensureOwned();
+        ensureCapacity(count);
+        System.arraycopy(bytes, offset, content, length, count);
+        length += count;
+        return this;
+    }
+
+    /**
+     * Cuts the content back to the given length, e.g. a mark taken with {@link #length()}.
+     */
+    public PooledMessage truncate(int newLength) {
+        ensureOwned();
+        if (newLength < 0 || newLength > length) {
+            throw new IllegalArgumentException("Cannot truncate " + length + " bytes to " + newLength);
+        }
+        length = newLength;
+        return this;
+    }
+
+    /**
+     * Decodes the content into a new String; allocates, so keep it off hot paths.
+     */
+    public String contentAsString() {
+        return new String(content, 0, length, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Copies this message into an immutable Message, e.g. to hand it to String-based code.
+     */
+    public Message toMessage() {
+        return Message.of(sender, destination, contentAsString(), messageType, sequence, timestamp);
+    }
+
+    public PooledMessage copyFrom(Message message) {
+        set(message.getSender(), message.getDestination(), message.getMessageType(), message.getSequence());
+        timestamp = message.getTimestamp();
+        length = 0;
+        if (message.getContent() != null) {
+            append(message.getContent());
+        }
+        return this;
+    }
+
+    /**
+     * Returns this message to its pool. The message must not be used afterwards.
+     */
+    public void recycle() {
+        ensureOwned();
+        recycled = true;
+        if (pool != null) {
+            pool.release(this);
+        }
+    }
+
+    void reset() {
+        sender = null;
+        destination = null;
+        messageType = MessageType.NORMAL;
+        sequence = 0;
+        timestamp = 0;
+        length = 0;
+        recycled = false;
+    }
+
+    private void ensureOwned() {
+        if (recycled) {
+            throw new IllegalStateException("Message has already been recycled");
+        }
+    }
+
+    private void ensureCapacity(int additional) {
+        int required = length + additional;
+        if (required > content.length) {
+            byte[] grown = new byte[Math.max(required, content.length * 2)];
+            System.arraycopy(content, 0, grown, 0, length);
+            content = grown;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "PooledMessage{" +
+                "sender='" + sender + '\'' +
+                ", destination='" + destination + '\'' +
+                ", content='" + contentAsString() + '\'' +
+                ", messageType=" + messageType +
+                ", sequence=" + sequence +
+                ", timestamp=" + timestamp +
+                '}';
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.player.model;
+
+import com.example.player.config.PlayerConfig;
+import com.example.player.enums.TracePolicy;
+
+/**
+ * TraceSettings holds how the strategies of a Player extend reply chains: the TracePolicy and the
+ * number of hops listed before older ones are compacted.
+ * <p>
+ * Responsibilities:
+ * 1. Validate the policy and hop limit once, when the settings are built.
+ * 2. Compact the HopTrace of a received message so the reply's own hop, which Player appends with
+ * its sent number, keeps the trace within maxHops.
+ */
+public final class TraceSettings {
+
+    private final TracePolicy policy;
+    private final int maxHops;
+
+    public TraceSettings(TracePolicy policy, int maxHops) {
+        if (policy == null) {
+            throw new IllegalArgumentException("Trace policy cannot be null");
+        }
+        if (maxHops <= 0) {
+            throw new IllegalArgumentException("Max hops must be positive: " + maxHops);
+        }
+        this.policy = policy;
+        this.maxHops = maxHops;
+    }
+
+    /**
+     * Settings from player.trace.policy and player.trace.maxHops.
+     */
+    public static TraceSettings fromSystemProperties() {
+        return new TraceSettings(PlayerConfig.tracePolicy(), PlayerConfig.traceMaxHops());
+    }
+
+    public TracePolicy getPolicy() {
+        return policy;
+    }
+
+    public int getMaxHops() {
+        return maxHops;
+    }
+
+    /**
+     * Returns the trace a reply to a message with the given trace continues: unchanged under FULL or
+     * while fewer than maxHops hops are listed, otherwise compacted to maxHops - 1 hops.
+     */
+    public HopTrace forReply(HopTrace received) {
+        if (received == null) {
+            throw new IllegalArgumentException("Trace cannot be null");
+        }
+        if (policy == TracePolicy.FULL || received.getHopCount() < maxHops) {
+            return received;
+        }
+        return received.compact(maxHops - 1, policy);
+    }
+}
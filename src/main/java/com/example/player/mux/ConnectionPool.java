@@ -0,0 +1,86 @@
+package com.example.player.mux;
+
+import com.example.player.config.SocketConfig;
+import com.example.player.logger.Logger;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * ConnectionPool spreads logical channels over a small, fixed number of MultiplexedConnections
+ * to one responder host.
+ * <p>
+ * Responsibilities:
+ * 1. Connect lazily, so a pool of N costs at most N sockets and N TCP handshakes no matter how many
+ * conversations are opened.
+ * 2. Assign each new channel to the next connection in round-robin order.
+ * 3. Replace a connection that has been closed by the next channel that lands on its slot.
+ * <p>
+ * Thread-safety considerations:
+ * - openChannel() may be called from many threads; each slot is connected under its own lock.
+ */
+public class ConnectionPool implements Closeable {
+
+    private final String host;
+    private final int port;
+    private final SocketConfig socketConfig;
+    private final int window;
+    private final MultiplexedConnection[] connections;
+    private final Object[] slotLocks;
+    private final AtomicInteger nextSlot = new AtomicInteger();
+
+    public ConnectionPool(String host, int port, int size, SocketConfig socketConfig, int window) {
+        if (host == null) {
+            throw new IllegalArgumentException("Host cannot be null");
+        }
+        if (socketConfig == null) {
+            throw new IllegalArgumentException("Socket config cannot be null");
+        }
+        if (size <= 0) {
+            throw new IllegalArgumentException("Pool size must be positive: " + size);
+        }
+        this.host = host;
+        this.port = port;
+        this.socketConfig = socketConfig;
+        this.window = window;
+        this.connections = new MultiplexedConnection[size];
+        this.slotLocks = new Object[size];
+        for (int i = 0; i < size; i++) {
+            slotLocks[i] = new Object();
+        }
+    }
+
+    public LogicalChannel openChannel() throws IOException, InterruptedException {
+        int slot = Math.floorMod(nextSlot.getAndIncrement(), connections.length);
+        return connection(slot).openChannel();
+    }
+
+    public int size() {
+        return connections.length;
+    }
+
+    @Override
+    public void close() {
+        for (int i = 0; i < connections.length; i++) {
+            synchronized (slotLocks[i]) {
+                if (connections[i] != null) {
+                    connections[i].close();
+                    connections[i] = null;
+                }
+            }
+        }
+    }
+
+    private MultiplexedConnection connection(int slot) throws IOException {
+        synchronized (slotLocks[slot]) {
+            MultiplexedConnection connection = connections[slot];
+            if (connection == null || connection.isClosed()) {
+                connection = MultiplexedConnection.connect(host, port, socketConfig, window);
+                connections[slot] = connection;
+                Logger.debug("ConnectionPool", "Opened connection {} to {}:{}", slot, host, port);
+            }
+            return connection;
+        }
+    }
+}
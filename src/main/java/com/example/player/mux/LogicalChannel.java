@@ -0,0 +1,147 @@
+package com.example.player.mux;
+
+import com.example.player.enums.MessageType;
+import com.example.player.model.Message;
+
+import java.util.Queue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * LogicalChannel is one player conversation carried over a shared MultiplexedConnection.
+ * <p>
+ * Responsibilities:
+ * 1. Queue outgoing messages until the connection's writer schedules the channel.
+ * 2. Hold received messages for the channel's player.
+ * 3. Enforce credit-based flow control: a message is only sent while the peer has granted credit
+ * for it, and received messages are credited back once the player has taken them. The peer can
+ * therefore never have more than one window of messages queued here, so the connection reader
+ * never blocks on a slow channel and one channel cannot stall the others (no head-of-line blocking).
+ * 4. Detach itself from the connection once STOP has travelled in both directions.
+ * <p>
+ * Thread-safety considerations:
+ * - Any thread may send; the connection's reader and writer threads deliver and drain;
+ * the channel's player receives. All shared state is in concurrent queues and atomics.
+ */
+public class LogicalChannel {
+
+    private final int id;
+    private final MultiplexedConnection connection;
+    private final int window;
+    private final Semaphore sendCredits;
+    private final Queue<Message> outgoing = new ConcurrentLinkedQueue<>();
+    private final BlockingQueue<Message> inbox = new LinkedBlockingQueue<>();
+    private final AtomicInteger creditsToGrant = new AtomicInteger();
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private final AtomicBoolean stopSent = new AtomicBoolean();
+    private final AtomicBoolean stopReceived = new AtomicBoolean();
+    private int consumedSinceGrant;
+
+    LogicalChannel(int id, MultiplexedConnection connection, int window, int peerWindow) {
+        this.id = id;
+        this.connection = connection;
+        this.window = window;
+        this.sendCredits = new Semaphore(peerWindow);
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public MultiplexedConnection getConnection() {
+        return connection;
+    }
+
+    /**
+     * Queues a message for sending, waiting while the peer has granted no credit. Messages sent
+     * after this side's STOP are dropped: the conversation is over and the peer may have detached.
+     *
+     * @throws InterruptedException if interrupted while waiting or if the connection is closed
+     */
+    public void send(Message message) throws InterruptedException {
+        if (message == null) {
+            throw new IllegalArgumentException("Cannot send null message");
+        }
+        if (stopSent.get()) {
+            return;
+        }
+        connection.ensureOpen();
+        sendCredits.acquire();
+        connection.ensureOpen();
+        outgoing.add(message);
+        if (message.getMessageType() == MessageType.STOP && stopSent.compareAndSet(false, true)) {
+            detachIfFinished();
+        }
+        connection.schedule(this);
+    }
+
+    /**
+     * Takes the next received message; every half window consumed is credited back to the peer.
+     */
+    public Message receive() throws InterruptedException {
+        Message message = inbox.take();
+        if (++consumedSinceGrant >= Math.max(1, window / 2)) {
+            creditsToGrant.addAndGet(consumedSinceGrant);
+            consumedSinceGrant = 0;
+            connection.schedule(this);
+        }
+        return message;
+    }
+
+    public boolean hasPendingMessages() {
+        return !inbox.isEmpty();
+    }
+
+    public int getQueueDepth() {
+        return inbox.size();
+    }
+
+    void deliver(Message message) {
+        inbox.add(message);
+        if (message.getMessageType() == MessageType.STOP && stopReceived.compareAndSet(false, true)) {
+            detachIfFinished();
+        }
+    }
+
+    void grantSendCredits(int credits) {
+        sendCredits.release(credits);
+    }
+
+    /**
+     * Wakes a sender waiting for credit after the connection closed; it re-checks the connection.
+     */
+    void abort() {
+        sendCredits.release(Integer.MAX_VALUE / 2);
+        inbox.add(Message.sendStopMessage("Connection-" + id));
+    }
+
+    int takeCreditsToGrant() {
+        return creditsToGrant.getAndSet(0);
+    }
+
+    Message pollOutgoing() {
+        return outgoing.poll();
+    }
+
+    boolean hasOutgoingWork() {
+        return !outgoing.isEmpty() || creditsToGrant.get() > 0;
+    }
+
+    boolean markScheduled() {
+        return scheduled.compareAndSet(false, true);
+    }
+
+    void clearScheduled() {
+        scheduled.set(false);
+    }
+
+    private void detachIfFinished() {
+        if (stopSent.get() && stopReceived.get()) {
+            connection.detach(this);
+        }
+    }
+}
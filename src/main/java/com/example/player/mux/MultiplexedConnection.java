@@ -0,0 +1,324 @@
+package com.example.player.mux;
+
+import com.example.player.config.SocketConfig;
+import com.example.player.interfaces.ChannelListener;
+import com.example.player.interfaces.impl.message.codec.BinaryMessageDecoder;
+import com.example.player.interfaces.impl.message.codec.BinaryMessageEncoder;
+import com.example.player.io.CountingInputStream;
+import com.example.player.io.CountingOutputStream;
+import com.example.player.logger.Logger;
+import com.example.player.metrics.MetricsRegistry;
+import com.example.player.metrics.TransportMetrics;
+import com.example.player.model.Message;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * MultiplexedConnection carries many LogicalChannels, i.e. many player conversations, over one socket.
+ * <p>
+ * Frame layout (big-endian):
+ * - int    frame length (number of bytes that follow)
+ * - byte   frame kind: HELLO, DATA or CREDIT
+ * - int    channel id (0 for HELLO)
+ * - HELLO:  int receive window per channel of the sending side
+ * - DATA:   one binary message frame body, as written by BinaryMessageEncoder without its length prefix
+ * - CREDIT: int number of further messages the receiving side may send on the channel
+ * <p>
+ * Responsibilities:
+ * 1. Exchange HELLO frames, so each side knows how many messages it may initially send per channel.
+ * 2. Open channels locally (client side) or on the first DATA frame of an unknown channel id,
+ * handing them to a ChannelListener (server side).
+ * 3. Demultiplex incoming frames on a reader thread; thanks to per-channel credit the reader never
+ * blocks on a slow channel.
+ * 4. Write frames on a writer thread that serves channels with pending work in round-robin order,
+ * at most {@link #QUANTUM} messages per channel per turn, so a busy channel cannot starve the others.
+ * The socket is flushed only when no channel has anything left to write.
+ * 5. Close the socket and release every waiting sender and receiver when either side goes away, or
+ * when a DATA frame is longer than player.maxFrameBytes.
+ * <p>
+ * Thread-safety considerations:
+ * - The encoder belongs to the writer thread and the decoder to the reader thread; names are
+ * interned per connection exactly as on a plain socket.
+ */
+public class MultiplexedConnection implements Closeable {
+
+    static final byte HELLO = 0;
+    static final byte DATA = 1;
+    static final byte CREDIT = 2;
+    private static final int QUANTUM = 8;
+    private static final int STREAM_BUFFER_BYTES = 16 * 1024;
+    private static final long CLOSE_DRAIN_MILLIS = 1_000;
+
+    private final Socket socket;
+    private final int window;
+    private final ChannelListener listener;
+    private final DataInputStream in;
+    private final DataOutputStream out;
+    private final Map<Integer, LogicalChannel> channels = new ConcurrentHashMap<>();
+    private final BlockingQueue<LogicalChannel> ready = new LinkedBlockingQueue<>();
+    private final LogicalChannel shutdownSignal;
+    private final AtomicInteger nextChannelId = new AtomicInteger();
+    private final CountDownLatch helloReceived = new CountDownLatch(1);
+    private final BinaryMessageEncoder encoder = new BinaryMessageEncoder();
+    private final BinaryMessageDecoder decoder = new BinaryMessageDecoder();
+    private final TransportMetrics metrics = MetricsRegistry.get().transport("multiplexed");
+    private final Thread reader;
+    private final Thread writer;
+    private byte[] readBuffer = new byte[256];
+    private volatile int peerWindow;
+    private volatile boolean closed = false;
+
+    private MultiplexedConnection(Socket socket, int window, ChannelListener listener) throws IOException {
+        if (window <= 0) {
+            throw new IllegalArgumentException("Window must be positive: " + window);
+        }
+        this.socket = socket;
+        this.window = window;
+        this.listener = listener;
+        this.shutdownSignal = new LogicalChannel(0, this, 1, 0);
+        this.in = new DataInputStream(new BufferedInputStream(
+                new CountingInputStream(socket.getInputStream(), metrics.bytesReceivedCounter()), STREAM_BUFFER_BYTES));
+        this.out = new DataOutputStream(new BufferedOutputStream(
+                new CountingOutputStream(socket.getOutputStream(), metrics.bytesSentCounter()), STREAM_BUFFER_BYTES));
+        writeControl(HELLO, 0, window);
+        out.flush();
+        String address = String.valueOf(socket.getRemoteSocketAddress());
+        this.reader = Thread.ofPlatform().daemon().name("Mux-Reader-" + address).unstarted(this::readLoop);
+        this.writer = Thread.ofPlatform().daemon().name("Mux-Writer-" + address).unstarted(this::writeLoop);
+    }
+
+    /**
+     * Connects to a multiplexing server; channels are opened with {@link #openChannel()}.
+     */
+    public static MultiplexedConnection connect(String host, int port, SocketConfig socketConfig, int window)
+            throws IOException {
+        Socket socket = new Socket();
+        socketConfig.apply(socket);
+        socket.connect(new InetSocketAddress(host, port));
+        MultiplexedConnection connection = new MultiplexedConnection(socket, window, null);
+        connection.start();
+        return connection;
+    }
+
+    /**
+     * Serves an accepted socket; every channel the peer opens is passed to the listener.
+     */
+    public static MultiplexedConnection accept(Socket socket, int window, ChannelListener listener) throws IOException {
+        if (socket == null) {
+            throw new IllegalArgumentException("Socket cannot be null");
+        }
+        if (listener == null) {
+            throw new IllegalArgumentException("Channel listener cannot be null");
+        }
+        MultiplexedConnection connection = new MultiplexedConnection(socket, window, listener);
+        connection.start();
+        return connection;
+    }
+
+    /**
+     * Opens a new logical channel, waiting for the peer's HELLO if it has not arrived yet.
+     */
+    public LogicalChannel openChannel() throws InterruptedException {
+        ensureOpen();
+        helloReceived.await();
+        ensureOpen();
+        LogicalChannel channel = new LogicalChannel(nextChannelId.incrementAndGet(), this, window, peerWindow);
+        channels.put(channel.getId(), channel);
+        return channel;
+    }
+
+    public int getChannelCount() {
+        return channels.size();
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Stops accepting work, lets the writer drain what is already queued (bounded by a short
+     * timeout), then closes the socket and wakes every waiting sender and receiver.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        ready.add(shutdownSignal);
+        if (Thread.currentThread() != writer) {
+            try {
+                writer.join(CLOSE_DRAIN_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        try {
+            socket.close();
+        } catch (IOException e) {
+            Logger.warn("MultiplexedConnection", "Close failed: {}", e.getMessage());
+        }
+        helloReceived.countDown();
+        for (LogicalChannel channel : channels.values()) {
+            channel.abort();
+        }
+        channels.clear();
+    }
+
+    void ensureOpen() throws InterruptedException {
+        if (closed) {
+            throw new InterruptedException("Multiplexed connection is closed");
+        }
+    }
+
+    void schedule(LogicalChannel channel) {
+        if (channel.markScheduled()) {
+            ready.add(channel);
+        }
+    }
+
+    void detach(LogicalChannel channel) {
+        channels.remove(channel.getId(), channel);
+    }
+
+    private void start() {
+        reader.start();
+        writer.start();
+    }
+
+    private void readLoop() {
+        try {
+            while (!closed) {
+                int length = in.readInt();
+                byte kind = in.readByte();
+                int channelId = in.readInt();
+                switch (kind) {
+                    case HELLO -> {
+                        peerWindow = in.readInt();
+                        helloReceived.countDown();
+                    }
+                    case CREDIT -> {
+                        int credits = in.readInt();
+                        LogicalChannel channel = channels.get(channelId);
+                        if (channel != null) {
+                            channel.grantSendCredits(credits);
+                        }
+                    }
+                    case DATA -> onData(channelId, length - 5);
+                    default -> throw new IOException("Unknown frame kind: " + kind);
+                }
+            }
+        } catch (EOFException e) {
+            Logger.debug("MultiplexedConnection", "Peer closed {}", socket.getRemoteSocketAddress());
+        } catch (IOException e) {
+            if (!closed) {
+                Logger.warn("MultiplexedConnection", "Read failed: {}", e.getMessage());
+            }
+        } finally {
+            close();
+        }
+    }
+
+    private void onData(int channelId, int bodyLength) throws IOException {
+        decoder.checkFrameLength(bodyLength);
+        if (bodyLength > readBuffer.length) {
+            readBuffer = new byte[Math.max(bodyLength, readBuffer.length * 2)];
+        }
+        in.readFully(readBuffer, 0, bodyLength);
+        Message message = decoder.decodeFrame(ByteBuffer.wrap(readBuffer, 0, bodyLength));
+        metrics.messageReceived();
+        LogicalChannel channel = channels.get(channelId);
+        if (channel == null) {
+            channel = openedByPeer(channelId);
+            if (channel == null) {
+                return;
+            }
+        }
+        channel.deliver(message);
+    }
+
+    private LogicalChannel openedByPeer(int channelId) {
+        if (listener == null) {
+            Logger.debug("MultiplexedConnection", "Dropping message for closed channel {}", channelId);
+            return null;
+        }
+        LogicalChannel channel = new LogicalChannel(channelId, this, window, peerWindow);
+        channels.put(channelId, channel);
+        listener.onChannelOpened(channel);
+        return channel;
+    }
+
+    private void writeLoop() {
+        try {
+            while (true) {
+                LogicalChannel channel = ready.poll();
+                if (channel == null) {
+                    out.flush();
+                    channel = ready.take();
+                }
+                if (channel == shutdownSignal) {
+                    out.flush();
+                    return;
+                }
+                serve(channel);
+            }
+        } catch (IOException e) {
+            if (!closed) {
+                Logger.warn("MultiplexedConnection", "Write failed: {}", e.getMessage());
+            }
+            close();
+        } catch (InterruptedException e) {
+            close();
+        }
+    }
+
+    private void serve(LogicalChannel channel) throws IOException {
+        int credits = channel.takeCreditsToGrant();
+        if (credits > 0) {
+            writeControl(CREDIT, channel.getId(), credits);
+        }
+        for (int i = 0; i < QUANTUM; i++) {
+            Message message = channel.pollOutgoing();
+            if (message == null) {
+                break;
+            }
+            writeData(channel.getId(), message);
+        }
+        channel.clearScheduled();
+        if (channel.hasOutgoingWork()) {
+            schedule(channel);
+        }
+    }
+
+    private void writeData(int channelId, Message message) throws IOException {
+        int length = encoder.encodeFrame(message);
+        int bodyLength = length - BinaryMessageEncoder.FRAME_HEADER_BYTES;
+        out.writeInt(5 + bodyLength);
+        out.writeByte(DATA);
+        out.writeInt(channelId);
+        out.write(encoder.frameBuffer(), BinaryMessageEncoder.FRAME_HEADER_BYTES, bodyLength);
+        metrics.messageSent();
+    }
+
+    private void writeControl(byte kind, int channelId, int value) throws IOException {
+        out.writeInt(9);
+        out.writeByte(kind);
+        out.writeInt(channelId);
+        out.writeInt(value);
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.player.nio;
+
+import com.example.player.logger.Logger;
+
+import java.io.IOException;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * EventLoop multiplexes many non-blocking connections over a single thread.
+ * <p>
+ * Responsibilities:
+ * 1. Own one Selector and the thread that polls it.
+ * 2. Accept channel registrations from other threads (e.g. the acceptor) safely.
+ * 3. Dispatch readiness events to the NioConnection attached to each key.
+ * 4. Close every remaining connection when the loop is shut down.
+ * <p>
+ * Thread-safety considerations:
+ * - All connection state is touched only by the loop thread; other threads hand over
+ * channels through a lock-free queue and wake the selector up.
+ */
+public class EventLoop implements Runnable {
+
+    private final String name;
+    private final Selector selector;
+    private final Queue<NioConnection> pendingRegistrations = new ConcurrentLinkedQueue<>();
+    private Thread thread;
+    private volatile boolean running = false;
+
+    public EventLoop(String name) throws IOException {
+        this.name = name;
+        this.selector = Selector.open();
+    }
+
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        thread = new Thread(this, name);
+        thread.start();
+    }
+
+    public void register(NioConnection connection) {
+        if (connection == null) {
+            throw new IllegalArgumentException("Connection cannot be null");
+        }
+        pendingRegistrations.add(connection);
+        selector.wakeup();
+    }
+
+    @Override
+    public void run() {
+        Logger.log(name, "Event loop started");
+        try {
+            while (running) {
+                selector.select();
+                registerPending();
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    dispatch(key);
+                }
+            }
+        } catch (IOException | ClosedSelectorException e) {
+            Logger.error(name, "Event loop failed: {}", e.getMessage());
+        } finally {
+            closeAll();
+            Logger.log(name, "Event loop terminated");
+        }
+    }
+
+    public void shutdown() throws InterruptedException {
+        running = false;
+        selector.wakeup();
+        if (thread != null) thread.join();
+    }
+
+    private void registerPending() {
+        NioConnection connection;
+        while ((connection = pendingRegistrations.poll()) != null) {
+            try {
+                connection.register(selector);
+            } catch (IOException e) {
+                Logger.warn(name, "Registration failed: {}", e.getMessage());
+                connection.close();
+            }
+        }
+    }
+
+    private void dispatch(SelectionKey key) {
+        NioConnection connection = (NioConnection) key.attachment();
+        if (!key.isValid()) {
+            connection.close();
+            return;
+        }
+        if (key.isReadable()) {
+            connection.onReadable();
+        }
+        if (key.isValid() && key.isWritable()) {
+            connection.onWritable();
+        }
+    }
+
+    private void closeAll() {
+        for (SelectionKey key : selector.keys()) {
+            ((NioConnection) key.attachment()).close();
+        }
+        try {
+            selector.close();
+        } catch (IOException e) {
+            Logger.warn(name, "Selector close failed: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package com.example.player.nio;
+
+import com.example.player.domain.MessageHandler;
+import com.example.player.domain.Player;
+import com.example.player.enums.MessageType;
+import com.example.player.interfaces.impl.message.codec.BinaryMessageDecoder;
+import com.example.player.interfaces.impl.message.codec.BinaryMessageEncoder;
+import com.example.player.interfaces.impl.message.codec.CodecHandshake;
+import com.example.player.interfaces.impl.message.sender.NioMessageSender;
+import com.example.player.logger.Logger;
+import com.example.player.metrics.MetricsRegistry;
+import com.example.player.metrics.TransportMetrics;
+import com.example.player.model.Message;
+import com.example.player.session.SessionHandshake;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+
+/**
+ * NioConnection holds the state of one initiator connection served by an EventLoop.
+ * <p>
+ * Responsibilities:
+ * 1. Own a dedicated responder Player, its MessageHandler and therefore its own
+ * ResponderMessageStrategy, so conversations never share state.
+ * 2. Reassemble binary frames from partial non-blocking reads and dispatch each Message; a frame
+ * longer than player.maxFrameBytes closes the connection before any buffer is grown for it.
+ * 3. Buffer outgoing frames and write them when the channel is writable.
+ * 4. Close the channel once a STOP has been answered and the reply is flushed.
+ * <p>
+ * Thread-safety considerations:
+ * - Every method except the constructor is invoked on the owning EventLoop thread only.
+ * <p>
+ * Design notes:
+ * - Only the binary wire format is supported, because Java serialization cannot decode
+ * partial frames without blocking.
+ * - Neither the CodecHandshake (compression) nor the SessionHandshake (resumable sessions) is
+ * supported; a client that opens with either is refused instead of having its MAGIC read as a
+ * frame length.
+ * - The class is final because the constructor hands this to the responder's NioMessageSender;
+ * a subclass would be reachable through it before its own fields were initialised.
+ */
+public final class NioConnection {
+
+    private static final int INITIAL_BUFFER_SIZE = 4096;
+
+    private final SocketChannel channel;
+    private final Player responder;
+    private final MessageHandler handler;
+    private final BinaryMessageEncoder encoder = new BinaryMessageEncoder();
+    private final BinaryMessageDecoder decoder = new BinaryMessageDecoder();
+    private final TransportMetrics metrics = MetricsRegistry.get().transport("nio");
+    private ByteBuffer readBuffer = ByteBuffer.allocate(INITIAL_BUFFER_SIZE);
+    private ByteBuffer writeBuffer = ByteBuffer.allocate(INITIAL_BUFFER_SIZE);
+    private SelectionKey key;
+    private boolean firstFrame = true;
+    private boolean closeAfterFlush = false;
+    private boolean closed = false;
+
+    public NioConnection(SocketChannel channel, String responderName) {
+        if (channel == null) {
+            throw new IllegalArgumentException("Channel cannot be null");
+        }
+        this.channel = channel;
+        this.responder = new Player(responderName, false, 0);
+        this.responder.setPeerSender(new NioMessageSender(this));
+        this.handler = new MessageHandler(responder);
+    }
+
+    void register(Selector selector) throws IOException {
+        key = channel.register(selector, SelectionKey.OP_READ, this);
+    }
+
+    /**
+     * Appends the encoded message to the outgoing buffer; bytes are written after the
+     * current batch of incoming frames has been processed.
+     */
+    public void enqueue(Message message) {
+        int length = encoder.encodeFrame(message);
+        if (writeBuffer.remaining() < length) {
+            ByteBuffer grown = ByteBuffer.allocate(Math.max(writeBuffer.capacity() * 2, writeBuffer.position() + length));
+            writeBuffer.flip();
+            grown.put(writeBuffer);
+            writeBuffer = grown;
+        }
+        writeBuffer.put(encoder.frameBuffer(), 0, length);
+        metrics.messageSent();
+    }
+
+    void onReadable() {
+        try {
+            int read = channel.read(readBuffer);
+            if (read < 0) {
+                Logger.debug(responder.getName(), "Initiator disconnected");
+                close();
+                return;
+            }
+            metrics.bytesReceivedCounter().add(read);
+            readBuffer.flip();
+            processFrames();
+            readBuffer.compact();
+            flushWrites();
+        } catch (IOException | InterruptedException e) {
+            Logger.warn(responder.getName(), "Connection failed: {}", e.getMessage());
+            close();
+        }
+    }
+
+    void onWritable() {
+        try {
+            flushWrites();
+        } catch (IOException e) {
+            Logger.warn(responder.getName(), "Write failed: {}", e.getMessage());
+            close();
+        }
+    }
+
+    void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (key != null) {
+            key.cancel();
+        }
+        try {
+            channel.close();
+        } catch (IOException e) {
+            Logger.warn(responder.getName(), "Close failed: {}", e.getMessage());
+        }
+    }
+
+    private void processFrames() throws IOException, InterruptedException {
+        while (!closeAfterFlush && readBuffer.remaining() >= BinaryMessageEncoder.FRAME_HEADER_BYTES) {
+            int start = readBuffer.position();
+            int length = readBuffer.getInt(start);
+            if (firstFrame && (length == CodecHandshake.MAGIC || length == SessionHandshake.MAGIC)) {
+                throw new IOException("Handshakes are not supported by the NIO server; use ResponderServer");
+            }
+            firstFrame = false;
+            decoder.checkFrameLength(length);
+            if (readBuffer.remaining() < BinaryMessageEncoder.FRAME_HEADER_BYTES + length) {
+                ensureReadCapacity(BinaryMessageEncoder.FRAME_HEADER_BYTES + length);
+                return;
+            }
+            int frameEnd = start + BinaryMessageEncoder.FRAME_HEADER_BYTES + length;
+            int limit = readBuffer.limit();
+            readBuffer.position(start + BinaryMessageEncoder.FRAME_HEADER_BYTES).limit(frameEnd);
+            Message message = decoder.decodeFrame(readBuffer);
+            readBuffer.limit(limit).position(frameEnd);
+            dispatch(message);
+        }
+    }
+
+    private void dispatch(Message message) throws InterruptedException {
+        metrics.messageReceived();
+        if (message.getMessageType() == MessageType.STOP) {
+            Logger.debug(responder.getName(), "STOP received -> closing connection");
+            responder.sendStopMessage();
+            closeAfterFlush = true;
+            return;
+        }
+        handler.handleMessage(message);
+    }
+
+    private void flushWrites() throws IOException {
+        writeBuffer.flip();
+        metrics.bytesSentCounter().add(channel.write(writeBuffer));
+        boolean drained = !writeBuffer.hasRemaining();
+        writeBuffer.compact();
+        if (drained) {
+            if (closeAfterFlush) {
+                Logger.debug(responder.getName(), "Conversation finished. Message Sent ={}", responder.getSentCount());
+                close();
+            } else if ((key.interestOps() & SelectionKey.OP_WRITE) != 0) {
+                key.interestOps(SelectionKey.OP_READ);
+            }
+        } else {
+            key.interestOps(SelectionKey.OP_READ | SelectionKey.OP_WRITE);
+        }
+    }
+
+    private void ensureReadCapacity(int frameBytes) {
+        if (frameBytes > readBuffer.capacity()) {
+            ByteBuffer grown = ByteBuffer.allocate(Math.max(frameBytes, readBuffer.capacity() * 2));
+            grown.put(readBuffer);
+            grown.flip();
+            readBuffer = grown;
+        }
+    }
+}
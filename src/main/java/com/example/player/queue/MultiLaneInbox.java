@@ -0,0 +1,297 @@
+package com.example.player.queue;
+
+import com.example.player.model.Message;
+
+import java.util.AbstractQueue;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * MultiLaneInbox is a Player's inbox split into a control lane and one or more data lanes, each
+ * bounded by its own capacity.
+ * <p>
+ * Responsibilities:
+ * 1. Route messages whose MessageType is a control type to the control lane and all other messages
+ * to a data lane chosen by their sender, so one chatty sender fills only its own lane.
+ * 2. Dispatch control first: a waiting control message is taken before any data message, so STOP
+ * is never stuck behind a full data backlog.
+ * 3. Take data lanes in round-robin order, so senders that share an inbox are served fairly.
+ * 4. Block producers only on their own lane: a full data lane never keeps a STOP out.
+ * <p>
+ * Design notes:
+ * - One lock guards all lanes, with a not-full condition per lane, so a take wakes only producers
+ * of the lane it freed a slot in. The total count is volatile, so size() and isEmpty(), which the
+ * receiver calls after every message, do not take the lock; neither does poll() on an empty inbox,
+ * so a receiver spinning on it does not contend with producers for the lock.
+ * - Implements BlockingQueue, so the in-memory sender and receiver work on it unchanged; order is
+ * FIFO within a lane only.
+ * - iterator() returns a snapshot in dispatch order and does not support removal.
+ */
+public class MultiLaneInbox extends AbstractQueue<Message> implements BlockingQueue<Message> {
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final ArrayDeque<Message>[] lanes;
+    private final Condition[] notFull;
+    private final int[] capacities;
+    private volatile int count;
+    private int nextDataLane = 1;
+
+    public MultiLaneInbox(int controlCapacity, int dataLanes, int dataCapacity) {
+        if (controlCapacity <= 0 || dataCapacity <= 0) {
+            throw new IllegalArgumentException("Lane capacities must be positive");
+        }
+        if (dataLanes <= 0) {
+            throw new IllegalArgumentException("Data lane count must be positive: " + dataLanes);
+        }
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        ArrayDeque<Message>[] allLanes = new ArrayDeque[dataLanes + 1];
+        this.lanes = allLanes;
+        this.notFull = new Condition[dataLanes + 1];
+        this.capacities = new int[dataLanes + 1];
+        for (int i = 0; i < lanes.length; i++) {
+            int capacity = i == 0 ? controlCapacity : dataCapacity;
+            lanes[i] = new ArrayDeque<>(Math.min(capacity, 64));
+            notFull[i] = lock.newCondition();
+            capacities[i] = capacity;
+        }
+    }
+
+    public int getDataLaneCount() {
+        return lanes.length - 1;
+    }
+
+    /**
+     * Number of control messages waiting to be taken.
+     */
+    public int controlSize() {
+        lock.lock();
+        try {
+            return lanes[0].size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean offer(Message message) {
+        int lane = laneOf(message);
+        lock.lock();
+        try {
+            if (lanes[lane].size() >= capacities[lane]) {
+                return false;
+            }
+            enqueue(lane, message);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void put(Message message) throws InterruptedException {
+        int lane = laneOf(message);
+        lock.lockInterruptibly();
+        try {
+            while (lanes[lane].size() >= capacities[lane]) {
+                notFull[lane].await();
+            }
+            enqueue(lane, message);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean offer(Message message, long timeout, TimeUnit unit) throws InterruptedException {
+        int lane = laneOf(message);
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (lanes[lane].size() >= capacities[lane]) {
+                if (nanos <= 0) {
+                    return false;
+                }
+                nanos = notFull[lane].awaitNanos(nanos);
+            }
+            enqueue(lane, message);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Message poll() {
+        if (count == 0) {
+            return null;
+        }
+        lock.lock();
+        try {
+            return count == 0 ? null : dequeue();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Message take() throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            while (count == 0) {
+                notEmpty.await();
+            }
+            return dequeue();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Message poll(long timeout, TimeUnit unit) throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (count == 0) {
+                if (nanos <= 0) {
+                    return null;
+                }
+                nanos = notEmpty.awaitNanos(nanos);
+            }
+            return dequeue();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Message peek() {
+        lock.lock();
+        try {
+            if (count == 0) {
+                return null;
+            }
+            if (!lanes[0].isEmpty()) {
+                return lanes[0].peekFirst();
+            }
+            return lanes[nextNonEmptyDataLane()].peekFirst();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int size() {
+        return count;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    @Override
+    public int remainingCapacity() {
+        lock.lock();
+        try {
+            long remaining = 0;
+            for (int i = 0; i < lanes.length; i++) {
+                remaining += capacities[i] - lanes[i].size();
+            }
+            return (int) Math.min(remaining, Integer.MAX_VALUE);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int drainTo(Collection<? super Message> target) {
+        return drainTo(target, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Moves up to maxElements messages to the target in dispatch order: control first, then data
+     * lanes in round-robin order.
+     */
+    @Override
+    public int drainTo(Collection<? super Message> target, int maxElements) {
+        if (target == null) {
+            throw new IllegalArgumentException("Target collection cannot be null");
+        }
+        if (target == this) {
+            throw new IllegalArgumentException("Cannot drain an inbox into itself");
+        }
+        lock.lock();
+        try {
+            int drained = 0;
+            while (drained < maxElements && count > 0) {
+                target.add(dequeue());
+                drained++;
+            }
+            return drained;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Iterator<Message> iterator() {
+        lock.lock();
+        try {
+            List<Message> snapshot = new ArrayList<>(count);
+            snapshot.addAll(lanes[0]);
+            for (int i = 1; i < lanes.length; i++) {
+                snapshot.addAll(lanes[i]);
+            }
+            return Collections.unmodifiableList(snapshot).iterator();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private int laneOf(Message message) {
+        if (message == null) {
+            throw new IllegalArgumentException("Cannot enqueue null message");
+        }
+        if (message.getMessageType().isControl()) {
+            return 0;
+        }
+        if (lanes.length == 2 || message.getSender() == null) {
+            return 1;
+        }
+        return 1 + Math.floorMod(message.getSender().hashCode(), lanes.length - 1);
+    }
+
+    private void enqueue(int lane, Message message) {
+        lanes[lane].addLast(message);
+        count++;
+        notEmpty.signal();
+    }
+
+    private Message dequeue() {
+        int lane = lanes[0].isEmpty() ? nextNonEmptyDataLane() : 0;
+        Message message = lanes[lane].pollFirst();
+        if (lane != 0) {
+            nextDataLane = lane + 1 == lanes.length ? 1 : lane + 1;
+        }
+        count--;
+        notFull[lane].signal();
+        return message;
+    }
+
+    private int nextNonEmptyDataLane() {
+        int lane = nextDataLane;
+        while (lanes[lane].isEmpty()) {
+            lane = lane + 1 == lanes.length ? 1 : lane + 1;
+        }
+        return lane;
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.player.queue;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * SpscRingBuffer is a bounded, lock-free queue for exactly one producer thread and
+ * exactly one consumer thread.
+ * <p>
+ * Responsibilities:
+ * 1. Hand elements from the producer to the consumer without locks or per-element allocation.
+ * 2. Report a full buffer (offer returns false) and an empty buffer (poll returns null)
+ * instead of blocking, leaving the waiting policy to a WaitStrategy.
+ * <p>
+ * Design notes:
+ * - Capacity is rounded up to a power of two so indices wrap with a bit mask.
+ * - Producer and consumer indices live in separate, padded regions of one long[] so the
+ * two threads never write to the same cache line. Each side also caches the other side's
+ * index and only re-reads it (with acquire semantics) when the cached value says full/empty.
+ * - Elements are published with release/acquire ordering on the indices.
+ * <p>
+ * Thread-safety considerations:
+ * - Safe only for one producer and one consumer; offer() and poll() must each be called
+ * from a single thread.
+ */
+public class SpscRingBuffer<E> {
+
+    private static final VarHandle INDEX = MethodHandles.arrayElementVarHandle(long[].class);
+    private static final int PAD = 16;
+    private static final int PRODUCER_INDEX = PAD;
+    private static final int CACHED_CONSUMER_INDEX = PAD + 1;
+    private static final int CONSUMER_INDEX = PAD * 3;
+    private static final int CACHED_PRODUCER_INDEX = PAD * 3 + 1;
+
+    private final long[] indices = new long[PAD * 5];
+    private final E[] buffer;
+    private final int mask;
+
+    @SuppressWarnings("unchecked")
+    public SpscRingBuffer(int requestedCapacity) {
+        if (requestedCapacity <= 0 || requestedCapacity > (1 << 30)) {
+            throw new IllegalArgumentException("Capacity must be between 1 and 2^30: " + requestedCapacity);
+        }
+        int capacity = 1 << (32 - Integer.numberOfLeadingZeros(requestedCapacity - 1));
+        this.buffer = (E[]) new Object[capacity];
+        this.mask = capacity - 1;
+    }
+
+    public boolean offer(E element) {
+        if (element == null) {
+            throw new IllegalArgumentException("Cannot offer null element");
+        }
+        long producerIndex = indices[PRODUCER_INDEX];
+        if (producerIndex - indices[CACHED_CONSUMER_INDEX] > mask) {
+            long consumerIndex = (long) INDEX.getAcquire(indices, CONSUMER_INDEX);
+            indices[CACHED_CONSUMER_INDEX] = consumerIndex;
+            if (producerIndex - consumerIndex > mask) {
+                return false;
+            }
+        }
+        buffer[(int) producerIndex & mask] = element;
+        INDEX.setRelease(indices, PRODUCER_INDEX, producerIndex + 1);
+        return true;
+    }
+
+    public E poll() {
+        long consumerIndex = indices[CONSUMER_INDEX];
+        if (consumerIndex >= indices[CACHED_PRODUCER_INDEX]) {
+            long producerIndex = (long) INDEX.getAcquire(indices, PRODUCER_INDEX);
+            indices[CACHED_PRODUCER_INDEX] = producerIndex;
+            if (consumerIndex >= producerIndex) {
+                return null;
+            }
+        }
+        int slot = (int) consumerIndex & mask;
+        E element = buffer[slot];
+        buffer[slot] = null;
+        INDEX.setRelease(indices, CONSUMER_INDEX, consumerIndex + 1);
+        return element;
+    }
+
+    public int capacity() {
+        return mask + 1;
+    }
+
+    /**
+     * Returns an approximate number of queued elements; exact only when both sides are quiescent.
+     */
+    public int size() {
+        long consumerIndex = (long) INDEX.getAcquire(indices, CONSUMER_INDEX);
+        long producerIndex = (long) INDEX.getAcquire(indices, PRODUCER_INDEX);
+        return (int) Math.max(0, Math.min(producerIndex - consumerIndex, capacity()));
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+}
@@ -0,0 +1,179 @@
+package com.example.player.scheduler;
+
+import com.example.player.domain.MessageHandler;
+import com.example.player.domain.Player;
+import com.example.player.enums.MessageType;
+import com.example.player.logger.Logger;
+import com.example.player.metrics.MetricsRegistry;
+import com.example.player.model.Message;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Mailbox is the event-driven replacement of a PlayerThread: it queues a Player's messages and
+ * asks the MailboxScheduler to run the player only while messages are waiting.
+ * <p>
+ * Responsibilities:
+ * 1. Accept messages from any thread without blocking.
+ * 2. Move between IDLE, SCHEDULED and TERMINATED so that at most one activation runs at a time;
+ * the player's state is therefore only touched by one thread at a time, as with PlayerThread.
+ * 3. Per activation, hand at most one batch of messages to the MessageHandler, stop early once
+ * the time slice is used up, then flush the player's sender.
+ * 4. Keep control messages in a queue of their own that every activation drains first, so a STOP
+ * is acted on at the next activation however many data messages are waiting; on STOP, answer with
+ * the player's STOP, terminate and drop any later message.
+ * 5. Register the player with the MetricsRegistry while the mailbox is alive.
+ * 6. Terminate, like an interrupted PlayerThread, when the handler throws, so the mailbox never
+ * stays SCHEDULED without a pending activation and awaitTermination() returns.
+ * 7. Open an initiator's conversation from an activation (see start(String)), like
+ * PlayerThread.start(String), so the greeting or first window is never sent from outside.
+ */
+public class Mailbox implements Runnable {
+
+    private static final int IDLE = 0;
+    private static final int SCHEDULED = 1;
+    private static final int TERMINATED = 2;
+
+    private final MailboxScheduler scheduler;
+    private final Player player;
+    private final MessageHandler handler;
+    private final Queue<Message> queue = new ConcurrentLinkedQueue<>();
+    private final Queue<Message> control = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger state = new AtomicInteger(IDLE);
+    private final CountDownLatch terminated = new CountDownLatch(1);
+    private volatile String greeting;
+
+    Mailbox(MailboxScheduler scheduler, Player player, MessageHandler handler) {
+        if (player == null) {
+            throw new IllegalArgumentException("Player cannot be null");
+        }
+        this.scheduler = scheduler;
+        this.player = player;
+        this.handler = handler;
+        MetricsRegistry.get().registerPlayer(player, () -> queue.size() + control.size());
+    }
+
+    public Player getPlayer() {
+        return player;
+    }
+
+    /**
+     * Queues a message and schedules the player if it is idle. Messages for a terminated
+     * mailbox are dropped.
+     */
+    public void enqueue(Message message) {
+        if (message == null) {
+            throw new IllegalArgumentException("Cannot enqueue null message");
+        }
+        if (state.get() == TERMINATED) {
+            return;
+        }
+        (message.getMessageType().isControl() ? control : queue).add(message);
+        if (state.compareAndSet(IDLE, SCHEDULED)) {
+            scheduler.schedule(this);
+        }
+    }
+
+    /**
+     * Schedules an activation that opens the conversation with the given greeting through
+     * Player.startConversation, so it runs under the same one-activation-at-a-time rule as every
+     * message the player handles.
+     */
+    public void start(String greeting) {
+        if (greeting == null) {
+            throw new IllegalArgumentException("Greeting cannot be null");
+        }
+        this.greeting = greeting;
+        if (state.compareAndSet(IDLE, SCHEDULED)) {
+            scheduler.schedule(this);
+        }
+    }
+
+    public boolean isTerminated() {
+        return terminated.getCount() == 0;
+    }
+
+    public void awaitTermination() throws InterruptedException {
+        terminated.await();
+    }
+
+    /**
+     * @return false if the timeout elapsed before the mailbox terminated
+     */
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return terminated.await(timeout, unit);
+    }
+
+    @Override
+    public void run() {
+        long deadline = System.nanoTime() + scheduler.getTimeSliceNanos();
+        int batchSize = scheduler.getBatchSize();
+        try {
+            String opening = greeting;
+            if (opening != null) {
+                greeting = null;
+                player.startConversation(opening);
+            }
+            for (int processed = 0; processed < batchSize; processed++) {
+                Message message = control.poll();
+                if (message == null) {
+                    message = queue.poll();
+                }
+                if (message == null) {
+                    break;
+                }
+                if (message.getMessageType().isControl()) {
+                    if (!dispatchControl(message)) {
+                        return;
+                    }
+                    continue;
+                }
+                handler.handleMessage(message);
+                if (System.nanoTime() - deadline >= 0) {
+                    break;
+                }
+            }
+            player.flush();
+        } catch (InterruptedException e) {
+            Logger.log(player.getName(), "Interrupted - terminating mailbox");
+            terminate();
+            return;
+        } catch (RuntimeException e) {
+            // The pool would swallow it and leave the mailbox SCHEDULED forever
+            Logger.error(player.getName(), "Handler failed, terminating mailbox: {}", e);
+            terminate();
+            return;
+        }
+        state.set(IDLE);
+        if ((greeting != null || !queue.isEmpty() || !control.isEmpty()) && state.compareAndSet(IDLE, SCHEDULED)) {
+            scheduler.schedule(this);
+        }
+    }
+
+    /**
+     * @return false if the control message terminated the mailbox
+     */
+    private boolean dispatchControl(Message message) throws InterruptedException {
+        if (message.getMessageType() == MessageType.STOP) {
+            Logger.log(player.getName(), "STOP received -> terminating mailbox");
+            player.sendStopMessage();
+            terminate();
+            return false;
+        }
+        Logger.warn(player.getName(), "Ignoring unsupported control message {}", message.getMessageType());
+        return true;
+    }
+
+    private void terminate() {
+        state.set(TERMINATED);
+        queue.clear();
+        control.clear();
+        MetricsRegistry.get().unregisterPlayer(player);
+        terminated.countDown();
+        Logger.info(player.getName(), "Mailbox terminated. Message Sent ={}", player.getSentCount());
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.player.scheduler;
+
+import com.example.player.config.PlayerConfig;
+import com.example.player.domain.MessageHandler;
+import com.example.player.domain.Player;
+import com.example.player.interfaces.MessageStrategy;
+import com.example.player.logger.Logger;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MailboxScheduler runs any number of Players on a fixed, core-sized work-stealing pool.
+ * <p>
+ * Responsibilities:
+ * 1. Turn Players into Mailboxes that hold their pending messages and run only while non-empty,
+ * so an idle player costs a queue and no thread.
+ * 2. Run activations on a ForkJoinPool in async (FIFO) mode: a mailbox scheduled by a worker goes
+ * to that worker's own deque, and idle workers steal from busy ones.
+ * 3. Bound every activation by a message batch and a time slice, after which the mailbox is
+ * re-queued behind the others, so a chatty player cannot starve the rest.
+ * <p>
+ * Design notes:
+ * - Players keep their MessageHandler and MessageStrategy unchanged; only the loop that
+ * PlayerThread runs on a dedicated thread is replaced by short activations.
+ * - Handlers must not block for long: a blocked activation occupies one of only a few workers.
+ * Mailboxes are unbounded, so sending to another mailbox never blocks.
+ */
+public class MailboxScheduler {
+
+    private final ForkJoinPool pool;
+    private final int batchSize;
+    private final long timeSliceNanos;
+
+    public MailboxScheduler() {
+        this(PlayerConfig.schedulerThreads(), PlayerConfig.schedulerBatch(),
+                PlayerConfig.schedulerTimeSliceMicros());
+    }
+
+    public MailboxScheduler(int threads, int batchSize, long timeSliceMicros) {
+        if (threads <= 0) {
+            throw new IllegalArgumentException("Thread count must be positive: " + threads);
+        }
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive: " + batchSize);
+        }
+        if (timeSliceMicros <= 0) {
+            throw new IllegalArgumentException("Time slice must be positive: " + timeSliceMicros);
+        }
+        this.pool = new ForkJoinPool(threads, ForkJoinPool.defaultForkJoinWorkerThreadFactory,
+                (thread, error) -> Logger.warn(thread.getName(), "Mailbox activation failed: {}", error.toString()),
+                true);
+        this.batchSize = batchSize;
+        this.timeSliceNanos = TimeUnit.MICROSECONDS.toNanos(timeSliceMicros);
+    }
+
+    /**
+     * Creates the mailbox of a player that uses its role's default strategy.
+     */
+    public Mailbox register(Player player) {
+        return new Mailbox(this, player, new MessageHandler(player));
+    }
+
+    public Mailbox register(Player player, MessageStrategy strategy) {
+        return new Mailbox(this, player, new MessageHandler(player, strategy));
+    }
+
+    public int getParallelism() {
+        return pool.getParallelism();
+    }
+
+    /**
+     * Number of mailbox activations stolen by an idle worker from a busy one so far.
+     */
+    public long getStealCount() {
+        return pool.getStealCount();
+    }
+
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    int getBatchSize() {
+        return batchSize;
+    }
+
+    long getTimeSliceNanos() {
+        return timeSliceNanos;
+    }
+
+    void schedule(Mailbox mailbox) {
+        pool.execute(mailbox);
+    }
+}
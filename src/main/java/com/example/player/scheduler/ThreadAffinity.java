@@ -0,0 +1,81 @@
+package com.example.player.scheduler;
+
+import com.example.player.config.PlayerConfig;
+import com.example.player.logger.Logger;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * ThreadAffinity pins latency-critical platform threads to the CPUs listed in player.affinity.cpus.
+ * <p>
+ * Responsibilities:
+ * 1. Hand out the configured CPUs in turn, one per pinned thread.
+ * 2. Pin the calling thread on Linux by passing its native thread id (from /proc/thread-self)
+ * to taskset, since the JDK has no affinity API.
+ * 3. Treat pinning as a hint: without a configured CPU, on virtual threads (which move between
+ * carriers), on other operating systems or when taskset fails, the thread runs unpinned and the
+ * failure is only logged.
+ * <p>
+ * Design notes:
+ * - Pinning pays off together with a spinning wait strategy: a spinning thread that owns a core
+ * is never descheduled and keeps its caches warm. The CPUs should be kept free of other work
+ * (e.g. isolcpus), otherwise pinning only removes the scheduler's freedom to move the thread.
+ */
+public final class ThreadAffinity {
+
+    private static final Path THREAD_SELF = Path.of("/proc/thread-self");
+    private static final long TASKSET_TIMEOUT_MILLIS = 5_000;
+    private static final AtomicInteger NEXT_CPU = new AtomicInteger();
+    private static final int[] CPUS = PlayerConfig.affinityCpus();
+
+    private ThreadAffinity() {
+    }
+
+    public static boolean isEnabled() {
+        return CPUS.length > 0;
+    }
+
+    /**
+     * Pins the calling thread to the next configured CPU.
+     *
+     * @return the CPU the thread was pinned to, or -1 if it runs unpinned
+     */
+    public static int pinCurrentThread(String owner) {
+        if (!isEnabled()) {
+            return -1;
+        }
+        if (Thread.currentThread().isVirtual()) {
+            Logger.warn(owner, "Affinity ignored: virtual threads cannot be pinned");
+            return -1;
+        }
+        int cpu = CPUS[Math.floorMod(NEXT_CPU.getAndIncrement(), CPUS.length)];
+        try {
+            String tid = Files.readSymbolicLink(THREAD_SELF).getFileName().toString();
+            Process taskset = new ProcessBuilder("taskset", "-p", "-c", Integer.toString(cpu), tid)
+                    .redirectErrorStream(true)
+                    .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                    .start();
+            if (!taskset.waitFor(TASKSET_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                taskset.destroyForcibly();
+                Logger.warn(owner, "Affinity ignored: taskset timed out for CPU {}", cpu);
+                return -1;
+            }
+            if (taskset.exitValue() != 0) {
+                Logger.warn(owner, "Affinity ignored: taskset failed for CPU {}", cpu);
+                return -1;
+            }
+            Logger.info(owner, "Pinned thread {} to CPU {}", tid, cpu);
+            return cpu;
+        } catch (IOException | UnsupportedOperationException e) {
+            Logger.warn(owner, "Affinity ignored: {}", e.getMessage());
+            return -1;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return -1;
+        }
+    }
+}
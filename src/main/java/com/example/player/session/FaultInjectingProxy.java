@@ -0,0 +1,198 @@
+package com.example.player.session;
+
+import com.example.player.cluster.ResponderNode;
+import com.example.player.logger.Logger;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * FaultInjectingProxy relays TCP connections to a responder node and breaks them on purpose, to test
+ * ResumableSession locally.
+ * <p>
+ * Responsibilities:
+ * 1. Accept connections on a local port and relay each one, byte for byte in both directions, to a
+ * new connection to the target node.
+ * 2. Cut every relayed connection with a TCP reset once it has been open for the cut interval, so
+ * both ends see the failure the way they would see a dropped network path, with data still in
+ * flight lost. Timing the cut per connection keeps a handshake, which happens right after connecting,
+ * out of the way of cuts.
+ * 3. Count the connections relayed and cut.
+ * <p>
+ * Design notes:
+ * - A connection one end closes normally is half-closed towards the other end, so nothing in flight
+ * is lost except by a cut.
+ * - Two daemon pump threads per connection keep the relay simple; the proxy is a test tool and is
+ * not meant for many connections.
+ */
+public class FaultInjectingProxy implements AutoCloseable {
+
+    private static final int BUFFER_BYTES = 8192;
+
+    private final ServerSocket serverSocket;
+    private final ResponderNode target;
+    private final long cutIntervalMillis;
+    private final Set<Relay> relays = ConcurrentHashMap.newKeySet();
+    private final ScheduledExecutorService cutter = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "Proxy-Cutter");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicLong relayed = new AtomicLong();
+    private final AtomicLong cut = new AtomicLong();
+
+    public FaultInjectingProxy(int listenPort, ResponderNode target, long cutIntervalMillis) throws IOException {
+        if (target == null) {
+            throw new IllegalArgumentException("Target node cannot be null");
+        }
+        if (cutIntervalMillis <= 0) {
+            throw new IllegalArgumentException("Cut interval must be positive: " + cutIntervalMillis);
+        }
+        this.target = target;
+        this.cutIntervalMillis = cutIntervalMillis;
+        this.serverSocket = new ServerSocket();
+        serverSocket.bind(new InetSocketAddress(listenPort));
+    }
+
+    public void start() {
+        Thread.ofPlatform().daemon().name("Proxy-Acceptor").start(this::acceptLoop);
+        Logger.info("FaultInjectingProxy", "Relaying port {} to {}", serverSocket.getLocalPort(), target);
+    }
+
+    /**
+     * Resets every relayed connection.
+     *
+     * @return the number of connections cut
+     */
+    public int cutConnections() {
+        int count = 0;
+        for (Relay relay : relays) {
+            if (relays.remove(relay)) {
+                relay.reset();
+                count++;
+            }
+        }
+        if (count > 0) {
+            cut.addAndGet(count);
+            Logger.info("FaultInjectingProxy", "Cut {} connections", count);
+        }
+        return count;
+    }
+
+    private void cut(Relay relay) {
+        if (relays.remove(relay)) {
+            relay.reset();
+            cut.incrementAndGet();
+            Logger.info("FaultInjectingProxy", "Cut connection after {} ms", cutIntervalMillis);
+        }
+    }
+
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    public long getRelayedCount() {
+        return relayed.get();
+    }
+
+    public long getCutCount() {
+        return cut.get();
+    }
+
+    @Override
+    public void close() throws IOException {
+        cutter.shutdownNow();
+        serverSocket.close();
+        cutConnections();
+    }
+
+    private void acceptLoop() {
+        while (!serverSocket.isClosed()) {
+            Socket client;
+            try {
+                client = serverSocket.accept();
+            } catch (IOException e) {
+                return;
+            }
+            try {
+                Socket upstream = new Socket(target.getHost(), target.getPort());
+                client.setTcpNoDelay(true);
+                upstream.setTcpNoDelay(true);
+                Relay relay = new Relay(client, upstream);
+                relays.add(relay);
+                relayed.incrementAndGet();
+                cutter.schedule(() -> cut(relay), cutIntervalMillis, TimeUnit.MILLISECONDS);
+                relay.pump(client, upstream);
+                relay.pump(upstream, client);
+            } catch (IOException e) {
+                Logger.warn("FaultInjectingProxy", "Cannot reach {}", target);
+                reset(client);
+            }
+        }
+    }
+
+    private static void reset(Socket socket) {
+        try {
+            socket.setSoLinger(true, 0);
+            socket.close();
+        } catch (IOException ignored) {
+            // already closed
+        }
+    }
+
+    /**
+     * One relayed connection. An end that closes normally is half-closed towards the other end, so
+     * data in flight is delivered; a failed read or write resets both ends.
+     */
+    private final class Relay {
+
+        private final Socket client;
+        private final Socket upstream;
+        private final AtomicInteger openDirections = new AtomicInteger(2);
+
+        private Relay(Socket client, Socket upstream) {
+            this.client = client;
+            this.upstream = upstream;
+        }
+
+        private void pump(Socket from, Socket to) {
+            Thread.ofPlatform().daemon().name("Proxy-Pump").start(() -> {
+                byte[] buffer = new byte[BUFFER_BYTES];
+                try {
+                    InputStream in = from.getInputStream();
+                    OutputStream out = to.getOutputStream();
+                    int read;
+                    while ((read = in.read(buffer)) >= 0) {
+                        out.write(buffer, 0, read);
+                        out.flush();
+                    }
+                    to.shutdownOutput();
+                    if (openDirections.decrementAndGet() == 0) {
+                        relays.remove(this);
+                        client.close();
+                        upstream.close();
+                    }
+                } catch (IOException e) {
+                    relays.remove(this);
+                    reset();
+                }
+            });
+        }
+
+        private void reset() {
+            FaultInjectingProxy.reset(client);
+            FaultInjectingProxy.reset(upstream);
+        }
+    }
+}
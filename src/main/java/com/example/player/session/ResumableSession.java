@@ -0,0 +1,753 @@
+package com.example.player.session;
+
+import com.example.player.config.SocketConfig;
+import com.example.player.enums.MessageType;
+import com.example.player.factory.MessageSenderFactory;
+import com.example.player.interfaces.MessageCodec;
+import com.example.player.interfaces.MessageReceiver;
+import com.example.player.interfaces.MessageSender;
+import com.example.player.interfaces.impl.message.codec.CodecHandshake;
+import com.example.player.interfaces.impl.message.receiver.SocketMessageReceiver;
+import com.example.player.logger.Logger;
+import com.example.player.model.Message;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.Socket;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * ResumableSession keeps a socket conversation alive across broken TCP connections.
+ * <p>
+ * Responsibilities:
+ * 1. Number the messages of each direction in send order and keep every sent message in a bounded
+ * retransmit buffer until the peer acknowledges it; a full buffer blocks the sender.
+ * 2. Read the current connection on a session reader thread, hand messages to the player through a
+ * bounded queue and acknowledge them with cumulative ACK frames: every quarter of the peer's
+ * retransmit buffer, and at once for STOP.
+ * 3. Write the buffered messages and the due ACKs to the current connection on a session writer
+ * thread, flushing after every round of writes.
+ * 4. When the connection breaks, reconnect with backoff (client) or wait for the client to come back
+ * (server); both give up after the resume timeout and then fail the player's receiver.
+ * 5. On resume, exchange the received counts in the SessionHandshake, drop what the peer already has
+ * and replay the rest before any new message, so nothing is lost or delivered twice.
+ * 6. End quietly when the connection closes after both sides' STOPs went through, and let close()
+ * wait until the peer has acknowledged the first STOP this side sent. The STOP a PlayerThread echoes
+ * in reply to the peer's STOP needs no acknowledgement, since the peer has already finished.
+ * <p>
+ * Design notes:
+ * - Sequence numbers are not written per message: TCP keeps a connection in order, so counting is
+ * enough, and the counts are re-aligned by the handshake. Only ACK frames carry a count (in their
+ * sequence field), so every codec works unchanged.
+ * - A message decoded from a connection that has already been replaced is dropped, since the count
+ * sent in the newer handshake does not include it and the peer replays it.
+ * - No thread writes to a socket while holding the session lock: the player only appends to the
+ * retransmit buffer and the reader only records that an ACK is due, so neither blocks behind a
+ * socket write, and the reader keeps reading (and the peer's buffer keeps draining) while the
+ * writer waits for a full socket buffer.
+ * - The writer tracks per connection how many messages and which ACK it has written, so a replay
+ * after resume and new messages leave in sequence order and exactly once per connection.
+ * - A resuming client has given up on its old connection, so attach() closes it first, which fails
+ * a write that is blocked on the half-open socket.
+ * - Every connection gets fresh encoders and decoders for the codec agreed on the first connection,
+ * so stateful codecs (e.g. Deflate) restart cleanly after a resume.
+ */
+public class ResumableSession {
+
+    /**
+     * Opens a new TCP connection to the same server for a client to resume on.
+     */
+    @FunctionalInterface
+    public interface Connector {
+        Socket connect() throws IOException, InterruptedException;
+    }
+
+    private static final Message CLOSED = Message.of("ResumableSession", "closed", MessageType.STOP, 0);
+    private static final int HANDSHAKE_TIMEOUT_MILLIS = 5000;
+    private static final long INITIAL_BACKOFF_MILLIS = 50;
+    private static final long MAX_BACKOFF_MILLIS = 1000;
+
+    private final String owner;
+    private final long id;
+    private final Connector connector;
+    private final MessageCodec codec;
+    private final SocketConfig socketConfig;
+    private final int capacity;
+    private final long resumeTimeoutNanos;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition changed = lock.newCondition();
+    private final Condition writable = lock.newCondition();
+    private final ArrayDeque<Message> retransmit = new ArrayDeque<>();
+    private final BlockingQueue<Message> inbox;
+    private final Thread reader;
+    private final Thread writer;
+    private final MessageSender sender = new SessionSender();
+    private final MessageReceiver receiver = new SessionReceiver();
+    private volatile Connection connection;
+    private long sent;
+    private long received;
+    private long acknowledgement;
+    private int acknowledgeEvery;
+    private long lostAtNanos;
+    private long stopSequence;
+    private boolean stopReceived;
+    private boolean closed;
+    private volatile String failure;
+
+    private ResumableSession(String owner, long id, Connector connector, MessageCodec codec, SocketConfig socketConfig,
+                             int capacity, long resumeTimeoutMillis, Connection first, int peerCapacity) {
+        this.owner = owner;
+        this.id = id;
+        this.connector = connector;
+        this.codec = codec;
+        this.socketConfig = socketConfig;
+        this.capacity = capacity;
+        this.resumeTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(resumeTimeoutMillis);
+        this.inbox = new LinkedBlockingQueue<>(capacity);
+        this.connection = first;
+        this.acknowledgeEvery = acknowledgeInterval(peerCapacity);
+        this.reader = Thread.ofPlatform().daemon().name("Session-" + owner).unstarted(this::readLoop);
+        this.writer = Thread.ofPlatform().daemon().name("Session-Writer-" + owner).unstarted(this::writeLoop);
+    }
+
+    private void start() {
+        reader.start();
+        writer.start();
+    }
+
+    /**
+     * Client side: opens a new session on a connected socket. The connector is used for every
+     * reconnect and should reach the same server.
+     */
+    public static ResumableSession open(String owner, Socket socket, Connector connector, SocketConfig socketConfig,
+                                        int capacity, long resumeTimeoutMillis) throws Exception {
+        if (owner == null || socket == null || connector == null || socketConfig == null) {
+            throw new IllegalArgumentException("Owner, socket, connector and socket config cannot be null");
+        }
+        validate(capacity, resumeTimeoutMillis);
+        long id = ThreadLocalRandom.current().nextLong();
+        MessageCodec codec;
+        SessionHandshake.Hello reply;
+        Connection first;
+        try {
+            reply = SessionHandshake.offer(socket, id, false, 0, capacity);
+            codec = CodecHandshake.offer(socket, socketConfig, true);
+            first = new Connection(socket, socket.getInputStream(), codec, socketConfig);
+        } catch (Exception e) {
+            closeQuietly(socket);
+            throw e;
+        }
+        ResumableSession session = new ResumableSession(owner, id, connector, codec, socketConfig, capacity,
+                resumeTimeoutMillis, first, reply.getCapacity());
+        session.start();
+        Logger.info(owner, "Opened session {}", session.getIdString());
+        return session;
+    }
+
+    /**
+     * Server side: accepts a new session whose SessionHandshake offer has been read from the socket.
+     */
+    public static ResumableSession accept(String owner, Socket socket, SessionHandshake.Hello hello,
+                                          SocketConfig socketConfig, int capacity, long resumeTimeoutMillis)
+            throws Exception {
+        if (owner == null || socket == null || hello == null || socketConfig == null) {
+            throw new IllegalArgumentException("Owner, socket, hello and socket config cannot be null");
+        }
+        if (hello.isResume()) {
+            throw new IllegalArgumentException("A resumed session is attached, not accepted");
+        }
+        validate(capacity, resumeTimeoutMillis);
+        SessionHandshake.answer(socket, 0, capacity);
+        int previousTimeout = socket.getSoTimeout();
+        socket.setSoTimeout(HANDSHAKE_TIMEOUT_MILLIS);
+        CodecHandshake.Result handshake;
+        try {
+            handshake = CodecHandshake.accept(socket, socketConfig);
+        } finally {
+            socket.setSoTimeout(previousTimeout);
+        }
+        Connection first = new Connection(socket, handshake.getInputStream(), handshake.getCodec(), socketConfig);
+        ResumableSession session = new ResumableSession(owner, hello.getSessionId(), null, handshake.getCodec(),
+                socketConfig, capacity, resumeTimeoutMillis, first, hello.getCapacity());
+        session.start();
+        Logger.info(owner, "Accepted session {}", session.getIdString());
+        return session;
+    }
+
+    /**
+     * Server side: continues this session on a connection whose resume offer has been read. A
+     * connection the session still considers open is replaced, since the client has given up on it.
+     *
+     * @return false if the session has already ended; the caller rejects the connection
+     */
+    public boolean attach(Socket socket, SessionHandshake.Hello hello) throws Exception {
+        if (socket == null || hello == null) {
+            throw new IllegalArgumentException("Socket and hello cannot be null");
+        }
+        Connection stale = connection;
+        if (stale != null) {
+            stale.close();
+        }
+        lock.lock();
+        try {
+            if (closed || failure != null) {
+                return false;
+            }
+            if (connection != null) {
+                connection.close();
+                connection = null;
+            }
+            SessionHandshake.answer(socket, received, capacity);
+            resume(new Connection(socket, socket.getInputStream(), codec, socketConfig), hello.getReceived(),
+                    hello.getCapacity());
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public MessageSender sender() {
+        return sender;
+    }
+
+    public MessageReceiver receiver() {
+        return receiver;
+    }
+
+    /**
+     * Ends the session. If a STOP was sent, waits up to the resume timeout until the peer has
+     * acknowledged it, resuming as needed, so the peer's conversation can end cleanly too; in any case
+     * waits until the writer has flushed every message and the due ACK to the current connection.
+     */
+    public void close() throws InterruptedException {
+        lock.lock();
+        try {
+            long deadline = System.nanoTime() + resumeTimeoutNanos;
+            while (failure == null && ((stopSequence > 0 && !isStopAcknowledged())
+                    || (connection != null && !isFlushed(connection)))) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    Logger.warn(owner, "Closing with {} unacknowledged messages", retransmit.size());
+                    break;
+                }
+                changed.awaitNanos(remaining);
+            }
+            closed = true;
+            if (connection != null) {
+                connection.close();
+                connection = null;
+            }
+            changed.signalAll();
+            writable.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        reader.interrupt();
+        writer.interrupt();
+    }
+
+    private void readLoop() {
+        try {
+            Connection current;
+            while ((current = awaitConnection()) != null) {
+                Message message;
+                try {
+                    message = current.receiver.receiveMessage();
+                } catch (InterruptedException e) {
+                    if (Thread.currentThread().isInterrupted()) {
+                        throw e;
+                    }
+                    lost(current, e.getMessage());
+                    continue;
+                }
+                if (message.getMessageType() == MessageType.ACK) {
+                    acknowledged(message.getSequence());
+                } else if (deliver(current, message)) {
+                    inbox.put(message);
+                }
+            }
+            inbox.put(CLOSED);
+        } catch (InterruptedException e) {
+            // close() ends the reader
+        }
+    }
+
+    private void writeLoop() {
+        try {
+            List<Message> pending = new ArrayList<>();
+            while (true) {
+                Connection current;
+                long written;
+                long ack;
+                lock.lock();
+                try {
+                    while (!hasEnded() && (connection == null || !hasPendingWrites(connection))) {
+                        writable.await();
+                    }
+                    if (hasEnded()) {
+                        return;
+                    }
+                    current = connection;
+                    collectUnwritten(current, pending);
+                    ack = acknowledgement > current.acknowledged ? acknowledgement : 0;
+                    current.written = sent;
+                    written = sent;
+                    current.acknowledged = Math.max(current.acknowledged, acknowledgement);
+                } finally {
+                    lock.unlock();
+                }
+                try {
+                    if (!pending.isEmpty()) {
+                        current.sender.sendMessages(pending);
+                    }
+                    if (ack > 0) {
+                        current.sender.sendMessage(Message.of(owner, null, null, MessageType.ACK, ack));
+                    }
+                    current.sender.flush();
+                    flushed(current, written, ack);
+                } catch (InterruptedException e) {
+                    if (Thread.currentThread().isInterrupted()) {
+                        throw e;
+                    }
+                    lost(current, e.getMessage());
+                }
+                pending.clear();
+            }
+        } catch (InterruptedException e) {
+            // close() ends the writer
+        }
+    }
+
+    private void flushed(Connection current, long written, long ack) {
+        lock.lock();
+        try {
+            current.flushed = written;
+            current.flushedAcknowledgement = Math.max(current.flushedAcknowledgement, ack);
+            changed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Whether the writer is done: the session was closed or failed, or ended with both STOPs through.
+     * Called with the lock held.
+     */
+    private boolean hasEnded() {
+        return closed || failure != null || (connection == null && stopReceived && isStopAcknowledged());
+    }
+
+    /**
+     * Called with the lock held.
+     */
+    private boolean hasPendingWrites(Connection current) {
+        return current.written < sent || current.acknowledged < acknowledgement;
+    }
+
+    /**
+     * Whether every buffered message and the due ACK have been flushed to the connection. Called with
+     * the lock held.
+     */
+    private boolean isFlushed(Connection current) {
+        return current.flushed >= sent && current.flushedAcknowledgement >= acknowledgement;
+    }
+
+    /**
+     * Copies the buffered messages not yet written to the connection, oldest first, without walking
+     * the part of the buffer already written. Called with the lock held.
+     */
+    private void collectUnwritten(Connection current, List<Message> pending) {
+        long unwritten = Math.min(sent - current.written, retransmit.size());
+        Message[] tail = new Message[(int) unwritten];
+        Iterator<Message> newestFirst = retransmit.descendingIterator();
+        for (int i = tail.length - 1; i >= 0; i--) {
+            tail[i] = newestFirst.next();
+        }
+        pending.addAll(Arrays.asList(tail));
+    }
+
+    /**
+     * @return the connection to read from, or null once the session has ended
+     */
+    private Connection awaitConnection() throws InterruptedException {
+        lock.lock();
+        try {
+            while (true) {
+                if (closed || failure != null) {
+                    return null;
+                }
+                if (connection != null) {
+                    return connection;
+                }
+                if (stopReceived && isStopAcknowledged()) {
+                    return null;
+                }
+                long remaining = resumeTimeoutNanos - (System.nanoTime() - lostAtNanos);
+                if (remaining <= 0) {
+                    fail(connector != null ? "could not reconnect within the resume timeout"
+                            : "client did not resume within the resume timeout");
+                    return null;
+                }
+                if (connector != null) {
+                    break;
+                }
+                changed.awaitNanos(remaining);
+            }
+        } finally {
+            lock.unlock();
+        }
+        return reconnect();
+    }
+
+    /**
+     * Client side: connects again until the server accepts the resume or the resume timeout passes.
+     * Runs on the reader thread, the only thread that changes the received count.
+     */
+    private Connection reconnect() throws InterruptedException {
+        long backoff = INITIAL_BACKOFF_MILLIS;
+        while (true) {
+            Socket socket = null;
+            try {
+                socket = connector.connect();
+                SessionHandshake.Hello reply = SessionHandshake.offer(socket, id, true, received, capacity);
+                lock.lock();
+                try {
+                    if (closed) {
+                        socket.close();
+                        return null;
+                    }
+                    resume(new Connection(socket, socket.getInputStream(), codec, socketConfig), reply.getReceived(),
+                            reply.getCapacity());
+                    if (connection != null) {
+                        return connection;
+                    }
+                } finally {
+                    lock.unlock();
+                }
+            } catch (InterruptedException e) {
+                closeQuietly(socket);
+                throw e;
+            } catch (Exception e) {
+                closeQuietly(socket);
+                Logger.debug(owner, "Reconnect failed: {}", e.getMessage());
+            }
+            lock.lock();
+            try {
+                if (closed || failure != null) {
+                    return null;
+                }
+                if (System.nanoTime() - lostAtNanos >= resumeTimeoutNanos) {
+                    fail("could not reconnect within the resume timeout");
+                    return null;
+                }
+            } finally {
+                lock.unlock();
+            }
+            Thread.sleep(backoff);
+            backoff = Math.min(backoff * 2, MAX_BACKOFF_MILLIS);
+        }
+    }
+
+    /**
+     * Makes the connection current, dropping what the peer has already received; the writer replays
+     * the rest of the retransmit buffer before any new message. Called with the lock held.
+     */
+    private void resume(Connection next, long peerReceived, int peerCapacity) throws IOException {
+        long acknowledged = sent - retransmit.size();
+        if (peerReceived > sent || peerReceived < acknowledged) {
+            next.close();
+            fail("peer received " + peerReceived + " messages, but " + acknowledged + " to " + sent + " can be replayed");
+            throw new IOException("Session " + getIdString() + " cannot be resumed");
+        }
+        trim(peerReceived);
+        acknowledgeEvery = acknowledgeInterval(peerCapacity);
+        acknowledgement = received;
+        next.written = peerReceived;
+        next.flushed = peerReceived;
+        next.acknowledged = received;
+        next.flushedAcknowledgement = received;
+        connection = next;
+        Logger.info(owner, "Resumed session {}, replaying {} messages", getIdString(), retransmit.size());
+        changed.signalAll();
+        writable.signalAll();
+    }
+
+    /**
+     * Counts a message read from the connection and has the writer acknowledge it when due.
+     *
+     * @return false if the connection was replaced meanwhile; the peer replays the message
+     */
+    private boolean deliver(Connection from, Message message) {
+        lock.lock();
+        try {
+            if (connection != from) {
+                return false;
+            }
+            received++;
+            if (message.getMessageType() == MessageType.STOP) {
+                stopReceived = true;
+            }
+            if (stopReceived || received - acknowledgement >= acknowledgeEvery) {
+                acknowledgement = received;
+                writable.signalAll();
+            }
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void acknowledged(long count) {
+        lock.lock();
+        try {
+            if (count > sent) {
+                Logger.warn(owner, "Ignoring acknowledgement of {} unsent messages", count - sent);
+                return;
+            }
+            trim(count);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Drops messages up to the given count from the retransmit buffer. Called with the lock held.
+     */
+    private void trim(long count) {
+        while (!retransmit.isEmpty() && sent - retransmit.size() < count) {
+            retransmit.pollFirst();
+        }
+        changed.signalAll();
+    }
+
+    /**
+     * Drops a broken connection, unless it has already been replaced.
+     */
+    private void lost(Connection broken, String reason) {
+        lock.lock();
+        try {
+            broken.close();
+            if (connection != broken) {
+                return;
+            }
+            connection = null;
+            lostAtNanos = System.nanoTime();
+            if (!closed && !(stopReceived && isStopAcknowledged())) {
+                Logger.info(owner, "Connection lost ({}), {}", reason,
+                        connector != null ? "reconnecting" : "waiting for the client to resume");
+            }
+            changed.signalAll();
+            writable.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void fail(String reason) {
+        lock.lock();
+        try {
+            if (failure != null) {
+                return;
+            }
+            failure = reason;
+            Logger.warn(owner, "Session failed: {}", reason);
+            if (connection != null) {
+                connection.close();
+                connection = null;
+            }
+            changed.signalAll();
+            writable.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Whether the peer has received the first STOP this side sent. Called with the lock held.
+     */
+    private boolean isStopAcknowledged() {
+        return stopSequence > 0 && sent - retransmit.size() >= stopSequence;
+    }
+
+    private String getIdString() {
+        return Long.toHexString(id);
+    }
+
+    private static int acknowledgeInterval(int peerCapacity) {
+        return Math.max(1, peerCapacity / 4);
+    }
+
+    private static void validate(int capacity, long resumeTimeoutMillis) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Retransmit capacity must be positive: " + capacity);
+        }
+        if (resumeTimeoutMillis <= 0) {
+            throw new IllegalArgumentException("Resume timeout must be positive: " + resumeTimeoutMillis);
+        }
+    }
+
+    private static void closeQuietly(Socket socket) {
+        if (socket == null) {
+            return;
+        }
+        try {
+            socket.close();
+        } catch (IOException ignored) {
+            // already broken
+        }
+    }
+
+    /**
+     * Buffers every message for retransmission and hands it to the writer thread.
+     */
+    private final class SessionSender implements MessageSender {
+
+        @Override
+        public void sendMessage(Message message) throws InterruptedException {
+            if (message == null) {
+                throw new IllegalArgumentException("Cannot send null message");
+            }
+            sendMessages(List.of(message));
+        }
+
+        /**
+         * Buffers the batch in chunks that fit into the retransmit buffer, waking the writer once per chunk.
+         */
+        @Override
+        public void sendMessages(List<Message> messages) throws InterruptedException {
+            if (messages == null) {
+                throw new IllegalArgumentException("Cannot send null batch");
+            }
+            lock.lockInterruptibly();
+            try {
+                int from = 0;
+                while (from < messages.size()) {
+                    while (retransmit.size() >= capacity && failure == null && !closed) {
+                        changed.await();
+                    }
+                    if (failure != null || closed) {
+                        throw new InterruptedException(closedReason());
+                    }
+                    int to = Math.min(messages.size(), from + capacity - retransmit.size());
+                    List<Message> chunk = messages.subList(from, to);
+                    for (Message message : chunk) {
+                        if (message == null) {
+                            throw new IllegalArgumentException("Cannot send null message");
+                        }
+                        retransmit.addLast(message);
+                        sent++;
+                        if (stopSequence == 0 && message.getMessageType() == MessageType.STOP) {
+                            stopSequence = sent;
+                        }
+                    }
+                    writable.signal();
+                    from = to;
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * Nothing to do: the writer flushes after every round of writes. A failed write only drops the
+         * connection; the messages stay buffered and are replayed on resume.
+         */
+        @Override
+        public void flush() {
+        }
+    }
+
+    /**
+     * Takes messages from the queue the reader thread fills; fails once the session has ended.
+     */
+    private final class SessionReceiver implements MessageReceiver {
+
+        @Override
+        public Message receiveMessage() throws InterruptedException {
+            Message message = inbox.take();
+            if (message == CLOSED) {
+                inbox.offer(CLOSED);
+                throw new InterruptedException(closedReason());
+            }
+            return message;
+        }
+
+        @Override
+        public int receiveMessages(List<Message> batch, int maxMessages) throws InterruptedException {
+            if (batch == null || maxMessages <= 0) {
+                throw new IllegalArgumentException("Batch cannot be null and max messages must be positive");
+            }
+            batch.add(receiveMessage());
+            int received = 1 + inbox.drainTo(batch, maxMessages - 1);
+            if (batch.get(batch.size() - 1) == CLOSED) {
+                batch.remove(batch.size() - 1);
+                inbox.offer(CLOSED);
+                received--;
+            }
+            return received;
+        }
+
+        @Override
+        public boolean hasPendingMessages() {
+            return !inbox.isEmpty();
+        }
+
+        @Override
+        public int getQueueDepth() {
+            return inbox.size();
+        }
+    }
+
+    private String closedReason() {
+        return failure != null ? "Session failed: " + failure : "Session closed";
+    }
+
+    /**
+     * One TCP connection of the session with its own encoder and decoder, and how far the writer has
+     * got on it (guarded by the session lock).
+     */
+    private static final class Connection {
+
+        private final Socket socket;
+        private final MessageSender sender;
+        private final MessageReceiver receiver;
+        private long written;
+        private long flushed;
+        private long acknowledged;
+        private long flushedAcknowledgement;
+
+        private Connection(Socket socket, InputStream in, MessageCodec codec, SocketConfig socketConfig)
+                throws Exception {
+            this.socket = socket;
+            this.sender = MessageSenderFactory.createSocketSender(socket, codec, socketConfig);
+            this.receiver = new SocketMessageReceiver(in, codec);
+        }
+
+        /**
+         * Closes the socket first, so a writer blocked on it fails at once, then closes the sender,
+         * which stops the linger timer of a batching sender.
+         */
+        private void close() {
+            closeQuietly(socket);
+            try {
+                sender.close();
+            } catch (InterruptedException ignored) {
+                // nothing can be flushed to a closed socket
+            }
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.example.player.session;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.Socket;
+
+/**
+ * SessionHandshake opens or resumes a ResumableSession on a fresh connection, before the CodecHandshake
+ * and the first message.
+ * <p>
+ * Wire layout (big-endian):
+ * - client: int MAGIC, byte VERSION, long session id, byte resume flag, long messages received, int retransmit capacity
+ * - server: int MAGIC, byte status (ACCEPTED or UNKNOWN_SESSION), long messages received, int retransmit capacity
+ * <p>
+ * Responsibilities:
+ * 1. Tell the peer which session the connection belongs to and whether it is new or resumed.
+ * 2. Exchange how many messages each side has received in the session, so the other side knows
+ * which messages to drop from its retransmit buffer and which to replay.
+ * 3. Exchange the retransmit capacities, so each side acknowledges often enough to keep the
+ * peer's buffer from filling up.
+ * <p>
+ * Design notes:
+ * - Streams are read unbuffered, so no byte of the following CodecHandshake or message is consumed.
+ */
+public final class SessionHandshake {
+
+    public static final int MAGIC = 0x53455353;
+    static final byte VERSION = 1;
+    private static final byte ACCEPTED = 0;
+    private static final byte UNKNOWN_SESSION = 1;
+    private static final int REPLY_TIMEOUT_MILLIS = 5000;
+
+    private SessionHandshake() {
+    }
+
+    /**
+     * Client side: opens (resume = false) or resumes a session.
+     *
+     * @return the server's answer
+     * @throws IOException if the server does not answer or no longer knows the session
+     */
+    public static Hello offer(Socket socket, long sessionId, boolean resume, long received, int capacity)
+            throws IOException {
+        if (socket == null) {
+            throw new IllegalArgumentException("Socket cannot be null");
+        }
+        DataOutputStream out = new DataOutputStream(socket.getOutputStream());
+        out.writeInt(MAGIC);
+        out.writeByte(VERSION);
+        out.writeLong(sessionId);
+        out.writeBoolean(resume);
+        out.writeLong(received);
+        out.writeInt(capacity);
+        out.flush();
+
+        int previousTimeout = socket.getSoTimeout();
+        socket.setSoTimeout(REPLY_TIMEOUT_MILLIS);
+        try {
+            DataInputStream in = new DataInputStream(socket.getInputStream());
+            if (in.readInt() != MAGIC) {
+                throw new IOException("Peer did not answer the session handshake");
+            }
+            byte status = in.readByte();
+            Hello reply = new Hello(sessionId, resume, in.readLong(), in.readInt());
+            if (status == UNKNOWN_SESSION) {
+                throw new IOException("Server no longer knows session " + Long.toHexString(sessionId));
+            }
+            if (status != ACCEPTED || reply.received < 0 || reply.capacity <= 0) {
+                throw new IOException("Invalid session handshake answer");
+            }
+            return reply;
+        } finally {
+            socket.setSoTimeout(previousTimeout);
+        }
+    }
+
+    /**
+     * Server side: reads a client's offer. The caller answers it with {@link #answer}.
+     *
+     * @throws IOException if the client does not open a resumable session
+     */
+    public static Hello read(Socket socket) throws IOException {
+        if (socket == null) {
+            throw new IllegalArgumentException("Socket cannot be null");
+        }
+        int previousTimeout = socket.getSoTimeout();
+        socket.setSoTimeout(REPLY_TIMEOUT_MILLIS);
+        try {
+            DataInputStream in = new DataInputStream(socket.getInputStream());
+            if (in.readInt() != MAGIC) {
+                throw new IOException("Client did not open a resumable session");
+            }
+            int version = in.readUnsignedByte();
+            if (version != VERSION) {
+                throw new IOException("Unsupported session handshake version: " + version);
+            }
+            Hello hello = new Hello(in.readLong(), in.readBoolean(), in.readLong(), in.readInt());
+            if (hello.received < 0 || hello.capacity <= 0) {
+                throw new IOException("Invalid session handshake settings");
+            }
+            return hello;
+        } finally {
+            socket.setSoTimeout(previousTimeout);
+        }
+    }
+
+    /**
+     * Server side: accepts the offer read from the socket with this side's received count and capacity.
+     */
+    public static void answer(Socket socket, long received, int capacity) throws IOException {
+        write(socket, ACCEPTED, received, capacity);
+    }
+
+    /**
+     * Server side: refuses to resume a session that expired or never existed.
+     */
+    public static void reject(Socket socket) throws IOException {
+        write(socket, UNKNOWN_SESSION, 0, 1);
+    }
+
+    private static void write(Socket socket, byte status, long received, int capacity) throws IOException {
+        DataOutputStream out = new DataOutputStream(socket.getOutputStream());
+        out.writeInt(MAGIC);
+        out.writeByte(status);
+        out.writeLong(received);
+        out.writeInt(capacity);
+        out.flush();
+    }
+
+    /**
+     * One side's view of a session: its id, whether it is resumed, how many messages this side has
+     * received and how many unacknowledged messages it can buffer.
+     */
+    public static final class Hello {
+
+        private final long sessionId;
+        private final boolean resume;
+        private final long received;
+        private final int capacity;
+
+        private Hello(long sessionId, boolean resume, long received, int capacity) {
+            this.sessionId = sessionId;
+            this.resume = resume;
+            this.received = received;
+            this.capacity = capacity;
+        }
+
+        public long getSessionId() {
+            return sessionId;
+        }
+
+        public boolean isResume() {
+            return resume;
+        }
+
+        public long getReceived() {
+            return received;
+        }
+
+        public int getCapacity() {
+            return capacity;
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.example.player.shm;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * MappedFrameRing is a single-producer/single-consumer ring of fixed-size frame slots that
+ * lives inside a (memory-mapped) ByteBuffer, so that producer and consumer may be in
+ * different processes.
+ * <p>
+ * Region layout (offsets relative to the ring base):
+ * - long producer index at 0, long consumer index at 128 (separate cache lines)
+ * - slotCount slots of slotSize bytes from offset 256; a slot holds one length-prefixed
+ * binary frame exactly as {@code BinaryMessageEncoder} produces it
+ * <p>
+ * Responsibilities:
+ * 1. Copy a frame into the next free slot and publish it with a release store of the
+ * producer index.
+ * 2. Expose the oldest published frame to the consumer as a view of the slot, and free the
+ * slot with a release store of the consumer index.
+ * 3. Report full and empty instead of blocking; waiting is left to a WaitStrategy.
+ * <p>
+ * Thread-safety considerations:
+ * - One producer and one consumer, each confined to one thread (or serialised by its caller).
+ * - Each side caches the other side's index and re-reads it with acquire semantics only when
+ * the ring looks full or empty, like SpscRingBuffer.
+ */
+public class MappedFrameRing {
+
+    static final int PRODUCER_OFFSET = 0;
+    static final int CONSUMER_OFFSET = 128;
+    static final int SLOTS_OFFSET = 256;
+
+    private static final VarHandle LONG = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.nativeOrder());
+
+    private final ByteBuffer buffer;
+    private final ByteBuffer readView;
+    private final int base;
+    private final int slotCount;
+    private final int slotSize;
+    private final int mask;
+    private long producerIndex;
+    private long cachedConsumerIndex;
+    private long consumerIndex;
+    private long cachedProducerIndex;
+
+    MappedFrameRing(ByteBuffer buffer, int base, int slotCount, int slotSize) {
+        if (Integer.bitCount(slotCount) != 1) {
+            throw new IllegalArgumentException("Slot count must be a power of two: " + slotCount);
+        }
+        if (slotSize < 64 || slotSize % 8 != 0) {
+            throw new IllegalArgumentException("Slot size must be a multiple of 8 and at least 64: " + slotSize);
+        }
+        this.buffer = buffer;
+        this.readView = buffer.duplicate();
+        this.base = base;
+        this.slotCount = slotCount;
+        this.slotSize = slotSize;
+        this.mask = slotCount - 1;
+        this.producerIndex = (long) LONG.getAcquire(buffer, base + PRODUCER_OFFSET);
+        this.consumerIndex = (long) LONG.getAcquire(buffer, base + CONSUMER_OFFSET);
+        this.cachedConsumerIndex = consumerIndex;
+        this.cachedProducerIndex = producerIndex;
+    }
+
+    static int regionSize(int slotCount, int slotSize) {
+        return SLOTS_OFFSET + slotCount * slotSize;
+    }
+
+    public int slotSize() {
+        return slotSize;
+    }
+
+    /**
+     * Copies a length-prefixed frame into the next slot.
+     *
+     * @return false if the ring is full
+     */
+    public boolean offer(byte[] frame, int length) {
+        if (length > slotSize) {
+            throw new IllegalArgumentException("Frame of " + length + " bytes exceeds the slot size of " + slotSize);
+        }
+        if (producerIndex - cachedConsumerIndex > mask) {
+            cachedConsumerIndex = (long) LONG.getAcquire(buffer, base + CONSUMER_OFFSET);
+            if (producerIndex - cachedConsumerIndex > mask) {
+                return false;
+            }
+        }
+        buffer.put(slotOffset(producerIndex), frame, 0, length);
+        producerIndex++;
+        LONG.setRelease(buffer, base + PRODUCER_OFFSET, producerIndex);
+        return true;
+    }
+
+    /**
+     * Returns a view of the oldest frame body (after its length prefix), or null if the ring is
+     * empty. The view stays valid until {@link #release()} is called.
+     */
+    public ByteBuffer peek() {
+        if (consumerIndex >= cachedProducerIndex) {
+            cachedProducerIndex = (long) LONG.getAcquire(buffer, base + PRODUCER_OFFSET);
+            if (consumerIndex >= cachedProducerIndex) {
+                return null;
+            }
+        }
+        int offset = slotOffset(consumerIndex);
+        int length = buffer.getInt(offset);
+        readView.clear();
+        readView.position(offset + 4).limit(offset + 4 + length);
+        return readView;
+    }
+
+    /**
+     * Frees the slot returned by the last successful {@link #peek()}.
+     */
+    public void release() {
+        consumerIndex++;
+        LONG.setRelease(buffer, base + CONSUMER_OFFSET, consumerIndex);
+    }
+
+    public boolean isEmpty() {
+        return consumerIndex >= (long) LONG.getAcquire(buffer, base + PRODUCER_OFFSET);
+    }
+
+    private int slotOffset(long index) {
+        return base + SLOTS_OFFSET + (int) (index & mask) * slotSize;
+    }
+}
@@ -0,0 +1,130 @@
+package com.example.player.shm;
+
+import com.example.player.logger.Logger;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * SharedMemoryChannel is a memory-mapped file holding two MappedFrameRings, one per direction,
+ * through which two processes on the same host exchange binary frames.
+ * <p>
+ * File layout:
+ * - int magic, int version, int slotCount, int slotSize at offset 0
+ * - the initiator-to-responder ring from offset 128, the responder-to-initiator ring after it
+ * <p>
+ * Responsibilities:
+ * 1. Create and initialise the file on the responder side ({@link #create}); the magic number is
+ * published last so that a reader never sees a half-initialised header.
+ * 2. Attach to an existing file on the initiator side ({@link #open}), waiting until the
+ * responder has published it; ring geometry is read from the header.
+ * 3. Delete the file when the creating side closes the channel.
+ * <p>
+ * Design notes:
+ * - After set-up nothing on the hot path calls into the kernel: frames are copied into the
+ * mapping and published with release/acquire stores of the ring indices.
+ */
+public class SharedMemoryChannel implements AutoCloseable {
+
+    private static final int MAGIC = 0x504C5952;
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 128;
+    private static final long OPEN_POLL_MILLIS = 10;
+    private static final VarHandle INT = MethodHandles.byteBufferViewVarHandle(int[].class, ByteOrder.nativeOrder());
+
+    private final Path path;
+    private final FileChannel channel;
+    private final boolean owner;
+    private final MappedFrameRing initiatorToResponder;
+    private final MappedFrameRing responderToInitiator;
+
+    private SharedMemoryChannel(Path path, FileChannel channel, MappedByteBuffer buffer,
+                                int slotCount, int slotSize, boolean owner) {
+        this.path = path;
+        this.channel = channel;
+        this.owner = owner;
+        int ringBytes = MappedFrameRing.regionSize(slotCount, slotSize);
+        this.initiatorToResponder = new MappedFrameRing(buffer, HEADER_BYTES, slotCount, slotSize);
+        this.responderToInitiator = new MappedFrameRing(buffer, HEADER_BYTES + ringBytes, slotCount, slotSize);
+    }
+
+    /**
+     * Creates a fresh channel file, replacing any stale file left at the same path.
+     */
+    public static SharedMemoryChannel create(Path path, int slotCount, int slotSize) throws IOException {
+        if (path == null) {
+            throw new IllegalArgumentException("Path cannot be null");
+        }
+        Files.deleteIfExists(path);
+        long size = fileSize(slotCount, slotSize);
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        buffer.putInt(4, VERSION);
+        buffer.putInt(8, slotCount);
+        buffer.putInt(12, slotSize);
+        SharedMemoryChannel shm = new SharedMemoryChannel(path, channel, buffer, slotCount, slotSize, true);
+        INT.setRelease(buffer, 0, MAGIC);
+        Logger.info("SharedMemoryChannel", "Created {} with {} slots per direction", path, slotCount);
+        return shm;
+    }
+
+    /**
+     * Attaches to a channel file created by {@link #create}, waiting up to timeoutMillis for it.
+     */
+    public static SharedMemoryChannel open(Path path, long timeoutMillis) throws IOException, InterruptedException {
+        if (path == null) {
+            throw new IllegalArgumentException("Path cannot be null");
+        }
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        while (true) {
+            if (Files.exists(path) && Files.size(path) >= HEADER_BYTES) {
+                FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+                MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_BYTES);
+                if ((int) INT.getAcquire(header, 0) == MAGIC) {
+                    if (header.getInt(4) != VERSION) {
+                        channel.close();
+                        throw new IOException("Unsupported shared memory version " + header.getInt(4) + " in " + path);
+                    }
+                    int slotCount = header.getInt(8);
+                    int slotSize = header.getInt(12);
+                    MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, fileSize(slotCount, slotSize));
+                    Logger.info("SharedMemoryChannel", "Attached to {}", path);
+                    return new SharedMemoryChannel(path, channel, buffer, slotCount, slotSize, false);
+                }
+                channel.close();
+            }
+            if (System.currentTimeMillis() >= deadline) {
+                throw new IOException("Timed out waiting for shared memory file " + path);
+            }
+            Thread.sleep(OPEN_POLL_MILLIS);
+        }
+    }
+
+    public MappedFrameRing initiatorToResponder() {
+        return initiatorToResponder;
+    }
+
+    public MappedFrameRing responderToInitiator() {
+        return responderToInitiator;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+        if (owner) {
+            Files.deleteIfExists(path);
+        }
+    }
+
+    private static long fileSize(int slotCount, int slotSize) {
+        return HEADER_BYTES + 2L * MappedFrameRing.regionSize(slotCount, slotSize);
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.player.topology;
+
+import com.example.player.enums.TopologyType;
+
+/**
+ * Topology describes how N players are connected.
+ * <p>
+ * Responsibilities:
+ * 1. Name the players ("Player-0" .. "Player-(N-1)").
+ * 2. Tell which players originate requests and to whom (out-edges):
+ * - RING: every player sends to its successor, the last one to the first.
+ * - STAR: the hub (player 0) fans out to every leaf; leaves only reply. The hub sends the
+ * per-player request count to every leaf, so the total load matches the other topologies.
+ * - MESH: every player sends to every other player.
+ * - PIPELINE: player 0 sends into a chain of stages.
+ * 3. Tell pipeline stages where to forward a request; the last stage replies to the origin.
+ * <p>
+ * Design notes:
+ * - Edges are computed rather than stored, so a mesh of thousands of players does not
+ * allocate N^2 adjacency entries.
+ */
+public class Topology {
+
+    private final TopologyType type;
+    private final String[] names;
+
+    public Topology(TopologyType type, int size) {
+        if (type == null) {
+            throw new IllegalArgumentException("Topology type cannot be null");
+        }
+        if (size < 2) {
+            throw new IllegalArgumentException("A topology needs at least two players");
+        }
+        this.type = type;
+        this.names = new String[size];
+        for (int i = 0; i < size; i++) {
+            names[i] = "Player-" + i;
+        }
+    }
+
+    public TopologyType getType() {
+        return type;
+    }
+
+    public int size() {
+        return names.length;
+    }
+
+    public String playerName(int index) {
+        return names[index];
+    }
+
+    /**
+     * Number of players the given player sends requests to; 0 for players that only reply or forward.
+     */
+    public int outDegree(int index) {
+        return switch (type) {
+            case RING -> 1;
+            case STAR -> index == 0 ? names.length - 1 : 0;
+            case MESH -> names.length - 1;
+            case PIPELINE -> index == 0 ? 1 : 0;
+        };
+    }
+
+    /**
+     * Number of requests the given player originates when every player is asked to send requestsPerPlayer.
+     */
+    public int requestsOf(int index, int requestsPerPlayer) {
+        if (type == TopologyType.STAR) {
+            return requestsPerPlayer * outDegree(index);
+        }
+        return outDegree(index) > 0 ? requestsPerPlayer : 0;
+    }
+
+    /**
+     * The k-th request target of the given player, for 0 <= k < outDegree(index).
+     */
+    public int target(int index, int k) {
+        return switch (type) {
+            case RING -> (index + 1) % names.length;
+            case STAR -> k + 1;
+            case MESH -> k < index ? k : k + 1;
+            case PIPELINE -> 1;
+        };
+    }
+
+    /**
+     * The stage a pipeline player forwards requests to, or -1 if it answers them itself.
+     */
+    public int successor(int index) {
+        if (type == TopologyType.PIPELINE && index > 0 && index + 1 < names.length) {
+            return index + 1;
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,182 @@
+package com.example.player.topology;
+
+import com.example.player.domain.Player;
+import com.example.player.domain.PlayerThread;
+import com.example.player.config.PlayerConfig;
+import com.example.player.enums.ExecutionMode;
+import com.example.player.interfaces.MessageSender;
+import com.example.player.interfaces.impl.message.receiver.InMemoryMessageReceiver;
+import com.example.player.interfaces.impl.message.sender.InMemoryMessageSender;
+import com.example.player.interfaces.impl.message.sender.MailboxMessageSender;
+import com.example.player.interfaces.impl.message.sender.RoutingMessageSender;
+import com.example.player.interfaces.impl.message.strategy.TopologyMessageStrategy;
+import com.example.player.model.Message;
+import com.example.player.scheduler.Mailbox;
+import com.example.player.scheduler.MailboxScheduler;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TopologyEngine wires N in-memory Players according to a Topology and runs one exchange.
+ * <p>
+ * Responsibilities:
+ * 1. Create a Player, a TopologyMessageStrategy and a PlayerThread for every node, or a Mailbox
+ * when the engine runs on a MailboxScheduler.
+ * 2. Register every Player's inbox (or mailbox) in a directory and give each Player a RoutingMessageSender,
+ * so messages are routed by destination id over the MessageSender abstraction.
+ * 3. Start the threads, let every originating player fill its send window, and wait until
+ * all requests are answered.
+ * 4. Stop every player and expose the counters and round-trip times of the run.
+ * <p>
+ * Design notes:
+ * - Inboxes are unbounded: with cycles in the graph (ring, mesh) bounded inboxes can
+ * deadlock when players block on each other's full inbox. Memory stays bounded anyway,
+ * because at most players x windowSize requests (and their replies) are in flight.
+ * - The engine is single-use: build a new one for every run.
+ */
+public class TopologyEngine {
+
+    private final Topology topology;
+    private final List<Player> players;
+    private final List<TopologyMessageStrategy> strategies;
+    private final List<PlayerThread> threads;
+    private final List<Mailbox> mailboxes;
+    private final CountDownLatch completion;
+
+    public TopologyEngine(Topology topology, int requestsPerPlayer, int windowSize, ExecutionMode executionMode) {
+        this(topology, requestsPerPlayer, windowSize, executionMode, null);
+    }
+
+    /**
+     * Runs every player as a Mailbox on the given scheduler instead of on its own thread.
+     */
+    public TopologyEngine(Topology topology, int requestsPerPlayer, int windowSize, MailboxScheduler scheduler) {
+        this(topology, requestsPerPlayer, windowSize, null, scheduler);
+        if (scheduler == null) {
+            throw new IllegalArgumentException("Scheduler cannot be null");
+        }
+    }
+
+    private TopologyEngine(Topology topology, int requestsPerPlayer, int windowSize, ExecutionMode executionMode,
+                           MailboxScheduler scheduler) {
+        if (topology == null) {
+            throw new IllegalArgumentException("Topology cannot be null");
+        }
+        if (requestsPerPlayer <= 0) {
+            throw new IllegalArgumentException("Requests per player must be positive");
+        }
+        int size = topology.size();
+        int originators = 0;
+        for (int i = 0; i < size; i++) {
+            if (topology.outDegree(i) > 0) {
+                originators++;
+            }
+        }
+        this.topology = topology;
+        this.completion = new CountDownLatch(originators);
+        this.players = new ArrayList<>(size);
+        this.strategies = new ArrayList<>(size);
+        this.threads = new ArrayList<>(scheduler == null ? size : 0);
+        this.mailboxes = new ArrayList<>(scheduler == null ? 0 : size);
+
+        Map<String, MessageSender> directory = new HashMap<>(size * 2);
+        for (int i = 0; i < size; i++) {
+            int requests = topology.requestsOf(i, requestsPerPlayer);
+            Player player = new Player(topology.playerName(i), requests > 0, requests, windowSize, Integer.MAX_VALUE);
+            TopologyMessageStrategy strategy = new TopologyMessageStrategy(topology, i, requests, completion);
+            if (scheduler == null) {
+                directory.put(player.getName(), new InMemoryMessageSender(player.getInbox()));
+                threads.add(new PlayerThread(player,
+                        new InMemoryMessageReceiver(player.getInbox(), PlayerConfig.receiveWaitStrategyType()),
+                        strategy, executionMode));
+            } else {
+                Mailbox mailbox = scheduler.register(player, strategy);
+                directory.put(player.getName(), new MailboxMessageSender(mailbox));
+                mailboxes.add(mailbox);
+            }
+            players.add(player);
+            strategies.add(strategy);
+        }
+        for (Player player : players) {
+            player.setPeerSender(new RoutingMessageSender(directory));
+        }
+    }
+
+    public void start() throws InterruptedException {
+        threads.forEach(PlayerThread::start);
+        for (int i = 0; i < players.size(); i++) {
+            if (topology.outDegree(i) > 0) {
+                strategies.get(i).start(players.get(i));
+            }
+        }
+    }
+
+    /**
+     * @return false if the timeout elapsed before every request was answered
+     */
+    public boolean awaitCompletion(long timeout, TimeUnit unit) throws InterruptedException {
+        return completion.await(timeout, unit);
+    }
+
+    /**
+     * Sends STOP straight into every inbox (or mailbox) and waits for all players to exit.
+     */
+    public void stop() throws InterruptedException {
+        for (Mailbox mailbox : mailboxes) {
+            mailbox.enqueue(Message.sendStopMessage("TopologyEngine"));
+        }
+        for (Mailbox mailbox : mailboxes) {
+            mailbox.awaitTermination();
+        }
+        if (!threads.isEmpty()) {
+            for (Player player : players) {
+                player.getInbox().put(Message.sendStopMessage("TopologyEngine"));
+            }
+        }
+        for (PlayerThread thread : threads) {
+            thread.join();
+        }
+    }
+
+    public Topology getTopology() {
+        return topology;
+    }
+
+    /**
+     * Total messages sent by all players: requests, forwards and replies.
+     */
+    public long getMessagesSent() {
+        long sent = 0;
+        for (Player player : players) {
+            sent += player.getSentCount();
+        }
+        return sent;
+    }
+
+    /**
+     * Sorted round-trip times of every answered request, in nanoseconds.
+     */
+    public long[] getSortedRoundTripNanos() {
+        int answered = 0;
+        for (TopologyMessageStrategy strategy : strategies) {
+            answered += strategy.getAnsweredCount();
+        }
+        long[] all = new long[answered];
+        int position = 0;
+        for (TopologyMessageStrategy strategy : strategies) {
+            for (long roundTrip : strategy.getRoundTripNanos()) {
+                if (roundTrip != 0 && position < all.length) {
+                    all[position++] = roundTrip;
+                }
+            }
+        }
+        Arrays.sort(all, 0, position);
+        return position == all.length ? all : Arrays.copyOf(all, position);
+    }
+}
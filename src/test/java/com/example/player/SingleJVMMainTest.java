@@ -0,0 +1,54 @@
+package com.example.player;
+
+import com.example.player.domain.Player;
+import com.example.player.domain.PlayerThread;
+import com.example.player.enums.ExecutionMode;
+import com.example.player.enums.TransportType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Windowed conversations between two players in one JVM, with a window larger than the default
+ * inbox, ring and shared memory capacities.
+ */
+class SingleJVMMainTest {
+
+    private static final int WINDOW = 2000;
+    private static final int MESSAGES = 5000;
+
+    @ParameterizedTest
+    @EnumSource(TransportType.class)
+    @Timeout(60)
+    void completesWhenTheWindowExceedsTheDefaultQueueCapacity(TransportType transport) throws InterruptedException {
+        Player initiator = new Player("Player1", true, MESSAGES, WINDOW);
+        Player responder = new Player("Player2", false, 0, 1, Player.inboxCapacityFor(WINDOW));
+
+        List<PlayerThread> threads = SingleJVMMain.linkPlayers(initiator, responder, transport, ExecutionMode.PLATFORM);
+        threads.get(1).start();
+        threads.get(0).start("Hello Player2!");
+        for (PlayerThread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(MESSAGES, initiator.getSentCount());
+        assertEquals(MESSAGES, initiator.getAnsweredCount());
+        assertEquals(MESSAGES, responder.getReceivedCount());
+        assertEquals(0, initiator.getInFlightCount());
+    }
+
+    @Test
+    void rejectsAnInboxSmallerThanTheWindow() {
+        Player initiator = new Player("Player1", true, MESSAGES, WINDOW);
+        Player responder = new Player("Player2", false, 0);
+
+        assertThrows(IllegalArgumentException.class, () -> SingleJVMMain.linkPlayers(initiator, responder,
+                TransportType.BLOCKING_QUEUE, ExecutionMode.PLATFORM));
+    }
+}
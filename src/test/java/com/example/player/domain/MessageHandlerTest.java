@@ -0,0 +1,77 @@
+package com.example.player.domain;
+
+import com.example.player.enums.MessageType;
+import com.example.player.interfaces.MessageSender;
+import com.example.player.model.Message;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Batched dispatch through MessageHandler to the responder strategy.
+ */
+class MessageHandlerTest {
+
+    private final List<List<Message>> sends = new ArrayList<>();
+    private Player responder;
+    private MessageHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        responder = new Player("Responder", false, 0);
+        responder.setPeerSender(new MessageSender() {
+            @Override
+            public void sendMessage(Message message) {
+                sends.add(List.of(message));
+            }
+
+            @Override
+            public void sendMessages(List<Message> messages) {
+                sends.add(List.copyOf(messages));
+            }
+        });
+        handler = new MessageHandler(responder);
+    }
+
+    @Test
+    void repliesToABatchInOrderWithOneSend() throws InterruptedException {
+        handler.handleMessages(List.of(request(1), request(2), request(3)));
+
+        assertEquals(3, responder.getReceivedCount());
+        assertEquals(1, sends.size());
+        List<Message> replies = sends.get(0);
+        assertEquals(3, replies.size());
+        for (int i = 0; i < replies.size(); i++) {
+            assertEquals(MessageType.REPLY, replies.get(i).getMessageType());
+            assertEquals(i + 1, replies.get(i).getSequence());
+            assertEquals("request " + (i + 1), replies.get(i).getContent());
+        }
+    }
+
+    @Test
+    void emptyContentInABatchSendsStopLikeASingleMessage() throws InterruptedException {
+        handler.handleMessages(List.of(request(1), Message.sendNormalMessage("Initiator", "", 2), request(3)));
+
+        assertEquals(2, responder.getReceivedCount());
+        assertEquals(List.of(MessageType.REPLY, MessageType.STOP),
+                sends.stream().flatMap(List::stream).map(Message::getMessageType).toList());
+        assertEquals(1, sends.get(0).get(0).getSequence());
+    }
+
+    @Test
+    void nullContentInABatchStillAnswersTheMessagesBeforeIt() throws InterruptedException {
+        handler.handleMessages(List.of(request(1), request(2), Message.sendNormalMessage("Initiator", null, 3)));
+
+        assertEquals(2, responder.getReceivedCount());
+        assertEquals(List.of(MessageType.REPLY, MessageType.REPLY, MessageType.STOP),
+                sends.stream().flatMap(List::stream).map(Message::getMessageType).toList());
+    }
+
+    private static Message request(long sequence) {
+        return Message.sendNormalMessage("Initiator", "request " + sequence, sequence);
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.player.interfaces.impl.message.codec;
+
+import com.example.player.enums.MessageType;
+import com.example.player.model.HopTrace;
+import com.example.player.model.Message;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Round trips through BinaryMessageEncoder and BinaryMessageDecoder, over a stream and frame by
+ * frame, and the rejection of names that cannot be announced.
+ */
+class BinaryMessageCodecTest {
+
+    private static final List<Message> MESSAGES = List.of(
+            Message.sendNormalMessage("Player1", "Hello Player2!", 1),
+            Message.of("Player2", "Player1", "Hello Player2! 1", MessageType.REPLY, 1, 42L, HopTrace.EMPTY),
+            Message.sendNormalMessage("Player1", "café € 😀", 2),
+            Message.sendNormalMessage("Player1", "", 3),
+            Message.sendNormalMessage("Player1", null, 4),
+            Message.of("Player1", "Player2", "traced", MessageType.NORMAL, 5, 0L,
+                    HopTrace.of(7, Map.of("Player3", 7L), List.of()).append("Player1", 5).append("Player2", 5)),
+            Message.sendStopMessage("Player2"));
+
+    @Test
+    void roundTripsOverAStreamWithInternedNames() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        BinaryMessageEncoder encoder = new BinaryMessageEncoder(bytes);
+        for (Message message : MESSAGES) {
+            encoder.encode(message);
+        }
+        encoder.flush();
+
+        BinaryMessageDecoder decoder = new BinaryMessageDecoder(new ByteArrayInputStream(bytes.toByteArray()));
+        for (Message message : MESSAGES) {
+            assertSameMessage(message, decoder.decode());
+        }
+        assertEquals(0, decoder.available());
+    }
+
+    @Test
+    void roundTripsFrameByFrame() throws IOException {
+        BinaryMessageEncoder encoder = new BinaryMessageEncoder();
+        BinaryMessageDecoder decoder = new BinaryMessageDecoder();
+        for (Message message : MESSAGES) {
+            int length = encoder.encodeFrame(message);
+            ByteBuffer frame = ByteBuffer.wrap(encoder.frameBuffer().clone(), 0, length);
+            assertEquals(length - BinaryMessageEncoder.FRAME_HEADER_BYTES, frame.getInt());
+            assertSameMessage(message, decoder.decodeFrame(frame));
+        }
+    }
+
+    @Test
+    void rejectsNamesThatCannotBeAnnounced() throws IOException {
+        BinaryMessageEncoder encoder = new BinaryMessageEncoder();
+        BinaryMessageDecoder decoder = new BinaryMessageDecoder();
+        String longest = "é".repeat(BinaryMessageEncoder.MAX_NAME_BYTES / 2) + "x";
+
+        assertThrows(IllegalArgumentException.class,
+                () -> encoder.encodeFrame(Message.sendNormalMessage(null, "content", 1)));
+        assertThrows(IllegalArgumentException.class,
+                () -> encoder.encodeFrame(Message.sendNormalMessage(longest + "x", "content", 1)));
+
+        Message message = Message.sendNormalMessage(longest, "content", 1);
+        int length = encoder.encodeFrame(message);
+        assertSameMessage(message, decoder.decodeFrame(ByteBuffer.wrap(encoder.frameBuffer(), 0, length)
+                .position(BinaryMessageEncoder.FRAME_HEADER_BYTES)));
+    }
+
+    private static void assertSameMessage(Message expected, Message actual) {
+        assertEquals(expected.getSender(), actual.getSender());
+        assertEquals(expected.getDestination(), actual.getDestination());
+        assertEquals(expected.getContent(), actual.getContent());
+        assertEquals(expected.getMessageType(), actual.getMessageType());
+        assertEquals(expected.getSequence(), actual.getSequence());
+        assertEquals(expected.getTimestamp(), actual.getTimestamp());
+        assertEquals(expected.getTrace().toString(), actual.getTrace().toString());
+    }
+}
@@ -0,0 +1,128 @@
+package com.example.player.journal;
+
+import com.example.player.enums.JournalSyncPolicy;
+import com.example.player.enums.MessageType;
+import com.example.player.model.HopTrace;
+import com.example.player.model.Message;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Round trips through MessageJournal across segment rolls, and recovery from a torn last record.
+ */
+class MessageJournalTest {
+
+    private static final int SEGMENT_BYTES = 512;
+    private static final int MESSAGES = 100;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void replaysEveryMessageAcrossSegmentRolls() throws IOException {
+        List<Message> appended = new ArrayList<>();
+        List<Long> offsets = new ArrayList<>();
+        try (MessageJournal journal = MessageJournal.open(directory, SEGMENT_BYTES, JournalSyncPolicy.NONE, 0)) {
+            for (int i = 1; i <= MESSAGES; i++) {
+                Message message = message(i);
+                appended.add(message);
+                offsets.add(journal.append(message));
+            }
+            assertTrue(segmentCount() > 1, "the journal should have rolled to new segments");
+
+            List<Message> replayed = new ArrayList<>();
+            List<Long> replayedOffsets = new ArrayList<>();
+            long end = journal.replay(0, (message, offset) -> {
+                replayed.add(message);
+                replayedOffsets.add(offset);
+            });
+            assertSameMessages(appended, replayed);
+            assertEquals(offsets, replayedOffsets);
+            assertEquals(journal.getEndOffset(), end);
+        }
+
+        List<Message> afterRestart = new ArrayList<>();
+        int from = MESSAGES / 2;
+        MessageJournal.replay(directory, offsets.get(from), (message, offset) -> afterRestart.add(message));
+        assertSameMessages(appended.subList(from, MESSAGES), afterRestart);
+    }
+
+    @Test
+    void discardsTruncatedLastRecordOnReopen() throws IOException {
+        List<Message> appended = new ArrayList<>();
+        long lastOffset;
+        long end;
+        try (MessageJournal journal = MessageJournal.open(directory, SEGMENT_BYTES, JournalSyncPolicy.ALWAYS, 0)) {
+            for (int i = 1; i < MESSAGES; i++) {
+                Message message = message(i);
+                appended.add(message);
+                journal.append(message);
+            }
+            lastOffset = journal.append(message(MESSAGES));
+            end = journal.getEndOffset();
+        }
+        Path lastSegment = lastSegment();
+        long segmentBase = Long.parseLong(lastSegment.getFileName().toString().replace(".log", ""));
+        try (FileChannel channel = FileChannel.open(lastSegment, StandardOpenOption.WRITE)) {
+            channel.truncate(lastOffset - segmentBase + (end - lastOffset) / 2);
+        }
+
+        try (MessageJournal journal = MessageJournal.open(directory, SEGMENT_BYTES, JournalSyncPolicy.ALWAYS, 0)) {
+            assertEquals(lastOffset, journal.getEndOffset());
+            List<Message> replayed = new ArrayList<>();
+            journal.replay(0, (message, offset) -> replayed.add(message));
+            assertSameMessages(appended, replayed);
+
+            Message again = message(MESSAGES);
+            appended.add(again);
+            assertEquals(lastOffset, journal.append(again));
+            replayed.clear();
+            journal.replay(0, (message, offset) -> replayed.add(message));
+            assertSameMessages(appended, replayed);
+        }
+    }
+
+    private static Message message(int i) {
+        HopTrace trace = i % 3 == 0 ? HopTrace.EMPTY.append("Player1", i).append("Player2", i) : HopTrace.EMPTY;
+        return Message.of(i % 2 == 0 ? "Player1" : "Player2", null, "message " + i, MessageType.NORMAL, i,
+                1000L * i, trace);
+    }
+
+    private static void assertSameMessages(List<Message> expected, List<Message> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            Message e = expected.get(i);
+            Message a = actual.get(i);
+            assertEquals(e.getSender(), a.getSender());
+            assertEquals(e.getContent(), a.getContent());
+            assertEquals(e.getMessageType(), a.getMessageType());
+            assertEquals(e.getSequence(), a.getSequence());
+            assertEquals(e.getTimestamp(), a.getTimestamp());
+            assertEquals(e.getTrace().toString(), a.getTrace().toString());
+        }
+    }
+
+    private long segmentCount() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> path.toString().endsWith(".log")).count();
+        }
+    }
+
+    private Path lastSegment() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> path.toString().endsWith(".log")).sorted().reduce((a, b) -> b).orElseThrow();
+        }
+    }
+}
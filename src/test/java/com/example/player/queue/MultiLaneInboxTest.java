@@ -0,0 +1,130 @@
+package com.example.player.queue;
+
+import com.example.player.enums.MessageType;
+import com.example.player.model.Message;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Lane routing, dispatch order and per-sender FIFO of MultiLaneInbox. "A" and "B" hash to
+ * different lanes of a two-lane inbox.
+ */
+class MultiLaneInboxTest {
+
+    private static final int PRODUCERS = 4;
+    private static final int MESSAGES_PER_PRODUCER = 20_000;
+
+    @Test
+    void takesControlFirstThenAlternatesBetweenSenders() {
+        MultiLaneInbox inbox = new MultiLaneInbox(4, 2, 8);
+        for (int i = 1; i <= 3; i++) {
+            inbox.add(message("A", i));
+        }
+        inbox.add(message("B", 1));
+        inbox.add(message("B", 2));
+        inbox.add(Message.sendStopMessage("A"));
+
+        List<Message> drained = new ArrayList<>();
+        assertEquals(6, inbox.drainTo(drained));
+
+        assertEquals(MessageType.STOP, drained.get(0).getMessageType());
+        assertNotEquals(drained.get(1).getSender(), drained.get(2).getSender());
+        assertNotEquals(drained.get(3).getSender(), drained.get(4).getSender());
+        assertEquals("A", drained.get(5).getSender());
+        assertInSenderOrder(drained.subList(1, drained.size()));
+        assertTrue(inbox.isEmpty());
+        assertNull(inbox.poll());
+    }
+
+    @Test
+    void aFullDataLaneRefusesOnlyItsOwnSender() {
+        MultiLaneInbox inbox = new MultiLaneInbox(1, 2, 2);
+        assertTrue(inbox.offer(message("A", 1)));
+        assertTrue(inbox.offer(message("A", 2)));
+
+        assertFalse(inbox.offer(message("A", 3)));
+        assertTrue(inbox.offer(message("B", 1)));
+        assertTrue(inbox.offer(Message.sendStopMessage("A")));
+        assertEquals(1, inbox.controlSize());
+        assertEquals(4, inbox.size());
+        assertEquals(1, inbox.remainingCapacity());
+
+        assertEquals(MessageType.STOP, inbox.poll().getMessageType());
+    }
+
+    @Test
+    @Timeout(30)
+    void keepsEachSendersOrderUnderConcurrentProducers() throws InterruptedException {
+        MultiLaneInbox inbox = new MultiLaneInbox(PRODUCERS, 3, 16);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        List<Thread> producers = new ArrayList<>();
+        for (int p = 0; p < PRODUCERS; p++) {
+            String sender = "Producer-" + p;
+            producers.add(Thread.ofPlatform().name(sender).start(() -> {
+                try {
+                    for (int i = 1; i <= MESSAGES_PER_PRODUCER; i++) {
+                        inbox.put(message(sender, i));
+                    }
+                    inbox.put(Message.sendStopMessage(sender));
+                } catch (Throwable e) {
+                    failure.set(e);
+                }
+            }));
+        }
+
+        Map<String, Long> lastSequence = new HashMap<>();
+        int stops = 0;
+        int received = 0;
+        while (stops < PRODUCERS) {
+            Message message = inbox.take();
+            if (message.getMessageType() == MessageType.STOP) {
+                stops++;
+                continue;
+            }
+            long previous = lastSequence.getOrDefault(message.getSender(), 0L);
+            assertEquals(previous + 1, message.getSequence(), "lost, duplicated or reordered message");
+            lastSequence.put(message.getSender(), message.getSequence());
+            received++;
+        }
+        for (Thread producer : producers) {
+            producer.join();
+        }
+        // Control is taken first, so data can still be waiting after the last STOP
+        Message message;
+        while ((message = inbox.poll()) != null) {
+            long previous = lastSequence.getOrDefault(message.getSender(), 0L);
+            assertEquals(previous + 1, message.getSequence(), "lost, duplicated or reordered message");
+            lastSequence.put(message.getSender(), message.getSequence());
+            received++;
+        }
+
+        assertNull(failure.get());
+        assertEquals(PRODUCERS * MESSAGES_PER_PRODUCER, received);
+        lastSequence.values().forEach(last -> assertEquals(MESSAGES_PER_PRODUCER, last));
+    }
+
+    private static Message message(String sender, long sequence) {
+        return Message.sendNormalMessage(sender, sender + " " + sequence, sequence);
+    }
+
+    private static void assertInSenderOrder(List<Message> messages) {
+        Map<String, Long> lastSequence = new HashMap<>();
+        for (Message message : messages) {
+            long previous = lastSequence.getOrDefault(message.getSender(), 0L);
+            assertEquals(previous + 1, message.getSequence());
+            lastSequence.put(message.getSender(), message.getSequence());
+        }
+    }
+}
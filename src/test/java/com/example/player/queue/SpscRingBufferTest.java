@@ -0,0 +1,93 @@
+package com.example.player.queue;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * FIFO order and full/empty reporting of SpscRingBuffer, on one thread and across a producer and
+ * a consumer thread. The two threads yield rather than spin while they wait, so the test also
+ * finishes quickly on a single CPU.
+ */
+class SpscRingBufferTest {
+
+    private static final int TRANSFERS = 200_000;
+
+    @Test
+    void roundsCapacityUpAndReportsFullAndEmpty() {
+        SpscRingBuffer<Integer> ring = new SpscRingBuffer<>(5);
+        assertEquals(8, ring.capacity());
+        assertTrue(ring.isEmpty());
+        assertNull(ring.poll());
+
+        for (int i = 0; i < ring.capacity(); i++) {
+            assertTrue(ring.offer(i));
+        }
+        assertFalse(ring.offer(8));
+        assertEquals(8, ring.size());
+
+        for (int i = 0; i < ring.capacity(); i++) {
+            assertEquals(i, ring.poll());
+        }
+        assertNull(ring.poll());
+        assertTrue(ring.isEmpty());
+    }
+
+    @Test
+    void keepsOrderAcrossWrapArounds() {
+        SpscRingBuffer<Integer> ring = new SpscRingBuffer<>(4);
+        int next = 0;
+        for (int round = 0; round < 10; round++) {
+            for (int i = 0; i < 3; i++) {
+                assertTrue(ring.offer(round * 3 + i));
+            }
+            for (int i = 0; i < 3; i++) {
+                assertEquals(next++, ring.poll());
+            }
+        }
+        assertTrue(ring.isEmpty());
+    }
+
+    @Test
+    void rejectsInvalidCapacitiesAndNullElements() {
+        assertThrows(IllegalArgumentException.class, () -> new SpscRingBuffer<Integer>(0));
+        assertThrows(IllegalArgumentException.class, () -> new SpscRingBuffer<Integer>((1 << 30) + 1));
+        assertThrows(IllegalArgumentException.class, () -> new SpscRingBuffer<Integer>(1).offer(null));
+    }
+
+    @Test
+    @Timeout(30)
+    void handsEveryElementOverInOrderBetweenTwoThreads() throws InterruptedException {
+        SpscRingBuffer<Integer> ring = new SpscRingBuffer<>(64);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Thread producer = Thread.ofPlatform().name("Test-Producer").start(() -> {
+            try {
+                for (int i = 0; i < TRANSFERS; i++) {
+                    while (!ring.offer(i)) {
+                        Thread.yield();
+                    }
+                }
+            } catch (Throwable e) {
+                failure.set(e);
+            }
+        });
+
+        for (int expected = 0; expected < TRANSFERS; expected++) {
+            Integer element;
+            while ((element = ring.poll()) == null) {
+                Thread.yield();
+            }
+            assertEquals(expected, element, "lost, duplicated or reordered element");
+        }
+        producer.join();
+        assertNull(failure.get());
+        assertTrue(ring.isEmpty());
+    }
+}
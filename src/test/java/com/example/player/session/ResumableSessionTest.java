@@ -0,0 +1,146 @@
+package com.example.player.session;
+
+import com.example.player.cluster.ResponderNode;
+import com.example.player.config.SocketConfig;
+import com.example.player.enums.MessageType;
+import com.example.player.model.Message;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Runs a ResumableSession through a FaultInjectingProxy that cuts the connection while both sides
+ * have messages in flight, and checks that every message arrives exactly once and in order.
+ */
+class ResumableSessionTest {
+
+    private static final int MESSAGES = 20_000;
+    private static final int CAPACITY = 64;
+    private static final long RESUME_TIMEOUT_MILLIS = 10_000;
+    private static final int[] CUT_AFTER = {1_000, 7_000, 13_000};
+
+    private final SocketConfig socketConfig = SocketConfig.fromSystemProperties();
+    private final AtomicReference<ResumableSession> serverSession = new AtomicReference<>();
+    private final CompletableFuture<ResumableSession> accepted = new CompletableFuture<>();
+    private ServerSocket serverSocket;
+    private FaultInjectingProxy proxy;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        serverSocket = new ServerSocket(0);
+        proxy = new FaultInjectingProxy(0, new ResponderNode("localhost", serverSocket.getLocalPort()), Long.MAX_VALUE);
+        proxy.start();
+        Thread.ofPlatform().daemon().name("Test-Acceptor").start(this::acceptLoop);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        proxy.close();
+        serverSocket.close();
+    }
+
+    @Test
+    @Timeout(60)
+    void deliversEveryMessageOnceAcrossCutsInBothDirections() throws Exception {
+        ResumableSession client = ResumableSession.open("Client", new Socket("localhost", proxy.getPort()),
+                () -> new Socket("localhost", proxy.getPort()), socketConfig, CAPACITY, RESUME_TIMEOUT_MILLIS);
+        ResumableSession server = accepted.get(10, TimeUnit.SECONDS);
+
+        Future<Long> clientSent = send(client, "Client");
+        Future<Long> serverSent = send(server, "Server");
+        Future<Long> serverReceived = CompletableFuture.supplyAsync(() -> receive(server, "Client", false));
+        long clientReceived = receive(client, "Server", true);
+
+        assertEquals(MESSAGES, clientSent.get());
+        assertEquals(MESSAGES, serverSent.get());
+        assertEquals(MESSAGES, clientReceived);
+        assertEquals(MESSAGES, serverReceived.get());
+        assertEquals(CUT_AFTER.length, proxy.getCutCount());
+        client.close();
+        server.close();
+    }
+
+    /**
+     * Sends MESSAGES numbered messages and then a STOP on a thread of its own, without waiting for
+     * the peer, so both directions are loaded at once.
+     */
+    private static Future<Long> send(ResumableSession session, String sender) {
+        CompletableFuture<Long> sent = new CompletableFuture<>();
+        Thread.ofPlatform().name("Test-Sender-" + sender).start(() -> {
+            try {
+                for (int i = 1; i <= MESSAGES; i++) {
+                    session.sender().sendMessage(Message.sendNormalMessage(sender, "message " + i, i));
+                }
+                session.sender().sendMessage(Message.sendStopMessage(sender));
+                session.sender().flush();
+                sent.complete((long) MESSAGES);
+            } catch (Throwable e) {
+                sent.completeExceptionally(e);
+            }
+        });
+        return sent;
+    }
+
+    /**
+     * Receives until STOP, failing on any gap, duplicate or reordering, and cuts the connection at the
+     * CUT_AFTER counts when asked to.
+     */
+    private long receive(ResumableSession session, String expectedSender, boolean cut) {
+        long expected = 1;
+        int nextCut = 0;
+        try {
+            while (true) {
+                Message message = session.receiver().receiveMessage();
+                if (message.getMessageType() == MessageType.STOP) {
+                    return expected - 1;
+                }
+                assertEquals(expectedSender, message.getSender());
+                assertEquals(expected, message.getSequence(), "lost, duplicated or reordered message");
+                assertEquals("message " + expected, message.getContent());
+                if (cut && nextCut < CUT_AFTER.length && expected == CUT_AFTER[nextCut]) {
+                    nextCut++;
+                    proxy.cutConnections();
+                }
+                expected++;
+            }
+        } catch (InterruptedException e) {
+            throw new AssertionError("Session ended after " + (expected - 1) + " messages: " + e.getMessage(), e);
+        }
+    }
+
+    private void acceptLoop() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                SessionHandshake.Hello hello = SessionHandshake.read(socket);
+                if (hello.isResume()) {
+                    ResumableSession session = serverSession.get();
+                    if (session == null || !session.attach(socket, hello)) {
+                        SessionHandshake.reject(socket);
+                        socket.close();
+                    }
+                    continue;
+                }
+                ResumableSession session = ResumableSession.accept("Server", socket, hello, socketConfig, CAPACITY,
+                        RESUME_TIMEOUT_MILLIS);
+                serverSession.set(session);
+                accepted.complete(session);
+            } catch (Exception e) {
+                if (!serverSocket.isClosed()) {
+                    accepted.completeExceptionally(e);
+                }
+            }
+        }
+    }
+}